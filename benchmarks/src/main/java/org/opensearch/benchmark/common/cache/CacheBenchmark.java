@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.common.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput and the hit rate of the LRU {@link Cache} and of the frequency aware cache. Each thread replays
+ * its own sequence of keys through {@link Cache#computeIfAbsent}, the hit rate is reported through the <code>hits</code>
+ * and <code>misses</code> secondary results.
+ * <p>
+ * The <code>skewed</code> distribution favors a small set of hot keys, the <code>scan</code> distribution interleaves these
+ * hot keys with keys that are only requested once.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    private static final int NUMBER_OF_KEYS = 1 << 20;
+    private static final int SEQUENCE_LENGTH = 1 << 16;
+
+    @Param({ "lru", "frequency_aware" })
+    private String implementation;
+
+    @Param({ "skewed", "scan" })
+    private String distribution;
+
+    @Param({ "1000", "100000" })
+    private int maximumWeight;
+
+    private Cache<Integer, Integer> cache;
+
+    @Setup
+    public void setup() {
+        cache = CacheBuilder.<Integer, Integer>builder()
+            .setMaximumWeight(maximumWeight)
+            .setFrequencyAware("frequency_aware".equals(implementation))
+            .build();
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+        private final int[] sequence = new int[SEQUENCE_LENGTH];
+        private int index;
+
+        @Setup
+        public void setup(CacheBenchmark benchmark) {
+            final Random random = new Random(Thread.currentThread().getId());
+            for (int i = 0; i < sequence.length; i++) {
+                // raising a uniform value to a power concentrates the keys around 0
+                final int hotKey = (int) (Math.pow(random.nextDouble(), 4) * benchmark.maximumWeight * 10);
+                if ("scan".equals(benchmark.distribution) && random.nextBoolean()) {
+                    sequence[i] = NUMBER_OF_KEYS + random.nextInt(Integer.MAX_VALUE - NUMBER_OF_KEYS);
+                } else {
+                    sequence[i] = hotKey;
+                }
+            }
+        }
+
+        int next() {
+            final int key = sequence[index];
+            index = (index + 1) & (SEQUENCE_LENGTH - 1);
+            return key;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HitRate {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer computeIfAbsent_01(Keys keys, HitRate hitRate) throws ExecutionException {
+        return computeIfAbsent(keys, hitRate);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer computeIfAbsent_04(Keys keys, HitRate hitRate) throws ExecutionException {
+        return computeIfAbsent(keys, hitRate);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer computeIfAbsent_16(Keys keys, HitRate hitRate) throws ExecutionException {
+        return computeIfAbsent(keys, hitRate);
+    }
+
+    private Integer computeIfAbsent(Keys keys, HitRate hitRate) throws ExecutionException {
+        final int key = keys.next();
+        final boolean[] loaded = new boolean[1];
+        final Integer value = cache.computeIfAbsent(key, k -> {
+            loaded[0] = true;
+            return k;
+        });
+        if (loaded[0]) {
+            hitRate.misses++;
+        } else {
+            hitRate.hits++;
+        }
+        return value;
+    }
+}
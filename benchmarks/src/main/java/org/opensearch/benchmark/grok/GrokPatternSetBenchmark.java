@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.grok;
+
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.GrokPatternSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the ways of matching a line against several grok patterns, the first one that matches winning: a single grok expression
+ * that alternates between all patterns, which is how the grok processor combines its patterns, a grok per pattern tried in order,
+ * and a {@link GrokPatternSet} that skips the patterns whose required literal doesn't occur in the line.
+ * <p>
+ * The corpus is made of syslog lines of the kinds found on a typical linux host, with a generic syslog pattern last to catch the
+ * lines that none of the specific patterns match.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokPatternSetBenchmark {
+
+    private static final String SYSLOG_PREFIX = "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} ";
+
+    private static final List<String> PATTERNS = Arrays.asList(
+        SYSLOG_PREFIX + "sshd\\[%{POSINT:pid}\\]: Failed password for (?:invalid user )?%{USERNAME:user} from %{IP:src_ip} "
+            + "port %{POSINT:src_port} ssh2",
+        SYSLOG_PREFIX + "sshd\\[%{POSINT:pid}\\]: Accepted publickey for %{USERNAME:user} from %{IP:src_ip} port %{POSINT:src_port} ssh2",
+        SYSLOG_PREFIX + "sshd\\[%{POSINT:pid}\\]: Disconnected from user %{USERNAME:user} %{IP:src_ip} port %{POSINT:src_port}",
+        SYSLOG_PREFIX + "postfix/smtpd\\[%{POSINT:pid}\\]: connect from %{HOSTNAME:client}\\[%{IP:client_ip}\\]",
+        SYSLOG_PREFIX + "CRON\\[%{POSINT:pid}\\]: \\(%{USERNAME:user}\\) CMD \\(%{GREEDYDATA:command}\\)",
+        SYSLOG_PREFIX + "kernel: \\[%{NUMBER:uptime}\\] %{GREEDYDATA:kernel_message}",
+        SYSLOG_PREFIX + "sudo: +%{USERNAME:user} : TTY=%{NOTSPACE:tty} ; PWD=%{NOTSPACE:pwd} ; USER=%{USERNAME:run_as} ; "
+            + "COMMAND=%{GREEDYDATA:command}",
+        SYSLOG_PREFIX + "%{PROG:program}(?:\\[%{POSINT:pid}\\])?: %{GREEDYDATA:message}"
+    );
+
+    private static final String[] MONTHS = { "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+    private static final String[] USERS = { "root", "admin", "alice", "bob", "deploy", "postgres", "ubuntu" };
+    private static final String[] HOSTS = { "web-01", "web-02", "db-01", "bastion", "worker-17" };
+
+    /**
+     * The share of lines, in percent, that only the generic pattern matches.
+     */
+    @Param({ "10", "50" })
+    private int genericPercent;
+
+    private Grok alternation;
+    private List<Grok> groks;
+    private GrokPatternSet patternSet;
+    private String[] lines;
+    private int next;
+
+    @Setup
+    public void setup() {
+        alternation = new Grok(Grok.BUILTIN_PATTERNS,
+            PATTERNS.stream().map(pattern -> "(?:" + pattern + ")").collect(Collectors.joining("|")), message -> {});
+        groks = new ArrayList<>(PATTERNS.size());
+        for (String pattern : PATTERNS) {
+            groks.add(new Grok(Grok.BUILTIN_PATTERNS, pattern, message -> {}));
+        }
+        patternSet = new GrokPatternSet(Grok.BUILTIN_PATTERNS, PATTERNS, message -> {});
+
+        Random random = new Random(0);
+        lines = new String[1 << 12];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = line(random);
+        }
+    }
+
+    private String line(Random random) {
+        String prefix = String.format(Locale.ROOT, "%s %2d %02d:%02d:%02d %s ", MONTHS[random.nextInt(MONTHS.length)],
+            1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60), HOSTS[random.nextInt(HOSTS.length)]);
+        String user = USERS[random.nextInt(USERS.length)];
+        String ip = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+        int pid = 100 + random.nextInt(60000);
+        if (random.nextInt(100) < genericPercent) {
+            switch (random.nextInt(3)) {
+                case 0:
+                    return prefix + "systemd[1]: Started Session " + random.nextInt(10000) + " of user " + user + ".";
+                case 1:
+                    return prefix + "dhclient[" + pid + "]: DHCPACK of " + ip + " from 10.0.0.1";
+                default:
+                    return prefix + "ntpd[" + pid + "]: adjusting local clock by " + random.nextInt(1000) / 1000.0 + "s";
+            }
+        }
+        switch (random.nextInt(PATTERNS.size() - 1)) {
+            case 0:
+                return prefix + "sshd[" + pid + "]: Failed password for " + user + " from " + ip + " port " + random.nextInt(65536)
+                    + " ssh2";
+            case 1:
+                return prefix + "sshd[" + pid + "]: Accepted publickey for " + user + " from " + ip + " port " + random.nextInt(65536)
+                    + " ssh2";
+            case 2:
+                return prefix + "sshd[" + pid + "]: Disconnected from user " + user + " " + ip + " port " + random.nextInt(65536);
+            case 3:
+                return prefix + "postfix/smtpd[" + pid + "]: connect from mail" + random.nextInt(100) + ".example.com[" + ip + "]";
+            case 4:
+                return prefix + "CRON[" + pid + "]: (" + user + ") CMD (/usr/local/bin/backup.sh --incremental)";
+            case 5:
+                return prefix + "kernel: [" + random.nextInt(100000) + "." + random.nextInt(1000000) + "] eth0: link up, 1000Mbps";
+            default:
+                return prefix + "sudo:     " + user + " : TTY=pts/0 ; PWD=/home/" + user + " ; USER=root ; "
+                    + "COMMAND=/bin/systemctl restart nginx";
+        }
+    }
+
+    private String nextLine() {
+        String line = lines[next];
+        next = (next + 1) & (lines.length - 1);
+        return line;
+    }
+
+    @Benchmark
+    public void alternation(Blackhole blackhole) {
+        blackhole.consume(alternation.captures(nextLine()));
+    }
+
+    @Benchmark
+    public void inOrder(Blackhole blackhole) {
+        String line = nextLine();
+        for (Grok grok : groks) {
+            Object captures = grok.captures(line);
+            if (captures != null) {
+                blackhole.consume(captures);
+                return;
+            }
+        }
+    }
+
+    @Benchmark
+    public void patternSet(Blackhole blackhole) {
+        blackhole.consume(patternSet.captures(nextLine()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link LiveVersionMap} that keeps an object per recently indexed uid in a map with the one that packs them into
+ * paged arrays, on an update-heavy workload with random UUIDs: each operation looks up the version of a uid and records its new
+ * version, and the map is refreshed every <code>refreshInterval</code> operations. Run with <code>-prof gc</code> to compare
+ * the allocation rates of both implementations.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    private static final int NUMBER_OF_UIDS = 1 << 18;
+
+    @Param({ "map", "packed" })
+    private String implementation;
+
+    @Param({ "10000", "100000" })
+    private int refreshInterval;
+
+    private LiveVersionMap versionMap;
+    private BytesRef[] uids;
+    private Random random;
+    private long seqNo;
+
+    @Setup
+    public void setup() {
+        versionMap = new LiveVersionMap("packed".equals(implementation));
+        versionMap.enforceSafeAccess();
+        random = new Random(0);
+        uids = new BytesRef[NUMBER_OF_UIDS];
+        for (int i = 0; i < uids.length; i++) {
+            uids[i] = Uid.encodeId(UUIDs.randomBase64UUID(random));
+        }
+    }
+
+    @Benchmark
+    public void update(Blackhole blackhole) throws IOException {
+        final BytesRef uid = uids[random.nextInt(uids.length)];
+        try (Releasable ignore = versionMap.acquireLock(uid)) {
+            final VersionValue previous = versionMap.getUnderLock(uid);
+            blackhole.consume(previous);
+            final long version = previous == null ? 1 : previous.version + 1;
+            seqNo++;
+            versionMap.putIndexUnderLock(uid, new IndexVersionValue(new Translog.Location(1, seqNo * 128, 128), version, seqNo, 1));
+        }
+        if (seqNo % refreshInterval == 0) {
+            versionMap.beforeRefresh();
+            versionMap.afterRefresh(true);
+        }
+    }
+}
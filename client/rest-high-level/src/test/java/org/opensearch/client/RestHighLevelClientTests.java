@@ -707,7 +707,13 @@ public class RestHighLevelClientTests extends OpenSearchTestCase {
             "scripts_painless_execute",
             "indices.simulate_template",
             "indices.resolve_index",
-            "indices.add_block"
+            "indices.add_block",
+            "open_point_in_time",
+            "close_point_in_time",
+            "list_point_in_time",
+            "async_search.submit",
+            "async_search.get",
+            "async_search.delete"
         };
         //These API are not required for high-level client feature completeness
         String[] notRequiredApi = new String[] {
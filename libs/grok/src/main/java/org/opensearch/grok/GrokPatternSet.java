@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A list of grok patterns that are matched in order, the first pattern that matches a text winning.
+ * <p>
+ * Rather than running the regex of every pattern against a text until one matches, each pattern is pre-filtered with the longest
+ * literal that any text it matches must contain, e.g. <code>Failed password for</code> in
+ * <code>%{SYSLOGBASE} Failed password for %{USERNAME:user}</code>. A single pass over the text finds which of these literals it
+ * contains, and only the patterns whose literal was found, or that have no such literal, are run, in order, until one matches.
+ * The captures are only extracted for the pattern that matched.
+ */
+public final class GrokPatternSet {
+
+    private final List<Grok> groks;
+    // the index in literals of the literal required by each pattern, or -1 if the pattern doesn't require one
+    private final int[] patternLiterals;
+    private final byte[][] literals;
+    // the indices in literals of the literals starting with each byte
+    private final int[][] literalsByFirstByte = new int[256][];
+
+    public GrokPatternSet(Map<String, String> patternBank, List<String> grokPatterns, Consumer<String> logCallBack) {
+        this(patternBank, grokPatterns, MatcherWatchdog.noop(), logCallBack);
+    }
+
+    public GrokPatternSet(Map<String, String> patternBank, List<String> grokPatterns, MatcherWatchdog matcherWatchdog,
+                          Consumer<String> logCallBack) {
+        if (grokPatterns.isEmpty()) {
+            throw new IllegalArgumentException("a grok pattern set requires at least one pattern");
+        }
+        List<Grok> groks = new ArrayList<>(grokPatterns.size());
+        Map<String, Integer> literalIndices = new LinkedHashMap<>();
+        this.patternLiterals = new int[grokPatterns.size()];
+        for (int i = 0; i < grokPatterns.size(); i++) {
+            String grokPattern = grokPatterns.get(i);
+            groks.add(new Grok(patternBank, grokPattern, matcherWatchdog, logCallBack));
+            String literal = requiredLiteral(grokPattern);
+            patternLiterals[i] = literal == null ? -1 : literalIndices.computeIfAbsent(literal, k -> literalIndices.size());
+        }
+        this.groks = unmodifiableList(groks);
+        this.literals = new byte[literalIndices.size()][];
+        for (Map.Entry<String, Integer> entry : literalIndices.entrySet()) {
+            byte[] literal = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            literals[entry.getValue()] = literal;
+            int firstByte = literal[0] & 0xFF;
+            int[] candidates = literalsByFirstByte[firstByte];
+            candidates = candidates == null ? new int[1] : Arrays.copyOf(candidates, candidates.length + 1);
+            candidates[candidates.length - 1] = entry.getValue();
+            literalsByFirstByte[firstByte] = candidates;
+        }
+    }
+
+    /**
+     * Matches the text against the patterns in order and returns the named captures of the first pattern that matches.
+     *
+     * @param text the text to match and extract values from.
+     * @return a map containing field names and their respective coerced values that matched or null if no pattern matched
+     */
+    public Map<String, Object> captures(String text) {
+        return captures(text, pattern -> {});
+    }
+
+    /**
+     * Matches the text against the patterns in order and returns the named captures of the first pattern that matches.
+     *
+     * @param text the text to match and extract values from.
+     * @param matchedPattern receives the index of the pattern that matched, if any
+     * @return a map containing field names and their respective coerced values that matched or null if no pattern matched
+     */
+    public Map<String, Object> captures(String text, IntConsumer matchedPattern) {
+        byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        GrokCaptureExtracter.MapExtracter[] extracter = new GrokCaptureExtracter.MapExtracter[1];
+        int pattern = match(utf8Bytes, 0, utf8Bytes.length,
+            i -> extracter[0] = new GrokCaptureExtracter.MapExtracter(groks.get(i).captureConfig()));
+        if (pattern < 0) {
+            return null;
+        }
+        matchedPattern.accept(pattern);
+        return extracter[0].result();
+    }
+
+    /**
+     * Matches the text against the patterns in order and collects the named captures of the first pattern that matches.
+     * @param utf8Bytes array containing the text to match against encoded in utf-8
+     * @param offset offset {@code utf8Bytes} of the start of the text
+     * @param length length of the text to match
+     * @param extracters builds the collector for the captures of the pattern at the given index
+     * @return the index of the pattern that matched, or -1 if no pattern matched
+     * @throws RuntimeException if there was a timeout
+     */
+    public int match(byte[] utf8Bytes, int offset, int length, IntFunction<GrokCaptureExtracter> extracters) {
+        boolean[] foundLiterals = findLiterals(utf8Bytes, offset, length);
+        for (int i = 0; i < groks.size(); i++) {
+            int literal = patternLiterals[i];
+            if (literal >= 0 && foundLiterals[literal] == false) {
+                continue;
+            }
+            if (groks.get(i).match(utf8Bytes, offset, length, extracters.apply(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The compiled patterns of this set, in order.
+     */
+    public List<Grok> groks() {
+        return groks;
+    }
+
+    /**
+     * Finds which of the literals the text contains, in a single pass over the text.
+     */
+    private boolean[] findLiterals(byte[] utf8Bytes, int offset, int length) {
+        boolean[] found = new boolean[literals.length];
+        int remaining = literals.length;
+        int end = offset + length;
+        for (int i = offset; i < end && remaining > 0; i++) {
+            int[] candidates = literalsByFirstByte[utf8Bytes[i] & 0xFF];
+            if (candidates == null) {
+                continue;
+            }
+            for (int candidate : candidates) {
+                if (found[candidate] == false && startsWith(utf8Bytes, i, end, literals[candidate])) {
+                    found[candidate] = true;
+                    remaining--;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean startsWith(byte[] utf8Bytes, int from, int end, byte[] literal) {
+        if (end - from < literal.length) {
+            return false;
+        }
+        for (int i = 1; i < literal.length; i++) {
+            if (utf8Bytes[from + i] != literal[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the longest literal that any text matched by the given grok pattern must contain, or {@code null} if no such literal
+     * could be derived from the pattern.
+     * <p>
+     * Only the top level of the pattern is considered, anything within a group, a character class or a reference to another named
+     * pattern is skipped. Patterns with top level alternations or with constructs that may change the meaning of the characters
+     * that follow them, like inline options or quoting, have no literal.
+     */
+    static String requiredLiteral(String grokPattern) {
+        if (grokPattern.contains("(?i") || grokPattern.contains("(?x") || grokPattern.contains("(?m")
+            || grokPattern.contains("(?-") || grokPattern.contains("\\Q")) {
+            return null;
+        }
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        boolean lastIsLiteral = false;
+        int i = 0;
+        while (i < grokPattern.length()) {
+            char c = grokPattern.charAt(i);
+            if (depth > 0) {
+                if (c == '\\') {
+                    i += 2;
+                } else if (c == '[') {
+                    i = skipCharacterClass(grokPattern, i);
+                } else {
+                    if (c == '(') {
+                        depth++;
+                    } else if (c == ')') {
+                        depth--;
+                    }
+                    i++;
+                }
+                continue;
+            }
+            if (grokPattern.startsWith("%{", i)) {
+                int end = grokPattern.indexOf('}', i);
+                if (end < 0) {
+                    return null;
+                }
+                longest = longest(longest, current);
+                lastIsLiteral = false;
+                i = end + 1;
+                continue;
+            }
+            switch (c) {
+                case '|':
+                case ')':
+                    return null;
+                case '?':
+                case '*':
+                case '{':
+                    // the preceding character is optional, or repeated a number of times that might be 0
+                    if (lastIsLiteral) {
+                        dropLastCharacter(current);
+                    }
+                    longest = longest(longest, current);
+                    lastIsLiteral = false;
+                    if (c == '{') {
+                        int end = grokPattern.indexOf('}', i);
+                        if (end < 0) {
+                            return null;
+                        }
+                        i = end + 1;
+                    } else {
+                        i++;
+                    }
+                    break;
+                case '(':
+                    longest = longest(longest, current);
+                    lastIsLiteral = false;
+                    depth++;
+                    i++;
+                    break;
+                case '[':
+                    longest = longest(longest, current);
+                    lastIsLiteral = false;
+                    i = skipCharacterClass(grokPattern, i);
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    longest = longest(longest, current);
+                    lastIsLiteral = false;
+                    i++;
+                    break;
+                case '\\':
+                    if (i + 1 >= grokPattern.length()) {
+                        return null;
+                    }
+                    char escaped = grokPattern.charAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        // character types, anchors and back references
+                        longest = longest(longest, current);
+                        lastIsLiteral = false;
+                    } else {
+                        current.append(escaped);
+                        lastIsLiteral = true;
+                    }
+                    i += 2;
+                    break;
+                default:
+                    current.append(c);
+                    lastIsLiteral = true;
+                    i++;
+                    break;
+            }
+        }
+        if (depth != 0) {
+            return null;
+        }
+        longest = longest(longest, current);
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static int skipCharacterClass(String pattern, int start) {
+        int i = start + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '^') {
+            i++;
+        }
+        if (i < pattern.length() && pattern.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        while (i < pattern.length() && depth > 0) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static void dropLastCharacter(StringBuilder current) {
+        current.setLength(current.length() - 1);
+        if (current.length() > 0 && Character.isHighSurrogate(current.charAt(current.length() - 1))) {
+            current.setLength(current.length() - 1);
+        }
+    }
+
+    private static String longest(String longest, StringBuilder current) {
+        String candidate = current.toString();
+        current.setLength(0);
+        return candidate.length() > longest.length() ? candidate : longest;
+    }
+}
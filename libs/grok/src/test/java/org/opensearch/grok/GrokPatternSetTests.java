@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class GrokPatternSetTests extends OpenSearchTestCase {
+
+    public void testRequiredLiteral() {
+        assertThat(GrokPatternSet.requiredLiteral("%{SYSLOGBASE} Failed password for %{USERNAME:user}"),
+            equalTo(" Failed password for "));
+        assertThat(GrokPatternSet.requiredLiteral("%{WORD:a} sshd\\[%{POSINT:pid}\\]: %{GREEDYDATA:msg}"), equalTo(" sshd["));
+        assertThat(GrokPatternSet.requiredLiteral("connections?: %{NUMBER:n}"), equalTo("connection"));
+        assertThat(GrokPatternSet.requiredLiteral("ab+c"), equalTo("ab"));
+        assertThat(GrokPatternSet.requiredLiteral("(?:prefix )?value %{WORD}"), equalTo("value "));
+        assertThat(GrokPatternSet.requiredLiteral("[Ee]rror: %{GREEDYDATA}"), equalTo("rror: "));
+        assertThat(GrokPatternSet.requiredLiteral("\\d+ items"), equalTo(" items"));
+        assertThat(GrokPatternSet.requiredLiteral("%{WORD}"), nullValue());
+        assertThat(GrokPatternSet.requiredLiteral("foo|bar"), nullValue());
+        assertThat(GrokPatternSet.requiredLiteral("(?i)error"), nullValue());
+        assertThat(GrokPatternSet.requiredLiteral("\\Qa.b\\E"), nullValue());
+    }
+
+    public void testMatchesFirstPatternInOrder() {
+        List<String> patterns = Arrays.asList(
+            "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid}\\]: Failed password for %{USERNAME:user}",
+            "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid}\\]: Accepted publickey for %{USERNAME:user}",
+            "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} %{PROG:program}(?:\\[%{POSINT:pid}\\])?: %{GREEDYDATA:message}"
+        );
+        GrokPatternSet patternSet = new GrokPatternSet(Grok.BUILTIN_PATTERNS, patterns, logger::warn);
+
+        AtomicInteger matched = new AtomicInteger(-1);
+        Map<String, Object> captures = patternSet.captures("Mar 16 00:01:25 evita sshd[1713]: Accepted publickey for alice",
+            matched::set);
+        assertThat(matched.get(), equalTo(1));
+        assertThat(captures.get("user"), equalTo("alice"));
+        assertThat(captures.get("pid"), equalTo("1713"));
+
+        captures = patternSet.captures("Mar 16 00:01:25 evita sshd[1713]: Failed password for bob", matched::set);
+        assertThat(matched.get(), equalTo(0));
+        assertThat(captures.get("user"), equalTo("bob"));
+
+        captures = patternSet.captures("Mar 16 00:01:25 evita postfix/smtpd[42]: connect from camomile", matched::set);
+        assertThat(matched.get(), equalTo(2));
+        assertThat(captures.get("program"), equalTo("postfix/smtpd"));
+        assertThat(captures.get("message"), equalTo("connect from camomile"));
+
+        assertThat(patternSet.captures("not a syslog line"), nullValue());
+    }
+
+    public void testMatchesLikeIndividualPatterns() {
+        List<String> patterns = Arrays.asList("%{NUMBER:a} apples", "%{NUMBER:b} pears", "%{WORD:c} %{NUMBER:d:int}", "cherries");
+        GrokPatternSet patternSet = new GrokPatternSet(Grok.BUILTIN_PATTERNS, patterns, logger::warn);
+        List<String> words = Arrays.asList("apples", "pears", "cherries", "plums", "12", "3.5", "x", " ");
+        for (int iter = 0; iter < 100; iter++) {
+            StringBuilder text = new StringBuilder();
+            int numWords = randomIntBetween(0, 5);
+            for (int i = 0; i < numWords; i++) {
+                text.append(randomFrom(words)).append(' ');
+            }
+            Map<String, Object> expected = null;
+            for (String pattern : patterns) {
+                expected = new Grok(Grok.BUILTIN_PATTERNS, pattern, logger::warn).captures(text.toString());
+                if (expected != null) {
+                    break;
+                }
+            }
+            assertThat(text.toString(), patternSet.captures(text.toString()), equalTo(expected));
+        }
+    }
+}
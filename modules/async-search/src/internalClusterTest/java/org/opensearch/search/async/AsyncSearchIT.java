@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.junit.After;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.SUITE, minNumDataNodes = 2)
+public class AsyncSearchIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX_NAME = "test";
+
+    @Override
+    protected Collection<Class<? extends Plugin>> transportClientPlugins() {
+        return Arrays.asList(AsyncSearchPlugin.class);
+    }
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Arrays.asList(AsyncSearchPlugin.class, BlockingSearchPlugin.class);
+    }
+
+    @After
+    public void releaseBlockedSearches() {
+        BlockingSearchPlugin.unblock();
+    }
+
+    public void testSearchCompletedWithinTheTimeoutIsNotStored() throws Exception {
+        final int numDocs = indexDocs(randomIntBetween(1, 5));
+        final SubmitAsyncSearchRequest request = new SubmitAsyncSearchRequest(new SearchRequest(INDEX_NAME))
+            .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30));
+        final AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+        assertNull(response.getId());
+        assertFalse(response.isRunning());
+        assertFalse(response.isPartial());
+        assertEquals(numDocs, response.getSearchResponse().getHits().getTotalHits().value);
+    }
+
+    public void testKeepOnCompletionStoresTheResponse() throws Exception {
+        final int numDocs = indexDocs(randomIntBetween(1, 5));
+        final SubmitAsyncSearchRequest request = new SubmitAsyncSearchRequest(new SearchRequest(INDEX_NAME))
+            .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30))
+            .setKeepOnCompletion(true);
+        final AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+        assertNotNull(response.getId());
+        assertFalse(response.isRunning());
+
+        final AsyncSearchResponse stored = randomClient().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(response.getId())).actionGet();
+        assertEquals(response.getId(), stored.getId());
+        assertFalse(stored.isRunning());
+        assertEquals(numDocs, stored.getSearchResponse().getHits().getTotalHits().value);
+
+        assertAcked(randomClient().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId())).actionGet());
+        assertNotFound(() -> randomClient().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(response.getId()))
+            .actionGet());
+        assertNotFound(() -> randomClient().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId()))
+            .actionGet());
+    }
+
+    public void testGetRunningSearch() throws Exception {
+        final int numShards = randomIntBetween(3, 5);
+        final int numDocs = indexDocs(numShards);
+        BlockingSearchPlugin.block();
+        final SearchRequest searchRequest = new SearchRequest(INDEX_NAME);
+        searchRequest.setBatchedReduceSize(2);
+        final AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE,
+            new SubmitAsyncSearchRequest(searchRequest).setWaitForCompletionTimeout(TimeValue.timeValueMillis(10))).actionGet();
+        assertNotNull(response.getId());
+        assertTrue(response.isRunning());
+        assertTrue(response.isPartial());
+
+        // the search is running on the node that received the submit request, which the other nodes forward the requests to
+        assertBusy(() -> {
+            final AsyncSearchResponse partial = randomClient().execute(GetAsyncSearchAction.INSTANCE,
+                new GetAsyncSearchRequest(response.getId())).actionGet();
+            assertTrue(partial.isRunning());
+            assertTrue(partial.isPartial());
+            assertEquals(numShards, partial.getSearchResponse().getTotalShards());
+            assertEquals(numShards - 1, partial.getSearchResponse().getSuccessfulShards());
+        });
+
+        final long keepAliveMillis = TimeValue.timeValueDays(10).millis();
+        final long now = System.currentTimeMillis();
+        final AsyncSearchResponse extended = randomClient().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(response.getId()).setKeepAlive(TimeValue.timeValueMillis(keepAliveMillis))).actionGet();
+        assertThat(extended.getExpirationTime(), greaterThanOrEqualTo(now + keepAliveMillis - TimeValue.timeValueMinutes(1).millis()));
+
+        BlockingSearchPlugin.unblock();
+        final AsyncSearchResponse completed = randomClient().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(response.getId()).setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30))).actionGet();
+        assertFalse(completed.isRunning());
+        assertFalse(completed.isPartial());
+        assertEquals(numDocs, completed.getSearchResponse().getHits().getTotalHits().value);
+        assertEquals(numShards, completed.getSearchResponse().getSuccessfulShards());
+
+        // the final response is stored once the search is completed
+        assertBusy(() -> {
+            final AsyncSearchResponse stored = randomClient().execute(GetAsyncSearchAction.INSTANCE,
+                new GetAsyncSearchRequest(response.getId())).actionGet();
+            assertFalse(stored.isRunning());
+            assertEquals(numDocs, stored.getSearchResponse().getHits().getTotalHits().value);
+        });
+        assertAcked(randomClient().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId())).actionGet());
+    }
+
+    public void testDeleteCancelsRunningSearch() throws Exception {
+        indexDocs(randomIntBetween(2, 5));
+        BlockingSearchPlugin.block();
+        final AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE,
+            new SubmitAsyncSearchRequest(new SearchRequest(INDEX_NAME)).setWaitForCompletionTimeout(TimeValue.timeValueMillis(10)))
+            .actionGet();
+        assertTrue(response.isRunning());
+
+        assertAcked(randomClient().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId())).actionGet());
+        BlockingSearchPlugin.unblock();
+        assertBusy(() -> assertNotFound(() -> randomClient().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(response.getId())).actionGet()));
+        // the cancelled search is unregistered once it reports its failure
+        assertBusy(() -> assertThat(client().admin().cluster().prepareListTasks().setActions(SearchAction.NAME)
+            .get().getTasks().size(), equalTo(0)));
+    }
+
+    public void testInvalidId() {
+        final String id = randomAlphaOfLength(10);
+        Exception e = expectThrows(Exception.class, () -> randomClient().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(id)).actionGet());
+        assertThat(ExceptionsHelper.unwrapCause(e), instanceOf(IllegalArgumentException.class));
+        e = expectThrows(Exception.class, () -> randomClient().execute(DeleteAsyncSearchAction.INSTANCE,
+            new DeleteAsyncSearchRequest(id)).actionGet());
+        assertThat(ExceptionsHelper.unwrapCause(e), instanceOf(IllegalArgumentException.class));
+    }
+
+    private int indexDocs(int numShards) throws Exception {
+        assertAcked(prepareCreate(INDEX_NAME).setSettings(Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, numShards)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)));
+        ensureGreen(INDEX_NAME);
+        final int numDocs = randomIntBetween(numShards, 50);
+        final List<IndexRequestBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            builders.add(client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(i)).setSource("field", "value" + i));
+        }
+        indexRandom(true, builders);
+        return numDocs;
+    }
+
+    private static Client randomClient() {
+        return client(internalCluster().getNodeNames()[randomIntBetween(0, internalCluster().size() - 1)]);
+    }
+
+    private static void assertNotFound(Runnable runnable) {
+        final Exception e = expectThrows(Exception.class, runnable::run);
+        assertThat(ExceptionsHelper.unwrapCause(e), instanceOf(ResourceNotFoundException.class));
+    }
+
+    /**
+     * Blocks the query phase of the first shard of the test index until {@link #unblock()} is called, so that the searches on
+     * this index keep running while the other shards report their results.
+     */
+    public static class BlockingSearchPlugin extends Plugin {
+        private static volatile CountDownLatch latch;
+
+        static void block() {
+            latch = new CountDownLatch(1);
+        }
+
+        static void unblock() {
+            final CountDownLatch current = latch;
+            latch = null;
+            if (current != null) {
+                current.countDown();
+            }
+        }
+
+        @Override
+        public void onIndexModule(IndexModule indexModule) {
+            indexModule.addSearchOperationListener(new SearchOperationListener() {
+                @Override
+                public void onPreQueryPhase(SearchContext searchContext) {
+                    final CountDownLatch current = latch;
+                    if (current != null && INDEX_NAME.equals(searchContext.indexShard().shardId().getIndexName())
+                        && searchContext.indexShard().shardId().id() == 0) {
+                        try {
+                            assertTrue(current.await(30, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.tasks.TaskId;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * The identifier of an async search. It references both the document that stores the response in the
+ * {@link AsyncSearchIndexService#INDEX} and the task that executes the search while it is running, so that
+ * a running search can be looked up on the node that owns it.
+ */
+public final class AsyncSearchId {
+    private final String docId;
+    private final TaskId taskId;
+    private final String encoded;
+
+    public AsyncSearchId(String docId, TaskId taskId) {
+        this.docId = Objects.requireNonNull(docId);
+        this.taskId = Objects.requireNonNull(taskId);
+        this.encoded = encode(docId, taskId);
+    }
+
+    private AsyncSearchId(String docId, TaskId taskId, String encoded) {
+        this.docId = docId;
+        this.taskId = taskId;
+        this.encoded = encoded;
+    }
+
+    /**
+     * The id of the document that stores the response of the search
+     */
+    public String getDocId() {
+        return docId;
+    }
+
+    /**
+     * The id of the task that executes the search
+     */
+    public TaskId getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * The encoded form of this id, as returned to clients
+     */
+    public String getEncoded() {
+        return encoded;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AsyncSearchId that = (AsyncSearchId) o;
+        return docId.equals(that.docId) && taskId.equals(that.taskId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(docId, taskId);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + docId + "][" + taskId + "]";
+    }
+
+    static String encode(String docId, TaskId taskId) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeString(docId);
+            out.writeString(taskId.toString());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(out.bytes()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Decodes an async search id that was returned to a client
+     */
+    public static AsyncSearchId decode(String id) {
+        final byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid async search id [" + id + "]", e);
+        }
+        try (StreamInput in = StreamInput.wrap(bytes)) {
+            final String docId = in.readString();
+            final TaskId taskId = new TaskId(in.readString());
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("invalid async search id [" + id + "], too many bytes");
+            }
+            return new AsyncSearchId(docId, taskId, id);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid async search id [" + id + "]", e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.client.OriginSettingClient;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.internal.io.Streams;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.engine.DocumentMissingException;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Stores the partial and final responses of async searches in a system index. Each document holds the
+ * serialized {@link AsyncSearchResponse} along with the expiration time of the search.
+ */
+public class AsyncSearchIndexService {
+    private static final Logger logger = LogManager.getLogger(AsyncSearchIndexService.class);
+
+    public static final String INDEX = ".opensearch-async-search";
+    public static final String ASYNC_SEARCH_ORIGIN = "async_search";
+
+    static final String START_TIME_FIELD = "start_time";
+    static final String EXPIRATION_TIME_FIELD = "expiration_time";
+    static final String IS_RUNNING_FIELD = "is_running";
+    static final String RESULT_FIELD = "result";
+
+    private static final String MAPPING_FILE = "async-search-index-mapping.json";
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    public AsyncSearchIndexService(Client client, ClusterService clusterService, NamedWriteableRegistry namedWriteableRegistry) {
+        this.client = new OriginSettingClient(client, ASYNC_SEARCH_ORIGIN);
+        this.clusterService = clusterService;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Stores the initial response of an async search, creating the index if needed.
+     */
+    public void createResponse(String docId, AsyncSearchResponse response, ActionListener<Void> listener) {
+        if (clusterService.state().routingTable().hasIndex(INDEX)) {
+            doCreateResponse(docId, response, listener);
+            return;
+        }
+        CreateIndexRequest createIndexRequest = new CreateIndexRequest(INDEX);
+        createIndexRequest.settings(indexSettings());
+        createIndexRequest.mapping(MapperService.SINGLE_MAPPING_NAME, indexMapping(), XContentType.JSON);
+        createIndexRequest.cause("auto(async search api)");
+        client.admin().indices().create(createIndexRequest, ActionListener.wrap(
+            r -> doCreateResponse(docId, response, listener),
+            e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException) {
+                    doCreateResponse(docId, response, listener);
+                } else {
+                    listener.onFailure(e);
+                }
+            }));
+    }
+
+    private void doCreateResponse(String docId, AsyncSearchResponse response, ActionListener<Void> listener) {
+        final IndexRequest indexRequest = new IndexRequest(INDEX).id(docId).opType(DocWriteRequest.OpType.CREATE);
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            builder.field(START_TIME_FIELD, response.getStartTime());
+            builder.field(EXPIRATION_TIME_FIELD, response.getExpirationTime());
+            builder.field(IS_RUNNING_FIELD, response.isRunning());
+            builder.field(RESULT_FIELD, encodeResponse(response));
+            builder.endObject();
+            indexRequest.source(builder);
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+        client.index(indexRequest, ActionListener.map(listener, r -> null));
+    }
+
+    /**
+     * Replaces the response of an async search that was already stored.
+     */
+    public void updateResponse(String docId, AsyncSearchResponse response, ActionListener<Void> listener) {
+        final UpdateRequest updateRequest = new UpdateRequest(INDEX, docId).retryOnConflict(5);
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            builder.field(EXPIRATION_TIME_FIELD, response.getExpirationTime());
+            builder.field(IS_RUNNING_FIELD, response.isRunning());
+            builder.field(RESULT_FIELD, encodeResponse(response));
+            builder.endObject();
+            updateRequest.doc(builder);
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+        client.update(updateRequest, ActionListener.map(listener, r -> null));
+    }
+
+    /**
+     * Updates the expiration time of a stored async search.
+     */
+    public void updateExpirationTime(String docId, long expirationTimeMillis, ActionListener<Void> listener) {
+        final UpdateRequest updateRequest = new UpdateRequest(INDEX, docId).retryOnConflict(5);
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            builder.field(EXPIRATION_TIME_FIELD, expirationTimeMillis);
+            builder.endObject();
+            updateRequest.doc(builder);
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+        client.update(updateRequest, ActionListener.wrap(r -> listener.onResponse(null), e -> listener.onFailure(wrapNotFound(docId, e))));
+    }
+
+    /**
+     * Retrieves the response of an async search, the listener is notified with a {@link ResourceNotFoundException}
+     * if the response is missing or expired.
+     */
+    public void getResponse(String docId, long nowInMillis, ActionListener<AsyncSearchResponse> listener) {
+        client.get(new GetRequest(INDEX, docId), ActionListener.wrap(
+            getResponse -> {
+                if (getResponse.isExists() == false) {
+                    listener.onFailure(new ResourceNotFoundException("async search [{}] not found", docId));
+                    return;
+                }
+                final Map<String, Object> source = getResponse.getSource();
+                final long expirationTime = ((Number) source.get(EXPIRATION_TIME_FIELD)).longValue();
+                if (expirationTime < nowInMillis) {
+                    listener.onFailure(new ResourceNotFoundException("async search [{}] not found", docId));
+                    return;
+                }
+                final AsyncSearchResponse response = decodeResponse((String) source.get(RESULT_FIELD), namedWriteableRegistry);
+                listener.onResponse(response.withIdAndExpiration(response.getId(), expirationTime));
+            },
+            e -> listener.onFailure(wrapNotFound(docId, e))));
+    }
+
+    /**
+     * Deletes the response of an async search, the listener is notified with <code>false</code> if the response was not found.
+     */
+    public void deleteResponse(String docId, ActionListener<Boolean> listener) {
+        client.delete(new DeleteRequest(INDEX, docId), ActionListener.wrap(
+            r -> listener.onResponse(r.getResult() == DocWriteResponse.Result.DELETED),
+            e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+                    listener.onResponse(false);
+                } else {
+                    listener.onFailure(e);
+                }
+            }));
+    }
+
+    /**
+     * Deletes a batch of the responses that expired before the provided time.
+     */
+    public void deleteExpiredResponses(long nowInMillis, ActionListener<Integer> listener) {
+        if (clusterService.state().routingTable().hasIndex(INDEX) == false) {
+            listener.onResponse(0);
+            return;
+        }
+        final SearchRequest searchRequest = new SearchRequest(INDEX).source(new SearchSourceBuilder()
+            .query(QueryBuilders.rangeQuery(EXPIRATION_TIME_FIELD).lt(nowInMillis))
+            .fetchSource(false)
+            .size(DELETE_BATCH_SIZE));
+        client.search(searchRequest, ActionListener.wrap(
+            searchResponse -> {
+                final SearchHit[] hits = searchResponse.getHits().getHits();
+                if (hits.length == 0) {
+                    listener.onResponse(0);
+                    return;
+                }
+                final BulkRequest bulkRequest = new BulkRequest();
+                for (SearchHit hit : hits) {
+                    bulkRequest.add(new DeleteRequest(INDEX, hit.getId()));
+                }
+                client.bulk(bulkRequest, ActionListener.map(listener, bulkResponse -> {
+                    if (bulkResponse.hasFailures()) {
+                        logger.debug("failed to delete some expired async search responses: {}", bulkResponse.buildFailureMessage());
+                    }
+                    return hits.length;
+                }));
+            },
+            listener::onFailure));
+    }
+
+    static byte[] encodeResponse(AsyncSearchResponse response) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            Version.writeVersion(Version.CURRENT, out);
+            response.writeTo(out);
+            return BytesReference.toBytes(out.bytes());
+        }
+    }
+
+    static AsyncSearchResponse decodeResponse(String encoded, NamedWriteableRegistry namedWriteableRegistry) throws IOException {
+        final byte[] bytes = Base64.getDecoder().decode(encoded);
+        try (StreamInput in = new NamedWriteableAwareStreamInput(StreamInput.wrap(bytes), namedWriteableRegistry)) {
+            in.setVersion(Version.readVersion(in));
+            return new AsyncSearchResponse(in);
+        }
+    }
+
+    private static Exception wrapNotFound(String docId, Exception e) {
+        final Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (cause instanceof IndexNotFoundException || cause instanceof DocumentMissingException) {
+            return new ResourceNotFoundException("async search [{}] not found", docId);
+        }
+        return e;
+    }
+
+    private Settings indexSettings() {
+        return Settings.builder()
+            .put(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.getKey(), 1)
+            .put(IndexMetadata.INDEX_AUTO_EXPAND_REPLICAS_SETTING.getKey(), "0-1")
+            .put(IndexMetadata.SETTING_INDEX_HIDDEN, true)
+            .build();
+    }
+
+    private String indexMapping() {
+        try (InputStream is = getClass().getResourceAsStream(MAPPING_FILE)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Streams.copy(is, out);
+            return out.toString(StandardCharsets.UTF_8.name());
+        } catch (Exception e) {
+            logger.error(() -> new ParameterizedMessage("failed to load the async search index mapping [{}]", MAPPING_FILE), e);
+            throw new IllegalStateException("failed to load the async search index mapping [" + MAPPING_FILE + "]", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Periodically deletes the async search responses that have expired. The cleanup only runs on the elected
+ * master node so that a single node issues the deletes.
+ */
+public class AsyncSearchMaintenanceService extends AbstractLifecycleComponent {
+    private static final Logger logger = LogManager.getLogger(AsyncSearchMaintenanceService.class);
+
+    public static final Setting<TimeValue> CLEANUP_INTERVAL_SETTING = Setting.timeSetting("async_search.cleanup_interval",
+        TimeValue.timeValueHours(1), TimeValue.timeValueSeconds(1), Setting.Property.NodeScope);
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final AsyncSearchIndexService indexService;
+    private final TimeValue cleanupInterval;
+    private volatile Scheduler.Cancellable cleanup;
+
+    public AsyncSearchMaintenanceService(Settings settings, ClusterService clusterService, ThreadPool threadPool,
+                                         AsyncSearchIndexService indexService) {
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.indexService = indexService;
+        this.cleanupInterval = CLEANUP_INTERVAL_SETTING.get(settings);
+    }
+
+    @Override
+    protected void doStart() {
+        cleanup = threadPool.scheduleWithFixedDelay(this::deleteExpiredResponses, cleanupInterval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (cleanup != null) {
+            cleanup.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    void deleteExpiredResponses() {
+        if (clusterService.state().nodes().isLocalNodeElectedMaster() == false) {
+            return;
+        }
+        indexService.deleteExpiredResponses(threadPool.absoluteTimeInMillis(), ActionListener.wrap(
+            deleted -> logger.debug("deleted [{}] expired async search responses", deleted),
+            e -> logger.warn("failed to delete expired async search responses", e)));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.RestStatus;
+
+import java.io.IOException;
+
+/**
+ * The response of an async search. While the search is running it holds the partial results that were
+ * reduced so far, once the search is completed it holds the final {@link SearchResponse} or the failure.
+ */
+public class AsyncSearchResponse extends ActionResponse implements StatusToXContentObject {
+    @Nullable
+    private final String id;
+    private final boolean isRunning;
+    private final boolean isPartial;
+    private final long startTimeMillis;
+    private final long expirationTimeMillis;
+    @Nullable
+    private final SearchResponse searchResponse;
+    @Nullable
+    private final Exception error;
+
+    public AsyncSearchResponse(@Nullable String id, boolean isRunning, boolean isPartial, long startTimeMillis,
+                               long expirationTimeMillis, @Nullable SearchResponse searchResponse, @Nullable Exception error) {
+        this.id = id;
+        this.isRunning = isRunning;
+        this.isPartial = isPartial;
+        this.startTimeMillis = startTimeMillis;
+        this.expirationTimeMillis = expirationTimeMillis;
+        this.searchResponse = searchResponse;
+        this.error = error;
+    }
+
+    public AsyncSearchResponse(StreamInput in) throws IOException {
+        super(in);
+        this.id = in.readOptionalString();
+        this.isRunning = in.readBoolean();
+        this.isPartial = in.readBoolean();
+        this.startTimeMillis = in.readLong();
+        this.expirationTimeMillis = in.readLong();
+        this.searchResponse = in.readOptionalWriteable(SearchResponse::new);
+        this.error = in.readBoolean() ? in.readException() : null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(id);
+        out.writeBoolean(isRunning);
+        out.writeBoolean(isPartial);
+        out.writeLong(startTimeMillis);
+        out.writeLong(expirationTimeMillis);
+        out.writeOptionalWriteable(searchResponse);
+        if (error != null) {
+            out.writeBoolean(true);
+            out.writeException(error);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    /**
+     * Returns a copy of this response with the provided id and expiration time
+     */
+    public AsyncSearchResponse withIdAndExpiration(@Nullable String id, long expirationTimeMillis) {
+        return new AsyncSearchResponse(id, isRunning, isPartial, startTimeMillis, expirationTimeMillis, searchResponse, error);
+    }
+
+    /**
+     * The id of the async search, or <code>null</code> if the response was not stored
+     */
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Whether the search is still running
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Whether the search response only holds partial results, either because the search is still running
+     * or because some shards failed
+     */
+    public boolean isPartial() {
+        return isPartial;
+    }
+
+    public long getStartTime() {
+        return startTimeMillis;
+    }
+
+    public long getExpirationTime() {
+        return expirationTimeMillis;
+    }
+
+    @Nullable
+    public SearchResponse getSearchResponse() {
+        return searchResponse;
+    }
+
+    @Nullable
+    public Exception getError() {
+        return error;
+    }
+
+    @Override
+    public RestStatus status() {
+        if (error != null) {
+            return ExceptionsHelper.status(ExceptionsHelper.unwrapCause(error));
+        }
+        return searchResponse != null ? searchResponse.status() : RestStatus.OK;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (id != null) {
+            builder.field("id", id);
+        }
+        builder.field("is_partial", isPartial);
+        builder.field("is_running", isRunning);
+        builder.timeField("start_time_in_millis", "start_time", startTimeMillis);
+        builder.timeField("expiration_time_in_millis", "expiration_time", expirationTimeMillis);
+        if (searchResponse != null) {
+            builder.field("response");
+            searchResponse.toXContent(builder, params);
+        }
+        if (error != null) {
+            builder.startObject("error");
+            OpenSearchException.generateThrowableXContent(builder, params, error);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
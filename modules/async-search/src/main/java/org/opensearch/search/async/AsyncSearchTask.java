@@ -0,0 +1,375 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchProgressActionListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchShard;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The task that executes an async search. It tracks the progress of the search through a
+ * {@link SearchProgressActionListener} so that the partial results that were reduced so far can be
+ * returned and stored while the shards are still reporting.
+ */
+public class AsyncSearchTask extends SearchTask {
+    private static final Logger logger = LogManager.getLogger(AsyncSearchTask.class);
+
+    private final AsyncSearchId asyncSearchId;
+    private final long startTimeMillis;
+    private final long startTimeNanos;
+    private volatile long expirationTimeMillis;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final Supplier<InternalAggregation.ReduceContext> finalReduceContextSupplier;
+    private final Listener searchListener = new Listener();
+
+    // the progress of the search
+    private volatile int totalShards = -1;
+    private volatile int skippedShards;
+    private volatile SearchResponse.Clusters clusters = SearchResponse.Clusters.EMPTY;
+    private final AtomicInteger successfulShards = new AtomicInteger();
+    private final List<ShardSearchFailure> shardFailures = Collections.synchronizedList(new ArrayList<>());
+    private volatile PartialResult partialResult;
+
+    // the outcome of the search, guarded by this
+    private boolean completed;
+    private SearchResponse finalResponse;
+    private Exception failure;
+    private final List<CompletionListener> completionListeners = new ArrayList<>();
+
+    // the writes of the response to the index are serialized so that a partial response never overrides the final one
+    private AsyncSearchIndexService indexService;
+    private boolean storing;
+    private boolean storeAgain;
+
+    private Scheduler.ScheduledCancellable expirationCheck;
+
+    public AsyncSearchTask(long id, String type, String action, Supplier<String> descriptionSupplier, TaskId parentTaskId,
+                           Map<String, String> headers, AsyncSearchId asyncSearchId, long startTimeMillis, long expirationTimeMillis,
+                           ThreadPool threadPool, TaskManager taskManager,
+                           Supplier<InternalAggregation.ReduceContext> finalReduceContextSupplier) {
+        super(id, type, action, descriptionSupplier, parentTaskId, headers);
+        this.asyncSearchId = asyncSearchId;
+        this.startTimeMillis = startTimeMillis;
+        this.startTimeNanos = System.nanoTime();
+        this.expirationTimeMillis = expirationTimeMillis;
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.finalReduceContextSupplier = finalReduceContextSupplier;
+        setProgressListener(searchListener);
+    }
+
+    public AsyncSearchId getAsyncSearchId() {
+        return asyncSearchId;
+    }
+
+    public long getExpirationTime() {
+        return expirationTimeMillis;
+    }
+
+    /**
+     * Extends the expiration time of this search, the expiration time is never reduced.
+     */
+    public void extendExpirationTime(long expirationTimeMillis) {
+        synchronized (this) {
+            this.expirationTimeMillis = Math.max(this.expirationTimeMillis, expirationTimeMillis);
+        }
+    }
+
+    /**
+     * The listener that must be notified of the progress and of the outcome of the search
+     */
+    SearchProgressActionListener getSearchListener() {
+        return searchListener;
+    }
+
+    /**
+     * Cancels this task once its expiration time is reached. The check is rescheduled if the expiration time is extended.
+     */
+    void scheduleExpirationCheck() {
+        final long delay = Math.max(0, expirationTimeMillis - threadPool.absoluteTimeInMillis());
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            expirationCheck = threadPool.schedule(this::checkExpiration, TimeValue.timeValueMillis(delay), ThreadPool.Names.GENERIC);
+        }
+    }
+
+    private void checkExpiration() {
+        if (threadPool.absoluteTimeInMillis() >= expirationTimeMillis) {
+            taskManager.cancel(this, "async search has expired", () -> {});
+        } else {
+            scheduleExpirationCheck();
+        }
+    }
+
+    /**
+     * Notifies the provided listener once the search is completed or after the provided timeout, whichever comes first.
+     * The response holds the partial results if the search is still running when the timeout elapses.
+     */
+    public void addCompletionListener(ActionListener<AsyncSearchResponse> listener, TimeValue timeout) {
+        synchronized (this) {
+            if (completed == false) {
+                final CompletionListener completionListener = new CompletionListener(listener);
+                completionListeners.add(completionListener);
+                if (timeout.millis() > 0) {
+                    completionListener.timeout = threadPool.schedule(completionListener::onTimeout, timeout, ThreadPool.Names.GENERIC);
+                    return;
+                } else if (timeout.millis() < 0) {
+                    // wait until the search completes
+                    return;
+                }
+                completionListeners.remove(completionListener);
+            }
+        }
+        listener.onResponse(getAsyncResponse());
+    }
+
+    /**
+     * Stores the response of this search in the index every time new partial results are available and once the
+     * search is completed. This task is unregistered once its final response is stored.
+     */
+    void enableStore(AsyncSearchIndexService indexService) {
+        synchronized (this) {
+            this.indexService = indexService;
+        }
+        maybeStore();
+    }
+
+    /**
+     * Returns the current state of the search
+     */
+    public AsyncSearchResponse getAsyncResponse() {
+        synchronized (this) {
+            if (completed) {
+                if (failure != null) {
+                    return new AsyncSearchResponse(asyncSearchId.getEncoded(), false, true, startTimeMillis, expirationTimeMillis,
+                        null, failure);
+                }
+                return new AsyncSearchResponse(asyncSearchId.getEncoded(), false, false, startTimeMillis, expirationTimeMillis,
+                    finalResponse, null);
+            }
+        }
+        return new AsyncSearchResponse(asyncSearchId.getEncoded(), true, true, startTimeMillis, expirationTimeMillis,
+            buildPartialResponse(), null);
+    }
+
+    private SearchResponse buildPartialResponse() {
+        final PartialResult partial = partialResult;
+        final TotalHits totalHits;
+        final InternalAggregations aggregations;
+        final int reducePhase;
+        if (partial == null) {
+            totalHits = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+            aggregations = null;
+            reducePhase = 0;
+        } else {
+            totalHits = partial.totalHits;
+            aggregations = partial.finalAggregations();
+            reducePhase = partial.reducePhase;
+        }
+        final SearchHits hits = new SearchHits(new SearchHit[0], totalHits, Float.NaN);
+        final InternalSearchResponse internal = new InternalSearchResponse(hits, aggregations, null, null, false, null, reducePhase);
+        final long tookInMillis = TimeValue.nsecToMSec(System.nanoTime() - startTimeNanos);
+        return new SearchResponse(internal, null, Math.max(totalShards, 0), successfulShards.get(), skippedShards, tookInMillis,
+            shardFailures.toArray(ShardSearchFailure.EMPTY_ARRAY), clusters);
+    }
+
+    private void onCompletion(SearchResponse response, Exception exc) {
+        final List<CompletionListener> listeners;
+        synchronized (this) {
+            completed = true;
+            finalResponse = response;
+            failure = exc;
+            listeners = new ArrayList<>(completionListeners);
+            completionListeners.clear();
+            if (expirationCheck != null) {
+                expirationCheck.cancel();
+            }
+        }
+        maybeStore();
+        final AsyncSearchResponse asyncResponse = getAsyncResponse();
+        for (CompletionListener listener : listeners) {
+            listener.onCompletion(asyncResponse);
+        }
+    }
+
+    private void maybeStore() {
+        synchronized (this) {
+            if (indexService == null) {
+                return;
+            }
+            if (storing) {
+                storeAgain = true;
+                return;
+            }
+            storing = true;
+        }
+        doStore();
+    }
+
+    private void doStore() {
+        final AsyncSearchResponse response = getAsyncResponse();
+        indexService.updateResponse(asyncSearchId.getDocId(), response, ActionListener.wrap(
+            ignored -> onStored(response),
+            e -> {
+                logger.debug(() -> new ParameterizedMessage("failed to store the response of async search [{}]", asyncSearchId), e);
+                onStored(response);
+            }));
+    }
+
+    private void onStored(AsyncSearchResponse response) {
+        synchronized (this) {
+            if (storeAgain) {
+                storeAgain = false;
+            } else {
+                storing = false;
+                if (response.isRunning() == false) {
+                    taskManager.unregister(this);
+                }
+                return;
+            }
+        }
+        doStore();
+    }
+
+    private static class PartialResult {
+        private final TotalHits totalHits;
+        private final InternalAggregations aggregations;
+        private final int reducePhase;
+        private final Supplier<InternalAggregation.ReduceContext> reduceContextSupplier;
+        private InternalAggregations finalAggregations;
+
+        PartialResult(TotalHits totalHits, InternalAggregations aggregations, int reducePhase,
+                      Supplier<InternalAggregation.ReduceContext> reduceContextSupplier) {
+            this.totalHits = totalHits;
+            this.aggregations = aggregations;
+            this.reducePhase = reducePhase;
+            this.reduceContextSupplier = reduceContextSupplier;
+        }
+
+        /**
+         * Applies the final reduction on the partially reduced aggregations, lazily and only once.
+         * Aggregations that were already reduced by the final reduction have no reduce context.
+         */
+        synchronized InternalAggregations finalAggregations() {
+            if (aggregations == null || reduceContextSupplier == null) {
+                return aggregations;
+            }
+            if (finalAggregations == null) {
+                try {
+                    finalAggregations = InternalAggregations.topLevelReduce(Collections.singletonList(aggregations),
+                        reduceContextSupplier.get());
+                } catch (Exception e) {
+                    logger.debug("failed to apply the final reduction on partial aggregations", e);
+                    finalAggregations = aggregations;
+                }
+            }
+            return finalAggregations;
+        }
+    }
+
+    private class CompletionListener {
+        private final ActionListener<AsyncSearchResponse> delegate;
+        private final AtomicBoolean notified = new AtomicBoolean();
+        private volatile Scheduler.ScheduledCancellable timeout;
+
+        CompletionListener(ActionListener<AsyncSearchResponse> delegate) {
+            this.delegate = delegate;
+        }
+
+        void onTimeout() {
+            if (notified.compareAndSet(false, true)) {
+                synchronized (AsyncSearchTask.this) {
+                    completionListeners.remove(this);
+                }
+                delegate.onResponse(getAsyncResponse());
+            }
+        }
+
+        void onCompletion(AsyncSearchResponse response) {
+            if (notified.compareAndSet(false, true)) {
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+                delegate.onResponse(response);
+            }
+        }
+    }
+
+    private class Listener extends SearchProgressActionListener {
+        @Override
+        protected void onListShards(List<SearchShard> shards, List<SearchShard> skipped, SearchResponse.Clusters clusters,
+                                    boolean fetchPhase) {
+            AsyncSearchTask.this.totalShards = shards.size() + skipped.size();
+            AsyncSearchTask.this.skippedShards = skipped.size();
+            AsyncSearchTask.this.clusters = clusters;
+            successfulShards.addAndGet(skipped.size());
+        }
+
+        @Override
+        protected void onQueryResult(int shardIndex) {
+            successfulShards.incrementAndGet();
+        }
+
+        @Override
+        protected void onQueryFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
+            shardFailures.add(new ShardSearchFailure(exc, shardTarget));
+        }
+
+        @Override
+        protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+            partialResult = new PartialResult(totalHits, aggs, reducePhase, finalReduceContextSupplier);
+            maybeStore();
+        }
+
+        @Override
+        protected void onFinalReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+            // the aggregations are already final so there is no need to reduce them again
+            partialResult = new PartialResult(totalHits, aggs, reducePhase, null);
+        }
+
+        @Override
+        public void onResponse(SearchResponse response) {
+            onCompletion(response, null);
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            onCompletion(null, e);
+        }
+    }
+}
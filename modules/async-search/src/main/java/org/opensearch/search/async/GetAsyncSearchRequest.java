@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to retrieve the partial or final results of an async search.
+ */
+public class GetAsyncSearchRequest extends ActionRequest {
+    private final String id;
+    private TimeValue waitForCompletionTimeout = TimeValue.ZERO;
+    @Nullable
+    private TimeValue keepAlive;
+
+    public GetAsyncSearchRequest(String id) {
+        this.id = id;
+    }
+
+    public GetAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.id = in.readString();
+        this.waitForCompletionTimeout = in.readTimeValue();
+        this.keepAlive = in.readOptionalTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(id);
+        out.writeTimeValue(waitForCompletionTimeout);
+        out.writeOptionalTimeValue(keepAlive);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    /**
+     * Sets how long to wait for the search to complete before returning its partial results.
+     * By default the current state of the search is returned immediately.
+     */
+    public GetAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    @Nullable
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Extends the expiration time of the search to now plus the provided keep alive
+     */
+    public GetAsyncSearchRequest setKeepAlive(@Nullable TimeValue keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (Strings.isEmpty(id)) {
+            validationException = addValidationError("[id] is not specified", validationException);
+        }
+        if (keepAlive != null && keepAlive.millis() < TimeValue.timeValueSeconds(1).millis()) {
+            validationException = addValidationError("[keep_alive] must be greater than 1 second, got: " + keepAlive,
+                validationException);
+        }
+        return validationException;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+import org.opensearch.rest.action.search.RestSearchAction;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+public class RestSubmitAsyncSearchAction extends BaseRestHandler {
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(POST, "/_async_search"),
+            new Route(POST, "/{index}/_async_search")));
+    }
+
+    @Override
+    public String getName() {
+        return "submit_async_search_action";
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        final SearchRequest searchRequest = new SearchRequest();
+        IntConsumer setSize = size -> searchRequest.source().size(size);
+        request.withContentOrSourceParamParserOrNull(parser ->
+            RestSearchAction.parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize));
+        if (request.hasParam("batched_reduce_size") == false) {
+            // reduce the shard results more often than regular searches so that partial results are available early
+            searchRequest.setBatchedReduceSize(SubmitAsyncSearchRequest.DEFAULT_BATCHED_REDUCE_SIZE);
+        }
+        final SubmitAsyncSearchRequest submitRequest = new SubmitAsyncSearchRequest(searchRequest);
+        submitRequest.setWaitForCompletionTimeout(request.paramAsTime("wait_for_completion_timeout",
+            submitRequest.getWaitForCompletionTimeout()));
+        submitRequest.setKeepAlive(request.paramAsTime("keep_alive", submitRequest.getKeepAlive()));
+        submitRequest.setKeepOnCompletion(request.paramAsBoolean("keep_on_completion", submitRequest.isKeepOnCompletion()));
+        return channel -> {
+            RestCancellableNodeClient cancelClient = new RestCancellableNodeClient(client, request.getHttpChannel());
+            cancelClient.execute(SubmitAsyncSearchAction.INSTANCE, submitRequest, new RestStatusToXContentListener<>(channel));
+        };
+    }
+}
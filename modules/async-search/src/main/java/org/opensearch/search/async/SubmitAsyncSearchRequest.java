@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to submit a search that is executed asynchronously. The response is returned if the search completes
+ * within {@link #getWaitForCompletionTimeout()}, otherwise an id is returned that can be used to retrieve the
+ * partial and final results.
+ */
+public class SubmitAsyncSearchRequest extends ActionRequest {
+    public static final TimeValue DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT = TimeValue.timeValueSeconds(1);
+    public static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueDays(5);
+    public static final int DEFAULT_BATCHED_REDUCE_SIZE = 5;
+
+    private final SearchRequest searchRequest;
+    private TimeValue waitForCompletionTimeout = DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT;
+    private TimeValue keepAlive = DEFAULT_KEEP_ALIVE;
+    private boolean keepOnCompletion = false;
+
+    public SubmitAsyncSearchRequest(SearchRequest searchRequest) {
+        this.searchRequest = Objects.requireNonNull(searchRequest);
+    }
+
+    public SubmitAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.searchRequest = new SearchRequest(in);
+        this.waitForCompletionTimeout = in.readTimeValue();
+        this.keepAlive = in.readTimeValue();
+        this.keepOnCompletion = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        searchRequest.writeTo(out);
+        out.writeTimeValue(waitForCompletionTimeout);
+        out.writeTimeValue(keepAlive);
+        out.writeBoolean(keepOnCompletion);
+    }
+
+    public SearchRequest getSearchRequest() {
+        return searchRequest;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    /**
+     * Sets how long to wait for the search to complete before returning its partial results
+     */
+    public SubmitAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets how long the search and its results are kept before they are cancelled and deleted
+     */
+    public SubmitAsyncSearchRequest setKeepAlive(TimeValue keepAlive) {
+        this.keepAlive = Objects.requireNonNull(keepAlive);
+        return this;
+    }
+
+    public boolean isKeepOnCompletion() {
+        return keepOnCompletion;
+    }
+
+    /**
+     * Sets whether the response should be stored if the search completes within the wait for completion timeout
+     */
+    public SubmitAsyncSearchRequest setKeepOnCompletion(boolean keepOnCompletion) {
+        this.keepOnCompletion = keepOnCompletion;
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = searchRequest.validate();
+        if (searchRequest.scroll() != null) {
+            validationException = addValidationError("[scroll] is not supported in async search", validationException);
+        }
+        if (keepAlive.millis() < TimeValue.timeValueSeconds(1).millis()) {
+            validationException = addValidationError("[keep_alive] must be greater than 1 second, got: " + keepAlive,
+                validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public String getDescription() {
+        return "async_search{" + searchRequest.buildDescription() + "}";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.master.AcknowledgedResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportDeleteAsyncSearchAction extends HandledTransportAction<DeleteAsyncSearchRequest, AcknowledgedResponse> {
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final AsyncSearchIndexService indexService;
+
+    @Inject
+    public TransportDeleteAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                            AsyncSearchIndexService indexService) {
+        super(DeleteAsyncSearchAction.NAME, transportService, actionFilters, DeleteAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.indexService = indexService;
+    }
+
+    @Override
+    protected void doExecute(Task task, DeleteAsyncSearchRequest request, ActionListener<AcknowledgedResponse> listener) {
+        final AsyncSearchId id;
+        try {
+            id = AsyncSearchId.decode(request.getId());
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        final DiscoveryNode node = clusterService.state().nodes().get(id.getTaskId().getNodeId());
+        if (node == null || clusterService.localNode().getId().equals(node.getId())) {
+            deleteLocally(id, listener);
+        } else {
+            // the search may still be running on the node that owns it and must be cancelled there
+            transportService.sendRequest(node, DeleteAsyncSearchAction.NAME, request,
+                new ActionListenerResponseHandler<>(listener, AcknowledgedResponse::new, ThreadPool.Names.SAME));
+        }
+    }
+
+    private void deleteLocally(AsyncSearchId id, ActionListener<AcknowledgedResponse> listener) {
+        final TaskManager taskManager = transportService.getTaskManager();
+        final Task runningTask = taskManager.getTask(id.getTaskId().getId());
+        final boolean running = runningTask instanceof AsyncSearchTask && ((AsyncSearchTask) runningTask).getAsyncSearchId().equals(id);
+        if (running) {
+            taskManager.cancel((AsyncSearchTask) runningTask, "async search was deleted", () -> {});
+        }
+        indexService.deleteResponse(id.getDocId(), ActionListener.wrap(
+            found -> {
+                if (found || running) {
+                    listener.onResponse(new AcknowledgedResponse(true));
+                } else {
+                    listener.onFailure(new ResourceNotFoundException("async search [{}] not found", id.getDocId()));
+                }
+            },
+            listener::onFailure));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportGetAsyncSearchAction extends HandledTransportAction<GetAsyncSearchRequest, AsyncSearchResponse> {
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final ThreadPool threadPool;
+    private final AsyncSearchIndexService indexService;
+
+    @Inject
+    public TransportGetAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                         AsyncSearchIndexService indexService) {
+        super(GetAsyncSearchAction.NAME, transportService, actionFilters, GetAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.threadPool = transportService.getThreadPool();
+        this.indexService = indexService;
+    }
+
+    @Override
+    protected void doExecute(Task task, GetAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final AsyncSearchId id;
+        try {
+            id = AsyncSearchId.decode(request.getId());
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        final DiscoveryNode node = clusterService.state().nodes().get(id.getTaskId().getNodeId());
+        if (node == null || clusterService.localNode().getId().equals(node.getId())) {
+            getLocally(id, request, listener);
+        } else {
+            // the search may still be running on the node that owns it
+            transportService.sendRequest(node, GetAsyncSearchAction.NAME, request,
+                new ActionListenerResponseHandler<>(listener, AsyncSearchResponse::new, ThreadPool.Names.SAME));
+        }
+    }
+
+    private void getLocally(AsyncSearchId id, GetAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final long nowInMillis = threadPool.absoluteTimeInMillis();
+        final Task runningTask = transportService.getTaskManager().getTask(id.getTaskId().getId());
+        if (runningTask instanceof AsyncSearchTask && ((AsyncSearchTask) runningTask).getAsyncSearchId().equals(id)) {
+            final AsyncSearchTask asyncSearchTask = (AsyncSearchTask) runningTask;
+            if (request.getKeepAlive() != null) {
+                final long expirationTimeMillis = nowInMillis + request.getKeepAlive().millis();
+                asyncSearchTask.extendExpirationTime(expirationTimeMillis);
+                indexService.updateExpirationTime(id.getDocId(), expirationTimeMillis, ActionListener.wrap(() -> {}));
+            }
+            asyncSearchTask.addCompletionListener(listener, request.getWaitForCompletionTimeout());
+        } else if (request.getKeepAlive() != null) {
+            indexService.updateExpirationTime(id.getDocId(), nowInMillis + request.getKeepAlive().millis(), ActionListener.wrap(
+                r -> indexService.getResponse(id.getDocId(), nowInMillis, listener),
+                listener::onFailure));
+        } else {
+            indexService.getResponse(id.getDocId(), nowInMillis, listener);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.action.search.TransportSearchAction;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.Map;
+
+public class TransportSubmitAsyncSearchAction extends HandledTransportAction<SubmitAsyncSearchRequest, AsyncSearchResponse> {
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final TransportSearchAction searchAction;
+    private final SearchService searchService;
+    private final AsyncSearchIndexService indexService;
+
+    @Inject
+    public TransportSubmitAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                            TransportSearchAction searchAction, SearchService searchService,
+                                            AsyncSearchIndexService indexService) {
+        super(SubmitAsyncSearchAction.NAME, transportService, actionFilters, SubmitAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.threadPool = transportService.getThreadPool();
+        this.taskManager = transportService.getTaskManager();
+        this.searchAction = searchAction;
+        this.searchService = searchService;
+        this.indexService = indexService;
+    }
+
+    @Override
+    protected void doExecute(Task submitTask, SubmitAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final String docId = UUIDs.randomBase64UUID();
+        final String nodeId = clusterService.localNode().getId();
+        final long startTimeMillis = threadPool.absoluteTimeInMillis();
+        final long expirationTimeMillis = startTimeMillis + request.getKeepAlive().millis();
+        final SearchRequest searchRequest = new SearchRequest(request.getSearchRequest()) {
+            @Override
+            public SearchTask createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                final InternalAggregation.ReduceContextBuilder reduceContextBuilder = searchService.aggReduceContextBuilder(this);
+                return new AsyncSearchTask(id, type, action, this::buildDescription, parentTaskId, headers,
+                    new AsyncSearchId(docId, new TaskId(nodeId, id)), startTimeMillis, expirationTimeMillis, threadPool, taskManager,
+                    reduceContextBuilder::forFinalReduction);
+            }
+        };
+        // the progress of the search is only reported when the remote clusters are searched shard by shard
+        searchRequest.setCcsMinimizeRoundtrips(false);
+
+        // the async search outlives the submit request so it is registered as a top level task
+        final AsyncSearchTask task = (AsyncSearchTask) taskManager.register("transport", SearchAction.NAME, searchRequest);
+        task.scheduleExpirationCheck();
+        searchAction.execute(task, searchRequest, task.getSearchListener());
+        task.addCompletionListener(ActionListener.wrap(
+            response -> onInitialResponse(task, request, response, listener),
+            listener::onFailure), request.getWaitForCompletionTimeout());
+    }
+
+    private void onInitialResponse(AsyncSearchTask task, SubmitAsyncSearchRequest request, AsyncSearchResponse response,
+                                   ActionListener<AsyncSearchResponse> listener) {
+        if (response.isRunning() == false && request.isKeepOnCompletion() == false) {
+            // the search completed within the timeout, there is no need to store the response
+            taskManager.unregister(task);
+            listener.onResponse(response.withIdAndExpiration(null, response.getExpirationTime()));
+            return;
+        }
+        indexService.createResponse(task.getAsyncSearchId().getDocId(), response, ActionListener.wrap(
+            ignored -> {
+                if (response.isRunning()) {
+                    task.enableStore(indexService);
+                } else {
+                    taskManager.unregister(task);
+                }
+                listener.onResponse(response);
+            },
+            e -> {
+                taskManager.cancel(task, "failed to store the async search response", () -> {});
+                task.addCompletionListener(ActionListener.wrap(r -> taskManager.unregister(task), ex -> taskManager.unregister(task)),
+                    TimeValue.MINUS_ONE);
+                listener.onFailure(e);
+            }));
+    }
+}
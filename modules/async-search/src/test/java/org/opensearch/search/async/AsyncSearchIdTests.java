@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.opensearch.common.UUIDs;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.containsString;
+
+public class AsyncSearchIdTests extends OpenSearchTestCase {
+
+    public void testEncodeDecode() {
+        AsyncSearchId id = new AsyncSearchId(UUIDs.randomBase64UUID(), new TaskId(randomAlphaOfLength(10), randomNonNegativeLong()));
+        AsyncSearchId decoded = AsyncSearchId.decode(id.getEncoded());
+        assertEquals(id, decoded);
+        assertEquals(id.getDocId(), decoded.getDocId());
+        assertEquals(id.getTaskId(), decoded.getTaskId());
+        assertEquals(id.getEncoded(), decoded.getEncoded());
+    }
+
+    public void testDecodeInvalid() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> AsyncSearchId.decode("not an id!"));
+        assertThat(e.getMessage(), containsString("invalid async search id"));
+        String tooLong = AsyncSearchId.encode("doc", new TaskId("node", 1)) + "AAAA";
+        e = expectThrows(IllegalArgumentException.class, () -> AsyncSearchId.decode(tooLong));
+        assertThat(e.getMessage(), containsString("invalid async search id"));
+    }
+}
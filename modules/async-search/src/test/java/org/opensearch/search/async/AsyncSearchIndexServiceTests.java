@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.UUIDs;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+
+import java.util.Collection;
+
+public class AsyncSearchIndexServiceTests extends OpenSearchSingleNodeTestCase {
+
+    @Override
+    protected Collection<Class<? extends Plugin>> getPlugins() {
+        return pluginList(AsyncSearchPlugin.class);
+    }
+
+    public void testCreateGetAndUpdateResponse() {
+        AsyncSearchIndexService indexService = getInstanceFromNode(AsyncSearchIndexService.class);
+        String docId = UUIDs.randomBase64UUID();
+        long now = System.currentTimeMillis();
+        AsyncSearchResponse running = response(docId, true, now, now + 60_000, 1);
+        createResponse(indexService, docId, running);
+
+        AsyncSearchResponse stored = getResponse(indexService, docId, now);
+        assertEquals(docId, stored.getId());
+        assertTrue(stored.isRunning());
+        assertEquals(now, stored.getStartTime());
+        assertEquals(now + 60_000, stored.getExpirationTime());
+        assertEquals(1, stored.getSearchResponse().getHits().getTotalHits().value);
+
+        AsyncSearchResponse completed = response(docId, false, now, now + 60_000, 10);
+        PlainActionFuture<Void> updateFuture = new PlainActionFuture<>();
+        indexService.updateResponse(docId, completed, updateFuture);
+        updateFuture.actionGet();
+
+        stored = getResponse(indexService, docId, now);
+        assertFalse(stored.isRunning());
+        assertEquals(10, stored.getSearchResponse().getHits().getTotalHits().value);
+
+        PlainActionFuture<Void> expirationFuture = new PlainActionFuture<>();
+        indexService.updateExpirationTime(docId, now + 120_000, expirationFuture);
+        expirationFuture.actionGet();
+        assertEquals(now + 120_000, getResponse(indexService, docId, now).getExpirationTime());
+    }
+
+    public void testExpiredResponseIsNotFound() {
+        AsyncSearchIndexService indexService = getInstanceFromNode(AsyncSearchIndexService.class);
+        String docId = UUIDs.randomBase64UUID();
+        long now = System.currentTimeMillis();
+        createResponse(indexService, docId, response(docId, false, now - 60_000, now - 1, 1));
+
+        PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        indexService.getResponse(docId, now, future);
+        expectThrows(ResourceNotFoundException.class, future::actionGet);
+    }
+
+    public void testMissingResponseIsNotFound() {
+        AsyncSearchIndexService indexService = getInstanceFromNode(AsyncSearchIndexService.class);
+        String docId = UUIDs.randomBase64UUID();
+        long now = System.currentTimeMillis();
+        if (randomBoolean()) {
+            // the index may already exist
+            createResponse(indexService, UUIDs.randomBase64UUID(), response(docId, false, now, now + 60_000, 1));
+        }
+
+        PlainActionFuture<AsyncSearchResponse> getFuture = new PlainActionFuture<>();
+        indexService.getResponse(docId, now, getFuture);
+        expectThrows(ResourceNotFoundException.class, getFuture::actionGet);
+
+        PlainActionFuture<Void> updateFuture = new PlainActionFuture<>();
+        indexService.updateExpirationTime(docId, now + 60_000, updateFuture);
+        expectThrows(ResourceNotFoundException.class, updateFuture::actionGet);
+
+        PlainActionFuture<Boolean> deleteFuture = new PlainActionFuture<>();
+        indexService.deleteResponse(docId, deleteFuture);
+        assertFalse(deleteFuture.actionGet());
+    }
+
+    public void testDeleteResponse() {
+        AsyncSearchIndexService indexService = getInstanceFromNode(AsyncSearchIndexService.class);
+        String docId = UUIDs.randomBase64UUID();
+        long now = System.currentTimeMillis();
+        createResponse(indexService, docId, response(docId, false, now, now + 60_000, 1));
+
+        PlainActionFuture<Boolean> deleteFuture = new PlainActionFuture<>();
+        indexService.deleteResponse(docId, deleteFuture);
+        assertTrue(deleteFuture.actionGet());
+
+        PlainActionFuture<AsyncSearchResponse> getFuture = new PlainActionFuture<>();
+        indexService.getResponse(docId, now, getFuture);
+        expectThrows(ResourceNotFoundException.class, getFuture::actionGet);
+    }
+
+    public void testDeleteExpiredResponses() {
+        AsyncSearchIndexService indexService = getInstanceFromNode(AsyncSearchIndexService.class);
+        long now = System.currentTimeMillis();
+
+        PlainActionFuture<Integer> noIndexFuture = new PlainActionFuture<>();
+        indexService.deleteExpiredResponses(now, noIndexFuture);
+        assertEquals(0, (int) noIndexFuture.actionGet());
+
+        int numExpired = randomIntBetween(1, 10);
+        for (int i = 0; i < numExpired; i++) {
+            String docId = UUIDs.randomBase64UUID();
+            createResponse(indexService, docId, response(docId, false, now - 60_000, now - randomIntBetween(1, 1000), 1));
+        }
+        String liveDocId = UUIDs.randomBase64UUID();
+        createResponse(indexService, liveDocId, response(liveDocId, true, now, now + 60_000, 1));
+        client().admin().indices().prepareRefresh(AsyncSearchIndexService.INDEX).get();
+
+        PlainActionFuture<Integer> deleteFuture = new PlainActionFuture<>();
+        indexService.deleteExpiredResponses(now, deleteFuture);
+        assertEquals(numExpired, (int) deleteFuture.actionGet());
+        assertTrue(getResponse(indexService, liveDocId, now).isRunning());
+    }
+
+    private static void createResponse(AsyncSearchIndexService indexService, String docId, AsyncSearchResponse response) {
+        PlainActionFuture<Void> future = new PlainActionFuture<>();
+        indexService.createResponse(docId, response, future);
+        future.actionGet();
+    }
+
+    private static AsyncSearchResponse getResponse(AsyncSearchIndexService indexService, String docId, long now) {
+        PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        indexService.getResponse(docId, now, future);
+        return future.actionGet();
+    }
+
+    private static AsyncSearchResponse response(String id, boolean isRunning, long startTime, long expirationTime, int totalHits) {
+        SearchHits hits = new SearchHits(new SearchHit[0], new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), Float.NaN);
+        SearchResponse searchResponse = new SearchResponse(new InternalSearchResponse(hits, null, null, null, false, null, 1), null,
+            1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+        return new AsyncSearchResponse(id, isRunning, isRunning, startTime, expirationTime, searchResponse, null);
+    }
+}
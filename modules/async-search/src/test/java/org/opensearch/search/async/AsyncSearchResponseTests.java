@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Collections;
+
+public class AsyncSearchResponseTests extends OpenSearchTestCase {
+
+    private final NamedWriteableRegistry namedWriteableRegistry =
+        new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, false, Collections.emptyList()).getNamedWriteables());
+
+    public void testEncodeDecodeRunning() throws IOException {
+        SearchHits hits = new SearchHits(new SearchHit[0], new TotalHits(randomIntBetween(0, 100), TotalHits.Relation.EQUAL_TO), Float.NaN);
+        SearchResponse searchResponse = new SearchResponse(new InternalSearchResponse(hits, null, null, null, false, null, 1), null,
+            10, 5, 0, randomNonNegativeLong(), ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+        AsyncSearchResponse response = new AsyncSearchResponse(randomAlphaOfLength(10), true, true, randomNonNegativeLong(),
+            randomNonNegativeLong(), searchResponse, null);
+        AsyncSearchResponse decoded = decode(AsyncSearchIndexService.encodeResponse(response));
+        assertEquals(response.getId(), decoded.getId());
+        assertTrue(decoded.isRunning());
+        assertTrue(decoded.isPartial());
+        assertEquals(response.getStartTime(), decoded.getStartTime());
+        assertEquals(response.getExpirationTime(), decoded.getExpirationTime());
+        assertEquals(10, decoded.getSearchResponse().getTotalShards());
+        assertEquals(5, decoded.getSearchResponse().getSuccessfulShards());
+        assertEquals(hits.getTotalHits(), decoded.getSearchResponse().getHits().getTotalHits());
+        assertNull(decoded.getError());
+        assertEquals(RestStatus.OK, decoded.status());
+    }
+
+    public void testEncodeDecodeFailure() throws IOException {
+        AsyncSearchResponse response = new AsyncSearchResponse(null, false, true, randomNonNegativeLong(),
+            randomNonNegativeLong(), null, new OpenSearchException("boom"));
+        AsyncSearchResponse decoded = decode(AsyncSearchIndexService.encodeResponse(response));
+        assertNull(decoded.getId());
+        assertFalse(decoded.isRunning());
+        assertNull(decoded.getSearchResponse());
+        assertEquals("boom", decoded.getError().getMessage());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, decoded.status());
+    }
+
+    public void testWithIdAndExpiration() {
+        AsyncSearchResponse response = new AsyncSearchResponse("id", false, false, 1, 2, null, null);
+        AsyncSearchResponse copy = response.withIdAndExpiration(null, 10);
+        assertNull(copy.getId());
+        assertEquals(1, copy.getStartTime());
+        assertEquals(10, copy.getExpirationTime());
+    }
+
+    private AsyncSearchResponse decode(byte[] bytes) throws IOException {
+        return AsyncSearchIndexService.decodeResponse(Base64.getEncoder().encodeToString(bytes), namedWriteableRegistry);
+    }
+}
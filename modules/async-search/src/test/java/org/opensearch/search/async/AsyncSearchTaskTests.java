@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.async;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class AsyncSearchTaskTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+
+    @Before
+    public void setupThreadPool() {
+        threadPool = new TestThreadPool(AsyncSearchTaskTests.class.getName());
+        taskManager = mock(TaskManager.class);
+    }
+
+    @After
+    public void terminateThreadPool() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    public void testCompletionListenerIsNotifiedOnCompletion() {
+        AsyncSearchTask task = createTask(Long.MAX_VALUE);
+        PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        task.addCompletionListener(future, TimeValue.MINUS_ONE);
+        assertFalse(future.isDone());
+
+        SearchResponse searchResponse = searchResponse(randomIntBetween(0, 100));
+        task.getSearchListener().onResponse(searchResponse);
+        AsyncSearchResponse response = future.actionGet();
+        assertEquals(task.getAsyncSearchId().getEncoded(), response.getId());
+        assertFalse(response.isRunning());
+        assertFalse(response.isPartial());
+        assertSame(searchResponse, response.getSearchResponse());
+        assertNull(response.getError());
+
+        // the listeners that are added once the search is completed are notified immediately
+        PlainActionFuture<AsyncSearchResponse> completedFuture = new PlainActionFuture<>();
+        task.addCompletionListener(completedFuture, TimeValue.MINUS_ONE);
+        assertSame(searchResponse, completedFuture.actionGet().getSearchResponse());
+    }
+
+    public void testCompletionListenerIsNotifiedOnFailure() {
+        AsyncSearchTask task = createTask(Long.MAX_VALUE);
+        PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        task.addCompletionListener(future, TimeValue.timeValueMinutes(1));
+
+        task.getSearchListener().onFailure(new OpenSearchException("boom"));
+        AsyncSearchResponse response = future.actionGet();
+        assertFalse(response.isRunning());
+        assertTrue(response.isPartial());
+        assertNull(response.getSearchResponse());
+        assertEquals("boom", response.getError().getMessage());
+    }
+
+    public void testCompletionListenerTimesOutWithThePartialResponse() {
+        AsyncSearchTask task = createTask(Long.MAX_VALUE);
+        PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        task.addCompletionListener(future, TimeValue.timeValueMillis(randomIntBetween(1, 100)));
+
+        AsyncSearchResponse response = future.actionGet();
+        assertTrue(response.isRunning());
+        assertTrue(response.isPartial());
+        assertNull(response.getError());
+        assertEquals(0, response.getSearchResponse().getTotalShards());
+        assertEquals(0, response.getSearchResponse().getHits().getTotalHits().value);
+    }
+
+    public void testZeroTimeoutReturnsTheCurrentState() {
+        AsyncSearchTask task = createTask(Long.MAX_VALUE);
+        PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        task.addCompletionListener(future, TimeValue.ZERO);
+        assertTrue(future.isDone());
+        assertTrue(future.actionGet().isRunning());
+    }
+
+    public void testStoresTheFinalResponseLast() {
+        AsyncSearchTask task = createTask(Long.MAX_VALUE);
+        AsyncSearchIndexService indexService = mock(AsyncSearchIndexService.class);
+        List<AsyncSearchResponse> storedResponses = new CopyOnWriteArrayList<>();
+        List<ActionListener<Void>> storeListeners = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            storedResponses.add((AsyncSearchResponse) invocation.getArguments()[1]);
+            @SuppressWarnings("unchecked")
+            ActionListener<Void> listener = (ActionListener<Void>) invocation.getArguments()[2];
+            storeListeners.add(listener);
+            return null;
+        }).when(indexService).updateResponse(eq(task.getAsyncSearchId().getDocId()), any(), any());
+
+        task.enableStore(indexService);
+        assertEquals(1, storedResponses.size());
+        assertTrue(storedResponses.get(0).isRunning());
+
+        // the final response is only stored once the previous write is acknowledged
+        task.getSearchListener().onResponse(searchResponse(randomIntBetween(0, 100)));
+        assertEquals(1, storedResponses.size());
+        if (randomBoolean()) {
+            storeListeners.get(0).onResponse(null);
+        } else {
+            storeListeners.get(0).onFailure(new OpenSearchException("failed to store"));
+        }
+        assertEquals(2, storedResponses.size());
+        assertFalse(storedResponses.get(1).isRunning());
+        verify(taskManager, never()).unregister(task);
+
+        storeListeners.get(1).onResponse(null);
+        assertEquals(2, storedResponses.size());
+        verify(taskManager).unregister(task);
+    }
+
+    public void testExpiredTaskIsCancelled() throws Exception {
+        AsyncSearchTask task = createTask(threadPool.absoluteTimeInMillis() - 1);
+        task.scheduleExpirationCheck();
+        assertBusy(() -> verify(taskManager).cancel(same(task), eq("async search has expired"), any()));
+    }
+
+    public void testCompletedTaskIsNotCancelled() {
+        AsyncSearchTask task = createTask(threadPool.absoluteTimeInMillis() - 1);
+        task.getSearchListener().onResponse(searchResponse(1));
+        task.scheduleExpirationCheck();
+        verify(taskManager, never()).cancel(any(), any(), any());
+    }
+
+    public void testExpirationTimeIsNeverReduced() {
+        long expirationTime = randomLongBetween(1, Long.MAX_VALUE - 1);
+        AsyncSearchTask task = createTask(expirationTime);
+        task.extendExpirationTime(randomLongBetween(0, expirationTime));
+        assertEquals(expirationTime, task.getExpirationTime());
+        task.extendExpirationTime(expirationTime + 1);
+        assertEquals(expirationTime + 1, task.getExpirationTime());
+        assertEquals(expirationTime + 1, task.getAsyncResponse().getExpirationTime());
+    }
+
+    private AsyncSearchTask createTask(long expirationTimeMillis) {
+        long id = randomNonNegativeLong();
+        AsyncSearchId asyncSearchId = new AsyncSearchId(randomAlphaOfLength(10), new TaskId(randomAlphaOfLength(10), id));
+        return new AsyncSearchTask(id, "transport", SearchAction.NAME, () -> "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap(),
+            asyncSearchId, threadPool.absoluteTimeInMillis(), expirationTimeMillis, threadPool, taskManager, () -> null);
+    }
+
+    private static SearchResponse searchResponse(int totalHits) {
+        SearchHits hits = new SearchHits(new SearchHit[0], new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), Float.NaN);
+        return new SearchResponse(new InternalSearchResponse(hits, null, null, null, false, null, 1), null,
+            1, 1, 0, randomNonNegativeLong(), ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+}
@@ -35,6 +35,7 @@ package org.opensearch.ingest.common;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.grok.Grok;
+import org.opensearch.grok.GrokPatternSet;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
@@ -56,20 +57,37 @@ public final class GrokProcessor extends AbstractProcessor {
     private final String matchField;
     private final List<String> matchPatterns;
     private final Grok grok;
+    private final GrokPatternSet patternSet;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
 
     GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
                   boolean traceMatch, boolean ignoreMissing, MatcherWatchdog matcherWatchdog) {
+        this(tag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing, false, matcherWatchdog);
+    }
+
+    GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
+                  boolean traceMatch, boolean ignoreMissing, boolean orderedMatch, MatcherWatchdog matcherWatchdog) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+        if (orderedMatch && matchPatterns.size() > 1) {
+            // the patterns are matched one by one, so that those that can't match the field value can be skipped
+            this.grok = null;
+            this.patternSet = new GrokPatternSet(patternBank, matchPatterns, matcherWatchdog, logger::debug);
+        } else {
+            this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+            this.patternSet = null;
+        }
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
         // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        if (patternSet != null) {
+            new GrokPatternSet(patternBank, matchPatterns, matcherWatchdog, logger::warn).groks().forEach(g -> g.match("___nomatch___"));
+        } else {
+            new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        }
     }
 
     @Override
@@ -82,6 +100,19 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
+        if (patternSet != null) {
+            int[] matchedPattern = new int[1];
+            Map<String, Object> matches = patternSet.captures(fieldValue, pattern -> matchedPattern[0] = pattern);
+            if (matches == null) {
+                throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
+            }
+            matches.forEach(ingestDocument::setFieldValue);
+            if (traceMatch) {
+                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, Integer.toString(matchedPattern[0]));
+            }
+            return ingestDocument;
+        }
+
         Map<String, Object> matches = grok.captures(fieldValue);
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
@@ -112,6 +143,10 @@ public final class GrokProcessor extends AbstractProcessor {
         return grok;
     }
 
+    GrokPatternSet getPatternSet() {
+        return patternSet;
+    }
+
     boolean isIgnoreMissing() {
         return ignoreMissing;
     }
@@ -166,6 +201,7 @@ public final class GrokProcessor extends AbstractProcessor {
             List<String> matchPatterns = ConfigurationUtils.readList(TYPE, processorTag, config, "patterns");
             boolean traceMatch = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "trace_match", false);
             boolean ignoreMissing = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "ignore_missing", false);
+            boolean orderedMatch = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "ordered_match", false);
 
             if (matchPatterns.isEmpty()) {
                 throw newConfigurationException(TYPE, processorTag, "patterns", "List of patterns must not be empty");
@@ -178,7 +214,7 @@ public final class GrokProcessor extends AbstractProcessor {
 
             try {
                 return new GrokProcessor(processorTag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing,
-                    matcherWatchdog);
+                    orderedMatch, matcherWatchdog);
             } catch (Exception e) {
                 throw newConfigurationException(TYPE, processorTag, "patterns",
                     "Invalid regex pattern found in: " + matchPatterns + ". " + e.getMessage());
@@ -44,6 +44,7 @@ import java.util.Map;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
 
 
 public class GrokProcessorTests extends OpenSearchTestCase {
@@ -192,6 +193,28 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
     }
 
+    public void testOrderedMatch() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "user bob logged out");
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("NAME", "[a-z]+");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank,
+            Arrays.asList("user %{NAME:login} logged in", "user %{NAME:logout} logged out", "%{NAME:other}"), fieldName, true, false,
+            true, MatcherWatchdog.noop());
+        assertThat(processor.getPatternSet(), notNullValue());
+        processor.execute(doc);
+        assertThat(doc.hasField("login"), equalTo(false));
+        assertThat(doc.getFieldValue("logout", String.class), equalTo("bob"));
+        assertThat(doc.hasField("other"), equalTo(false));
+        assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
+
+        IngestDocument noMatch = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        noMatch.setFieldValue(fieldName, "42");
+        Exception e = expectThrows(Exception.class, () -> processor.execute(noMatch));
+        assertThat(e.getMessage(), equalTo("Provided Grok expressions do not match field value: [42]"));
+    }
+
     public void testTraceWithOnePattern() throws Exception {
         String fieldName = RandomDocumentPicks.randomFieldName(random());
         IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
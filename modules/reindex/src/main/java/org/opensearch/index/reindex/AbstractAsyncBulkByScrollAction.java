@@ -88,7 +88,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 
 import static java.lang.Math.max;
@@ -138,6 +140,17 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     private final BiFunction<RequestWrapper<?>, ScrollableHitSource.Hit, RequestWrapper<?>> scriptApplier;
     private int lastBatchSize;
 
+    /**
+     * Picks the size of the bulk requests if the request is {@link AbstractBulkByScrollRequest#isPipelined() pipelined}, null otherwise.
+     */
+    @Nullable
+    private final AdaptiveBulkSizer bulkSizer;
+    /**
+     * The scroll batch being fetched while the bulk requests of the current one are in flight, if any.
+     */
+    private final AtomicReference<PrefetchedBatch> prefetchedBatch = new AtomicReference<>();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
     AbstractAsyncBulkByScrollAction(BulkByScrollTask task, boolean needsSourceDocumentVersions,
         boolean needsSourceDocumentSeqNoAndPrimaryTerm, Logger logger, ParentTaskAssigningClient client,
         ThreadPool threadPool, Request mainRequest, ActionListener<BulkByScrollResponse> listener,
@@ -169,6 +182,7 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, worker::countBulkRetry), threadPool);
         scrollSource = buildScrollableResultSource(backoffPolicy);
         scriptApplier = Objects.requireNonNull(buildScriptApplier(), "script applier must not be null");
+        bulkSizer = mainRequest.isPipelined() ? new AdaptiveBulkSizer() : null;
         /*
          * Default to sorting by doc. We can't do this in the request itself because it is normal to *add* to the sorts rather than replace
          * them and if we add _doc as the first sort by default then sorts will never work.... So we add it here, only if there isn't
@@ -278,6 +292,11 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     }
 
     void onScrollResponse(ScrollableHitSource.AsyncResponse asyncResponse) {
+        PrefetchedBatch prefetched = prefetchedBatch.getAndSet(null);
+        if (prefetched != null) {
+            prefetched.onResponse(asyncResponse);
+            return;
+        }
         // lastBatchStartTime is essentially unused (see WorkerBulkByScrollTaskState.throttleWaitTime. Leaving it for now, since it seems
         // like a bug?
         onScrollResponse(System.nanoTime(), this.lastBatchSize, asyncResponse);
@@ -363,11 +382,64 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
             notifyDone(thisBatchStartTimeNS, asyncResponse, 0);
             return;
         }
+        if (bulkSizer != null) {
+            sendPipelinedBulkRequests(thisBatchStartTimeNS, asyncResponse, request);
+            return;
+        }
         request.timeout(mainRequest.getTimeout());
         request.waitForActiveShards(mainRequest.getWaitForActiveShards());
         sendBulkRequest(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
     }
 
+    /**
+     * Send the bulk requests of a scroll batch of a pipelined request. Unless this batch is bound to be the last one, the next scroll
+     * batch is fetched while the bulk requests are in flight and only processed once they are done. The documents of the batch are
+     * sent in as many bulk requests of the size picked by the {@link AdaptiveBulkSizer} as needed, one after the other.
+     */
+    void sendPipelinedBulkRequests(long thisBatchStartTimeNS, ScrollableHitSource.AsyncResponse asyncResponse, BulkRequest request) {
+        int batchSize = request.requests().size();
+        Runnable onSuccess;
+        if (mainRequest.getMaxDocs() == MAX_DOCS_ALL_MATCHES
+            || worker.getSuccessfullyProcessed() + batchSize < mainRequest.getMaxDocs()) {
+            PrefetchedBatch prefetched = new PrefetchedBatch();
+            prefetchedBatch.set(prefetched);
+            logger.debug("[{}]: fetching the next scroll batch while sending the bulk requests", task.getId());
+            asyncResponse.done(worker.throttleWaitTime(thisBatchStartTimeNS, System.nanoTime(), batchSize));
+            onSuccess = () -> {
+                this.lastBatchSize = batchSize;
+                prefetched.onPreviousBatchDone();
+            };
+        } else {
+            onSuccess = () -> notifyDone(thisBatchStartTimeNS, asyncResponse, batchSize);
+        }
+        sendAdaptiveBulkRequests(request, 0, onSuccess);
+    }
+
+    private void sendAdaptiveBulkRequests(BulkRequest request, int from, Runnable onSuccess) {
+        int size = bulkSizer.bulkSize(request.requests().size() - from);
+        BulkRequest bulkRequest;
+        if (from == 0 && size == request.requests().size()) {
+            bulkRequest = request;
+        } else {
+            bulkRequest = new BulkRequest();
+            for (DocWriteRequest<?> docRequest : request.requests().subList(from, from + size)) {
+                bulkRequest.add(docRequest);
+            }
+        }
+        bulkRequest.timeout(mainRequest.getTimeout());
+        bulkRequest.waitForActiveShards(mainRequest.getWaitForActiveShards());
+        long bulkRetriesBefore = worker.getStatus().getBulkRetries();
+        long startNanos = System.nanoTime();
+        sendBulkRequest(bulkRequest, () -> {
+            bulkSizer.onBulkResponse(size, System.nanoTime() - startNanos, worker.getStatus().getBulkRetries() > bulkRetriesBefore);
+            if (from + size < request.requests().size()) {
+                sendAdaptiveBulkRequests(request, from + size, onSuccess);
+            } else {
+                onSuccess.run();
+            }
+        });
+    }
+
     /**
      * Send a bulk request, handling retries.
      */
@@ -515,6 +587,11 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
      */
     protected void finishHim(Exception failure, List<Failure> indexingFailures,
             List<SearchFailure> searchFailures, boolean timedOut) {
+        if (finished.compareAndSet(false, true) == false) {
+            // a scroll batch that was being fetched while the request finished may fail once its scroll is cleared
+            logger.debug("[{}]: already finished", task.getId());
+            return;
+        }
         logger.debug("[{}]: finishing without any catastrophic failures", task.getId());
         scrollSource.close(() -> {
             if (failure == null) {
@@ -550,6 +627,36 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         scrollSource.setScroll(scroll);
     }
 
+    /**
+     * A scroll batch fetched while the bulk requests of the previous batch are in flight. It is only processed once these bulk requests
+     * are done, and never if they finish the request.
+     */
+    private final class PrefetchedBatch {
+        private ScrollableHitSource.AsyncResponse response;
+        private boolean previousBatchDone;
+
+        void onResponse(ScrollableHitSource.AsyncResponse response) {
+            synchronized (this) {
+                if (previousBatchDone == false) {
+                    this.response = response;
+                    return;
+                }
+            }
+            onScrollResponse(System.nanoTime(), lastBatchSize, response);
+        }
+
+        void onPreviousBatchDone() {
+            ScrollableHitSource.AsyncResponse response;
+            synchronized (this) {
+                previousBatchDone = true;
+                response = this.response;
+            }
+            if (response != null) {
+                onScrollResponse(System.nanoTime(), lastBatchSize, response);
+            }
+        }
+    }
+
     /**
      * Wrapper for the {@link DocWriteRequest} that are used in this action class.
      */
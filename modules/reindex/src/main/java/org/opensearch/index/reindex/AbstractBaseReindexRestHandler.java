@@ -118,6 +118,8 @@ public abstract class AbstractBaseReindexRestHandler<
             request.setRequestsPerSecond(requestsPerSecond);
         }
 
+        request.setPipelined(restRequest.paramAsBoolean("pipelined", request.isPipelined()));
+
         if (restRequest.hasParam("max_docs")) {
             setMaxDocsValidateIdentical(request, restRequest.paramAsInt("max_docs", -1));
         }
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.common.unit.TimeValue;
+
+/**
+ * Picks the number of documents to send per bulk request of a pipelined {@link AbstractAsyncBulkByScrollAction}, with an additive
+ * increase, multiplicative decrease scheme: the size is halved whenever a bulk request had to be retried because of rejections,
+ * scaled down to the target latency whenever a bulk request took longer than that, and otherwise grown by a quarter after each bulk
+ * request that was sent full, up to the size of a scroll batch.
+ * <p>
+ * Not thread safe, but a worker only ever has one bulk request in flight.
+ */
+final class AdaptiveBulkSizer {
+
+    static final TimeValue TARGET_LATENCY = TimeValue.timeValueSeconds(1);
+    static final int MIN_BULK_SIZE = 10;
+
+    private int bulkSize = Integer.MAX_VALUE;
+
+    /**
+     * The number of documents to send in the next bulk request, given the number of documents in the scroll batch.
+     */
+    int bulkSize(int batchSize) {
+        return Math.min(bulkSize, batchSize);
+    }
+
+    /**
+     * Adapts the size of the next bulk requests to a bulk request of {@code size} documents that took {@code tookNanos}.
+     *
+     * @param rejected whether the bulk request had to be retried because of rejections
+     */
+    void onBulkResponse(int size, long tookNanos, boolean rejected) {
+        if (rejected) {
+            bulkSize = Math.max(MIN_BULK_SIZE, size / 2);
+        } else if (tookNanos > TARGET_LATENCY.nanos()) {
+            bulkSize = (int) Math.max(MIN_BULK_SIZE, size * TARGET_LATENCY.nanos() / tookNanos);
+        } else if (size >= bulkSize) {
+            bulkSize = (int) Math.min(Integer.MAX_VALUE, bulkSize + Math.max(1L, bulkSize / 4));
+        }
+    }
+}
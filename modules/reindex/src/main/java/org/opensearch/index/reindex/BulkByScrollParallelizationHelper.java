@@ -41,6 +41,7 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.index.Index;
 import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.monitor.os.OsProbe;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.tasks.TaskId;
@@ -125,8 +126,9 @@ class BulkByScrollParallelizationHelper {
      * Takes a {@link BulkByScrollTask} and ensures that its initial task state (leader or worker) is set.
      *
      * If slices are set as {@code "auto"}, this method will resolve that to a specific number based on
-     * characteristics of the source indices. A request with {@code "auto"} slices may end up being sliced or
-     * unsliced. This method does not execute the action. In order to execute the action see
+     * characteristics of the source indices, and on the load of the local node if the request is pipelined.
+     * A request with {@code "auto"} slices may end up being sliced or unsliced. This method does not execute
+     * the action. In order to execute the action see
      * {@link #executeSlicedAction}
      */
     static <Request extends AbstractBulkByScrollRequest<Request>> void initTaskState(
@@ -141,7 +143,12 @@ class BulkByScrollParallelizationHelper {
             client.admin().cluster().searchShards(shardsRequest, new ActionListener<ClusterSearchShardsResponse>() {
                 @Override
                 public void onResponse(ClusterSearchShardsResponse response) {
-                    setWorkerCount(request, task, countSlicesBasedOnShards(response));
+                    int slices = countSlicesBasedOnShards(response);
+                    if (request.isPipelined()) {
+                        slices = limitSlicesBasedOnLoad(slices, Runtime.getRuntime().availableProcessors(),
+                            OsProbe.getInstance().getSystemCpuPercent());
+                    }
+                    setWorkerCount(request, task, slices);
                     listener.onResponse(null);
                 }
 
@@ -180,6 +187,21 @@ class BulkByScrollParallelizationHelper {
         return Math.min(leastShards, AUTO_SLICE_CEILING);
     }
 
+    /**
+     * Limits the number of slices to the number of processors of the local node that are idle, since all the slices of a request run
+     * on that node. Pipelined slices keep a scroll and a bulk request in flight each, so more slices than idle processors only compete
+     * with each other, and with the rest of the load of the node.
+     *
+     * @param cpuPercent the recent cpu usage of the local node, negative if unknown
+     */
+    static int limitSlicesBasedOnLoad(int slices, int processors, short cpuPercent) {
+        if (cpuPercent < 0) {
+            return Math.min(slices, processors);
+        }
+        int idleProcessors = processors * (100 - Math.min(cpuPercent, (short) 100)) / 100;
+        return Math.max(1, Math.min(slices, idleProcessors));
+    }
+
     private static <Request extends AbstractBulkByScrollRequest<Request>> void sendSubRequests(
             Client client,
             ActionType<BulkByScrollResponse> action,
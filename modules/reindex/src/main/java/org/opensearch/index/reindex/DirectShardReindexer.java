@@ -0,0 +1,355 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.admin.cluster.shards.ClusterSearchShardsGroup;
+import org.opensearch.action.admin.cluster.shards.ClusterSearchShardsRequest;
+import org.opensearch.action.admin.cluster.shards.ClusterSearchShardsResponse;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkItemResponse.Failure;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.bulk.Retry;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.ParentTaskAssigningClient;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.index.VersionType;
+import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.action.bulk.BackoffPolicy.exponentialBackoff;
+import static org.opensearch.common.unit.TimeValue.timeValueNanos;
+import static org.opensearch.index.reindex.AbstractBulkByScrollRequest.MAX_DOCS_ALL_MATCHES;
+import static org.opensearch.rest.RestStatus.CONFLICT;
+
+/**
+ * Copies the documents of the source indices of a reindex request to its destination index without a scroll, for requests that copy
+ * the documents as they are. Each source shard is read in doc id order with the {@link ShardSourceReadAction}, which
+ * returns the stored {@code _source} of its documents as is, and every batch that is read is sent with a bulk request whose index
+ * requests reuse these bytes, rather than going through search hits that are parsed and serialized again. All reads of a shard read
+ * the same point in time view of it, like a scroll would, from a reader context that is kept open for the scroll keep alive of the
+ * request between reads.
+ * <p>
+ * Up to {@link #MAX_CONCURRENT_SHARDS} source shards are copied at the same time, each with a single read or bulk request in flight.
+ * <p>
+ * Whether the documents of a shard would all match is only known once the source indices are resolved: if the source includes a
+ * filtered alias, the copy falls back to the scroll based reindex before any document is copied.
+ */
+final class DirectShardReindexer {
+
+    static final int MAX_CONCURRENT_SHARDS = 4;
+    static final ByteSizeValue MAX_BATCH_SIZE = new ByteSizeValue(16, ByteSizeUnit.MB);
+
+    private final BulkByScrollTask task;
+    private final WorkerBulkByScrollTaskState worker;
+    private final Logger logger;
+    private final ParentTaskAssigningClient client;
+    private final ReindexRequest mainRequest;
+    private final ActionListener<BulkByScrollResponse> listener;
+    private final Retry bulkRetry;
+    private final Runnable scrollFallback;
+
+    private final Queue<ShardId> pendingShards = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningShards = new AtomicInteger();
+    // the last read of each shard that is being copied and whose reader context is still open
+    private final Map<ShardId, ShardSourceReadResponse> openReaders = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private long startTime = -1;
+
+    DirectShardReindexer(BulkByScrollTask task, Logger logger, ParentTaskAssigningClient client, ThreadPool threadPool,
+                         ReindexRequest mainRequest, ActionListener<BulkByScrollResponse> listener, Runnable scrollFallback) {
+        this.task = task;
+        this.worker = task.getWorkerState();
+        this.logger = logger;
+        this.client = client;
+        this.mainRequest = mainRequest;
+        this.listener = listener;
+        BackoffPolicy backoffPolicy = exponentialBackoff(mainRequest.getRetryBackoffInitialTime(), mainRequest.getMaxRetries());
+        this.bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, worker::countBulkRetry), threadPool);
+        this.scrollFallback = scrollFallback;
+    }
+
+    /**
+     * Whether the request copies the source documents as they are, which is when it has no script, no ingest pipeline, no query and
+     * no other options that change which documents are copied or how. The filters of the aliases of the source are only checked once
+     * the source is resolved, see {@link #start()}.
+     */
+    static boolean canCopyDirectly(ReindexRequest request) {
+        if (request.getRemoteInfo() != null || request.getScript() != null) {
+            return false;
+        }
+        IndexRequest destination = request.getDestination();
+        if (destination.getPipeline() != null || destination.versionType() != VersionType.INTERNAL
+            || destination.version() != Versions.MATCH_ANY || destination.getContentType() != null) {
+            return false;
+        }
+        if (request.getMaxDocs() != MAX_DOCS_ALL_MATCHES || request.getRequestsPerSecond() != Float.POSITIVE_INFINITY) {
+            return false;
+        }
+        SearchRequest searchRequest = request.getSearchRequest();
+        if (searchRequest.routing() != null || (searchRequest.types() != null && searchRequest.types().length > 0)) {
+            return false;
+        }
+        SearchSourceBuilder source = searchRequest.source();
+        if (source == null) {
+            return true;
+        }
+        FetchSourceContext fetchSource = source.fetchSource();
+        return (source.query() == null || source.query() instanceof MatchAllQueryBuilder)
+            && source.postFilter() == null
+            && source.minScore() == null
+            && source.slice() == null
+            && source.searchAfter() == null
+            && source.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && (source.sorts() == null || source.sorts().isEmpty())
+            && (fetchSource == null
+                || (fetchSource.fetchSource() && fetchSource.includes().length == 0 && fetchSource.excludes().length == 0));
+    }
+
+    /**
+     * Start the copy by resolving the source shards. If the source has filtered aliases, the copy is handed to the scroll based
+     * reindex instead, since reading the shards directly would copy the documents that the filters exclude.
+     */
+    void start() {
+        logger.debug("[{}]: starting direct shard copy", task.getId());
+        if (task.isCancelled()) {
+            finishHim(null, emptyList());
+            return;
+        }
+        startTime = System.nanoTime();
+        SearchRequest searchRequest = mainRequest.getSearchRequest();
+        ClusterSearchShardsRequest shardsRequest = new ClusterSearchShardsRequest(searchRequest.indices());
+        shardsRequest.indicesOptions(searchRequest.indicesOptions());
+        client.admin().cluster().searchShards(shardsRequest, ActionListener.wrap(this::onShards, e -> finishHim(e, emptyList())));
+    }
+
+    private void onShards(ClusterSearchShardsResponse response) {
+        for (Map.Entry<String, AliasFilter> indexAndFilter : response.getIndicesAndFilters().entrySet()) {
+            if (indexAndFilter.getValue() != null && indexAndFilter.getValue().getQueryBuilder() != null) {
+                logger.debug("[{}]: falling back to scroll because the source index [{}] is read through a filtered alias",
+                    task.getId(), indexAndFilter.getKey());
+                scrollFallback.run();
+                return;
+            }
+        }
+        for (ClusterSearchShardsGroup group : response.getGroups()) {
+            pendingShards.add(group.getShardId());
+        }
+        int concurrentShards = Math.min(pendingShards.size(), MAX_CONCURRENT_SHARDS);
+        if (concurrentShards == 0) {
+            refreshAndFinish(emptyList());
+            return;
+        }
+        runningShards.set(concurrentShards);
+        for (int i = 0; i < concurrentShards; i++) {
+            copyNextShard();
+        }
+    }
+
+    private void copyNextShard() {
+        ShardId shardId = pendingShards.poll();
+        if (shardId == null) {
+            if (runningShards.decrementAndGet() == 0) {
+                refreshAndFinish(emptyList());
+            }
+            return;
+        }
+        logger.debug("[{}]: copying {}", task.getId(), shardId);
+        read(shardId, null);
+    }
+
+    /**
+     * Reads the next batch of the shard, from the reader context of the previous read, or from a new one if there was none.
+     */
+    private void read(ShardId shardId, @Nullable ShardSourceReadResponse previous) {
+        if (finished.get()) {
+            return;
+        }
+        if (task.isCancelled()) {
+            logger.debug("[{}]: finishing early because the task was cancelled", task.getId());
+            finishHim(null, emptyList());
+            return;
+        }
+        SearchSourceBuilder source = mainRequest.getSearchRequest().source();
+        int maxDocs = source == null ? -1 : source.size();
+        ShardSourceReadRequest request = new ShardSourceReadRequest(shardId,
+            previous == null ? null : previous.getReaderId(), previous == null ? null : previous.getNodeId(),
+            previous == null ? 0 : previous.getNextDoc(), maxDocs > 0 ? maxDocs : AbstractBulkByScrollRequest.DEFAULT_SCROLL_SIZE,
+            MAX_BATCH_SIZE.getBytes(), mainRequest.getScrollTime());
+        client.execute(ShardSourceReadAction.INSTANCE, request,
+            ActionListener.wrap(response -> onRead(shardId, response), e -> finishHim(e, emptyList())));
+    }
+
+    private void onRead(ShardId shardId, ShardSourceReadResponse response) {
+        if (response.isExhausted()) {
+            openReaders.remove(shardId);
+        } else {
+            openReaders.put(shardId, response);
+        }
+        if (finished.get()) {
+            releaseOpenReaders();
+            return;
+        }
+        if (response.getTotalDocs() >= 0) {
+            worker.setTotal(total.addAndGet(response.getTotalDocs()));
+        }
+        if (response.getDocs().isEmpty()) {
+            assert response.isExhausted() : "only the last read of a shard may be empty";
+            copyNextShard();
+            return;
+        }
+        worker.countBatch();
+        BulkRequest bulkRequest = new BulkRequest();
+        for (ShardSourceReadResponse.Doc doc : response.getDocs()) {
+            bulkRequest.add(buildRequest(doc));
+        }
+        bulkRequest.timeout(mainRequest.getTimeout());
+        bulkRequest.waitForActiveShards(mainRequest.getWaitForActiveShards());
+        bulkRetry.withBackoff(client::bulk, bulkRequest, ActionListener.wrap(bulkResponse -> {
+            if (onBulkResponse(bulkResponse)) {
+                if (response.isExhausted()) {
+                    copyNextShard();
+                } else {
+                    read(shardId, response);
+                }
+            }
+        }, e -> finishHim(e, emptyList())));
+    }
+
+    private IndexRequest buildRequest(ShardSourceReadResponse.Doc doc) {
+        IndexRequest index = new IndexRequest(mainRequest.getDestination().index());
+        index.type(mainRequest.getDestination().type() == null ? doc.getType() : mainRequest.getDestination().type());
+        index.id(doc.getId());
+        index.source(doc.getSource(), XContentHelper.xContentType(doc.getSource()));
+        index.routing(routing(mainRequest.getDestination().routing(), doc.getRouting()));
+        if (mainRequest.getDestination().opType() == DocWriteRequest.OpType.CREATE) {
+            index.opType(DocWriteRequest.OpType.CREATE);
+        }
+        return index;
+    }
+
+    /**
+     * The routing of a copied document, following the same routing spec as the scroll based reindex.
+     */
+    static String routing(String routingSpec, String routing) {
+        if (routingSpec == null) {
+            return routing;
+        }
+        if (routingSpec.startsWith("=")) {
+            return routingSpec.substring(1);
+        }
+        switch (routingSpec) {
+            case "keep":
+                return routing;
+            case "discard":
+                return null;
+            default:
+                throw new IllegalArgumentException("Unsupported routing command");
+        }
+    }
+
+    /**
+     * Accounts for the responses of a bulk request and finishes the copy if some of them failed.
+     *
+     * @return whether the copy should go on
+     */
+    private boolean onBulkResponse(BulkResponse response) {
+        List<Failure> failures = new ArrayList<>();
+        for (BulkItemResponse item : response) {
+            if (item.isFailed()) {
+                if (item.getFailure().getStatus() == CONFLICT) {
+                    worker.countVersionConflict();
+                    if (false == mainRequest.isAbortOnVersionConflict()) {
+                        continue;
+                    }
+                }
+                failures.add(item.getFailure());
+            } else if (item.getResponse().getResult() == DocWriteResponse.Result.CREATED) {
+                worker.countCreated();
+            } else {
+                worker.countUpdated();
+            }
+        }
+        if (false == failures.isEmpty()) {
+            refreshAndFinish(unmodifiableList(failures));
+            return false;
+        }
+        return true;
+    }
+
+    private void refreshAndFinish(List<Failure> indexingFailures) {
+        if (task.isCancelled() || false == mainRequest.isRefresh() || worker.getCreated() + worker.getUpdated() == 0) {
+            finishHim(null, indexingFailures);
+            return;
+        }
+        RefreshRequest refresh = new RefreshRequest(mainRequest.getDestination().index());
+        client.admin().indices().refresh(refresh, ActionListener.wrap(
+            r -> finishHim(null, indexingFailures),
+            e -> finishHim(e, emptyList())));
+    }
+
+    /**
+     * Releases the reader contexts of the shards that are not read to their end, which only happens if the copy finishes early.
+     */
+    private void releaseOpenReaders() {
+        for (ShardId shardId : openReaders.keySet()) {
+            ShardSourceReadResponse open = openReaders.remove(shardId);
+            if (open == null) {
+                continue;
+            }
+            client.execute(ShardSourceReadAction.INSTANCE, ShardSourceReadRequest.release(shardId, open.getReaderId(), open.getNodeId()),
+                ActionListener.wrap(r -> {}, e -> logger.debug(new ParameterizedMessage("[{}]: failed to release the reader of {}",
+                    task.getId(), shardId), e)));
+        }
+    }
+
+    private void finishHim(Exception failure, List<Failure> indexingFailures) {
+        if (finished.compareAndSet(false, true) == false) {
+            return;
+        }
+        releaseOpenReaders();
+        if (failure == null) {
+            long took = startTime < 0 ? 0 : System.nanoTime() - startTime;
+            listener.onResponse(new BulkByScrollResponse(timeValueNanos(took), task.getStatus(), indexingFailures, emptyList(), false));
+        } else {
+            logger.debug("[{}]: finishing direct shard copy with a catastrophic failure", task.getId());
+            listener.onFailure(failure);
+        }
+    }
+}
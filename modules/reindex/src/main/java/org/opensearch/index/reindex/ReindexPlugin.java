@@ -82,7 +82,8 @@ public class ReindexPlugin extends Plugin implements ActionPlugin, ExtensiblePlu
         return Arrays.asList(new ActionHandler<>(ReindexAction.INSTANCE, TransportReindexAction.class),
                 new ActionHandler<>(UpdateByQueryAction.INSTANCE, TransportUpdateByQueryAction.class),
                 new ActionHandler<>(DeleteByQueryAction.INSTANCE, TransportDeleteByQueryAction.class),
-                new ActionHandler<>(RethrottleAction.INSTANCE, TransportRethrottleAction.class));
+                new ActionHandler<>(RethrottleAction.INSTANCE, TransportRethrottleAction.class),
+                new ActionHandler<>(ShardSourceReadAction.INSTANCE, TransportShardSourceReadAction.class));
     }
 
     @Override
@@ -116,6 +117,7 @@ public class ReindexPlugin extends Plugin implements ActionPlugin, ExtensiblePlu
     public List<Setting<?>> getSettings() {
         final List<Setting<?>> settings = new ArrayList<>();
         settings.add(TransportReindexAction.REMOTE_CLUSTER_WHITELIST);
+        settings.add(TransportReindexAction.DIRECT_SHARD_COPY);
         settings.addAll(ReindexSslConfig.getSettings());
         return settings;
     }
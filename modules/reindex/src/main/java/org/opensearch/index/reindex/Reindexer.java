@@ -95,6 +95,7 @@ public class Reindexer {
     private final ScriptService scriptService;
     private final ReindexSslConfig reindexSslConfig;
     private final Optional<RemoteReindexExtension> remoteExtension;
+    private volatile boolean directShardCopy;
 
     Reindexer(ClusterService clusterService, Client client, ThreadPool threadPool, ScriptService scriptService,
               ReindexSslConfig reindexSslConfig) {
@@ -111,6 +112,10 @@ public class Reindexer {
         this.remoteExtension = remoteExtension;
     }
 
+    void setDirectShardCopy(boolean directShardCopy) {
+        this.directShardCopy = directShardCopy;
+    }
+
     public void initTask(BulkByScrollTask task, ReindexRequest request, ActionListener<Void> listener) {
         BulkByScrollParallelizationHelper.initTaskState(task, request, client, listener);
     }
@@ -121,9 +126,16 @@ public class Reindexer {
             clusterService.localNode(),
             () -> {
                 ParentTaskAssigningClient assigningClient = new ParentTaskAssigningClient(client, clusterService.localNode(), task);
-                AsyncIndexBySearchAction searchAction = new AsyncIndexBySearchAction(task, logger, assigningClient, threadPool,
-                    scriptService, reindexSslConfig, request, remoteReindexActionListener, getInterceptor(request));
-                searchAction.start();
+                Runnable scroll = () -> {
+                    AsyncIndexBySearchAction searchAction = new AsyncIndexBySearchAction(task, logger, assigningClient, threadPool,
+                        scriptService, reindexSslConfig, request, remoteReindexActionListener, getInterceptor(request));
+                    searchAction.start();
+                };
+                if (directShardCopy && DirectShardReindexer.canCopyDirectly(request)) {
+                    new DirectShardReindexer(task, logger, assigningClient, threadPool, request, listener, scroll).start();
+                    return;
+                }
+                scroll.run();
             });
 
     }
@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Reads the stored {@code _source} of the live documents of a shard in doc id order, for reindex to copy them without going
+ * through a scroll.
+ */
+public class ShardSourceReadAction extends ActionType<ShardSourceReadResponse> {
+    public static final ShardSourceReadAction INSTANCE = new ShardSourceReadAction();
+    public static final String NAME = "indices:data/read/reindex/shard_source";
+
+    private ShardSourceReadAction() {
+        super(NAME, ShardSourceReadResponse::new);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.single.shard.SingleShardRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.internal.ShardSearchContextId;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Asks for the next batch of live documents of a shard, starting at a doc id of its reader. The first read of a shard opens a reader
+ * context on the shard copy that serves it, and all later reads of the shard go to that copy and read from that reader, so that the
+ * copy reads a point in time view of the shard like a scroll would. The reader is released once the shard is exhausted, or with a
+ * request that {@link #isRelease() releases} it.
+ */
+public class ShardSourceReadRequest extends SingleShardRequest<ShardSourceReadRequest> {
+
+    private final ShardId shardId;
+    @Nullable
+    private final ShardSearchContextId readerId;
+    @Nullable
+    private final String nodeId;
+    private final int fromDoc;
+    private final int maxDocs;
+    private final long maxBytes;
+    private final TimeValue keepAlive;
+    private final boolean release;
+
+    /**
+     * @param shardId the shard to read from
+     * @param readerId the reader context that the previous reads of the shard returned, or {@code null} on the first read
+     * @param nodeId the node that holds the reader context, or {@code null} on the first read
+     * @param fromDoc the doc id in the reader context that the read starts at, inclusive
+     * @param maxDocs the max number of documents to return
+     * @param maxBytes the number of bytes of {@code _source} after which no more documents are returned
+     * @param keepAlive how long the reader context is kept open until the next read
+     */
+    public ShardSourceReadRequest(ShardId shardId, @Nullable ShardSearchContextId readerId, @Nullable String nodeId, int fromDoc,
+                                  int maxDocs, long maxBytes, TimeValue keepAlive) {
+        this(shardId, readerId, nodeId, fromDoc, maxDocs, maxBytes, keepAlive, false);
+    }
+
+    private ShardSourceReadRequest(ShardId shardId, @Nullable ShardSearchContextId readerId, @Nullable String nodeId, int fromDoc,
+                                   int maxDocs, long maxBytes, TimeValue keepAlive, boolean release) {
+        super(shardId.getIndexName());
+        this.shardId = shardId;
+        this.readerId = readerId;
+        this.nodeId = nodeId;
+        this.fromDoc = fromDoc;
+        this.maxDocs = maxDocs;
+        this.maxBytes = maxBytes;
+        this.keepAlive = keepAlive;
+        this.release = release;
+    }
+
+    /**
+     * Builds a request that releases the reader context of a shard that is not read to its end, without reading more documents.
+     */
+    public static ShardSourceReadRequest release(ShardId shardId, ShardSearchContextId readerId, String nodeId) {
+        return new ShardSourceReadRequest(shardId, readerId, nodeId, 0, 1, 1, TimeValue.ZERO, true);
+    }
+
+    public ShardSourceReadRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        readerId = in.readOptionalWriteable(ShardSearchContextId::new);
+        nodeId = in.readOptionalString();
+        fromDoc = in.readVInt();
+        maxDocs = in.readVInt();
+        maxBytes = in.readVLong();
+        keepAlive = in.readTimeValue();
+        release = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeOptionalWriteable(readerId);
+        out.writeOptionalString(nodeId);
+        out.writeVInt(fromDoc);
+        out.writeVInt(maxDocs);
+        out.writeVLong(maxBytes);
+        out.writeTimeValue(keepAlive);
+        out.writeBoolean(release);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException e = validateNonNullIndex();
+        if ((readerId == null) != (nodeId == null)) {
+            e = addValidationError("[reader_id] and [node_id] must be set together", e);
+        }
+        if (release && readerId == null) {
+            e = addValidationError("[reader_id] must be set to release a reader", e);
+        }
+        if (fromDoc < 0) {
+            e = addValidationError("[from_doc] must be non negative but was [" + fromDoc + "]", e);
+        }
+        if (maxDocs <= 0) {
+            e = addValidationError("[max_docs] must be positive but was [" + maxDocs + "]", e);
+        }
+        if (maxBytes <= 0) {
+            e = addValidationError("[max_bytes] must be positive but was [" + maxBytes + "]", e);
+        }
+        return e;
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    @Nullable
+    public ShardSearchContextId getReaderId() {
+        return readerId;
+    }
+
+    @Nullable
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getFromDoc() {
+        return fromDoc;
+    }
+
+    public int getMaxDocs() {
+        return maxDocs;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    public boolean isRelease() {
+        return release;
+    }
+
+    @Override
+    public String toString() {
+        if (release) {
+            return "release reader of " + shardId;
+        }
+        return "read source of " + shardId + " from doc [" + fromDoc + "]";
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.search.internal.ShardSearchContextId;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A batch of live documents of a shard, in doc id order, with their {@code _source} as it was stored.
+ */
+public class ShardSourceReadResponse extends ActionResponse {
+
+    private final List<Doc> docs;
+    private final ShardSearchContextId readerId;
+    private final String nodeId;
+    private final int nextDoc;
+    private final boolean exhausted;
+    private final long totalDocs;
+
+    /**
+     * @param docs the documents that were read
+     * @param readerId the reader context that the next reads of the shard should read from
+     * @param nodeId the node that holds the reader context
+     * @param nextDoc the doc id the next read should start from
+     * @param exhausted whether there are no more documents to read, in which case the reader context was released
+     * @param totalDocs the number of live documents of the shard, only counted on the first
+     *                  read of a shard and -1 otherwise
+     */
+    public ShardSourceReadResponse(List<Doc> docs, ShardSearchContextId readerId, String nodeId, int nextDoc, boolean exhausted,
+                                   long totalDocs) {
+        this.docs = docs;
+        this.readerId = readerId;
+        this.nodeId = nodeId;
+        this.nextDoc = nextDoc;
+        this.exhausted = exhausted;
+        this.totalDocs = totalDocs;
+    }
+
+    public ShardSourceReadResponse(StreamInput in) throws IOException {
+        super(in);
+        docs = in.readList(Doc::new);
+        readerId = new ShardSearchContextId(in);
+        nodeId = in.readString();
+        nextDoc = in.readVInt();
+        exhausted = in.readBoolean();
+        totalDocs = in.readZLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(docs);
+        readerId.writeTo(out);
+        out.writeString(nodeId);
+        out.writeVInt(nextDoc);
+        out.writeBoolean(exhausted);
+        out.writeZLong(totalDocs);
+    }
+
+    public List<Doc> getDocs() {
+        return docs;
+    }
+
+    public ShardSearchContextId getReaderId() {
+        return readerId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getNextDoc() {
+        return nextDoc;
+    }
+
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    public long getTotalDocs() {
+        return totalDocs;
+    }
+
+    /**
+     * A document with its {@code _source} as it was stored.
+     */
+    public static class Doc implements Writeable {
+        private final String id;
+        private final String type;
+        private final String routing;
+        private final BytesReference source;
+
+        public Doc(String id, String type, @Nullable String routing, BytesReference source) {
+            this.id = id;
+            this.type = type;
+            this.routing = routing;
+            this.source = source;
+        }
+
+        Doc(StreamInput in) throws IOException {
+            id = in.readString();
+            type = in.readString();
+            routing = in.readOptionalString();
+            source = in.readBytesReference();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(id);
+            out.writeString(type);
+            out.writeOptionalString(routing);
+            out.writeBytesReference(source);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        @Nullable
+        public String getRouting() {
+            return routing;
+        }
+
+        public BytesReference getSource() {
+            return source;
+        }
+    }
+}
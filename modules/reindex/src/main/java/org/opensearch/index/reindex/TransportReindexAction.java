@@ -58,6 +58,11 @@ import static java.util.Collections.emptyList;
 public class TransportReindexAction extends HandledTransportAction<ReindexRequest, BulkByScrollResponse> {
     public static final Setting<List<String>> REMOTE_CLUSTER_WHITELIST =
             Setting.listSetting("reindex.remote.whitelist", emptyList(), Function.identity(), Property.NodeScope);
+    /**
+     * Whether reindex requests that copy documents as they are read the source shards directly rather than through a scroll.
+     */
+    public static final Setting<Boolean> DIRECT_SHARD_COPY =
+            Setting.boolSetting("reindex.direct_shard_copy.enabled", false, Property.Dynamic, Property.NodeScope);
     public static Optional<RemoteReindexExtension> remoteExtension = Optional.empty();
 
     private final ReindexValidator reindexValidator;
@@ -70,6 +75,8 @@ public class TransportReindexAction extends HandledTransportAction<ReindexReques
         super(ReindexAction.NAME, transportService, actionFilters, ReindexRequest::new);
         this.reindexValidator = new ReindexValidator(settings, clusterService, indexNameExpressionResolver, autoCreateIndex);
         this.reindexer = new Reindexer(clusterService, client, threadPool, scriptService, sslConfig, remoteExtension);
+        reindexer.setDirectShardCopy(DIRECT_SHARD_COPY.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(DIRECT_SHARD_COPY, reindexer::setDirectShardCopy);
     }
 
     @Override
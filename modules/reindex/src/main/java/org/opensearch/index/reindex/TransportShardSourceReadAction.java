@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.util.Bits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.single.shard.TransportSingleShardAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.PlainShardsIterator;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the live documents of a shard in doc id order, segment by segment, loading their stored fields sequentially. The {@code _source}
+ * is returned as it was stored, without being parsed.
+ * <p>
+ * All reads of a shard read from the reader context that the first read opens, on the shard copy that served it, so the doc ids of
+ * the reader are a stable cursor: each read resumes at the doc id the previous one stopped at, and costs the documents it returns
+ * rather than a query over everything that is left. Documents that are updated while the shard is copied are read in the version
+ * they had when the copy started, since their new version isn't visible to the reader.
+ */
+public class TransportShardSourceReadAction extends TransportSingleShardAction<ShardSourceReadRequest, ShardSourceReadResponse> {
+
+    private final IndicesService indicesService;
+    private final SearchService searchService;
+
+    @Inject
+    public TransportShardSourceReadAction(ThreadPool threadPool, ClusterService clusterService, TransportService transportService,
+                                          ActionFilters actionFilters, IndexNameExpressionResolver indexNameExpressionResolver,
+                                          IndicesService indicesService, SearchService searchService) {
+        super(ShardSourceReadAction.NAME, threadPool, clusterService, transportService, actionFilters, indexNameExpressionResolver,
+            ShardSourceReadRequest::new, ThreadPool.Names.SEARCH);
+        this.indicesService = indicesService;
+        this.searchService = searchService;
+    }
+
+    @Override
+    protected ShardsIterator shards(ClusterState state, InternalRequest request) {
+        ShardSourceReadRequest readRequest = request.request();
+        if (readRequest.getNodeId() == null) {
+            return clusterService.operationRouting()
+                .getShards(state, request.concreteIndex(), readRequest.getShardId().id(), null);
+        }
+        // later reads go to the copy that holds the reader context, and fail if it is gone
+        List<ShardRouting> pinned = new ArrayList<>(1);
+        for (ShardRouting shard : state.routingTable().shardRoutingTable(readRequest.getShardId()).activeShards()) {
+            if (shard.currentNodeId().equals(readRequest.getNodeId())) {
+                pinned.add(shard);
+            }
+        }
+        return new PlainShardsIterator(pinned);
+    }
+
+    @Override
+    protected void asyncShardOperation(ShardSourceReadRequest request, ShardId shardId,
+                                       ActionListener<ShardSourceReadResponse> listener) throws IOException {
+        if (request.getReaderId() != null) {
+            super.asyncShardOperation(request, shardId, listener);
+            return;
+        }
+        // the first read opens the reader that all reads of the shard use, once the shard saw the documents indexed while it was
+        // search idle
+        searchService.openReaderContext(shardId, request.getKeepAlive(), ActionListener.wrap(
+            readerId -> threadPool.executor(ThreadPool.Names.SEARCH).execute(ActionRunnable.supply(listener, () -> {
+                try {
+                    return read(request, shardId, readerId);
+                } catch (Exception e) {
+                    searchService.freeReaderContext(readerId);
+                    throw e;
+                }
+            })),
+            listener::onFailure));
+    }
+
+    @Override
+    protected ShardSourceReadResponse shardOperation(ShardSourceReadRequest request, ShardId shardId) throws IOException {
+        if (request.isRelease()) {
+            searchService.freeReaderContext(request.getReaderId());
+            return new ShardSourceReadResponse(new ArrayList<>(), request.getReaderId(), request.getNodeId(), request.getFromDoc(),
+                true, -1);
+        }
+        return read(request, shardId, request.getReaderId());
+    }
+
+    private ShardSourceReadResponse read(ShardSourceReadRequest request, ShardId shardId, ShardSearchContextId readerId)
+        throws IOException {
+        IndexShard indexShard = indicesService.indexServiceSafe(shardId.getIndex()).getShard(shardId.id());
+        boolean firstRead = request.getReaderId() == null;
+        String nodeId = clusterService.localNode().getId();
+        ShardSourceReadResponse response;
+        try (Engine.Searcher searcher = searchService.acquireSearcher(readerId, request.getKeepAlive(), "reindex")) {
+            // non-root nested documents have no primary term
+            long totalDocs = firstRead ? searcher.count(new DocValuesFieldExistsQuery(SeqNoFieldMapper.PRIMARY_TERM_NAME)) : -1;
+            List<ShardSourceReadResponse.Doc> docs = new ArrayList<>();
+            long bytes = 0;
+            int nextDoc = request.getFromDoc();
+            boolean exhausted = true;
+            readLeaves:
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                int maxDoc = leaf.reader().maxDoc();
+                if (leaf.docBase + maxDoc <= nextDoc) {
+                    continue;
+                }
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                NumericDocValues primaryTerms = leaf.reader().getNumericDocValues(SeqNoFieldMapper.PRIMARY_TERM_NAME);
+                for (int doc = nextDoc - leaf.docBase; doc < maxDoc; doc++) {
+                    if (docs.size() >= request.getMaxDocs() || (docs.isEmpty() == false && bytes >= request.getMaxBytes())) {
+                        exhausted = false;
+                        break readLeaves;
+                    }
+                    nextDoc = leaf.docBase + doc + 1;
+                    boolean live = liveDocs == null || liveDocs.get(doc);
+                    if (live == false || primaryTerms == null || primaryTerms.advanceExact(doc) == false) {
+                        continue;
+                    }
+                    FieldsVisitor fields = new FieldsVisitor(true);
+                    leaf.reader().document(doc, fields);
+                    fields.postProcess(indexShard.mapperService());
+                    if (fields.source() == null) {
+                        throw new IllegalArgumentException("[" + shardId.getIndexName() + "][" + fields.uid().type() + "]["
+                            + fields.uid().id() + "] didn't store _source");
+                    }
+                    docs.add(new ShardSourceReadResponse.Doc(fields.uid().id(), fields.uid().type(), fields.routing(), fields.source()));
+                    bytes += fields.source().length();
+                }
+            }
+            response = new ShardSourceReadResponse(docs, readerId, nodeId, nextDoc, exhausted, totalDocs);
+        }
+        if (response.isExhausted()) {
+            searchService.freeReaderContext(readerId);
+        }
+        return response;
+    }
+
+    @Override
+    protected Writeable.Reader<ShardSourceReadResponse> getResponseReader() {
+        return ShardSourceReadResponse::new;
+    }
+
+    @Override
+    protected boolean resolveIndex(ShardSourceReadRequest request) {
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveBulkSizerTests extends OpenSearchTestCase {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public void testSendsWholeBatchesUntilPressure() {
+        AdaptiveBulkSizer sizer = new AdaptiveBulkSizer();
+        for (int i = 0; i < 10; i++) {
+            int batchSize = randomIntBetween(1, 10000);
+            assertEquals(batchSize, sizer.bulkSize(batchSize));
+            sizer.onBulkResponse(batchSize, FAST, false);
+        }
+    }
+
+    public void testHalvesOnRejections() {
+        AdaptiveBulkSizer sizer = new AdaptiveBulkSizer();
+        assertEquals(1000, sizer.bulkSize(1000));
+        sizer.onBulkResponse(1000, FAST, true);
+        assertEquals(500, sizer.bulkSize(1000));
+        sizer.onBulkResponse(500, FAST, true);
+        assertEquals(250, sizer.bulkSize(1000));
+        for (int i = 0; i < 20; i++) {
+            sizer.onBulkResponse(sizer.bulkSize(1000), FAST, true);
+        }
+        assertEquals(AdaptiveBulkSizer.MIN_BULK_SIZE, sizer.bulkSize(1000));
+    }
+
+    public void testScalesDownToTargetLatency() {
+        AdaptiveBulkSizer sizer = new AdaptiveBulkSizer();
+        sizer.onBulkResponse(1000, AdaptiveBulkSizer.TARGET_LATENCY.nanos() * 4, false);
+        assertEquals(250, sizer.bulkSize(1000));
+    }
+
+    public void testGrowsBackAfterPressure() {
+        AdaptiveBulkSizer sizer = new AdaptiveBulkSizer();
+        sizer.onBulkResponse(1000, FAST, true);
+        assertEquals(500, sizer.bulkSize(1000));
+        sizer.onBulkResponse(500, FAST, false);
+        assertEquals(625, sizer.bulkSize(1000));
+        // bulk requests that weren't full don't grow the size
+        sizer.onBulkResponse(100, FAST, false);
+        assertEquals(625, sizer.bulkSize(1000));
+        for (int i = 0; i < 10; i++) {
+            sizer.onBulkResponse(sizer.bulkSize(1000), FAST, false);
+        }
+        assertEquals(1000, sizer.bulkSize(1000));
+    }
+}
@@ -578,6 +578,56 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
         }
     }
 
+    /**
+     * Pipelined requests fetch the next scroll batch before sending the bulk requests of the current one, and only process it once these
+     * bulk requests are done.
+     */
+    public void testPipelinedRequestPrefetchesNextBatch() throws Exception {
+        testRequest.setPipelined(true);
+        client.bulksToReject = randomIntBetween(0, 1);
+        DummyAsyncBulkByScrollAction action = new DummyActionWithoutBackoff();
+        int size = randomIntBetween(1, 100);
+        BulkRequest request = new BulkRequest();
+        for (int i = 0; i < size; i++) {
+            request.add(new IndexRequest("index", "type", "id" + i));
+        }
+        AtomicInteger bulksWhenNextBatchFetched = new AtomicInteger(-1);
+        action.setScroll(scrollId());
+        action.sendPipelinedBulkRequests(System.nanoTime(), new ScrollableHitSource.AsyncResponse() {
+            @Override
+            public ScrollableHitSource.Response response() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void done(TimeValue extraKeepAlive) {
+                assertTrue(bulksWhenNextBatchFetched.compareAndSet(-1, client.bulksAttempts.get()));
+            }
+        }, request);
+        assertEquals(0, bulksWhenNextBatchFetched.get());
+        assertEquals(size, testTask.getStatus().getCreated());
+        assertEquals(client.bulksToReject, testTask.getStatus().getBulkRetries());
+        assertFalse(listener.isDone());
+
+        // the last, empty, batch finishes the request once it arrives
+        ScrollableHitSource.Response lastBatch = new ScrollableHitSource.Response(false, emptyList(), size, emptyList(), null);
+        action.onScrollResponse(new ScrollableHitSource.AsyncResponse() {
+            @Override
+            public ScrollableHitSource.Response response() {
+                return lastBatch;
+            }
+
+            @Override
+            public void done(TimeValue extraKeepAlive) {
+                fail();
+            }
+        });
+        BulkByScrollResponse response = listener.get();
+        assertEquals(size, response.getCreated());
+        assertThat(response.getBulkFailures(), empty());
+        assertThat(client.scrollsCleared, contains(scrollId));
+    }
+
     /**
      * The default retry time matches what we say it is in the javadoc for the request.
      */
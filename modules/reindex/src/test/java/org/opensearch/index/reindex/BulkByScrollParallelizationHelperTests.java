@@ -74,4 +74,13 @@ public class BulkByScrollParallelizationHelperTests extends OpenSearchTestCase {
             currentSliceId++;
         }
     }
+
+    public void testLimitSlicesBasedOnLoad() {
+        assertEquals(5, BulkByScrollParallelizationHelper.limitSlicesBasedOnLoad(5, 16, (short) 10));
+        assertEquals(8, BulkByScrollParallelizationHelper.limitSlicesBasedOnLoad(20, 16, (short) 50));
+        assertEquals(1, BulkByScrollParallelizationHelper.limitSlicesBasedOnLoad(20, 16, (short) 100));
+        assertEquals(1, BulkByScrollParallelizationHelper.limitSlicesBasedOnLoad(1, 16, (short) 0));
+        // the load is unknown
+        assertEquals(4, BulkByScrollParallelizationHelper.limitSlicesBasedOnLoad(20, 4, (short) -1));
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.script.Script;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.action.support.WriteRequest.RefreshPolicy.IMMEDIATE;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class ReindexDirectShardCopyTests extends ReindexTestCase {
+
+    @Before
+    public void enableDirectShardCopy() {
+        assertAcked(client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().put(TransportReindexAction.DIRECT_SHARD_COPY.getKey(), true)));
+    }
+
+    @After
+    public void resetDirectShardCopy() {
+        assertAcked(client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().putNull(TransportReindexAction.DIRECT_SHARD_COPY.getKey())));
+    }
+
+    public void testCopyMany() throws Exception {
+        assertAcked(prepareCreate("source").setSettings(Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, between(1, 5))));
+        List<IndexRequestBuilder> docs = new ArrayList<>();
+        Map<String, String> routings = new HashMap<>();
+        int max = between(150, 500);
+        for (int i = 0; i < max; i++) {
+            String id = Integer.toString(i);
+            String routing = randomBoolean() ? null : randomAlphaOfLength(5);
+            routings.put(id, routing);
+            docs.add(client().prepareIndex("source", "test", id).setRouting(routing).setSource("foo", "a", "bar", i));
+        }
+        indexRandom(true, docs);
+        // update some documents so that they are read in their latest version, and delete some others
+        int updated = between(0, 20);
+        for (int i = 0; i < updated; i++) {
+            String id = Integer.toString(i);
+            client().prepareIndex("source", "test", id).setRouting(routings.get(id)).setSource("foo", "b", "bar", i).get();
+        }
+        int deleted = between(0, 20);
+        for (int i = max - deleted; i < max; i++) {
+            String id = Integer.toString(i);
+            client().prepareDelete("source", "test", id).setRouting(routings.get(id)).get();
+        }
+        refresh("source");
+        int live = max - deleted;
+
+        ReindexRequestBuilder copy = reindex().source("source").destination("dest", "type").refresh(true);
+        // Use a small batch size so we have to use more than one batch per shard
+        copy.source().setSize(5);
+        assertThat(copy.get(), matcher().created(live).batches(greaterThanOrEqualTo(live / 5))
+            .failures(0));
+        assertHitCount(client().prepareSearch("dest").setSize(0).get(), live);
+        assertHitCount(client().prepareSearch("dest").setQuery(termQuery("foo", "b")).setSize(0).get(), updated);
+
+        String id = Integer.toString(between(0, live - 1));
+        GetResponse get = client().prepareGet("dest", "type", id).setRouting(routings.get(id)).get();
+        assertTrue(get.isExists());
+        assertThat(get.getSourceAsMap().get("bar"), equalTo(Integer.parseInt(id)));
+    }
+
+    public void testCopyWhileUpdating() throws Exception {
+        assertAcked(prepareCreate("source").setSettings(Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, between(1, 5))));
+        List<IndexRequestBuilder> docs = new ArrayList<>();
+        int max = between(200, 500);
+        for (int i = 0; i < max; i++) {
+            docs.add(client().prepareIndex("source", "test", Integer.toString(i)).setSource("foo", "a", "bar", i));
+        }
+        indexRandom(true, docs);
+
+        // update documents while they are copied, which gives them sequence numbers above those the copy started with
+        AtomicBoolean keepUpdating = new AtomicBoolean(true);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread updater = new Thread(() -> {
+            while (keepUpdating.get()) {
+                try {
+                    int i = between(0, max - 1);
+                    client().prepareIndex("source", "test", Integer.toString(i)).setSource("foo", "b", "bar", i)
+                        .setRefreshPolicy(IMMEDIATE).get();
+                } catch (Exception e) {
+                    failure.set(e);
+                    return;
+                }
+            }
+        });
+        updater.start();
+        try {
+            ReindexRequestBuilder copy = reindex().source("source").destination("dest", "type").refresh(true);
+            copy.source().setSize(5);
+            assertThat(copy.get(), matcher().created(max).failures(0));
+        } finally {
+            keepUpdating.set(false);
+            updater.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        // every document is copied, in the version it had when its shard was first read or a later one
+        assertHitCount(client().prepareSearch("dest").setSize(0).get(), max);
+    }
+
+    public void testCopyFromFilteredAlias() throws Exception {
+        assertAcked(prepareCreate("source").setSettings(Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, between(1, 5))));
+        List<IndexRequestBuilder> docs = new ArrayList<>();
+        int max = between(20, 100);
+        int matching = 0;
+        for (int i = 0; i < max; i++) {
+            String foo = randomBoolean() ? "a" : "b";
+            if (foo.equals("a")) {
+                matching++;
+            }
+            docs.add(client().prepareIndex("source", "test", Integer.toString(i)).setSource("foo", foo, "bar", i));
+        }
+        indexRandom(true, docs);
+        assertAcked(client().admin().indices().prepareAliases().addAlias("source", "filtered", termQuery("foo", "a")));
+
+        // only the documents that match the filter of the alias are copied, as they would be with a scroll
+        ReindexRequestBuilder copy = reindex().source("filtered").destination("dest", "type").refresh(true);
+        copy.source().setSize(5);
+        assertThat(copy.get(), matcher().created(matching).failures(0));
+        assertHitCount(client().prepareSearch("dest").setSize(0).get(), matching);
+        assertHitCount(client().prepareSearch("dest").setQuery(termQuery("foo", "b")).setSize(0).get(), 0);
+    }
+
+    public void testCanCopyDirectly() {
+        assertTrue(DirectShardReindexer.canCopyDirectly(new ReindexRequest().setSourceIndices("source").setDestIndex("dest")));
+
+        ReindexRequest request = new ReindexRequest().setSourceIndices("source").setDestIndex("dest");
+        request.setScript(new Script("ctx._source.foo = 'b'"));
+        assertFalse(DirectShardReindexer.canCopyDirectly(request));
+
+        request = new ReindexRequest().setSourceIndices("source").setDestIndex("dest");
+        request.setSourceQuery(termQuery("foo", "a"));
+        assertFalse(DirectShardReindexer.canCopyDirectly(request));
+
+        request = new ReindexRequest().setSourceIndices("source").setDestIndex("dest");
+        request.setDestPipeline("pipeline");
+        assertFalse(DirectShardReindexer.canCopyDirectly(request));
+
+        request = new ReindexRequest().setSourceIndices("source").setDestIndex("dest").setMaxDocs(10);
+        assertFalse(DirectShardReindexer.canCopyDirectly(request));
+
+        request = new ReindexRequest().setSourceIndices("source").setDestIndex("dest");
+        request.getSearchRequest().source().fetchSource("foo", null);
+        assertFalse(DirectShardReindexer.canCopyDirectly(request));
+    }
+
+    public void testRouting() {
+        assertEquals("r", DirectShardReindexer.routing(null, "r"));
+        assertEquals("r", DirectShardReindexer.routing("keep", "r"));
+        assertNull(DirectShardReindexer.routing("discard", "r"));
+        assertEquals("other", DirectShardReindexer.routing("=other", "r"));
+        expectThrows(IllegalArgumentException.class, () -> DirectShardReindexer.routing("unknown", "r"));
+    }
+}
@@ -150,6 +150,7 @@ public class RoundTripTests extends OpenSearchTestCase {
 
         int slices = ReindexTestCase.randomSlices(1, Integer.MAX_VALUE);
         request.setSlices(slices);
+        request.setPipelined(randomBoolean());
     }
 
     private void randomRequest(AbstractBulkIndexByScrollRequest<?> request) {
@@ -192,6 +193,7 @@ public class RoundTripTests extends OpenSearchTestCase {
         assertEquals(request.getRetryBackoffInitialTime(), tripped.getRetryBackoffInitialTime());
         assertEquals(request.getMaxRetries(), tripped.getMaxRetries());
         assertEquals(request.getRequestsPerSecond(), tripped.getRequestsPerSecond(), 0d);
+        assertEquals(request.isPipelined(), tripped.isPipelined());
     }
 
     public void testRethrottleRequest() throws IOException {
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.channel.Channel;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpIncrementalContent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The content of a request that {@link Netty4HttpIncrementalContentHandler} passes on chunk by chunk after the request was dispatched.
+ * Apart from {@link #pause()}, {@link #resume()} and {@link #release()}, it's only accessed on the event loop of its channel.
+ */
+class Netty4HttpIncrementalContent implements HttpIncrementalContent {
+
+    private final Channel channel;
+    private final int length;
+
+    private Listener listener;
+    // the chunks that were received before the listener was set
+    private List<BytesReference> pendingChunks = new ArrayList<>();
+    private boolean lastChunkReceived;
+    private Exception failure;
+    private volatile boolean released;
+
+    Netty4HttpIncrementalContent(Channel channel, int length) {
+        this.channel = channel;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        if (channel.eventLoop().inEventLoop() == false) {
+            channel.eventLoop().execute(() -> setListener(listener));
+            return;
+        }
+        if (this.listener != null) {
+            throw new IllegalStateException("the listener of the content is already set");
+        }
+        this.listener = listener;
+        final List<BytesReference> chunks = pendingChunks;
+        pendingChunks = null;
+        if (released) {
+            return;
+        }
+        for (int i = 0; i < chunks.size(); i++) {
+            listener.onChunk(chunks.get(i), lastChunkReceived && i == chunks.size() - 1);
+        }
+        if (failure != null) {
+            listener.onFailure(failure);
+        }
+    }
+
+    @Override
+    public synchronized void pause() {
+        if (released == false) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    @Override
+    public synchronized void resume() {
+        channel.config().setAutoRead(true);
+    }
+
+    /**
+     * Drops the chunks that are received from now on and resumes reading, so that the rest of the content is consumed without being
+     * retained. Called once the response to the request is sent.
+     */
+    synchronized void release() {
+        released = true;
+        resume();
+    }
+
+    void onChunk(BytesReference chunk, boolean lastChunk) {
+        assert channel.eventLoop().inEventLoop();
+        if (released) {
+            pendingChunks = null;
+        } else if (listener == null) {
+            pendingChunks.add(chunk);
+            lastChunkReceived = lastChunk;
+        } else {
+            listener.onChunk(chunk, lastChunk);
+        }
+    }
+
+    void onFailure(Exception e) {
+        assert channel.eventLoop().inEventLoop();
+        if (released) {
+            pendingChunks = null;
+        } else if (listener == null) {
+            failure = e;
+        } else {
+            listener.onFailure(e);
+        }
+    }
+}
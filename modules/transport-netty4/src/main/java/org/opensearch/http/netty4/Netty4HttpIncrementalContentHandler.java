@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.http.HttpServerTransport;
+import org.opensearch.rest.RestRequest;
+
+import java.nio.channels.ClosedChannelException;
+
+/**
+ * Dispatches the requests whose handler supports incremental content before their content is received, see
+ * {@link HttpServerTransport.Dispatcher#supportsIncrementalContent(RestRequest.Method, String)}, and passes their content on chunk
+ * by chunk. This handler sits in front of the aggregator: the requests it dispatches early are passed on as full requests without
+ * content, which the aggregator lets through, and the other requests are aggregated as usual.
+ * <p>
+ * Only requests that declare a content length within the maximum content length are dispatched early, so that oversized requests are
+ * still rejected by the aggregator before they are dispatched.
+ */
+class Netty4HttpIncrementalContentHandler extends ChannelInboundHandlerAdapter {
+
+    private final HttpServerTransport.Dispatcher dispatcher;
+    private final int maxContentLength;
+
+    // the content of the request that is being received, if it was dispatched early
+    private Netty4HttpIncrementalContent currentContent;
+
+    Netty4HttpIncrementalContentHandler(HttpServerTransport.Dispatcher dispatcher, int maxContentLength) {
+        this.dispatcher = dispatcher;
+        this.maxContentLength = maxContentLength;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (currentContent != null && msg instanceof HttpContent) {
+            final HttpContent chunk = (HttpContent) msg;
+            final Netty4HttpIncrementalContent content = currentContent;
+            try {
+                if (chunk.decoderResult().isFailure()) {
+                    // the decoder drops the rest of the message after a failure
+                    currentContent = null;
+                    final Throwable cause = chunk.decoderResult().cause();
+                    content.onFailure(cause instanceof Exception ? (Exception) cause : new Exception(cause));
+                } else {
+                    final boolean lastChunk = chunk instanceof LastHttpContent;
+                    if (lastChunk) {
+                        currentContent = null;
+                    }
+                    // the chunk is copied so that its pooled buffer can be released right away
+                    content.onChunk(new BytesArray(ByteBufUtil.getBytes(chunk.content())), lastChunk);
+                }
+            } finally {
+                chunk.release();
+            }
+            return;
+        }
+        if (msg instanceof HttpRequest && msg instanceof FullHttpRequest == false && receiveIncrementally((HttpRequest) msg)) {
+            final HttpRequest request = (HttpRequest) msg;
+            if (HttpUtil.is100ContinueExpected(request)) {
+                // the aggregator would send the continue response, so it's sent here instead
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER))
+                    .addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+                request.headers().remove(HttpHeaderNames.EXPECT);
+            }
+            currentContent = new Netty4HttpIncrementalContent(ctx.channel(), (int) HttpUtil.getContentLength(request));
+            ctx.fireChannelRead(new IncrementalFullHttpRequest(request, currentContent));
+            return;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (currentContent != null) {
+            final Netty4HttpIncrementalContent content = currentContent;
+            currentContent = null;
+            content.onFailure(new ClosedChannelException());
+        }
+        super.channelInactive(ctx);
+    }
+
+    private boolean receiveIncrementally(HttpRequest request) {
+        if (request.decoderResult().isSuccess() == false || HttpUtil.isTransferEncodingChunked(request)) {
+            return false;
+        }
+        final long contentLength = HttpUtil.getContentLength(request, -1L);
+        if (contentLength <= 0 || contentLength > maxContentLength) {
+            return false;
+        }
+        if (request.headers().contains(HttpHeaderNames.EXPECT) && HttpUtil.is100ContinueExpected(request) == false) {
+            // the aggregator rejects unsupported expectations
+            return false;
+        }
+        final RestRequest.Method method;
+        if (request.method() == HttpMethod.POST) {
+            method = RestRequest.Method.POST;
+        } else if (request.method() == HttpMethod.PUT) {
+            method = RestRequest.Method.PUT;
+        } else {
+            return false;
+        }
+        return dispatcher.supportsIncrementalContent(method, request.uri());
+    }
+
+    /**
+     * A request without content that is dispatched before its content is received.
+     */
+    static final class IncrementalFullHttpRequest extends DefaultFullHttpRequest {
+
+        private final Netty4HttpIncrementalContent incrementalContent;
+
+        IncrementalFullHttpRequest(HttpRequest request, Netty4HttpIncrementalContent incrementalContent) {
+            super(request.protocolVersion(), request.method(), request.uri(), Unpooled.EMPTY_BUFFER, request.headers(),
+                new DefaultHttpHeaders());
+            this.incrementalContent = incrementalContent;
+        }
+
+        Netty4HttpIncrementalContent incrementalContent() {
+            return incrementalContent;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpIncrementalContent;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
@@ -66,6 +67,7 @@ public class Netty4HttpRequest implements HttpRequest {
     private final AtomicBoolean released;
     private final Exception inboundException;
     private final boolean pooled;
+    private final Netty4HttpIncrementalContent incrementalContent;
 
     Netty4HttpRequest(FullHttpRequest request) {
         this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
@@ -74,22 +76,28 @@ public class Netty4HttpRequest implements HttpRequest {
 
     Netty4HttpRequest(FullHttpRequest request, Exception inboundException) {
         this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
-            Netty4Utils.toBytesReference(request.content()), inboundException);
+            Netty4Utils.toBytesReference(request.content()), inboundException, null);
+    }
+
+    Netty4HttpRequest(FullHttpRequest request, Netty4HttpIncrementalContent incrementalContent) {
+        this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
+            Netty4Utils.toBytesReference(request.content()), null, incrementalContent);
     }
 
     private Netty4HttpRequest(FullHttpRequest request, HttpHeadersMap headers, AtomicBoolean released, boolean pooled,
                               BytesReference content) {
-        this(request, headers, released, pooled, content, null);
+        this(request, headers, released, pooled, content, null, null);
     }
 
     private Netty4HttpRequest(FullHttpRequest request, HttpHeadersMap headers, AtomicBoolean released, boolean pooled,
-                              BytesReference content, Exception inboundException) {
+                              BytesReference content, Exception inboundException, Netty4HttpIncrementalContent incrementalContent) {
         this.request = request;
         this.headers = headers;
         this.content = content;
         this.pooled = pooled;
         this.released = released;
         this.inboundException = inboundException;
+        this.incrementalContent = incrementalContent;
     }
 
     @Override
@@ -141,17 +149,26 @@ public class Netty4HttpRequest implements HttpRequest {
         return content;
     }
 
+    @Override
+    public HttpIncrementalContent incrementalContent() {
+        return incrementalContent;
+    }
+
     @Override
     public void release() {
         if (pooled && released.compareAndSet(false, true)) {
             request.release();
         }
+        if (incrementalContent != null) {
+            incrementalContent.release();
+        }
     }
 
     @Override
     public HttpRequest releaseAndCopy() {
         assert released.get() == false;
-        if (pooled == false) {
+        if (pooled == false || incrementalContent != null) {
+            // the content of incremental requests is not pooled, it's copied as it's received
             return this;
         }
         try {
@@ -204,7 +221,7 @@ public class Netty4HttpRequest implements HttpRequest {
         FullHttpRequest requestWithoutHeader = new DefaultFullHttpRequest(request.protocolVersion(), request.method(), request.uri(),
             request.content(), headersWithoutContentTypeHeader, trailingHeaders);
         return new Netty4HttpRequest(requestWithoutHeader, new HttpHeadersMap(requestWithoutHeader.headers()), released,
-            pooled, content);
+            pooled, content, null, incrementalContent);
     }
 
     @Override
@@ -55,6 +55,10 @@ class Netty4HttpRequestCreator extends MessageToMessageDecoder<FullHttpRequest>
                 nonError = (Exception) cause;
             }
             out.add(new Netty4HttpRequest(msg.retain(), nonError));
+        } else if (msg instanceof Netty4HttpIncrementalContentHandler.IncrementalFullHttpRequest) {
+            final Netty4HttpIncrementalContent incrementalContent =
+                ((Netty4HttpIncrementalContentHandler.IncrementalFullHttpRequest) msg).incrementalContent();
+            out.add(new Netty4HttpRequest(msg.retain(), incrementalContent));
         } else {
             out.add(new Netty4HttpRequest(msg.retain()));
         }
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpIncrementalContent;
+import org.opensearch.http.NullDispatcher;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class Netty4HttpIncrementalContentHandlerTests extends OpenSearchTestCase {
+
+    private static final int MAX_CONTENT_LENGTH = 1024;
+
+    public void testContentIsPassedOnChunkByChunk() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpIncrementalContentHandler(new BulkDispatcher(),
+            MAX_CONTENT_LENGTH));
+        channel.writeInbound(createRequest(HttpMethod.POST, "/_bulk", 6));
+
+        final Netty4HttpIncrementalContentHandler.IncrementalFullHttpRequest request = channel.readInbound();
+        assertThat(request.content().readableBytes(), equalTo(0));
+        final Netty4HttpIncrementalContent content = request.incrementalContent();
+        assertThat(content.length(), equalTo(6));
+
+        // the chunks that are received before the listener is set are replayed to it
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("abc", StandardCharsets.UTF_8)));
+        final RecordingListener listener = new RecordingListener();
+        content.setListener(listener);
+        assertThat(listener.chunks, equalTo(Collections.singletonList("abc")));
+
+        final HttpContent lastChunk = new DefaultLastHttpContent(Unpooled.copiedBuffer("def", StandardCharsets.UTF_8));
+        channel.writeInbound(lastChunk);
+        assertThat(listener.chunks, equalTo(Arrays.asList("abc", "def")));
+        assertTrue(listener.lastChunkReceived);
+        // the chunks are copied, so that their buffers are released right away
+        assertThat(lastChunk.refCnt(), equalTo(0));
+        assertNull(channel.readInbound());
+
+        content.pause();
+        assertFalse(channel.config().isAutoRead());
+        content.resume();
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    public void testOtherRequestsArePassedThrough() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpIncrementalContentHandler(new BulkDispatcher(),
+            MAX_CONTENT_LENGTH));
+
+        final HttpRequest search = createRequest(HttpMethod.POST, "/_search", 6);
+        channel.writeInbound(search);
+        assertSame(search, channel.readInbound());
+        final HttpContent chunk = new DefaultLastHttpContent(Unpooled.copiedBuffer("abcdef", StandardCharsets.UTF_8));
+        channel.writeInbound(chunk);
+        assertSame(chunk, channel.readInbound());
+
+        final HttpRequest tooLarge = createRequest(HttpMethod.POST, "/_bulk", MAX_CONTENT_LENGTH + 1);
+        channel.writeInbound(tooLarge);
+        assertSame(tooLarge, channel.readInbound());
+
+        final HttpRequest get = createRequest(HttpMethod.GET, "/_bulk", 6);
+        channel.writeInbound(get);
+        assertSame(get, channel.readInbound());
+
+        final HttpRequest chunked = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/_bulk");
+        chunked.headers().set(HttpHeaderNames.TRANSFER_ENCODING, "chunked");
+        channel.writeInbound(chunked);
+        assertSame(chunked, channel.readInbound());
+    }
+
+    public void testContinueIsSentForIncrementalContent() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpIncrementalContentHandler(new BulkDispatcher(),
+            MAX_CONTENT_LENGTH));
+        final HttpRequest request = createRequest(HttpMethod.POST, "/_bulk", 6);
+        request.headers().set(HttpHeaderNames.EXPECT, "100-continue");
+        channel.writeInbound(request);
+
+        final HttpResponse response = channel.readOutbound();
+        assertThat(response.status(), equalTo(HttpResponseStatus.CONTINUE));
+        final Netty4HttpIncrementalContentHandler.IncrementalFullHttpRequest dispatched = channel.readInbound();
+        assertFalse(dispatched.headers().contains(HttpHeaderNames.EXPECT));
+    }
+
+    public void testClosingTheChannelFailsTheContent() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpIncrementalContentHandler(new BulkDispatcher(),
+            MAX_CONTENT_LENGTH));
+        channel.writeInbound(createRequest(HttpMethod.PUT, "/_bulk", 6));
+        final Netty4HttpIncrementalContentHandler.IncrementalFullHttpRequest request = channel.readInbound();
+        final RecordingListener listener = new RecordingListener();
+        request.incrementalContent().setListener(listener);
+
+        channel.close();
+        assertThat(listener.failure, instanceOf(ClosedChannelException.class));
+    }
+
+    public void testReleasedContentDropsChunks() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpIncrementalContentHandler(new BulkDispatcher(),
+            MAX_CONTENT_LENGTH));
+        channel.writeInbound(createRequest(HttpMethod.POST, "/_bulk", 6));
+        final Netty4HttpIncrementalContentHandler.IncrementalFullHttpRequest request = channel.readInbound();
+        final RecordingListener listener = new RecordingListener();
+        final Netty4HttpIncrementalContent content = request.incrementalContent();
+        content.setListener(listener);
+
+        content.pause();
+        content.release();
+        assertTrue(channel.config().isAutoRead());
+        content.pause();
+        assertTrue(channel.config().isAutoRead());
+
+        channel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("abcdef", StandardCharsets.UTF_8)));
+        assertTrue(listener.chunks.isEmpty());
+        assertNull(channel.readInbound());
+    }
+
+    private static HttpRequest createRequest(HttpMethod method, String uri, int contentLength) {
+        final HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, method, uri);
+        request.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+        return request;
+    }
+
+    private static class BulkDispatcher extends NullDispatcher {
+
+        @Override
+        public boolean supportsIncrementalContent(RestRequest.Method method, String uri) {
+            return uri.endsWith("/_bulk");
+        }
+    }
+
+    private static class RecordingListener implements HttpIncrementalContent.Listener {
+
+        private final List<String> chunks = new ArrayList<>();
+        private boolean lastChunkReceived;
+        private Exception failure;
+
+        @Override
+        public void onChunk(BytesReference chunk, boolean lastChunk) {
+            chunks.add(chunk.utf8ToString());
+            lastChunkReceived = lastChunk;
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            failure = e;
+        }
+    }
+}
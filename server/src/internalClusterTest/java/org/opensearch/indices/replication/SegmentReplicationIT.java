@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.test.InternalTestCluster;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.List;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class SegmentReplicationIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX_NAME = "test-idx";
+
+    private void createSegmentReplicationIndex() {
+        createIndex(INDEX_NAME, Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT.toString())
+            .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), -1)
+            .build());
+        ensureGreen(INDEX_NAME);
+    }
+
+    public void testReplicaSearchesTheRefreshedSegmentsOfThePrimary() throws Exception {
+        internalCluster().startNodes(2);
+        createSegmentReplicationIndex();
+
+        final int numDocs = scaledRandomIntBetween(1, 100);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(i)).setSource("field", "value" + i).get();
+        }
+        refresh(INDEX_NAME);
+        assertReplicaHitCount(numDocs);
+
+        final int numDeletes = randomIntBetween(1, numDocs);
+        for (int i = 0; i < numDeletes; i++) {
+            client().prepareDelete(INDEX_NAME, "_doc", Integer.toString(i)).get();
+        }
+        refresh(INDEX_NAME);
+        assertReplicaHitCount(numDocs - numDeletes);
+
+        final SegmentReplicationSourceService sourceService =
+            internalCluster().getInstance(SegmentReplicationSourceService.class, primaryNodeName());
+        assertBusy(() -> assertThat(sourceService.numberOfHeldCommits(), equalTo(0)));
+    }
+
+    public void testPromotedReplicaKeepsTheOperationsThatAreNotRefreshed() throws Exception {
+        internalCluster().startNodes(2);
+        createSegmentReplicationIndex();
+
+        final int numRefreshedDocs = scaledRandomIntBetween(0, 100);
+        for (int i = 0; i < numRefreshedDocs; i++) {
+            client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(i)).setSource("field", "value" + i).get();
+        }
+        if (randomBoolean()) {
+            flush(INDEX_NAME);
+        }
+        refresh(INDEX_NAME);
+        assertReplicaHitCount(numRefreshedDocs);
+
+        final int numDocs = numRefreshedDocs + scaledRandomIntBetween(1, 100);
+        for (int i = numRefreshedDocs; i < numDocs; i++) {
+            client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(i)).setSource("field", "value" + i).get();
+        }
+        internalCluster().stopRandomNode(InternalTestCluster.nameFilter(primaryNodeName()));
+        ensureYellow(INDEX_NAME);
+
+        refresh(INDEX_NAME);
+        assertHitCount(client().prepareSearch(INDEX_NAME).setSize(0).get(), numDocs);
+        client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(numDocs)).setSource("field", "value").get();
+        refresh(INDEX_NAME);
+        assertHitCount(client().prepareSearch(INDEX_NAME).setSize(0).get(), numDocs + 1);
+    }
+
+    private void assertReplicaHitCount(long expectedHitCount) throws Exception {
+        final String replicaNode = replicaNodeName();
+        assertBusy(() -> assertHitCount(
+            client(replicaNode).prepareSearch(INDEX_NAME).setPreference("_only_local").setSize(0).get(), expectedHitCount));
+    }
+
+    private String primaryNodeName() {
+        final ClusterState state = client().admin().cluster().prepareState().get().getState();
+        final ShardRouting primary = state.routingTable().index(INDEX_NAME).shard(0).primaryShard();
+        return state.nodes().get(primary.currentNodeId()).getName();
+    }
+
+    private String replicaNodeName() {
+        final ClusterState state = client().admin().cluster().prepareState().get().getState();
+        final List<ShardRouting> replicas = state.routingTable().index(INDEX_NAME).shard(0).replicaShards();
+        assertThat(replicas.size(), equalTo(1));
+        return state.nodes().get(replicas.get(0).currentNodeId()).getName();
+    }
+}
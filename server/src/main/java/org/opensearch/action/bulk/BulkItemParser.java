@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.DocumentMapperForType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Parses the documents of the index requests of a {@link BulkShardRequest} on several threads of the write thread pool, ahead of
+ * the thread that executes the items of the request on the primary one at a time.
+ * <p>
+ * Parsing and mapping a document is independent of the other items of the request, as long as the mapping doesn't change, while
+ * the assignment of its sequence number and its indexing in the engine must happen in order. Parser tasks therefore claim the
+ * items in order and parse them with the current mapping, and the executing thread {@link #take takes} the parsed document of
+ * each item when it reaches it. An item that no parser task claimed yet, or that a parser task is still parsing, is claimed by
+ * the executing thread, which then parses it itself, so that the request never waits for a parser task. A document that was
+ * parsed with a mapping that changed since, or whose parsing failed or required a mapping update, is parsed again by the
+ * executing thread.
+ * <p>
+ * Parser tasks don't claim items more than {@link #MAX_ITEMS_AHEAD} items ahead of the executing thread, which bounds the number
+ * of parsed documents held in memory. A parser task that reaches that bound ends, and the executing thread forks parser tasks
+ * again once it has taken enough items.
+ */
+final class BulkItemParser {
+
+    private static final Logger logger = LogManager.getLogger(BulkItemParser.class);
+
+    /** The minimum number of items per parser task, below which the items are parsed by the executing thread only. */
+    static final int MIN_ITEMS_PER_PARSER = 16;
+
+    /** The maximum number of items ahead of the executing thread that parser tasks may claim. */
+    static final int MAX_ITEMS_AHEAD = 8 * MIN_ITEMS_PER_PARSER;
+
+    private static final int PENDING = 0;
+    private static final int PARSING = 1;
+    private static final int PARSED = 2;
+    private static final int TAKEN = 3;
+
+    private final BulkShardRequest request;
+    private final IndexShard primary;
+    private final Executor executor;
+    private final int maxParsers;
+    private final AtomicIntegerArray states;
+    private final ParsedDocument[] documents;
+    private final DocumentMapper[] mappers;
+    private final AtomicInteger nextItem = new AtomicInteger();
+    private final AtomicInteger runningParsers = new AtomicInteger();
+    /** The index of the item after the last item that the executing thread took. */
+    private volatile int nextItemToTake;
+    private volatile boolean closed;
+
+    private BulkItemParser(BulkShardRequest request, IndexShard primary, Executor executor, int maxParsers) {
+        this.request = request;
+        this.primary = primary;
+        this.executor = executor;
+        this.maxParsers = maxParsers;
+        final int numItems = request.items().length;
+        this.states = new AtomicIntegerArray(numItems);
+        this.documents = new ParsedDocument[numItems];
+        this.mappers = new DocumentMapper[numItems];
+    }
+
+    /**
+     * Starts parsing the documents of the given request on up to the given number of parser tasks, or returns {@code null} if the
+     * request has too few items to be worth parsing in parallel.
+     */
+    @Nullable
+    static BulkItemParser start(BulkShardRequest request, IndexShard primary, Executor executor, int maxParsers) {
+        final int numParsers = Math.min(maxParsers, request.items().length / MIN_ITEMS_PER_PARSER);
+        if (numParsers <= 0) {
+            return null;
+        }
+        final BulkItemParser parser = new BulkItemParser(request, primary, executor, numParsers);
+        parser.maybeForkParsers();
+        return parser;
+    }
+
+    /**
+     * Forks parser tasks until {@link #maxParsers} of them are running or the items they may claim are claimed already.
+     */
+    private void maybeForkParsers() {
+        while (closed == false) {
+            final int running = runningParsers.get();
+            final int next = nextItem.get();
+            final int limit = Math.min(documents.length, nextItemToTake + MAX_ITEMS_AHEAD);
+            // a parser task is only forked once it can claim enough items, unless these are the last items of the request
+            if (running >= maxParsers || next >= limit || limit - next < Math.min(MIN_ITEMS_PER_PARSER, documents.length - next)) {
+                return;
+            }
+            if (runningParsers.compareAndSet(running, running + 1)) {
+                executor.execute(new AbstractRunnable() {
+                    @Override
+                    public void onFailure(Exception e) {
+                        logger.debug(new ParameterizedMessage("{} failed to parse bulk items ahead of execution", primary.shardId()), e);
+                    }
+
+                    @Override
+                    public void onRejection(Exception e) {
+                        // the executing thread parses the items that no parser task claimed
+                    }
+
+                    @Override
+                    public void onAfter() {
+                        runningParsers.decrementAndGet();
+                    }
+
+                    @Override
+                    protected void doRun() {
+                        parseItems();
+                    }
+                });
+            }
+        }
+    }
+
+    private void parseItems() {
+        while (closed == false) {
+            final int item = nextItem.get();
+            if (item >= documents.length || item >= nextItemToTake + MAX_ITEMS_AHEAD) {
+                return;
+            }
+            if (nextItem.compareAndSet(item, item + 1) && states.compareAndSet(item, PENDING, PARSING)) {
+                parse(item);
+                if (states.compareAndSet(item, PARSING, PARSED) == false) {
+                    // the executing thread reached the item first and parses it itself
+                    documents[item] = null;
+                    mappers[item] = null;
+                }
+            }
+        }
+    }
+
+    private void parse(int item) {
+        final BulkItemRequest itemRequest = request.items()[item];
+        final DocWriteRequest<?> docWriteRequest = itemRequest.request();
+        if (itemRequest.getPrimaryResponse() != null
+            || (docWriteRequest.opType() != DocWriteRequest.OpType.INDEX && docWriteRequest.opType() != DocWriteRequest.OpType.CREATE)) {
+            return;
+        }
+        final IndexRequest indexRequest = (IndexRequest) docWriteRequest;
+        try {
+            final MapperService mapperService = primary.mapperService();
+            final String type = mapperService.resolveDocumentType(indexRequest.type());
+            final DocumentMapperForType docMapper = mapperService.documentMapperWithAutoCreate(type);
+            if (docMapper.getMapping() != null) {
+                // the type must be created first
+                return;
+            }
+            final ParsedDocument document = docMapper.getDocumentMapper().parse(new SourceToParse(indexRequest.index(), type,
+                indexRequest.id(), indexRequest.source(), indexRequest.getContentType(), indexRequest.routing()));
+            if (document.dynamicMappingsUpdate() == null) {
+                documents[item] = document;
+                mappers[item] = docMapper.getDocumentMapper();
+            }
+        } catch (Exception e) {
+            // the executing thread parses the document again and reports the failure
+            logger.trace(new ParameterizedMessage("{} failed to parse bulk item [{}] ahead of execution", primary.shardId(), item), e);
+        }
+    }
+
+    /**
+     * Takes the document of the item at the given index of the request if it was parsed with the given mapper, or returns
+     * {@code null} if it must be parsed by the caller. The document of an item can only be taken once.
+     */
+    @Nullable
+    ParsedDocument take(int item, DocumentMapper mapper) {
+        nextItemToTake = item + 1;
+        maybeForkParsers();
+        for (int state = states.get(item); state != PARSED; state = states.get(item)) {
+            // not parsed yet: the item is claimed so that a parser task doesn't parse it, or discards what it is parsing
+            if (states.compareAndSet(item, state, TAKEN)) {
+                return null;
+            }
+        }
+        states.set(item, TAKEN);
+        final ParsedDocument document = documents[item];
+        final DocumentMapper parsedWith = mappers[item];
+        documents[item] = null;
+        mappers[item] = null;
+        return parsedWith == mapper ? document : null;
+    }
+
+    /**
+     * Stops the parser tasks, once all the items of the request have been executed.
+     */
+    void close() {
+        closed = true;
+    }
+}
@@ -38,11 +38,15 @@ import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
 import java.util.Arrays;
+import java.util.function.Function;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -81,6 +85,8 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    @Nullable
+    private final BulkItemParser itemParser;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -91,8 +97,13 @@ class BulkPrimaryExecutionContext {
 
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, @Nullable BulkItemParser itemParser) {
         this.request = request;
         this.primary = primary;
+        this.itemParser = itemParser;
         advance();
     }
 
@@ -219,6 +230,20 @@ class BulkPrimaryExecutionContext {
         return (T) requestToExecute;
     }
 
+    /**
+     * returns a function that takes the document of the current item if it was parsed ahead with the given document mapper,
+     * or {@code null} if the current item isn't parsed ahead or was translated from an update request.
+     */
+    @Nullable
+    public Function<DocumentMapper, ParsedDocument> getPreParsedDocument() {
+        assert assertInvariants(ItemProcessingState.TRANSLATED);
+        if (itemParser == null || requestToExecute != getCurrent()) {
+            return null;
+        }
+        final int item = currentIndex;
+        return mapper -> itemParser.take(item, mapper);
+    }
+
     /** indicates that the current operation can not be completed and needs to wait for a new mapping from the master */
     public void markAsRequiringMappingUpdate() {
         assert assertInvariants(ItemProcessingState.TRANSLATED);
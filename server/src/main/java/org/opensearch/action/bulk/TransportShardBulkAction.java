@@ -63,6 +63,8 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContent;
@@ -72,8 +74,10 @@ import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.MapperException;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
@@ -108,8 +112,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }
     };
 
+    /**
+     * The maximum number of threads of the write thread pool that parse the documents of a shard-level bulk request ahead of
+     * its execution on the primary, in addition to the thread that executes it (default: 0, the documents are parsed by the
+     * executing thread only).
+     */
+    public static final Setting<Integer> PARALLEL_PARSING_THREADS_SETTING =
+        Setting.intSetting("indices.bulk.parallel_parsing.threads", 0, 0, Property.NodeScope);
+
     private final UpdateHelper updateHelper;
     private final MappingUpdatedAction mappingUpdatedAction;
+    private final int parallelParsingThreads;
 
     @Inject
     public TransportShardBulkAction(Settings settings, TransportService transportService, ClusterService clusterService,
@@ -120,6 +133,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             BulkShardRequest::new, BulkShardRequest::new, EXECUTOR_NAME_FUNCTION, false, indexingPressure, systemIndices);
         this.updateHelper = updateHelper;
         this.mappingUpdatedAction = mappingUpdatedAction;
+        this.parallelParsingThreads = PARALLEL_PARSING_THREADS_SETTING.get(settings);
     }
 
     @Override
@@ -157,7 +171,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 public void onTimeout(TimeValue timeout) {
                     mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
                 }
-            }), listener, threadPool, executor(primary)
+            }), listener, threadPool, executor(primary), parallelParsingThreads
         );
     }
 
@@ -176,11 +190,31 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
         ThreadPool threadPool,
         String executorName) {
-        new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
+        performOnPrimary(request, primary, updateHelper, nowInMillisSupplier, mappingUpdater, waitForMappingUpdate, listener,
+            threadPool, executorName, 0);
+    }
 
-            private final Executor executor = threadPool.executor(executorName);
+    /**
+     * Executes the items of the given request on the primary one at a time, while up to {@code parallelParsingThreads} other
+     * threads of the executor parse the documents of the index requests ahead of their execution.
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        int parallelParsingThreads) {
+        final Executor executor = threadPool.executor(executorName);
+        final BulkItemParser itemParser = parallelParsingThreads > 0
+            ? BulkItemParser.start(request, primary, executor, parallelParsingThreads) : null;
+        new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary, itemParser);
 
             @Override
             protected void doRun() throws Exception {
@@ -224,7 +258,18 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 });
             }
 
+            @Override
+            public void onFailure(Exception e) {
+                if (itemParser != null) {
+                    itemParser.close();
+                }
+                super.onFailure(e);
+            }
+
             private void finishRequest() {
+                if (itemParser != null) {
+                    itemParser.close();
+                }
                 ActionListener.completeWith(listener,
                     () -> new WritePrimaryResult<>(
                         context.getBulkShardRequest(), context.buildShardResponse(), context.getLocationToSync(), null,
@@ -295,9 +340,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.ifSeqNo(), request.ifPrimaryTerm());
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(version, request.versionType(), new SourceToParse(
-                    request.index(), request.type(), request.id(), request.source(), request.getContentType(), request.routing()),
-                request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            final SourceToParse sourceToParse = new SourceToParse(
+                request.index(), request.type(), request.id(), request.source(), request.getContentType(), request.routing());
+            final Function<DocumentMapper, ParsedDocument> preParsedDocument = context.getPreParsedDocument();
+            if (preParsedDocument == null) {
+                result = primary.applyIndexOperationOnPrimary(version, request.versionType(), sourceToParse,
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            } else {
+                result = primary.applyIndexOperationOnPrimary(version, request.versionType(), sourceToParse,
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry(),
+                    preParsedDocument);
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
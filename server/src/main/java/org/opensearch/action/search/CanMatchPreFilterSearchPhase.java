@@ -35,17 +35,23 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.transport.Transport;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -67,11 +73,16 @@ import java.util.stream.Stream;
  * When the query primary sort is perform on a field, this phase extracts the min/max value in each shard and
  * sort them according to the provided order. This can be useful for instance to ensure that shards that contain recent
  * data are executed first when sorting by descending timestamp.
+ * When the query requires ranges of date fields that the {@link ShardFieldRangeCache} holds the ranges of in a shard for, the
+ * shard is checked locally instead, without any round trip.
  */
 final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMatchResponse> {
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ClusterState clusterState;
+    private final ShardFieldRangeCache shardFieldRangeCache;
+    private final List<RangeQueryBuilder> requiredRanges;
 
     CanMatchPreFilterSearchPhase(Logger logger, SearchTransportService searchTransportService,
                                  BiFunction<String, String, Transport.Connection> nodeIdToConnection,
@@ -81,13 +92,18 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
                                  ActionListener<SearchResponse> listener, GroupShardsIterator<SearchShardIterator> shardsIts,
                                  TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
                                  SearchTask task, Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
-                                 SearchResponse.Clusters clusters) {
+                                 SearchResponse.Clusters clusters, @Nullable ShardFieldRangeCache shardFieldRangeCache) {
         //We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super("can_match", logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings,
                 executor, request, listener, shardsIts, timeProvider, clusterState, task,
                 new CanMatchSearchPhaseResults(shardsIts.size()), shardsIts.size(), clusters);
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.clusterState = clusterState;
+        this.shardFieldRangeCache = shardFieldRangeCache;
+        // requests that have to visit all documents can't be skipped by can_match, whatever their query
+        this.requiredRanges = shardFieldRangeCache != null && SearchService.canRewriteToMatchNone(request.source())
+            ? ShardFieldRangeCache.requiredRanges(request.source().query()) : Collections.emptyList();
     }
 
     @Override
@@ -98,8 +114,23 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     @Override
     protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
                                        SearchActionListener<CanMatchResponse> listener) {
-        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt), getTask(), listener);
+        final ShardSearchRequest request = buildShardSearchRequest(shardIt);
+        if (requiredRanges.isEmpty() || shardIt.getClusterAlias() != null || shardIt.getSearchContextId() != null) {
+            getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+            return;
+        }
+        final IndexMetadata indexMetadata = clusterState.metadata().index(shardIt.shardId().getIndex());
+        final Boolean canMatch = shardFieldRangeCache.canMatch(shardIt.shardId(), indexMetadata, requiredRanges, request::nowInMillis);
+        // shards that can match still report the bounds of the primary sort field, which the cache doesn't know
+        if (canMatch != null && (canMatch == false || FieldSortBuilder.getPrimaryFieldSortOrNull(getRequest().source()) == null)) {
+            listener.onResponse(new CanMatchResponse(canMatch, null));
+            return;
+        }
+        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(),
+            ActionListener.wrap(response -> {
+                shardFieldRangeCache.onCanMatchResponse(shardIt.shardId(), indexMetadata, response);
+                listener.onResponse(response);
+            }, listener::onFailure));
     }
 
     @Override
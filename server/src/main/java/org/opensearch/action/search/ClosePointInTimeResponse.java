@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.rest.RestStatus;
+
+import java.io.IOException;
+
+import static org.opensearch.rest.RestStatus.NOT_FOUND;
+import static org.opensearch.rest.RestStatus.OK;
+
+public class ClosePointInTimeResponse extends ClearScrollResponse {
+    public ClosePointInTimeResponse(boolean succeeded, int numFreed) {
+        super(succeeded, numFreed);
+    }
+
+    public ClosePointInTimeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    public RestStatus status() {
+        if (isSucceeded() || getNumFreed() > 0) {
+            return OK;
+        } else {
+            return NOT_FOUND;
+        }
+    }
+}
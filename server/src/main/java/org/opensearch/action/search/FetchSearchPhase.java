@@ -120,7 +120,9 @@ final class FetchSearchPhase extends SearchPhase {
         final boolean isScrollSearch = context.getRequest().scroll() != null;
         final List<SearchPhaseResult> phaseResults = queryResults.asList();
         final SearchPhaseController.ReducedQueryPhase reducedQueryPhase = resultConsumer.reduce();
-        final boolean queryAndFetchOptimization = queryResults.length() == 1;
+        // a search on a single shard, or one whose shard requests were batched per node, fetched the hits along with the query
+        final boolean queryAndFetchOptimization = queryResults.length() == 1
+            || (phaseResults.isEmpty() == false && phaseResults.stream().allMatch(r -> r.fetchResult() != null));
         final Runnable finishPhase = ()
             -> moveToNextPhase(searchPhaseController, queryResults, reducedQueryPhase, queryAndFetchOptimization ?
             queryResults : fetchResults.getAtomicArray());
@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * A request to list the point in time reader contexts that are open on the given nodes. If no node ids
+ * are provided, all the nodes of the cluster are queried.
+ */
+public class ListPointInTimeRequest extends BaseNodesRequest<ListPointInTimeRequest> {
+
+    public ListPointInTimeRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public ListPointInTimeRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+}
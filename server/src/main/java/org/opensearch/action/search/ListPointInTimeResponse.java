@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The response of the list point in time api, which contains the point in time reader contexts open on each node.
+ */
+public class ListPointInTimeResponse extends BaseNodesResponse<NodePointInTimes> implements ToXContentFragment {
+
+    public ListPointInTimeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public ListPointInTimeResponse(ClusterName clusterName, List<NodePointInTimes> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NodePointInTimes> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodePointInTimes::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodePointInTimes> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("nodes");
+        for (NodePointInTimes node : getNodes()) {
+            builder.startArray(node.getNode().getId());
+            for (NodePointInTimes.ShardPointInTime pointInTime : node.getPointInTimes()) {
+                pointInTime.toXContent(builder, params);
+            }
+            builder.endArray();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.internal.ShardSearchContextId;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The point in time reader contexts that are open on a single node.
+ */
+public class NodePointInTimes extends BaseNodeResponse {
+
+    private final List<ShardPointInTime> pointInTimes;
+
+    public NodePointInTimes(StreamInput in) throws IOException {
+        super(in);
+        pointInTimes = in.readList(ShardPointInTime::new);
+    }
+
+    public NodePointInTimes(DiscoveryNode node, List<ShardPointInTime> pointInTimes) {
+        super(node);
+        this.pointInTimes = pointInTimes;
+    }
+
+    public List<ShardPointInTime> getPointInTimes() {
+        return pointInTimes;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(pointInTimes);
+    }
+
+    /**
+     * A point in time reader context that is open on a shard.
+     */
+    public static class ShardPointInTime implements Writeable, ToXContentObject {
+        private final ShardId shardId;
+        private final ShardSearchContextId contextId;
+        private final long creationTime;
+        private final long keepAlive;
+
+        public ShardPointInTime(ShardId shardId, ShardSearchContextId contextId, long creationTime, long keepAlive) {
+            this.shardId = shardId;
+            this.contextId = contextId;
+            this.creationTime = creationTime;
+            this.keepAlive = keepAlive;
+        }
+
+        public ShardPointInTime(StreamInput in) throws IOException {
+            shardId = new ShardId(in);
+            contextId = new ShardSearchContextId(in);
+            creationTime = in.readVLong();
+            keepAlive = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            contextId.writeTo(out);
+            out.writeVLong(creationTime);
+            out.writeVLong(keepAlive);
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        public ShardSearchContextId getContextId() {
+            return contextId;
+        }
+
+        /**
+         * The time, in milliseconds since the epoch, at which the point in time was opened
+         */
+        public long getCreationTime() {
+            return creationTime;
+        }
+
+        /**
+         * The keep alive of the point in time in milliseconds
+         */
+        public long getKeepAlive() {
+            return keepAlive;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("index", shardId.getIndexName());
+            builder.field("shard", shardId.id());
+            builder.field("context_id", contextId.getId());
+            builder.timeField("creation_time_in_millis", "creation_time", creationTime);
+            builder.humanReadableField("keep_alive_in_millis", "keep_alive", new TimeValue(keepAlive));
+            builder.endObject();
+            return builder;
+        }
+    }
+}
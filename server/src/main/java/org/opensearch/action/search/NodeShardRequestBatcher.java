@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.Transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects the shard requests of the searches of a multi search request and sends them in a single request per node, rather than
+ * one request per shard and search. Each search registers a {@link Dispatch} up front and signals it once it sent the requests
+ * of its first round, and the batches are sent once all searches did. Requests that are sent after that, such as the retries on
+ * other shard copies, go out on their own.
+ */
+final class NodeShardRequestBatcher {
+
+    private final SearchTransportService searchTransportService;
+    private final Task parentTask;
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
+    private int pendingDispatches;
+    private boolean sent;
+
+    NodeShardRequestBatcher(SearchTransportService searchTransportService, Task parentTask) {
+        this.searchTransportService = searchTransportService;
+        this.parentTask = parentTask;
+    }
+
+    /**
+     * Registers a search whose shard requests are batched. All searches must be registered before the first one is executed.
+     */
+    synchronized Dispatch newDispatch() {
+        assert sent == false : "batches were sent already";
+        pendingDispatches++;
+        return new Dispatch();
+    }
+
+    private void add(Transport.Connection connection, ShardSearchRequest request, SearchActionListener<SearchPhaseResult> listener) {
+        synchronized (this) {
+            if (sent == false) {
+                batches.computeIfAbsent(connection.getNode().getId(), n -> new Batch(connection)).add(request, listener);
+                return;
+            }
+        }
+        searchTransportService.sendExecuteQueryAndFetchBatch(connection, Collections.singletonList(request), parentTask,
+            Collections.singletonList(listener));
+    }
+
+    private void onDispatched() {
+        final List<Batch> toSend;
+        synchronized (this) {
+            assert pendingDispatches > 0;
+            if (--pendingDispatches > 0) {
+                return;
+            }
+            sent = true;
+            toSend = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        for (Batch batch : toSend) {
+            searchTransportService.sendExecuteQueryAndFetchBatch(batch.connection, batch.requests, parentTask, batch.listeners);
+        }
+    }
+
+    /**
+     * The handle through which a single search adds its shard requests to the batches.
+     */
+    final class Dispatch {
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+
+        /**
+         * Adds the shard request to the batch of the node of the connection, or sends it right away if the batches were sent.
+         */
+        void add(Transport.Connection connection, ShardSearchRequest request, SearchActionListener<SearchPhaseResult> listener) {
+            NodeShardRequestBatcher.this.add(connection, request, listener);
+        }
+
+        /**
+         * Signals that the search added the requests of its first round, or that it completed without doing so. Only the first call
+         * counts.
+         */
+        void dispatched() {
+            if (dispatched.compareAndSet(false, true)) {
+                onDispatched();
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final Transport.Connection connection;
+        private final List<ShardSearchRequest> requests = new ArrayList<>();
+        private final List<SearchActionListener<SearchPhaseResult>> listeners = new ArrayList<>();
+
+        Batch(Transport.Connection connection) {
+            this.connection = connection;
+        }
+
+        void add(ShardSearchRequest request, SearchActionListener<SearchPhaseResult> listener) {
+            requests.add(request);
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionType;
+
+public class OpenPointInTimeAction extends ActionType<OpenPointInTimeResponse> {
+
+    public static final OpenPointInTimeAction INSTANCE = new OpenPointInTimeAction();
+    public static final String NAME = "indices:data/read/open_point_in_time";
+
+    private OpenPointInTimeAction() {
+        super(NAME, OpenPointInTimeResponse::new);
+    }
+}
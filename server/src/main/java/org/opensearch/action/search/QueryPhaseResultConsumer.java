@@ -97,7 +97,27 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                     NamedWriteableRegistry namedWriteableRegistry,
                                     int expectedResultSize,
                                     Consumer<Exception> onPartialMergeFailure) {
+        this(request, executor, circuitBreaker, controller, progressListener, namedWriteableRegistry, expectedResultSize, 1,
+            onPartialMergeFailure);
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, running up to {@code maxConcurrentReduces} partial reduces
+     * at the same time. Each partial reduce reduces a batch of shard results along with the results
+     * of the partial reduces that completed before it started, so that the partial reduces form a tree.
+     */
+    public QueryPhaseResultConsumer(SearchRequest request,
+                                    Executor executor,
+                                    CircuitBreaker circuitBreaker,
+                                    SearchPhaseController controller,
+                                    SearchProgressListener progressListener,
+                                    NamedWriteableRegistry namedWriteableRegistry,
+                                    int expectedResultSize,
+                                    int maxConcurrentReduces,
+                                    Consumer<Exception> onPartialMergeFailure) {
         super(expectedResultSize);
+        assert maxConcurrentReduces > 0 : "max concurrent reduces must be positive: " + maxConcurrentReduces;
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -112,7 +132,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
         int batchReduceSize = (hasAggs || hasTopDocs) ? Math.min(request.getBatchedReduceSize(), expectedResultSize)  : expectedResultSize;
-        this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
+        this.pendingMerges = new PendingMerges(batchReduceSize, maxConcurrentReduces, request.resolveTrackTotalHitsUpTo());
     }
 
     @Override
@@ -163,19 +183,22 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private MergeResult partialReduce(QuerySearchResult[] toConsume,
                                       List<SearchShard> emptyResults,
                                       SearchPhaseController.TopDocsStats topDocsStats,
-                                      MergeResult lastMerge,
+                                      List<MergeResult> lastMerges,
                                       int numReducePhases) {
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+        // the stats are shared by the partial reduces that run concurrently
+        synchronized (topDocsStats) {
+            for (QuerySearchResult result : toConsume) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
         }
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastMerge != null) {
+            for (MergeResult lastMerge : lastMerges) {
                 topDocsList.add(lastMerge.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -193,7 +216,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastMerge != null) {
+            for (MergeResult lastMerge : lastMerges) {
                 aggsList.add(lastMerge.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -204,14 +227,17 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newAggs = null;
         }
         List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastMerge != null) {
+        for (MergeResult lastMerge : lastMerges) {
             processedShards.addAll(lastMerge.processedShards);
         }
         for (QuerySearchResult result : toConsume) {
             SearchShardTarget target = result.getSearchShardTarget();
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        // notify one partial reduce at a time
+        synchronized (topDocsStats) {
+            progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        }
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
@@ -224,6 +250,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     private class PendingMerges implements Releasable {
         private final int batchReduceSize;
+        private final int maxConcurrentReduces;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
         private final List<SearchShard> emptyResults = new ArrayList<>();
         // the memory that is accounted in the circuit breaker for this consumer
@@ -233,16 +260,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<MergeTask> queue = new ArrayDeque<>();
-        private final AtomicReference<MergeTask> runningTask = new AtomicReference<>();
+        private final List<MergeTask> runningTasks = new ArrayList<>();
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
-        private volatile MergeResult mergeResult;
+        // the results of the partial reduces that completed and that no other partial reduce took yet
+        private final List<MergeResult> mergeResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
-        PendingMerges(int batchReduceSize, int trackTotalHitsUpTo) {
+        PendingMerges(int batchReduceSize, int maxConcurrentReduces, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
+            this.maxConcurrentReduces = maxConcurrentReduces;
             this.topDocsStats = new SearchPhaseController.TopDocsStats(trackTotalHitsUpTo);
         }
 
@@ -266,8 +295,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        boolean hasPendingMerges() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        synchronized boolean hasPendingMerges() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
         }
 
         void sortBuffer() {
@@ -363,16 +392,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 circuitBreakerBytes = 0;
             }
             failure.compareAndSet(null, exc);
-            MergeTask task = runningTask.get();
-            runningTask.compareAndSet(task, null);
             onPartialMergeFailure.accept(exc);
-            List<MergeTask> toCancels = new ArrayList<>();
-            if (task != null) {
-                toCancels.add(task);
-            }
+            List<MergeTask> toCancels = new ArrayList<>(runningTasks);
+            runningTasks.clear();
             queue.stream().forEach(toCancels::add);
             queue.clear();
-            mergeResult = null;
+            mergeResults.clear();
             for (MergeTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -383,37 +408,52 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 if (hasFailure()) {
                     return;
                 }
-                runningTask.compareAndSet(task, null);
-                mergeResult = newResult;
+                runningTasks.remove(task);
+                mergeResults.add(newResult);
                 if (hasAggs) {
                     // Update the circuit breaker to remove the size of the source aggregations
                     // and replace the estimation with the serialized size of the newly reduced result.
-                    long newSize = mergeResult.estimatedSize - estimatedSize;
+                    long newSize = newResult.estimatedSize - estimatedSize;
                     addWithoutBreaking(newSize);
                     logger.trace("aggs partial reduction [{}->{}] max [{}]",
-                        estimatedSize, mergeResult.estimatedSize, maxAggsCurrentBufferSize);
+                        estimatedSize, newResult.estimatedSize, maxAggsCurrentBufferSize);
                 }
                 task.consumeListener();
             }
         }
 
         private void tryExecuteNext() {
-            final MergeTask task;
+            final List<MergeTask> tasks = new ArrayList<>();
             synchronized (this) {
-                if (queue.isEmpty()
-                        || hasFailure()
-                        || runningTask.get() != null) {
-                    return;
+                while (queue.isEmpty() == false
+                        && hasFailure() == false
+                        && runningTasks.size() < maxConcurrentReduces) {
+                    final MergeTask task = queue.poll();
+                    // the task takes over the results of the partial reduces that completed so far
+                    task.lastMerges = new ArrayList<>(mergeResults);
+                    mergeResults.clear();
+                    runningTasks.add(task);
+                    tasks.add(task);
                 }
-                task = queue.poll();
-                runningTask.compareAndSet(null, task);
             }
+            for (MergeTask task : tasks) {
+                executeMerge(task);
+            }
+        }
 
+        private synchronized int incrementNumReducePhases() {
+            return ++ numReducePhases;
+        }
+
+        private void executeMerge(MergeTask task) {
             executor.execute(new AbstractRunnable() {
                 @Override
                 protected void doRun() {
-                    final MergeResult thisMergeResult = mergeResult;
-                    long estimatedTotalSize = (thisMergeResult != null ? thisMergeResult.estimatedSize : 0) + task.aggsBufferSize;
+                    final List<MergeResult> lastMerges = task.lastMerges;
+                    long estimatedTotalSize = task.aggsBufferSize;
+                    for (MergeResult lastMerge : lastMerges) {
+                        estimatedTotalSize += lastMerge.estimatedSize;
+                    }
                     final MergeResult newMerge;
                     try {
                         final QuerySearchResult[] toConsume = task.consumeBuffer();
@@ -423,8 +463,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long estimatedMergeSize = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
-                        ++ numReducePhases;
-                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, numReducePhases);
+                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, lastMerges, incrementNumReducePhases());
                     } catch (Exception t) {
                         onMergeFailure(t);
                         return;
@@ -452,7 +491,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (mergeResult != null) {
+            for (MergeResult mergeResult : mergeResults) {
                 topDocsList.add(mergeResult.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
@@ -468,7 +507,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (mergeResult != null) {
+            for (MergeResult mergeResult : mergeResults) {
                 aggsList.add(mergeResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
@@ -495,6 +534,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     private static class MergeTask {
         private final List<SearchShard> emptyResults;
+        private List<MergeResult> lastMerges;
         private QuerySearchResult[] buffer;
         private long aggsBufferSize;
         private Runnable next;
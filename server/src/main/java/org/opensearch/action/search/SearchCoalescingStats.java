@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * The stats of the {@link SearchRequestCoalescer} of a node: the search requests it answered with the response of an identical search
+ * that was in flight (hits), those it executed itself while coalescing was enabled (misses), and the time the hits waited for their
+ * response. These are stats of the coordinating node rather than of any shard.
+ */
+public class SearchCoalescingStats implements Writeable, ToXContentFragment {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long waitTimeInMillis;
+
+    public SearchCoalescingStats(long hitCount, long missCount, long waitTimeInMillis) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.waitTimeInMillis = waitTimeInMillis;
+    }
+
+    public SearchCoalescingStats(StreamInput in) throws IOException {
+        hitCount = in.readVLong();
+        missCount = in.readVLong();
+        waitTimeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(hitCount);
+        out.writeVLong(missCount);
+        out.writeVLong(waitTimeInMillis);
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public TimeValue getWaitTime() {
+        return new TimeValue(waitTimeInMillis);
+    }
+
+    public long getWaitTimeInMillis() {
+        return waitTimeInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.SEARCH_COALESCING);
+        builder.field(Fields.HIT_TOTAL, hitCount);
+        builder.field(Fields.MISS_TOTAL, missCount);
+        builder.humanReadableField(Fields.WAIT_TIME_IN_MILLIS, Fields.WAIT_TIME, getWaitTime());
+        return builder.endObject();
+    }
+
+    static final class Fields {
+        static final String SEARCH_COALESCING = "search_coalescing";
+        static final String HIT_TOTAL = "hit_total";
+        static final String MISS_TOTAL = "miss_total";
+        static final String WAIT_TIME = "wait_time";
+        static final String WAIT_TIME_IN_MILLIS = "wait_time_in_millis";
+    }
+}
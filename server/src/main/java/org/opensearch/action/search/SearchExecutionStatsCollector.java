@@ -33,8 +33,11 @@
 package org.opensearch.action.search;
 
 import org.opensearch.action.ActionListener;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.transport.Transport;
 
@@ -43,27 +46,41 @@ import java.util.function.BiFunction;
 
 /**
  * A wrapper of search action listeners (search results) that unwraps the query
- * result to get the piggybacked queue size and service time EWMA, adding those
- * values to the coordinating nodes' {@link ResponseCollectorService}.
+ * result to get the piggybacked queue size, service time EWMA, search thread pool
+ * utilization and heap usage, adding those values to the coordinating nodes'
+ * {@link ResponseCollectorService} along with the response time of the shard copy.
  */
 public final class SearchExecutionStatsCollector implements ActionListener<SearchPhaseResult> {
 
     private final ActionListener<SearchPhaseResult> listener;
     private final String nodeId;
+    private final ShardId shardId;
     private final ResponseCollectorService collector;
     private final long startNanos;
 
     SearchExecutionStatsCollector(ActionListener<SearchPhaseResult> listener,
                                   ResponseCollectorService collector,
                                   String nodeId) {
+        this(listener, collector, nodeId, null);
+    }
+
+    SearchExecutionStatsCollector(ActionListener<SearchPhaseResult> listener,
+                                  ResponseCollectorService collector,
+                                  String nodeId,
+                                  @Nullable ShardId shardId) {
         this.listener = Objects.requireNonNull(listener, "listener cannot be null");
         this.collector = Objects.requireNonNull(collector, "response collector cannot be null");
         this.startNanos = System.nanoTime();
         this.nodeId = nodeId;
+        this.shardId = shardId;
     }
 
     public static BiFunction<Transport.Connection, SearchActionListener, ActionListener> makeWrapper(ResponseCollectorService service) {
-        return (connection, originalListener) -> new SearchExecutionStatsCollector(originalListener, service, connection.getNode().getId());
+        return (connection, originalListener) -> {
+            final SearchShardTarget shardTarget = originalListener.getSearchShardTarget();
+            return new SearchExecutionStatsCollector(originalListener, service, connection.getNode().getId(),
+                shardTarget == null ? null : shardTarget.getShardId());
+        };
     }
 
     @Override
@@ -75,7 +92,11 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             final long responseDuration = System.nanoTime() - startNanos;
             // EWMA/queue size may be -1 if the query node doesn't support capturing it
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
-                collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
+                collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA,
+                    queryResult.searchPoolUtilization(), queryResult.heapUsedPercent());
+            }
+            if (shardId != null) {
+                collector.addShardCopyStatistics(nodeId, shardId, responseDuration);
             }
         }
         listener.onResponse(response);
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.transport.RemoteClusterAware;
+import org.opensearch.transport.Transport;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Executes a search of a multi search request whose shard requests are batched per node by a {@link NodeShardRequestBatcher}.
+ * Each shard executes the query and fetches its own top hits in one go, so the search needs no fetch round trip, which is why only
+ * searches that start at the first hit and neither collapse nor suggest are batched.
+ */
+final class SearchQueryAndFetchBatchedAsyncAction extends AbstractSearchAsyncAction<SearchPhaseResult> {
+
+    private final SearchPhaseController searchPhaseController;
+    private final SearchProgressListener progressListener;
+    private final NodeShardRequestBatcher.Dispatch dispatch;
+    private final int firstRoundRequests;
+    private final AtomicInteger sentFirstRoundRequests = new AtomicInteger();
+
+    SearchQueryAndFetchBatchedAsyncAction(final Logger logger, final SearchTransportService searchTransportService,
+                                          final BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+                                          final Map<String, AliasFilter> aliasFilter,
+                                          final Map<String, Float> concreteIndexBoosts, final Map<String, Set<String>> indexRoutings,
+                                          final SearchPhaseController searchPhaseController, final Executor executor,
+                                          final QueryPhaseResultConsumer resultConsumer, final SearchRequest request,
+                                          final ActionListener<SearchResponse> listener,
+                                          final GroupShardsIterator<SearchShardIterator> shardsIts,
+                                          final TransportSearchAction.SearchTimeProvider timeProvider,
+                                          ClusterState clusterState, SearchTask task, SearchResponse.Clusters clusters,
+                                          NodeShardRequestBatcher.Dispatch dispatch) {
+        // the shard requests of the first round are all added to the batches right away rather than throttled per node
+        super("query_fetch", logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings,
+            executor, request, listener, shardsIts, timeProvider, clusterState, task,
+            resultConsumer, Math.max(1, shardsIts.size()), clusters);
+        this.searchPhaseController = searchPhaseController;
+        this.progressListener = task.getProgressListener();
+        this.dispatch = dispatch;
+        int firstRoundRequests = 0;
+        for (SearchShardIterator shardIt : this.shardsIts) {
+            if (shardIt.size() > 0) {
+                firstRoundRequests++;
+            }
+        }
+        this.firstRoundRequests = firstRoundRequests;
+
+        // register the release of the query consumer to free up the circuit breaker memory
+        // at the end of the search
+        addReleasable(resultConsumer);
+
+        boolean hasFetchPhase = request.source() == null ? true : request.source().size() > 0;
+        progressListener.notifyListShards(SearchProgressListener.buildSearchShards(this.shardsIts),
+            SearchProgressListener.buildSearchShards(toSkipShardsIts), clusters, hasFetchPhase);
+    }
+
+    /**
+     * Returns whether the shard requests of the given search can be batched, which needs each shard to return hits that are final.
+     */
+    static boolean canBatch(SearchRequest request) {
+        if (request.scroll() != null || request.pointInTimeBuilder() != null
+            || request.searchType() != SearchType.QUERY_THEN_FETCH) {
+            return false;
+        }
+        for (String index : request.indices()) {
+            if (index.indexOf(RemoteClusterAware.REMOTE_CLUSTER_INDEX_SEPARATOR) >= 0) {
+                return false;
+            }
+        }
+        return request.source() == null
+            || (request.source().from() <= 0 && request.source().collapse() == null && request.source().suggest() == null);
+    }
+
+    @Override
+    protected void executePhaseOnShard(final SearchShardIterator shardIt,
+                                       final SearchShardTarget shard,
+                                       final SearchActionListener<SearchPhaseResult> listener) {
+        try {
+            final ShardSearchRequest request = buildShardSearchRequest(shardIt);
+            // the shard has to fetch its hits, which a null response can't carry
+            request.canReturnNullResponseIfMatchNoDocs(false);
+            dispatch.add(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, listener);
+        } finally {
+            if (sentFirstRoundRequests.incrementAndGet() == firstRoundRequests) {
+                dispatch.dispatched();
+            }
+        }
+    }
+
+    @Override
+    protected void onShardGroupFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
+        progressListener.notifyQueryFailure(shardIndex, shardTarget, exc);
+    }
+
+    @Override
+    protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+        // the fetch phase merges the hits that the shards fetched along with the query
+        return new FetchSearchPhase(results, searchPhaseController, null, this);
+    }
+}
@@ -114,6 +114,10 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
 
     private IndicesOptions indicesOptions = DEFAULT_INDICES_OPTIONS;
 
+    // the batches that the shard requests of a search of a multi search request are added to, only set on the coordinating node and
+    // neither serialized nor copied
+    private NodeShardRequestBatcher.Dispatch batchDispatch;
+
     public SearchRequest() {
         this.localClusterAlias = null;
         this.absoluteStartMillis = DEFAULT_ABSOLUTE_START_MILLIS;
@@ -395,6 +399,18 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         this.ccsMinimizeRoundtrips = ccsMinimizeRoundtrips;
     }
 
+    /**
+     * Sets the batches that the shard requests of this search are added to, for a search that is executed as part of a multi search
+     * request on the node that coordinates it.
+     */
+    void batchDispatch(NodeShardRequestBatcher.Dispatch batchDispatch) {
+        this.batchDispatch = batchDispatch;
+    }
+
+    NodeShardRequestBatcher.Dispatch batchDispatch() {
+        return batchDispatch;
+    }
+
     /**
      * The document types to execute the search against. Defaults to be executed against
      * all types.
@@ -0,0 +1,281 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskCancelledException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Lets identical search requests that reach the coordinating node while one of them is being executed share that execution and
+ * its response, instead of fanning out to the shards once each. Requests are identical when they serialize to the same bytes, carry
+ * the same headers and arrive on the same cluster state, and so target the same shard copies. The coordinating node can't know
+ * which readers the shards will search, but a request that joins an execution that is in flight can't tell its response apart
+ * from one it would have gotten by executing right before the shards refreshed.
+ */
+public final class SearchRequestCoalescer {
+
+    public static final Setting<Boolean> SEARCH_COALESCING_ENABLED_SETTING =
+        Setting.boolSetting("search.coalesce_identical_requests.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    private final ThreadContext threadContext;
+    private final ConcurrentMap<Key, InFlightSearch> inFlight = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric misses = new CounterMetric();
+    private final CounterMetric waitTimeInNanos = new CounterMetric();
+    private volatile boolean enabled;
+
+    public SearchRequestCoalescer(Settings settings, ClusterSettings clusterSettings, ThreadContext threadContext) {
+        this.threadContext = threadContext;
+        this.enabled = SEARCH_COALESCING_ENABLED_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_COALESCING_ENABLED_SETTING, enabled -> this.enabled = enabled);
+    }
+
+    /**
+     * Executes the search with the given listener, unless an identical search is in flight, in which case the listener is notified
+     * with the response of that search. Should the search that is in flight be cancelled, or its response be partial, the requests
+     * that joined it are executed on their own. A request whose own task is cancelled while it waits stops waiting and fails.
+     *
+     * @return whether the search joined an identical search that is in flight rather than being executed
+     */
+    boolean execute(Task task, SearchRequest request, ClusterState clusterState, Consumer<ActionListener<SearchResponse>> search,
+                    ActionListener<SearchResponse> listener) {
+        if (enabled == false || canCoalesce(request) == false) {
+            search.accept(listener);
+            return false;
+        }
+        final Key key;
+        try {
+            key = new Key(request, threadContext.getHeaders(), clusterState.version());
+        } catch (IOException e) {
+            search.accept(listener);
+            return false;
+        }
+        final InFlightSearch created = new InFlightSearch(key, task);
+        final InFlightSearch existing = inFlight.putIfAbsent(key, created);
+        if (existing != null && existing.join(task, search,
+            ContextPreservingActionListener.wrapPreservingContext(listener, threadContext), threadContext.newRestorableContext(false))) {
+            hits.inc();
+            return true;
+        }
+        misses.inc();
+        if (existing != null) {
+            // the identical search completed or got cancelled while we were joining it
+            search.accept(listener);
+        } else {
+            search.accept(created.wrap(listener));
+        }
+        return false;
+    }
+
+    /**
+     * Scrolls and searches against a point in time are stateful and requests that disable the request cache ask for fresh results,
+     * so none of them is coalesced.
+     */
+    static boolean canCoalesce(SearchRequest request) {
+        return request.scroll() == null && request.pointInTimeBuilder() == null && Boolean.FALSE.equals(request.requestCache()) == false;
+    }
+
+    /**
+     * Returns the hits, misses and wait time of coalescing on this node.
+     */
+    public SearchCoalescingStats stats() {
+        return new SearchCoalescingStats(hits.count(), misses.count(), TimeUnit.NANOSECONDS.toMillis(waitTimeInNanos.count()));
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private final class InFlightSearch {
+        private final Key key;
+        private final Task task;
+        private final List<Waiter> waiters = new ArrayList<>();
+        private boolean completed;
+
+        InFlightSearch(Key key, Task task) {
+            this.key = key;
+            this.task = task;
+        }
+
+        boolean join(Task waiterTask, Consumer<ActionListener<SearchResponse>> search, ActionListener<SearchResponse> listener,
+                     Supplier<ThreadContext.StoredContext> context) {
+            final Waiter waiter = new Waiter(search, listener, context, System.nanoTime());
+            synchronized (this) {
+                if (completed || isCancelled(task)) {
+                    return false;
+                }
+                waiters.add(waiter);
+            }
+            if (waiterTask instanceof SearchTask) {
+                waiter.cancellationRegistration = ((SearchTask) waiterTask).addCancellationListener(
+                    () -> leave(waiter, ((SearchTask) waiterTask).getReasonCancelled()));
+            }
+            return true;
+        }
+
+        private void leave(Waiter waiter, String reason) {
+            synchronized (this) {
+                if (completed || waiters.remove(waiter) == false) {
+                    return;
+                }
+            }
+            waitTimeInNanos.inc(System.nanoTime() - waiter.startNanos);
+            waiter.listener.onFailure(new TaskCancelledException("task cancelled [" + reason + "]"));
+        }
+
+        private List<Waiter> complete() {
+            inFlight.remove(key, this);
+            synchronized (this) {
+                completed = true;
+            }
+            for (Waiter waiter : waiters) {
+                waiter.releaseCancellationRegistration();
+            }
+            return waiters;
+        }
+
+        ActionListener<SearchResponse> wrap(ActionListener<SearchResponse> listener) {
+            return new ActionListener<SearchResponse>() {
+                @Override
+                public void onResponse(SearchResponse response) {
+                    final List<Waiter> completedWaiters = complete();
+                    try {
+                        listener.onResponse(response);
+                    } finally {
+                        // a cancelled search may still return the partial results of the shards that completed in time
+                        if (isCancelled(task) || response.getShardFailures().length > 0 || response.isTimedOut()) {
+                            executeOnTheirOwn(completedWaiters);
+                        } else {
+                            ActionListener.onResponse(waitedListeners(completedWaiters), response);
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    final List<Waiter> completedWaiters = complete();
+                    try {
+                        listener.onFailure(e);
+                    } finally {
+                        // a cancelled search mostly fails with the shard failures it caused rather than a TaskCancelledException
+                        if (isCancelled(task) || ExceptionsHelper.unwrapCause(e) instanceof TaskCancelledException) {
+                            executeOnTheirOwn(completedWaiters);
+                        } else {
+                            ActionListener.onFailure(waitedListeners(completedWaiters), e);
+                        }
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Executes the searches of the given waiters, whose tasks are not the one of the search they joined and weren't cancelled with it.
+     */
+    private static void executeOnTheirOwn(List<Waiter> waiters) {
+        for (Waiter waiter : waiters) {
+            try (ThreadContext.StoredContext ignore = waiter.context.get()) {
+                waiter.search.accept(waiter.listener);
+            }
+        }
+    }
+
+    private static boolean isCancelled(Task task) {
+        return task instanceof CancellableTask && ((CancellableTask) task).isCancelled();
+    }
+
+    private List<ActionListener<SearchResponse>> waitedListeners(List<Waiter> waiters) {
+        final long nowNanos = System.nanoTime();
+        final List<ActionListener<SearchResponse>> listeners = new ArrayList<>(waiters.size());
+        for (Waiter waiter : waiters) {
+            waitTimeInNanos.inc(nowNanos - waiter.startNanos);
+            listeners.add(waiter.listener);
+        }
+        return listeners;
+    }
+
+    private static final class Waiter {
+        private final Consumer<ActionListener<SearchResponse>> search;
+        private final ActionListener<SearchResponse> listener;
+        private final Supplier<ThreadContext.StoredContext> context;
+        private final long startNanos;
+        private volatile Releasable cancellationRegistration;
+
+        Waiter(Consumer<ActionListener<SearchResponse>> search, ActionListener<SearchResponse> listener,
+               Supplier<ThreadContext.StoredContext> context, long startNanos) {
+            this.search = search;
+            this.listener = listener;
+            this.context = context;
+            this.startNanos = startNanos;
+        }
+
+        void releaseCancellationRegistration() {
+            final Releasable registration = cancellationRegistration;
+            if (registration != null) {
+                registration.close();
+            }
+        }
+    }
+
+    private static final class Key {
+        private final BytesReference request;
+        private final Map<String, String> headers;
+        private final long clusterStateVersion;
+
+        Key(SearchRequest request, Map<String, String> headers, long clusterStateVersion) throws IOException {
+            final BytesStreamOutput out = new BytesStreamOutput();
+            request.writeTo(out);
+            this.request = out.bytes();
+            this.headers = headers;
+            this.clusterStateVersion = clusterStateVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return clusterStateVersion == key.clusterStateVersion && request.equals(key.request) && headers.equals(key.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(request, headers, clusterStateVersion);
+        }
+    }
+}
@@ -32,9 +32,12 @@
 
 package org.opensearch.action.search;
 
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.tasks.CancellableTask;
 import org.opensearch.tasks.TaskId;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -45,6 +48,7 @@ public class SearchTask extends CancellableTask {
     // generating description in a lazy way since source can be quite big
     private final Supplier<String> descriptionSupplier;
     private SearchProgressListener progressListener = SearchProgressListener.NOOP;
+    private final List<Runnable> cancellationListeners = new ArrayList<>();
 
     public SearchTask(long id, String type, String action, Supplier<String> descriptionSupplier,
                       TaskId parentTaskId, Map<String, String> headers) {
@@ -71,6 +75,36 @@ public class SearchTask extends CancellableTask {
         return progressListener;
     }
 
+    /**
+     * Registers a listener that is notified once this task is cancelled, or right away if it was cancelled already.
+     *
+     * @return a releasable that unregisters the listener
+     */
+    public final Releasable addCancellationListener(Runnable listener) {
+        synchronized (cancellationListeners) {
+            if (isCancelled() == false) {
+                cancellationListeners.add(listener);
+                return () -> {
+                    synchronized (cancellationListeners) {
+                        cancellationListeners.remove(listener);
+                    }
+                };
+            }
+        }
+        listener.run();
+        return () -> {};
+    }
+
+    @Override
+    protected void onCancelled() {
+        final List<Runnable> listeners;
+        synchronized (cancellationListeners) {
+            listeners = new ArrayList<>(cancellationListeners);
+            cancellationListeners.clear();
+        }
+        listeners.forEach(Runnable::run);
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return true;
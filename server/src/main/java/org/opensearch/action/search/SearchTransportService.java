@@ -46,6 +46,8 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.DfsSearchResult;
@@ -60,6 +62,8 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -71,7 +75,11 @@ import org.opensearch.transport.TransportResponse;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -93,6 +101,7 @@ public class SearchTransportService {
     public static final String FETCH_ID_SCROLL_ACTION_NAME = "indices:data/read/search[phase/fetch/id/scroll]";
     public static final String FETCH_ID_ACTION_NAME = "indices:data/read/search[phase/fetch/id]";
     public static final String QUERY_CAN_MATCH_NAME = "indices:data/read/search[can_match]";
+    public static final String QUERY_FETCH_BATCH_ACTION_NAME = "indices:data/read/search[phase/query+fetch/batch]";
 
     private final TransportService transportService;
     private final BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper;
@@ -154,6 +163,32 @@ public class SearchTransportService {
                 new ConnectionCountingHandler<>(handler, reader, clientConnections, connection.getNode().getId()));
     }
 
+    /**
+     * Sends the given shard requests, which all target shards on the node of the connection, in a single request. The listeners are
+     * notified with the {@link QueryFetchSearchResult} or the failure of their respective shard request.
+     */
+    public void sendExecuteQueryAndFetchBatch(Transport.Connection connection, List<ShardSearchRequest> requests, Task parentTask,
+                                              List<SearchActionListener<SearchPhaseResult>> listeners) {
+        assert requests.size() == listeners.size();
+        final List<ActionListener<SearchPhaseResult>> handlers = new ArrayList<>(listeners.size());
+        for (SearchActionListener<SearchPhaseResult> listener : listeners) {
+            @SuppressWarnings("unchecked")
+            final ActionListener<SearchPhaseResult> handler = responseWrapper.apply(connection, listener);
+            handlers.add(handler);
+        }
+        transportService.sendChildRequest(connection, QUERY_FETCH_BATCH_ACTION_NAME, new ShardSearchBatchRequest(requests), parentTask,
+            new ConnectionCountingHandler<>(ActionListener.<ShardSearchBatchResponse>wrap(response -> {
+                for (int i = 0; i < handlers.size(); i++) {
+                    if (response.failures[i] != null) {
+                        handlers.get(i).onFailure(response.failures[i]);
+                    } else {
+                        handlers.get(i).onResponse(response.results[i]);
+                    }
+                }
+            }, e -> ActionListener.onFailure(handlers, e)), ShardSearchBatchResponse::new, clientConnections,
+                connection.getNode().getId()));
+    }
+
     public void sendExecuteQuery(Transport.Connection connection, final QuerySearchRequest request, SearchTask task,
                                  final SearchActionListener<QuerySearchResult> listener) {
         transportService.sendChildRequest(connection, QUERY_ID_ACTION_NAME, request, task,
@@ -294,6 +329,121 @@ public class SearchTransportService {
         }
     }
 
+    static class ShardSearchBatchRequest extends TransportRequest implements IndicesRequest {
+        private final List<ShardSearchRequest> requests;
+
+        ShardSearchBatchRequest(List<ShardSearchRequest> requests) {
+            this.requests = requests;
+        }
+
+        ShardSearchBatchRequest(StreamInput in) throws IOException {
+            super(in);
+            requests = in.readList(ShardSearchRequest::new);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeList(requests);
+        }
+
+        List<ShardSearchRequest> requests() {
+            return requests;
+        }
+
+        @Override
+        public String[] indices() {
+            return requests.stream().flatMap(r -> Arrays.stream(r.indices())).distinct().toArray(String[]::new);
+        }
+
+        @Override
+        public IndicesOptions indicesOptions() {
+            return requests.get(0).indicesOptions();
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new SearchShardTask(id, type, action, getDescription(), parentTaskId, headers);
+        }
+
+        @Override
+        public String getDescription() {
+            return "shard search batch of [" + requests.size() + "] requests";
+        }
+    }
+
+    static class ShardSearchBatchResponse extends TransportResponse {
+        private final SearchPhaseResult[] results;
+        private final Exception[] failures;
+
+        ShardSearchBatchResponse(SearchPhaseResult[] results, Exception[] failures) {
+            this.results = results;
+            this.failures = failures;
+        }
+
+        ShardSearchBatchResponse(StreamInput in) throws IOException {
+            super(in);
+            final int size = in.readVInt();
+            results = new SearchPhaseResult[size];
+            failures = new Exception[size];
+            for (int i = 0; i < size; i++) {
+                if (in.readBoolean()) {
+                    results[i] = new QueryFetchSearchResult(in);
+                } else {
+                    failures[i] = in.readException();
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(results.length);
+            for (int i = 0; i < results.length; i++) {
+                if (failures[i] == null) {
+                    out.writeBoolean(true);
+                    results[i].writeTo(out);
+                } else {
+                    out.writeBoolean(false);
+                    out.writeException(failures[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the requests of the batch shard by shard, the shards in parallel, and responds once all requests are done.
+     */
+    private static void executeQueryAndFetchBatch(SearchService searchService, ShardSearchBatchRequest request, SearchShardTask task,
+                                                  ActionListener<ShardSearchBatchResponse> listener) {
+        final List<ShardSearchRequest> requests = request.requests();
+        final SearchPhaseResult[] results = new SearchPhaseResult[requests.size()];
+        final Exception[] failures = new Exception[requests.size()];
+        final CountDown countDown = new CountDown(requests.size());
+        final Map<ShardId, List<Integer>> slotsByShard = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            slotsByShard.computeIfAbsent(requests.get(i).shardId(), k -> new ArrayList<>()).add(i);
+        }
+        for (List<Integer> slots : slotsByShard.values()) {
+            final List<ShardSearchRequest> shardRequests = new ArrayList<>(slots.size());
+            final List<ActionListener<SearchPhaseResult>> shardListeners = new ArrayList<>(slots.size());
+            for (int slot : slots) {
+                shardRequests.add(requests.get(slot));
+                shardListeners.add(ActionListener.wrap(result -> {
+                    results[slot] = result;
+                    if (countDown.countDown()) {
+                        listener.onResponse(new ShardSearchBatchResponse(results, failures));
+                    }
+                }, e -> {
+                    failures[slot] = e;
+                    if (countDown.countDown()) {
+                        listener.onResponse(new ShardSearchBatchResponse(results, failures));
+                    }
+                }));
+            }
+            searchService.executeQueryAndFetchBatch(shardRequests, task, shardListeners);
+        }
+    }
+
     static boolean keepStatesInContext(Version version) {
         return version.before(LegacyESVersion.V_7_10_0);
     }
@@ -377,6 +527,12 @@ public class SearchTransportService {
                 searchService.canMatch(request, new ChannelActionListener<>(channel, QUERY_CAN_MATCH_NAME, request));
             });
         TransportActionProxy.registerProxyAction(transportService, QUERY_CAN_MATCH_NAME, SearchService.CanMatchResponse::new);
+
+        transportService.registerRequestHandler(QUERY_FETCH_BATCH_ACTION_NAME, ThreadPool.Names.SAME, ShardSearchBatchRequest::new,
+            (request, channel, task) -> {
+                executeQueryAndFetchBatch(searchService, request, (SearchShardTask) task,
+                    new ChannelActionListener<>(channel, QUERY_FETCH_BATCH_ACTION_NAME, request));
+            });
     }
 
 
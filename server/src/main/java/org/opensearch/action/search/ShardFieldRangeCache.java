@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DateFieldRange;
+import org.opensearch.search.SearchService.CanMatchResponse;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the ranges of date fields, such as {@code @timestamp}, that shards report in their can_match responses, so that the
+ * coordinating node can tell locally that a shard can't match the range queries of later requests and skip the can_match round
+ * trip to it. Shards only report their ranges once their index is write blocked, and a cached range is only used as long as the
+ * settings of the index, which hold the write block, didn't change since, so the range of a shard can't have grown in the meantime.
+ */
+public final class ShardFieldRangeCache {
+
+    public static final Setting<Boolean> SHARD_RANGE_CACHE_ENABLED_SETTING =
+        Setting.boolSetting("search.can_match.shard_range_cache.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<Integer> SHARD_RANGE_CACHE_SIZE_SETTING =
+        Setting.intSetting("search.can_match.shard_range_cache.size", 100_000, 0, Property.NodeScope);
+
+    private final Cache<ShardId, Entry> cache;
+    private volatile boolean enabled;
+
+    ShardFieldRangeCache(Settings settings, ClusterSettings clusterSettings) {
+        this.cache = CacheBuilder.<ShardId, Entry>builder().setMaximumWeight(SHARD_RANGE_CACHE_SIZE_SETTING.get(settings)).build();
+        this.enabled = SHARD_RANGE_CACHE_ENABLED_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_RANGE_CACHE_ENABLED_SETTING, this::setEnabled);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns whether the index can't receive writes, which is when the ranges of the fields of its shards can't grow anymore.
+     */
+    public static boolean isWriteBlocked(IndexMetadata indexMetadata) {
+        final Settings settings = indexMetadata.getSettings();
+        return IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(settings)
+            || IndexMetadata.INDEX_READ_ONLY_SETTING.get(settings)
+            || IndexMetadata.INDEX_BLOCKS_READ_ONLY_ALLOW_DELETE_SETTING.get(settings);
+    }
+
+    /**
+     * Collects the range queries that documents have to match for the query to match them.
+     */
+    static List<RangeQueryBuilder> requiredRanges(QueryBuilder query) {
+        final List<RangeQueryBuilder> ranges = new ArrayList<>();
+        collectRequiredRanges(query, ranges);
+        return ranges;
+    }
+
+    private static void collectRequiredRanges(QueryBuilder query, List<RangeQueryBuilder> ranges) {
+        if (query instanceof RangeQueryBuilder) {
+            ranges.add((RangeQueryBuilder) query);
+        } else if (query instanceof BoolQueryBuilder) {
+            final BoolQueryBuilder bool = (BoolQueryBuilder) query;
+            for (QueryBuilder clause : bool.must()) {
+                collectRequiredRanges(clause, ranges);
+            }
+            for (QueryBuilder clause : bool.filter()) {
+                collectRequiredRanges(clause, ranges);
+            }
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            collectRequiredRanges(((ConstantScoreQueryBuilder) query).innerQuery(), ranges);
+        }
+    }
+
+    /**
+     * Records the ranges a shard reported, if the coordinating node and the shard saw the same write blocked settings of the index.
+     */
+    void onCanMatchResponse(ShardId shardId, IndexMetadata indexMetadata, CanMatchResponse response) {
+        if (enabled && indexMetadata != null && response.fieldRanges().isEmpty() == false
+            && response.indexSettingsVersion() == indexMetadata.getSettingsVersion() && isWriteBlocked(indexMetadata)) {
+            cache.put(shardId, new Entry(response.indexSettingsVersion(), response.fieldRanges()));
+        }
+    }
+
+    /**
+     * Returns whether the shard can match the given ranges according to the cached ranges of its fields, or {@code null} if there
+     * are no usable cached ranges for the shard.
+     */
+    Boolean canMatch(ShardId shardId, IndexMetadata indexMetadata, List<RangeQueryBuilder> ranges, LongSupplier nowInMillis) {
+        if (enabled == false || indexMetadata == null || isWriteBlocked(indexMetadata) == false) {
+            return null;
+        }
+        final Entry entry = cache.get(shardId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.indexSettingsVersion != indexMetadata.getSettingsVersion()) {
+            cache.invalidate(shardId, entry);
+            return null;
+        }
+        for (RangeQueryBuilder range : ranges) {
+            final DateFieldRange fieldRange = entry.fieldRanges.get(range.fieldName());
+            if (fieldRange != null && intersects(fieldRange, range, nowInMillis) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the bounds of the range query like the shard would, but always inclusive so that the check errs on the side of matching.
+     */
+    static boolean intersects(DateFieldRange fieldRange, RangeQueryBuilder range, LongSupplier nowInMillis) {
+        try {
+            final DateMathParser parser = DateFormatter.forPattern(range.format() != null ? range.format() : fieldRange.getFormat())
+                .toDateMathParser();
+            final ZoneId timeZone = range.timeZone() != null ? ZoneId.of(range.timeZone()) : null;
+            final long from = range.from() == null ? Long.MIN_VALUE
+                : parser.parse(BytesRefs.toString(range.from()), nowInMillis, range.includeLower() == false, timeZone).toEpochMilli();
+            final long to = range.to() == null ? Long.MAX_VALUE
+                : parser.parse(BytesRefs.toString(range.to()), nowInMillis, range.includeUpper(), timeZone).toEpochMilli();
+            return fieldRange.intersects(from, to);
+        } catch (RuntimeException e) {
+            // the shard is the only one that can tell
+            return true;
+        }
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    private static final class Entry {
+        private final long indexSettingsVersion;
+        private final Map<String, DateFieldRange> fieldRanges;
+
+        Entry(long indexSettingsVersion, Map<String, DateFieldRange> fieldRanges) {
+            this.indexSettingsVersion = indexSettingsVersion;
+            this.fieldRanges = fieldRanges;
+        }
+    }
+}
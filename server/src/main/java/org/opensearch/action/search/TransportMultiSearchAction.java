@@ -32,8 +32,10 @@
 
 package org.opensearch.action.search;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.ClusterState;
@@ -41,47 +43,75 @@ import org.opensearch.cluster.block.ClusterBlockLevel;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.LongSupplier;
 
 public class TransportMultiSearchAction extends HandledTransportAction<MultiSearchRequest, MultiSearchResponse> {
 
+    /**
+     * Whether the searches of a multi search request send their shard requests in a single request per node, where possible.
+     */
+    public static final Setting<Boolean> BATCH_BY_NODE_ENABLED_SETTING =
+        Setting.boolSetting("search.msearch.batch_by_node.enabled", false, Property.Dynamic, Property.NodeScope);
+
     private final int allocatedProcessors;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
     private final LongSupplier relativeTimeProvider;
     private final NodeClient client;
+    private final SearchTransportService searchTransportService;
+    private volatile boolean batchByNode;
 
     @Inject
     public TransportMultiSearchAction(Settings settings, ThreadPool threadPool, TransportService transportService,
-                                      ClusterService clusterService, ActionFilters actionFilters, NodeClient client) {
+                                      ClusterService clusterService, ActionFilters actionFilters, NodeClient client,
+                                      SearchTransportService searchTransportService) {
         super(MultiSearchAction.NAME, transportService, actionFilters, (Writeable.Reader<MultiSearchRequest>) MultiSearchRequest::new);
         this.threadPool = threadPool;
         this.clusterService = clusterService;
         this.allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
         this.relativeTimeProvider = System::nanoTime;
         this.client = client;
+        this.searchTransportService = searchTransportService;
+        this.batchByNode = BATCH_BY_NODE_ENABLED_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(BATCH_BY_NODE_ENABLED_SETTING, b -> this.batchByNode = b);
     }
 
     TransportMultiSearchAction(ThreadPool threadPool, ActionFilters actionFilters, TransportService transportService,
                                ClusterService clusterService, int allocatedProcessors,
                                LongSupplier relativeTimeProvider, NodeClient client) {
+        this(threadPool, actionFilters, transportService, clusterService, allocatedProcessors, relativeTimeProvider, client, null,
+            false);
+    }
+
+    TransportMultiSearchAction(ThreadPool threadPool, ActionFilters actionFilters, TransportService transportService,
+                               ClusterService clusterService, int allocatedProcessors,
+                               LongSupplier relativeTimeProvider, NodeClient client, SearchTransportService searchTransportService,
+                               boolean batchByNode) {
         super(MultiSearchAction.NAME, transportService, actionFilters, (Writeable.Reader<MultiSearchRequest>) MultiSearchRequest::new);
         this.threadPool = threadPool;
         this.clusterService = clusterService;
         this.allocatedProcessors = allocatedProcessors;
         this.relativeTimeProvider = relativeTimeProvider;
         this.client = client;
+        this.searchTransportService = searchTransportService;
+        this.batchByNode = batchByNode;
     }
 
     @Override
@@ -96,22 +126,112 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
             maxConcurrentSearches = defaultMaxConcurrentSearches(allocatedProcessors, clusterState);
         }
 
+        final boolean batch = batchByNode && clusterState.nodes().getMinNodeVersion().onOrAfter(Version.V_1_1_0);
         Queue<SearchRequestSlot> searchRequestSlots = new ConcurrentLinkedQueue<>();
+        boolean anyBatched = false;
         for (int i = 0; i < request.requests().size(); i++) {
             SearchRequest searchRequest = request.requests().get(i);
             searchRequest.setParentTask(client.getLocalNodeId(), task.getId());
             searchRequestSlots.add(new SearchRequestSlot(searchRequest, i));
+            anyBatched |= batch && SearchQueryAndFetchBatchedAsyncAction.canBatch(searchRequest);
         }
 
         int numRequests = request.requests().size();
         final AtomicArray<MultiSearchResponse.Item> responses = new AtomicArray<>(numRequests);
         final AtomicInteger responseCounter = new AtomicInteger(numRequests);
-        int numConcurrentSearches = Math.min(numRequests, maxConcurrentSearches);
+        if (anyBatched) {
+            executeBatchedSearches(task, searchRequestSlots, new Semaphore(maxConcurrentSearches), responses, responseCounter, listener,
+                relativeStartTime);
+            return;
+        }
+        int numConcurrentSearches = Math.min(searchRequestSlots.size(), maxConcurrentSearches);
         for (int i = 0; i < numConcurrentSearches; i++) {
             executeSearch(searchRequestSlots, responses, responseCounter, listener, relativeStartTime);
         }
     }
 
+    /**
+     * Executes as many searches of the queue as there are free slots, that is permits of the semaphore, which holds one permit for
+     * each search that may run at the same time. Every search that completes frees its slot and executes the searches that fit in the
+     * slots that are free by then, so that the number of searches that run at the same time follows the max concurrent searches of
+     * the request like it does without batching. The searches that are executed together and can be batched send their shard requests
+     * in a single request per node, while the others are executed on their own.
+     */
+    private void executeBatchedSearches(
+            final Task task,
+            final Queue<SearchRequestSlot> requests,
+            final Semaphore slots,
+            final AtomicArray<MultiSearchResponse.Item> responses,
+            final AtomicInteger responseCounter,
+            final ActionListener<MultiSearchResponse> listener,
+            final long relativeStartTime) {
+        final List<SearchRequestSlot> group = new ArrayList<>();
+        while (slots.tryAcquire()) {
+            final SearchRequestSlot slot = requests.poll();
+            if (slot == null) {
+                slots.release();
+                break;
+            }
+            group.add(slot);
+        }
+        if (group.isEmpty()) {
+            return;
+        }
+        // all searches of the group must register with the batcher before the first one is executed
+        final NodeShardRequestBatcher batcher = new NodeShardRequestBatcher(searchTransportService, task);
+        final List<NodeShardRequestBatcher.Dispatch> dispatches = new ArrayList<>(group.size());
+        for (SearchRequestSlot request : group) {
+            dispatches.add(SearchQueryAndFetchBatchedAsyncAction.canBatch(request.request) ? batcher.newDispatch() : null);
+        }
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        final Thread thread = Thread.currentThread();
+        for (int i = 0; i < group.size(); i++) {
+            final SearchRequestSlot request = group.get(i);
+            final ActionListener<SearchResponse> searchListener = new ContextPreservingActionListener<>(
+                threadContext.newRestorableContext(false), new ActionListener<SearchResponse>() {
+                    @Override
+                    public void onResponse(SearchResponse searchResponse) {
+                        handleResponse(new MultiSearchResponse.Item(searchResponse, null));
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        handleResponse(new MultiSearchResponse.Item(null, e));
+                    }
+
+                    private void handleResponse(MultiSearchResponse.Item item) {
+                        responses.set(request.responseSlot, item);
+                        if (responseCounter.decrementAndGet() == 0) {
+                            assert requests.isEmpty();
+                            finish(responses, listener, relativeStartTime);
+                            return;
+                        }
+                        slots.release();
+                        if (thread == Thread.currentThread()) {
+                            // fork to avoid recursive stack overflow on a single thread, see executeSearch
+                            threadPool.generic().execute(() -> executeBatchedSearches(task, requests, slots, responses,
+                                responseCounter, listener, relativeStartTime));
+                        } else {
+                            executeBatchedSearches(task, requests, slots, responses, responseCounter, listener, relativeStartTime);
+                        }
+                    }
+                });
+            final NodeShardRequestBatcher.Dispatch dispatch = dispatches.get(i);
+            if (dispatch == null) {
+                client.search(request.request, searchListener);
+                continue;
+            }
+            // a search that completes before it sent its shard requests must not hold back the batches of the others
+            final ActionListener<SearchResponse> batchedListener = ActionListener.runBefore(searchListener, dispatch::dispatched);
+            request.request.batchDispatch(dispatch);
+            try {
+                client.search(request.request, batchedListener);
+            } catch (Exception e) {
+                batchedListener.onFailure(e);
+            }
+        }
+    }
+
     /*
      * This is not perfect and makes a big assumption, that all nodes have the same thread pool size / have the number of processors and
      * that shard of the indices the search requests go to are more or less evenly distributed across all nodes in the cluster. But I think
@@ -174,7 +294,7 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
                 responses.set(responseSlot, item);
                 if (responseCounter.decrementAndGet() == 0) {
                     assert requests.isEmpty();
-                    finish();
+                    finish(responses, listener, relativeStartTime);
                 } else {
                     if (thread == Thread.currentThread()) {
                         // we are on the same thread, we need to fork to another thread to avoid recursive stack overflow on a single thread
@@ -186,19 +306,20 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
                     }
                 }
             }
+        });
+    }
 
-            private void finish() {
-                listener.onResponse(new MultiSearchResponse(responses.toArray(new MultiSearchResponse.Item[responses.length()]),
-                        buildTookInMillis()));
-            }
+    private void finish(AtomicArray<MultiSearchResponse.Item> responses, ActionListener<MultiSearchResponse> listener,
+                        long relativeStartTime) {
+        listener.onResponse(new MultiSearchResponse(responses.toArray(new MultiSearchResponse.Item[responses.length()]),
+                buildTookInMillis(relativeStartTime)));
+    }
 
-            /**
-             * Builds how long it took to execute the msearch.
-             */
-            private long buildTookInMillis() {
-                return TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - relativeStartTime);
-            }
-        });
+    /**
+     * Builds how long it took to execute the msearch.
+     */
+    private long buildTookInMillis(long relativeStartTime) {
+        return TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - relativeStartTime);
     }
 
     static final class SearchRequestSlot {
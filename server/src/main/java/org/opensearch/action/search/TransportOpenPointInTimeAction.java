@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.IndicesRequest;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ChannelActionListener;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+
+public class TransportOpenPointInTimeAction extends HandledTransportAction<OpenPointInTimeRequest, OpenPointInTimeResponse> {
+    public static final String OPEN_SHARD_READER_CONTEXT_NAME = "indices:data/read/open_reader_context";
+
+    private final TransportSearchAction transportSearchAction;
+    private final TransportService transportService;
+    private final SearchService searchService;
+
+    @Inject
+    public TransportOpenPointInTimeAction(TransportService transportService, SearchService searchService,
+                                          ActionFilters actionFilters, TransportSearchAction transportSearchAction) {
+        super(OpenPointInTimeAction.NAME, transportService, actionFilters, OpenPointInTimeRequest::new);
+        this.transportService = transportService;
+        this.transportSearchAction = transportSearchAction;
+        this.searchService = searchService;
+        transportService.registerRequestHandler(OPEN_SHARD_READER_CONTEXT_NAME, ThreadPool.Names.SAME, ShardOpenReaderRequest::new,
+            new ShardOpenReaderRequestHandler());
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenPointInTimeRequest request, ActionListener<OpenPointInTimeResponse> listener) {
+        final SearchRequest searchRequest = new SearchRequest()
+            .indices(request.indices())
+            .indicesOptions(request.indicesOptions())
+            .preference(request.preference())
+            .routing(request.routing())
+            .allowPartialSearchResults(false);
+        searchRequest.setCcsMinimizeRoundtrips(false);
+        transportSearchAction.executeRequest(task, searchRequest, "open_search_context", true,
+            (searchTask, shardTarget, connection, phaseListener) -> {
+                final ShardOpenReaderRequest shardRequest = new ShardOpenReaderRequest(shardTarget.getShardId(),
+                    shardTarget.getOriginalIndices(), request.keepAlive());
+                transportService.sendChildRequest(connection, OPEN_SHARD_READER_CONTEXT_NAME, shardRequest, searchTask,
+                    new ActionListenerResponseHandler<SearchPhaseResult>(phaseListener, ShardOpenReaderResponse::new));
+            },
+            ActionListener.map(listener, r -> new OpenPointInTimeResponse(r.pointInTimeId())));
+    }
+
+    private static final class ShardOpenReaderRequest extends TransportRequest implements IndicesRequest {
+        final ShardId shardId;
+        final OriginalIndices originalIndices;
+        final TimeValue keepAlive;
+
+        ShardOpenReaderRequest(ShardId shardId, OriginalIndices originalIndices, TimeValue keepAlive) {
+            this.shardId = shardId;
+            this.originalIndices = originalIndices;
+            this.keepAlive = keepAlive;
+        }
+
+        ShardOpenReaderRequest(StreamInput in) throws IOException {
+            super(in);
+            shardId = new ShardId(in);
+            originalIndices = OriginalIndices.readOriginalIndices(in);
+            keepAlive = in.readTimeValue();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            shardId.writeTo(out);
+            OriginalIndices.writeOriginalIndices(originalIndices, out);
+            out.writeTimeValue(keepAlive);
+        }
+
+        @Override
+        public String[] indices() {
+            return originalIndices.indices();
+        }
+
+        @Override
+        public IndicesOptions indicesOptions() {
+            return originalIndices.indicesOptions();
+        }
+    }
+
+    private static final class ShardOpenReaderResponse extends SearchPhaseResult {
+        ShardOpenReaderResponse(ShardSearchContextId contextId) {
+            this.contextId = contextId;
+        }
+
+        ShardOpenReaderResponse(StreamInput in) throws IOException {
+            super(in);
+            contextId = new ShardSearchContextId(in);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            contextId.writeTo(out);
+        }
+    }
+
+    private class ShardOpenReaderRequestHandler implements TransportRequestHandler<ShardOpenReaderRequest> {
+        @Override
+        public void messageReceived(ShardOpenReaderRequest request, TransportChannel channel, Task task) throws Exception {
+            searchService.openReaderContext(request.shardId, request.keepAlive,
+                ActionListener.map(new ChannelActionListener<>(channel, OPEN_SHARD_READER_CONTEXT_NAME, request),
+                    ShardOpenReaderResponse::new));
+        }
+    }
+}
@@ -121,6 +121,14 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * The maximum number of partial reduces of the shard results of a single search request that run at the same time on the
+     * coordinating node. Partial reduces that run concurrently reduce independent batches of shard results, which later partial
+     * reduces or the final reduce merge.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_PARTIAL_REDUCES_SETTING = Setting.intSetting(
+            "action.search.max_concurrent_partial_reduces", 1, 1, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -131,6 +139,9 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final CircuitBreaker circuitBreaker;
+    private final ShardFieldRangeCache shardFieldRangeCache;
+    private final SearchRequestCoalescer searchRequestCoalescer;
+    private volatile int maxConcurrentPartialReduces;
 
     @Inject
     public TransportSearchAction(NodeClient client,
@@ -143,7 +154,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                                  ClusterService clusterService,
                                  ActionFilters actionFilters,
                                  IndexNameExpressionResolver indexNameExpressionResolver,
-                                 NamedWriteableRegistry namedWriteableRegistry) {
+                                 NamedWriteableRegistry namedWriteableRegistry,
+                                 SearchRequestCoalescer searchRequestCoalescer) {
         super(SearchAction.NAME, transportService, actionFilters, (Writeable.Reader<SearchRequest>) SearchRequest::new);
         this.client = client;
         this.threadPool = threadPool;
@@ -156,6 +168,11 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.searchService = searchService;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.shardFieldRangeCache = new ShardFieldRangeCache(clusterService.getSettings(), clusterService.getClusterSettings());
+        this.searchRequestCoalescer = searchRequestCoalescer;
+        this.maxConcurrentPartialReduces = clusterService.getClusterSettings().get(MAX_CONCURRENT_PARTIAL_REDUCES_SETTING);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_CONCURRENT_PARTIAL_REDUCES_SETTING,
+            maxConcurrentPartialReduces -> this.maxConcurrentPartialReduces = maxConcurrentPartialReduces);
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(SearchRequest request, ClusterState clusterState,
@@ -239,7 +256,22 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     @Override
     protected void doExecute(Task task, SearchRequest searchRequest, ActionListener<SearchResponse> listener) {
-        executeRequest(task, searchRequest, this::searchAsyncAction, listener);
+        final NodeShardRequestBatcher.Dispatch dispatch = searchRequest.batchDispatch();
+        if (dispatch != null) {
+            // a search of a multi search request whose shard requests are batched per node
+            final SearchAsyncActionProvider batchedProvider = (searchTask, request, executor, shardIterators, timeProvider,
+                connectionLookup, clusterState, aliasFilter, concreteIndexBoosts, indexRoutings, l, preFilter, threadPool, clusters) ->
+                batchedSearchAsyncAction(searchTask, request, executor, shardIterators, timeProvider, connectionLookup, clusterState,
+                    aliasFilter, concreteIndexBoosts, indexRoutings, l, preFilter, clusters, dispatch);
+            if (searchRequestCoalescer.execute(task, searchRequest, clusterService.state(),
+                l -> executeRequest(task, searchRequest, batchedProvider, l), listener)) {
+                // the search joined an identical one and sends no shard requests, which the batches must not wait for
+                dispatch.dispatched();
+            }
+            return;
+        }
+        searchRequestCoalescer.execute(task, searchRequest, clusterService.state(),
+            l -> executeRequest(task, searchRequest, this::searchAsyncAction, l), listener);
     }
 
     public interface SinglePhaseSearchAction {
@@ -772,6 +804,45 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             ThreadPool threadPool, SearchResponse.Clusters clusters);
     }
 
+    private AbstractSearchAsyncAction<? extends SearchPhaseResult> batchedSearchAsyncAction(
+        SearchTask task,
+        SearchRequest searchRequest,
+        Executor executor,
+        GroupShardsIterator<SearchShardIterator> shardIterators,
+        SearchTimeProvider timeProvider,
+        BiFunction<String, String, Transport.Connection> connectionLookup,
+        ClusterState clusterState,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Map<String, Set<String>> indexRoutings,
+        ActionListener<SearchResponse> listener,
+        boolean preFilter,
+        SearchResponse.Clusters clusters,
+        NodeShardRequestBatcher.Dispatch dispatch) {
+        if (preFilter) {
+            // the can_match round trips are not batched, the shard requests of the shards that can match are
+            return new CanMatchPreFilterSearchPhase(logger, searchTransportService, connectionLookup,
+                aliasFilter, concreteIndexBoosts, indexRoutings, executor, searchRequest, listener, shardIterators,
+                timeProvider, clusterState, task, (iter) -> {
+                AbstractSearchAsyncAction<? extends SearchPhaseResult> action = batchedSearchAsyncAction(task, searchRequest,
+                    executor, iter, timeProvider, connectionLookup, clusterState, aliasFilter, concreteIndexBoosts, indexRoutings,
+                    listener, false, clusters, dispatch);
+                return new SearchPhase(action.getName()) {
+                    @Override
+                    public void run() {
+                        action.start();
+                    }
+                };
+            }, clusters, shardFieldRangeCache);
+        }
+        final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
+            circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(),
+            maxConcurrentPartialReduces, exc -> cancelTask(task, exc));
+        return new SearchQueryAndFetchBatchedAsyncAction(logger, searchTransportService, connectionLookup, aliasFilter,
+            concreteIndexBoosts, indexRoutings, searchPhaseController, executor, queryResultConsumer, searchRequest, listener,
+            shardIterators, timeProvider, clusterState, task, clusters, dispatch);
+    }
+
     private AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction(
         SearchTask task,
         SearchRequest searchRequest,
@@ -812,10 +883,11 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         action.start();
                     }
                 };
-            }, clusters);
+            }, clusters, shardFieldRangeCache);
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
-                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), exc -> cancelTask(task, exc));
+                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(),
+                maxConcurrentPartialReduces, exc -> cancelTask(task, exc));
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
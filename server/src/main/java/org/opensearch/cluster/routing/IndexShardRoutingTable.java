@@ -272,18 +272,31 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
      */
     public ShardIterator activeInitializingShardsRankedIt(@Nullable ResponseCollectorService collector,
                                                           @Nullable Map<String, Long> nodeSearchCounts) {
+        return activeInitializingShardsRankedIt(collector, nodeSearchCounts, false);
+    }
+
+    /**
+     * Returns an iterator over active and initializing shards, ordered by the adaptive replica
+     * selection formula. If {@code extendedSignals} is set, the copies are ranked with the response
+     * time of each copy of this shard, and the search thread pool utilization and heap usage of their
+     * nodes, as well, see {@link ResponseCollectorService.ComputedNodeStats#rank(long, double)}.
+     */
+    public ShardIterator activeInitializingShardsRankedIt(@Nullable ResponseCollectorService collector,
+                                                          @Nullable Map<String, Long> nodeSearchCounts,
+                                                          boolean extendedSignals) {
         final int seed = shuffler.nextSeed();
+        final ShardId rankedShardId = extendedSignals ? shardId : null;
         if (allInitializingShards.isEmpty()) {
             return new PlainShardIterator(shardId,
-                    rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts));
+                    rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts, rankedShardId));
         }
 
         ArrayList<ShardRouting> ordered = new ArrayList<>(activeShards.size() + allInitializingShards.size());
         List<ShardRouting> rankedActiveShards =
-                rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts);
+                rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts, rankedShardId);
         ordered.addAll(rankedActiveShards);
         List<ShardRouting> rankedInitializingShards =
-                rankShardsAndUpdateStats(allInitializingShards, collector, nodeSearchCounts);
+                rankShardsAndUpdateStats(allInitializingShards, collector, nodeSearchCounts, rankedShardId);
         ordered.addAll(rankedInitializingShards);
         return new PlainShardIterator(shardId, ordered);
     }
@@ -307,13 +320,21 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
     }
 
     private static Map<String, Double> rankNodes(final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats,
-                                                 final Map<String, Long> nodeSearchCounts) {
+                                                 final Map<String, Long> nodeSearchCounts,
+                                                 final ResponseCollectorService collector,
+                                                 @Nullable final ShardId shardId) {
         final Map<String, Double> nodeRanks = new HashMap<>(nodeStats.size());
         for (Map.Entry<String, Optional<ResponseCollectorService.ComputedNodeStats>> entry : nodeStats.entrySet()) {
             Optional<ResponseCollectorService.ComputedNodeStats> maybeStats = entry.getValue();
             maybeStats.ifPresent(stats -> {
                 final String nodeId = entry.getKey();
-                nodeRanks.put(nodeId, stats.rank(nodeSearchCounts.getOrDefault(nodeId, 1L)));
+                final long outstandingRequests = nodeSearchCounts.getOrDefault(nodeId, 1L);
+                if (shardId == null) {
+                    nodeRanks.put(nodeId, stats.rank(outstandingRequests));
+                } else {
+                    // a node holds a single copy of the shard, so the node id identifies the copy
+                    nodeRanks.put(nodeId, stats.rank(outstandingRequests, collector.getShardCopyResponseTime(nodeId, shardId)));
+                }
             });
         }
         return nodeRanks;
@@ -329,11 +350,14 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
      * This adjustment takes the "winning" node's statistics and adds the average of those statistics with each non-winning node. Let's say
      * the winning node had a queue size of 10 and a non-winning node had a queue of 18. The average queue size is (10 + 18) / 2 = 14 so the
      * non-winning node will have statistics added for a queue size of 14. This is repeated for the response time and service times as well.
+     * If the shard copies are ranked on the extended signals, this is repeated for the search thread pool utilization, the heap usage and
+     * the response time of the shard copy too.
      */
     private static void adjustStats(final ResponseCollectorService collector,
                                     final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats,
                                     final String minNodeId,
-                                    final ResponseCollectorService.ComputedNodeStats minStats) {
+                                    final ResponseCollectorService.ComputedNodeStats minStats,
+                                    @Nullable final ShardId shardId) {
         if (minNodeId != null) {
             for (Map.Entry<String, Optional<ResponseCollectorService.ComputedNodeStats>> entry : nodeStats.entrySet()) {
                 final String nodeId = entry.getKey();
@@ -343,14 +367,29 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
                     final int updatedQueue = (minStats.queueSize + stats.queueSize) / 2;
                     final long updatedResponse = (long) (minStats.responseTime + stats.responseTime) / 2;
                     final long updatedService = (long) (minStats.serviceTime + stats.serviceTime) / 2;
-                    collector.addNodeStatistics(nodeId, updatedQueue, updatedResponse, updatedService);
+                    if (shardId == null) {
+                        collector.addNodeStatistics(nodeId, updatedQueue, updatedResponse, updatedService);
+                        continue;
+                    }
+                    final double updatedPoolUtilization = minStats.searchPoolUtilization >= 0 && stats.searchPoolUtilization >= 0
+                        ? (minStats.searchPoolUtilization + stats.searchPoolUtilization) / 2 : -1;
+                    final int updatedHeapUsed = minStats.heapUsedPercent >= 0 && stats.heapUsedPercent >= 0
+                        ? (minStats.heapUsedPercent + stats.heapUsedPercent) / 2 : -1;
+                    collector.addNodeStatistics(nodeId, updatedQueue, updatedResponse, updatedService,
+                        updatedPoolUtilization, updatedHeapUsed);
+                    final double minCopyResponse = collector.getShardCopyResponseTime(minNodeId, shardId);
+                    final double copyResponse = collector.getShardCopyResponseTime(nodeId, shardId);
+                    if (minCopyResponse >= 0 && copyResponse >= 0) {
+                        collector.addShardCopyStatistics(nodeId, shardId, (long) (minCopyResponse + copyResponse) / 2);
+                    }
                 }
             }
         }
     }
 
     private static List<ShardRouting> rankShardsAndUpdateStats(List<ShardRouting> shards, final ResponseCollectorService collector,
-                                                               final Map<String, Long> nodeSearchCounts) {
+                                                               final Map<String, Long> nodeSearchCounts,
+                                                               @Nullable final ShardId shardId) {
         if (collector == null || nodeSearchCounts == null || shards.size() <= 1) {
             return shards;
         }
@@ -360,7 +399,7 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
         final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats = getNodeStats(nodeIds, collector);
 
         // Retrieve all the nodes the shards exist on
-        final Map<String, Double> nodeRanks = rankNodes(nodeStats, nodeSearchCounts);
+        final Map<String, Double> nodeRanks = rankNodes(nodeStats, nodeSearchCounts, collector, shardId);
 
         // sort all shards based on the shard rank
         ArrayList<ShardRouting> sortedShards = new ArrayList<>(shards);
@@ -375,7 +414,7 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
                 String minNodeId = minShard.currentNodeId();
                 Optional<ResponseCollectorService.ComputedNodeStats> maybeMinStats = nodeStats.get(minNodeId);
                 if (maybeMinStats.isPresent()) {
-                    adjustStats(collector, nodeStats, minNodeId, maybeMinStats.get());
+                    adjustStats(collector, nodeStats, minNodeId, maybeMinStats.get(), shardId);
                     // Increase the number of searches for the "winning" node by one.
                     // Note that this doesn't actually affect the "real" counts, instead
                     // it only affects the captured node search counts, which is
@@ -64,6 +64,14 @@ public class OperationRouting {
             Setting.boolSetting("cluster.routing.use_adaptive_replica_selection", true,
                     Setting.Property.Dynamic, Setting.Property.NodeScope);
 
+    /**
+     * Whether adaptive replica selection also ranks shard copies on the response time of each copy and the search thread pool
+     * utilization and heap usage of their nodes, rather than on the queue size and response and service times of their nodes only.
+     */
+    public static final Setting<Boolean> ADAPTIVE_REPLICA_SELECTION_EXTENDED_SIGNALS_SETTING =
+            Setting.boolSetting("cluster.routing.adaptive_replica_selection.extended_signals.enabled", false,
+                    Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(OperationRouting.class);
     private static final String IGNORE_AWARENESS_ATTRIBUTES_PROPERTY = "opensearch.search.ignore_awareness_attributes";
     static final String IGNORE_AWARENESS_ATTRIBUTES_DEPRECATION_MESSAGE =
@@ -72,6 +80,7 @@ public class OperationRouting {
 
     private List<String> awarenessAttributes;
     private boolean useAdaptiveReplicaSelection;
+    private boolean useAdaptiveReplicaSelectionExtendedSignals;
 
     public OperationRouting(Settings settings, ClusterSettings clusterSettings) {
         // whether to ignore awareness attributes when routing requests
@@ -90,12 +99,19 @@ public class OperationRouting {
 
         this.useAdaptiveReplicaSelection = USE_ADAPTIVE_REPLICA_SELECTION_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(USE_ADAPTIVE_REPLICA_SELECTION_SETTING, this::setUseAdaptiveReplicaSelection);
+        this.useAdaptiveReplicaSelectionExtendedSignals = ADAPTIVE_REPLICA_SELECTION_EXTENDED_SIGNALS_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_REPLICA_SELECTION_EXTENDED_SIGNALS_SETTING,
+            this::setUseAdaptiveReplicaSelectionExtendedSignals);
     }
 
     void setUseAdaptiveReplicaSelection(boolean useAdaptiveReplicaSelection) {
         this.useAdaptiveReplicaSelection = useAdaptiveReplicaSelection;
     }
 
+    void setUseAdaptiveReplicaSelectionExtendedSignals(boolean useAdaptiveReplicaSelectionExtendedSignals) {
+        this.useAdaptiveReplicaSelectionExtendedSignals = useAdaptiveReplicaSelectionExtendedSignals;
+    }
+
     List<String> getAwarenessAttributes() {
         return awarenessAttributes;
     }
@@ -264,7 +280,8 @@ public class OperationRouting {
             @Nullable ResponseCollectorService collectorService, @Nullable Map<String, Long> nodeCounts) {
         if (awarenessAttributes.isEmpty()) {
             if (useAdaptiveReplicaSelection) {
-                return indexShard.activeInitializingShardsRankedIt(collectorService, nodeCounts);
+                return indexShard.activeInitializingShardsRankedIt(collectorService, nodeCounts,
+                    useAdaptiveReplicaSelectionExtendedSignals);
             } else {
                 return indexShard.activeInitializingShardsRandomIt();
             }
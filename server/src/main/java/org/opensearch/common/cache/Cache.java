@@ -76,6 +76,8 @@ import java.util.function.ToLongBiFunction;
  * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
+ * <p>
+ * See {@link FrequencyAwareCache} for an implementation that does not serialize reads and writes behind a lock.
  *
  * @param <K> The type of the keys
  * @param <V> The type of the values
@@ -112,6 +114,17 @@ public class Cache<K, V> {
 
     // use CacheBuilder to construct
     Cache() {
+        this(NUMBER_OF_SEGMENTS);
+    }
+
+    // for subclasses that do not store their entries in the segments of this cache
+    Cache(int numberOfSegments) {
+        assert numberOfSegments == 0 || numberOfSegments == NUMBER_OF_SEGMENTS : numberOfSegments;
+        @SuppressWarnings("unchecked") final CacheSegment<K, V>[] segments = new CacheSegment[numberOfSegments];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new CacheSegment<>();
+        }
+        this.segments = segments;
     }
 
     void setExpireAfterAccessNanos(long expireAfterAccessNanos) {
@@ -349,13 +362,7 @@ public class Cache<K, V> {
     }
 
     public static final int NUMBER_OF_SEGMENTS = 256;
-    @SuppressWarnings("unchecked") private final CacheSegment<K, V>[] segments = new CacheSegment[NUMBER_OF_SEGMENTS];
-
-    {
-        for (int i = 0; i < segments.length; i++) {
-            segments[i] = new CacheSegment<>();
-        }
-    }
+    private final CacheSegment<K, V>[] segments;
 
     Entry<K, V> head;
     Entry<K, V> tail;
@@ -43,6 +43,7 @@ public class CacheBuilder<K, V> {
     private long expireAfterWriteNanos = -1;
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
+    private boolean frequencyAware;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -103,8 +104,17 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets whether to build a {@link FrequencyAwareCache}, which does not serialize reads and writes behind a lock and
+     * evicts the least frequently used entries, rather than a {@link Cache} that evicts the least recently used entries.
+     */
+    public CacheBuilder<K, V> setFrequencyAware(boolean frequencyAware) {
+        this.frequencyAware = frequencyAware;
+        return this;
+    }
+
     public Cache<K, V> build() {
-        Cache<K, V> cache = new Cache<>();
+        Cache<K, V> cache = frequencyAware ? new FrequencyAwareCache<>() : new Cache<>();
         if (maximumWeight != -1) {
             cache.setMaximumWeight(maximumWeight);
         }
@@ -0,0 +1,673 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A concurrent cache with a frequency aware eviction policy, built with {@link CacheBuilder#setFrequencyAware(boolean)}.
+ * <p>
+ * This cache supports the same features as {@link Cache} but does not serialize reads and writes behind a single lock:
+ * <ul>
+ * <li>The entries are stored in a concurrent hash map, so reads and writes of the map never block each other.</li>
+ * <li>Reads record the accessed entry in one of several striped, lossy ring buffers. Under contention some accesses are
+ * dropped, which only affects the accuracy of the eviction policy.</li>
+ * <li>Writes record the addition or the removal of an entry in an unbounded queue.</li>
+ * <li>The buffers are replayed against the eviction policy by whichever thread obtains the eviction lock with a
+ * {@link ReentrantLock#tryLock()}, other threads never wait for it.</li>
+ * </ul>
+ * <p>
+ * The eviction policy is Window TinyLFU. New entries are admitted to a small LRU window. Entries leaving the window compete
+ * with the least recently used entry of the main space, which is a segmented LRU, and the entry that has been accessed the
+ * least often according to a {@link FrequencySketch} is evicted. This keeps popular entries cached when the cache is
+ * scanned by one-off keys.
+ * <p>
+ * Since the policy is updated asynchronously, {@link #count()} and {@link #weight()} can lag behind the content of the cache
+ * when it is accessed concurrently, and removal notifications are delivered by the thread that replays the buffers, outside
+ * of the eviction lock. {@link #keys()} and {@link #values()} iterate over the entries in no particular order.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class FrequencyAwareCache<K, V> extends Cache<K, V> {
+
+    // the percentage of the maximum weight reserved for the admission window
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    // the percentage of the main space reserved for entries that were accessed at least twice
+    private static final double PROTECTED_PERCENTAGE = 0.8;
+
+    private static final int NUMBER_OF_READ_BUFFERS =
+        Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+
+    private final ConcurrentMap<K, Node<K, V>> map = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<K, CompletableFuture<V>> loading = ConcurrentCollections.newConcurrentMap();
+
+    @SuppressWarnings("unchecked")
+    private final ReadBuffer<K, V>[] readBuffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+    private final Queue<WriteTask<K, V>> writeBuffer = ConcurrentCollections.newQueue();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // the state of the eviction policy, guarded by the eviction lock
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+    private final FrequencySketch<K> sketch = new FrequencySketch<>();
+    private List<RemovalNotification<K, V>> pendingNotifications = new ArrayList<>();
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+    private int totalCount;
+
+    // the number and the weight of the entries as of the last time the buffers were replayed
+    private volatile int count;
+    private volatile long weight;
+
+    private long maximumWeight = -1;
+    private long windowMaximumWeight;
+    private long protectedMaximumWeight;
+    private long expireAfterAccessNanos = -1;
+    private long expireAfterWriteNanos = -1;
+    private ToLongBiFunction<K, V> weigher = (k, v) -> 1;
+    private RemovalListener<K, V> removalListener = notification -> {
+    };
+
+    // use CacheBuilder to construct
+    FrequencyAwareCache() {
+        super(0);
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    @Override
+    void setExpireAfterAccessNanos(long expireAfterAccessNanos) {
+        super.setExpireAfterAccessNanos(expireAfterAccessNanos);
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+    }
+
+    @Override
+    void setExpireAfterWriteNanos(long expireAfterWriteNanos) {
+        super.setExpireAfterWriteNanos(expireAfterWriteNanos);
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+    }
+
+    @Override
+    void setMaximumWeight(long maximumWeight) {
+        super.setMaximumWeight(maximumWeight);
+        this.maximumWeight = maximumWeight;
+        this.windowMaximumWeight = Math.max(1, (long) (maximumWeight * WINDOW_PERCENTAGE));
+        this.protectedMaximumWeight = (long) ((maximumWeight - windowMaximumWeight) * PROTECTED_PERCENTAGE);
+    }
+
+    @Override
+    void setWeigher(ToLongBiFunction<K, V> weigher) {
+        super.setWeigher(weigher);
+        this.weigher = weigher;
+    }
+
+    @Override
+    void setRemovalListener(RemovalListener<K, V> removalListener) {
+        super.setRemovalListener(removalListener);
+        this.removalListener = removalListener;
+    }
+
+    @Override
+    public V get(K key) {
+        return get(key, now());
+    }
+
+    private V get(K key, long now) {
+        final Node<K, V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node, now)) {
+            misses.increment();
+            if (map.remove(key, node)) {
+                afterWrite(new WriteTask<>(node, RemovalNotification.RemovalReason.EVICTED));
+            }
+            return null;
+        }
+        hits.increment();
+        node.accessTime = now;
+        afterRead(node);
+        return node.value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value, computes its value using the given loader and enters it
+     * into this cache. The loader is invoked at most once for concurrent calls with the same key, the other callers are
+     * returned the result of the first loader including any exception it throws.
+     *
+     * @param key    the key whose associated value is to be returned or computed for if non-existent
+     * @param loader the function to compute a value given a key
+     * @return the current (existing or computed) non-null value associated with the specified key
+     * @throws ExecutionException thrown if loader throws an exception or returns a null value
+     */
+    @Override
+    public V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException {
+        final long now = now();
+        V value = get(key, now);
+        if (value != null) {
+            return value;
+        }
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        try {
+            // another thread may have loaded the value after our lookup
+            final Node<K, V> node = map.get(key);
+            if (node != null && isExpired(node, now) == false) {
+                value = node.value;
+            } else {
+                try {
+                    value = loader.load(key);
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                    throw new ExecutionException(e);
+                }
+                if (value == null) {
+                    NullPointerException npe = new NullPointerException("loader returned a null value");
+                    future.completeExceptionally(npe);
+                    throw new ExecutionException(npe);
+                }
+                put(key, value, now);
+            }
+            future.complete(value);
+            return value;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        put(key, value, now());
+    }
+
+    private void put(K key, V value, long now) {
+        final Node<K, V> node = new Node<>(key, value, weigher.applyAsLong(key, value), now);
+        final Node<K, V> existing = map.put(key, node);
+        writeBuffer.add(new WriteTask<>(node, null));
+        if (existing != null) {
+            writeBuffer.add(new WriteTask<>(existing, RemovalNotification.RemovalReason.REPLACED));
+        }
+        maintenance(false, false);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        final Node<K, V> node = map.remove(key);
+        if (node != null) {
+            afterWrite(new WriteTask<>(node, RemovalNotification.RemovalReason.INVALIDATED));
+        }
+    }
+
+    @Override
+    public void invalidate(K key, V value) {
+        final Node<K, V> node = map.get(key);
+        if (node != null && Objects.equals(value, node.value) && map.remove(key, node)) {
+            afterWrite(new WriteTask<>(node, RemovalNotification.RemovalReason.INVALIDATED));
+        }
+    }
+
+    /**
+     * Invalidate all cache entries. A removal notification will be issued for invalidated entries with
+     * {@link org.opensearch.common.cache.RemovalNotification.RemovalReason} INVALIDATED. Unlike {@link Cache#invalidateAll()}
+     * entries that are concurrently added to the cache may survive the invalidation.
+     */
+    @Override
+    public void invalidateAll() {
+        for (Node<K, V> node : map.values()) {
+            if (map.remove(node.key, node)) {
+                writeBuffer.add(new WriteTask<>(node, RemovalNotification.RemovalReason.INVALIDATED));
+            }
+        }
+        maintenance(true, false);
+    }
+
+    /**
+     * Replays the buffered reads and writes and forces any outstanding size-based and time-based evictions to occur
+     */
+    @Override
+    public void refresh() {
+        maintenance(true, true);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    @Override
+    public Iterable<K> keys() {
+        return () -> new NodeIterator<>(node -> node.key);
+    }
+
+    @Override
+    public Iterable<V> values() {
+        return () -> new NodeIterator<>(node -> node.value);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterAccessNanos != -1 && now - node.accessTime > expireAfterAccessNanos) ||
+            (expireAfterWriteNanos != -1 && now - node.writeTime > expireAfterWriteNanos);
+    }
+
+    private void afterRead(Node<K, V> node) {
+        final ReadBuffer<K, V> buffer = readBuffers[(int) Thread.currentThread().getId() & (readBuffers.length - 1)];
+        if (buffer.offer(node)) {
+            maintenance(false, false);
+        }
+    }
+
+    private void afterWrite(WriteTask<K, V> task) {
+        writeBuffer.add(task);
+        maintenance(false, false);
+    }
+
+    /**
+     * Replays the buffers against the eviction policy and notifies the removal listener of the removed entries.
+     *
+     * @param force         whether to wait for the eviction lock instead of leaving the buffers to the thread that holds it
+     * @param expireAll     whether to look for expired entries among all the entries instead of the least recently used ones
+     */
+    private void maintenance(boolean force, boolean expireAll) {
+        do {
+            if (force) {
+                evictionLock.lock();
+            } else if (evictionLock.tryLock() == false) {
+                // the thread holding the lock checks the write buffer again after releasing it
+                return;
+            }
+            final List<RemovalNotification<K, V>> notifications;
+            try {
+                for (ReadBuffer<K, V> readBuffer : readBuffers) {
+                    readBuffer.drain(this);
+                }
+                WriteTask<K, V> task;
+                while ((task = writeBuffer.poll()) != null) {
+                    if (task.removalReason == null) {
+                        onAdd(task.node);
+                    } else {
+                        onRemove(task.node, task.removalReason);
+                    }
+                }
+                expireEntries(now(), expireAll);
+                evictEntries();
+                count = totalCount;
+                weight = totalWeight;
+                notifications = pendingNotifications;
+                pendingNotifications = new ArrayList<>();
+            } finally {
+                evictionLock.unlock();
+            }
+            for (RemovalNotification<K, V> notification : notifications) {
+                removalListener.onRemoval(notification);
+            }
+            force = false;
+            expireAll = false;
+        } while (writeBuffer.isEmpty() == false);
+    }
+
+    private void onAdd(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (node.removed) {
+            // the entry was removed before its addition was replayed
+            return;
+        }
+        node.queue = Node.WINDOW;
+        window.addLast(node);
+        windowWeight += node.weight;
+        totalWeight += node.weight;
+        totalCount++;
+        if (maximumWeight != -1) {
+            sketch.ensureCapacity(totalCount);
+            sketch.increment(node.key);
+        }
+    }
+
+    private void onRemove(Node<K, V> node, RemovalNotification.RemovalReason removalReason) {
+        assert evictionLock.isHeldByCurrentThread();
+        unlink(node);
+        node.removed = true;
+        if (removalReason == RemovalNotification.RemovalReason.EVICTED) {
+            evictions.increment();
+        }
+        pendingNotifications.add(new RemovalNotification<>(node.key, node.value, removalReason));
+    }
+
+    void onAccess(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (maximumWeight == -1) {
+            // the entries are never evicted for their weight, there is no need to track their recency
+            return;
+        }
+        switch (node.queue) {
+            case Node.WINDOW:
+                sketch.increment(node.key);
+                window.moveToBack(node);
+                break;
+            case Node.PROBATION:
+                sketch.increment(node.key);
+                probation.remove(node);
+                node.queue = Node.PROTECTED;
+                protectedDeque.addLast(node);
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaximumWeight) {
+                    final Node<K, V> demoted = protectedDeque.pollFirst();
+                    protectedWeight -= demoted.weight;
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            case Node.PROTECTED:
+                sketch.increment(node.key);
+                protectedDeque.moveToBack(node);
+                break;
+            default:
+                // the entry was removed or its addition was not replayed yet
+                break;
+        }
+    }
+
+    private void expireEntries(long now, boolean expireAll) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (expireAfterAccessNanos == -1 && expireAfterWriteNanos == -1) {
+            return;
+        }
+        if (expireAll) {
+            for (Node<K, V> node : map.values()) {
+                if (isExpired(node, now)) {
+                    evict(node);
+                }
+            }
+        }
+        expireEntries(window, now);
+        expireEntries(probation, now);
+        expireEntries(protectedDeque, now);
+    }
+
+    private void expireEntries(AccessOrderDeque<K, V> deque, long now) {
+        // the head of a deque is its least recently accessed entry
+        Node<K, V> node;
+        while ((node = deque.peekFirst()) != null && isExpired(node, now)) {
+            evict(node);
+        }
+    }
+
+    private void evictEntries() {
+        assert evictionLock.isHeldByCurrentThread();
+        if (maximumWeight == -1) {
+            return;
+        }
+        // entries leaving the window become candidates at the back of the probation deque
+        while (windowWeight > windowMaximumWeight) {
+            final Node<K, V> candidate = window.pollFirst();
+            windowWeight -= candidate.weight;
+            candidate.queue = Node.PROBATION;
+            probation.addLast(candidate);
+        }
+        while (totalWeight > maximumWeight) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedDeque.peekFirst();
+            }
+            if (victim == null) {
+                victim = window.peekFirst();
+            }
+            final Node<K, V> candidate = probation.peekLast();
+            if (candidate != null && candidate != victim && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                // the candidate is not more popular than the entry it would replace, it is not admitted
+                evict(candidate);
+            } else {
+                evict(victim);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        if (map.remove(node.key, node)) {
+            onRemove(node, RemovalNotification.RemovalReason.EVICTED);
+        }
+        // otherwise the entry was concurrently removed and the listener is notified when its removal is replayed
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.remove(node);
+                windowWeight -= node.weight;
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                break;
+            case Node.PROTECTED:
+                protectedDeque.remove(node);
+                protectedWeight -= node.weight;
+                break;
+            default:
+                return;
+        }
+        node.queue = Node.NONE;
+        totalWeight -= node.weight;
+        totalCount--;
+    }
+
+    static final class Node<K, V> {
+        static final int NONE = 0;
+        static final int WINDOW = 1;
+        static final int PROBATION = 2;
+        static final int PROTECTED = 3;
+
+        final K key;
+        final V value;
+        final long weight;
+        final long writeTime;
+        volatile long accessTime;
+
+        // guarded by the eviction lock
+        Node<K, V> previous;
+        Node<K, V> next;
+        int queue = NONE;
+        boolean removed;
+
+        Node(K key, V value, long weight, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = this.accessTime = writeTime;
+        }
+    }
+
+    /**
+     * The addition of an entry if the removal reason is <code>null</code>, its removal otherwise.
+     */
+    private static final class WriteTask<K, V> {
+        final Node<K, V> node;
+        final RemovalNotification.RemovalReason removalReason;
+
+        WriteTask(Node<K, V> node, RemovalNotification.RemovalReason removalReason) {
+            this.node = node;
+            this.removalReason = removalReason;
+        }
+    }
+
+    /**
+     * A bounded ring buffer of accessed entries that supports concurrent producers and a single consumer holding the
+     * eviction lock. Accesses are dropped when the buffer is full or when producers race for the same slot.
+     */
+    static final class ReadBuffer<K, V> {
+        static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(SIZE);
+        private volatile long readCounter;
+
+        /**
+         * Records the access to the entry, returns <code>true</code> if the buffer is full and should be drained.
+         */
+        boolean offer(Node<K, V> node) {
+            final long head = readCounter;
+            final long tail = writeCounter.get();
+            final long size = tail - head;
+            if (size >= SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), node);
+                return size + 1 >= SIZE;
+            }
+            return false;
+        }
+
+        void drain(FrequencyAwareCache<K, V> cache) {
+            long head = readCounter;
+            final long tail = writeCounter.get();
+            for (; head != tail; head++) {
+                final int index = (int) (head & MASK);
+                final Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // the producer reserved the slot but did not publish the entry yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                cache.onAccess(node);
+            }
+            readCounter = head;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes ordered from the least to the most recently accessed.
+     */
+    static final class AccessOrderDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> peekLast() {
+            return last;
+        }
+
+        Node<K, V> pollFirst() {
+            final Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    private class NodeIterator<T> implements Iterator<T> {
+        private final Iterator<Node<K, V>> iterator = map.values().iterator();
+        private final Function<Node<K, V>, T> mapper;
+        private Node<K, V> current;
+
+        NodeIterator(Function<Node<K, V>, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            current = iterator.next();
+            return mapper.apply(current);
+        }
+
+        @Override
+        public void remove() {
+            final Node<K, V> node = current;
+            if (node != null) {
+                current = null;
+                if (map.remove(node.key, node)) {
+                    afterWrite(new WriteTask<>(node, RemovalNotification.RemovalReason.INVALIDATED));
+                }
+            }
+        }
+    }
+}
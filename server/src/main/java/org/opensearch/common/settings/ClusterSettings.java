@@ -36,6 +36,10 @@ import org.opensearch.action.main.TransportMainAction;
 import org.opensearch.watcher.ResourceWatcherService;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.action.search.SearchRequestCoalescer;
+import org.opensearch.action.search.ShardFieldRangeCache;
+import org.opensearch.action.search.TransportMultiSearchAction;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.DestructiveOperations;
@@ -103,17 +107,22 @@ import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.ShardIndexingPressure;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.MergeIOController;
 import org.opensearch.indices.ShardLimitValidator;
+import org.opensearch.indices.TranslogSyncScheduler;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
 import org.opensearch.indices.store.IndicesStore;
+import org.opensearch.ingest.IngestService;
 import org.opensearch.monitor.fs.FsHealthService;
 import org.opensearch.monitor.fs.FsService;
 import org.opensearch.monitor.jvm.JvmGcMonitorService;
@@ -127,6 +136,7 @@ import org.opensearch.persistent.decider.EnableAssignmentDecider;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.repositories.fs.FsRepository;
 import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.action.document.RestBulkAction;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
@@ -256,6 +266,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             RecoverySettings.INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
             RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING,
             RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
+            SegmentReplicationTargetService.POLL_INTERVAL_SETTING,
             ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING,
             ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_REPLICAS_RECOVERIES_SETTING,
             ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_INCOMING_RECOVERIES_SETTING,
@@ -345,6 +356,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             SearchService.DEFAULT_ALLOW_PARTIAL_SEARCH_RESULTS,
             ElectMasterService.DISCOVERY_ZEN_MINIMUM_MASTER_NODES_SETTING,
             TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
+            TransportSearchAction.MAX_CONCURRENT_PARTIAL_REDUCES_SETTING,
             RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             RemoteClusterService.SEARCH_REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -386,6 +398,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             TransportSettings.PUBLISH_PORT_PROFILE,
             TransportSettings.OLD_TRANSPORT_COMPRESS,
             TransportSettings.TRANSPORT_COMPRESS,
+            TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
+            TransportSettings.TRANSPORT_COMPRESSED_ACTIONS,
             TransportSettings.PING_SCHEDULE,
             TransportSettings.TCP_CONNECT_TIMEOUT,
             TransportSettings.CONNECT_TIMEOUT,
@@ -447,8 +461,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ScriptService.CONTEXTS_ALLOWED_SETTING,
             IndicesService.INDICES_CACHE_CLEAN_INTERVAL_SETTING,
             IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
+            IndicesFieldDataCache.INDICES_FIELDDATA_INCREMENTAL_GLOBAL_ORDINALS_SETTING,
+            TransportShardBulkAction.PARALLEL_PARSING_THREADS_SETTING,
             IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
             IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+            IndicesRequestCache.INDICES_CACHE_DISK_SIZE,
             HunspellService.HUNSPELL_LAZY_LOAD,
             HunspellService.HUNSPELL_IGNORE_CASE,
             HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -493,6 +510,12 @@ public final class ClusterSettings extends AbstractScopedSettings {
             MultiBucketConsumerService.MAX_BUCKET_SETTING,
             SearchService.LOW_LEVEL_CANCELLATION_SETTING,
             SearchService.MAX_OPEN_SCROLL_CONTEXT,
+            SearchService.CONCURRENT_SEGMENT_SEARCH_SETTING,
+            SearchService.CAN_MATCH_FIELD_RANGES_SETTING,
+            ShardFieldRangeCache.SHARD_RANGE_CACHE_ENABLED_SETTING,
+            ShardFieldRangeCache.SHARD_RANGE_CACHE_SIZE_SETTING,
+            SearchRequestCoalescer.SEARCH_COALESCING_ENABLED_SETTING,
+            TransportMultiSearchAction.BATCH_BY_NODE_ENABLED_SETTING,
             Node.WRITE_PORTS_FILE_SETTING,
             Node.NODE_NAME_SETTING,
             Node.NODE_ATTRIBUTES,
@@ -500,6 +523,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             NodeRoleSettings.NODE_ROLES_SETTING,
             AutoCreateIndex.AUTO_CREATE_INDEX_SETTING,
             BaseRestHandler.MULTI_ALLOW_EXPLICIT_INDEX,
+            RestBulkAction.INCREMENTAL_CONTENT_ENABLED_SETTING,
+            RestBulkAction.INCREMENTAL_CONTENT_BATCH_SIZE_SETTING,
             ClusterName.CLUSTER_NAME_SETTING,
             Client.CLIENT_TYPE_SETTING_S,
             ClusterModule.SHARDS_ALLOCATOR_TYPE_SETTING,
@@ -537,6 +562,12 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndexingMemoryController.MAX_INDEX_BUFFER_SIZE_SETTING,
             IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING,
             IndexingMemoryController.SHARD_MEMORY_INTERVAL_TIME_SETTING,
+            MergeIOController.MERGE_IO_THROTTLE_ENABLED_SETTING,
+            MergeIOController.MERGE_IO_THROTTLE_TARGET_UTILIZATION_SETTING,
+            MergeIOController.MERGE_IO_THROTTLE_TARGET_LATENCY_SETTING,
+            MergeIOController.MERGE_IO_THROTTLE_INTERVAL_SETTING,
+            TranslogSyncScheduler.GROUP_COMMIT_ENABLED_SETTING,
+            TranslogSyncScheduler.GROUP_COMMIT_WINDOW_SETTING,
             ResourceWatcherService.ENABLED,
             ResourceWatcherService.RELOAD_INTERVAL_HIGH,
             ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
@@ -546,6 +577,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
             Node.BREAKER_TYPE_KEY,
             OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
+            OperationRouting.ADAPTIVE_REPLICA_SELECTION_EXTENDED_SIGNALS_SETTING,
             IndexGraveyard.SETTING_MAX_TOMBSTONES,
             PersistentTasksClusterService.CLUSTER_TASKS_ALLOCATION_RECHECK_INTERVAL_SETTING,
             EnableAssignmentDecider.CLUSTER_TASKS_ALLOCATION_ENABLE_SETTING,
@@ -579,7 +611,14 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FsHealthService.REFRESH_INTERVAL_SETTING,
             FsHealthService.SLOW_PATH_LOGGING_THRESHOLD_SETTING,
             TransportMainAction.OVERRIDE_MAIN_RESPONSE_VERSION,
-            IndexingPressure.MAX_INDEXING_BYTES)));
+            IndexingPressure.MAX_INDEXING_BYTES,
+            ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED,
+            ShardIndexingPressure.NODE_SOFT_LIMIT,
+            ShardIndexingPressure.SHARD_MIN_LIMIT,
+            ShardIndexingPressure.MAX_OUTSTANDING_REQUESTS,
+            ShardIndexingPressure.SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT,
+            ShardIndexingPressure.THROUGHPUT_DEGRADATION_FACTOR,
+            IngestService.INGEST_BATCH_SIZE_SETTING)));
 
     public static List<SettingUpgrader<?>> BUILT_IN_SETTING_UPGRADERS = Collections.unmodifiableList(Arrays.asList(
             SniffConnectionStrategy.SEARCH_REMOTE_CLUSTER_SEEDS_UPGRADER,
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.rest.RestHandler;
+
+/**
+ * The content of an http request that is received chunk by chunk after the request was dispatched, rather than aggregated before.
+ * Http modules only hand out such content to handlers that support it, see {@link RestHandler#supportsIncrementalContent()}.
+ */
+public interface HttpIncrementalContent {
+
+    /**
+     * The length of the content, as declared by the request.
+     */
+    int length();
+
+    /**
+     * Sets the listener that is notified of the chunks of the content. The chunks that were received before the listener was set are
+     * passed to it right away. The listener is always notified on the thread that receives the content.
+     */
+    void setListener(Listener listener);
+
+    /**
+     * Stops reading the content from the network until {@link #resume()} is called. Chunks that were already read may still be passed
+     * to the listener.
+     */
+    void pause();
+
+    /**
+     * Resumes reading the content from the network.
+     */
+    void resume();
+
+    interface Listener {
+
+        /**
+         * Called with each chunk of the content, in order. The chunk may be retained after this call.
+         *
+         * @param chunk    the chunk
+         * @param lastChunk whether this is the last chunk of the content
+         */
+        void onChunk(BytesReference chunk, boolean lastChunk);
+
+        /**
+         * Called if the content can't be received completely, for instance because the channel was closed.
+         */
+        void onFailure(Exception e);
+    }
+}
@@ -64,6 +64,11 @@ public class HttpPipelinedRequest implements HttpRequest, HttpPipelinedMessage {
         return delegate.content();
     }
 
+    @Override
+    public HttpIncrementalContent incrementalContent() {
+        return delegate.incrementalContent();
+    }
+
     @Override
     public Map<String, List<String>> getHeaders() {
         return delegate.getHeaders();
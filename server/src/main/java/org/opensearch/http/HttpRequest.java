@@ -67,6 +67,15 @@ public interface HttpRequest {
 
     BytesReference content();
 
+    /**
+     * Returns the content of this request if it's received after the request is dispatched, in which case {@link #content()} is empty,
+     * or {@code null} if the content was received along with the request.
+     */
+    @Nullable
+    default HttpIncrementalContent incrementalContent() {
+        return null;
+    }
+
     /**
      * Get all of the headers and values associated with the headers. Modifications of this map are not supported.
      */
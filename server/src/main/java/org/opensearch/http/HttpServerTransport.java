@@ -75,5 +75,16 @@ public interface HttpServerTransport extends LifecycleComponent, ReportingServic
          */
         void dispatchBadRequest(RestChannel channel, ThreadContext threadContext, Throwable cause);
 
+        /**
+         * Returns whether the request with the given method and uri is dispatched to a handler that supports receiving the content of
+         * the request after it is dispatched. If so, http modules may dispatch the request before its content was received, see
+         * {@link HttpRequest#incrementalContent()}.
+         *
+         * @param method the method of the request
+         * @param uri    the uri of the request, with the query string
+         */
+        default boolean supportsIncrementalContent(RestRequest.Method method, String uri) {
+            return false;
+        }
     }
 }
@@ -146,6 +146,19 @@ final class CompositeIndexEventListener implements IndexEventListener {
         }
     }
 
+    @Override
+    public void onNewSegmentReplicationCheckpoint(IndexShard indexShard) {
+        for (IndexEventListener listener : listeners) {
+            try {
+                listener.onNewSegmentReplicationCheckpoint(indexShard);
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("[{}] failed to invoke on new segment replication checkpoint callback",
+                    indexShard.shardId().getId()), e);
+                throw e;
+            }
+        }
+    }
+
     @Override
     public void indexShardStateChanged(IndexShard indexShard, @Nullable IndexShardState previousState, IndexShardState currentState,
                                        @Nullable String reason) {
@@ -548,6 +548,13 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                         // ignore
                     }
                 }
+                if (indexFieldData != null) {
+                    try {
+                        indexFieldData.clearShard(sId);
+                    } catch (Exception e) {
+                        logger.debug(() -> new ParameterizedMessage("[{}] failed to clear field data of index shard", shardId), e);
+                    }
+                }
                 // call this before we close the store, so we can release resources for it
                 listener.afterIndexShardClosed(sId, indexShard, indexSettings);
             }
@@ -46,6 +46,7 @@ import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.replication.ReplicationType;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.node.Node;
 
@@ -252,6 +253,13 @@ public final class IndexSettings {
         Setting.timeSetting("index.gc_deletes", DEFAULT_GC_DELETES, new TimeValue(-1, TimeUnit.MILLISECONDS),
             Property.Dynamic, Property.IndexScope);
 
+    /**
+     * Specifies if the version map of the engine packs the versions of the recently indexed documents into paged arrays instead
+     * of keeping an object per document, which saves heap for update-heavy indices.
+     */
+    public static final Setting<Boolean> INDEX_PACKED_VERSION_MAP_SETTING =
+        Setting.boolSetting("index.version_map.packed", false, Property.IndexScope);
+
     /**
      * Specifies if the index should use soft-delete instead of hard-delete for update/delete operations.
      * Soft-deletes is enabled by default for 7.0+ indices.
@@ -389,6 +397,8 @@ public final class IndexSettings {
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
+    private final boolean packedVersionMap;
+    private final ReplicationType replicationType;
     private volatile long softDeleteRetentionOperations;
 
     private volatile long retentionLeaseMillis;
@@ -525,6 +535,8 @@ public final class IndexSettings {
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = version.onOrAfter(LegacyESVersion.V_6_5_0) && scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
+        packedVersionMap = scopedSettings.get(INDEX_PACKED_VERSION_MAP_SETTING);
+        replicationType = scopedSettings.get(IndexMetadata.INDEX_REPLICATION_TYPE_SETTING);
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
@@ -1071,6 +1083,13 @@ public final class IndexSettings {
         this.requiredPipeline = requiredPipeline;
     }
 
+    /**
+     * Returns <code>true</code> if the version map of the engine packs the versions of the recently indexed documents.
+     */
+    public boolean isPackedVersionMap() {
+        return packedVersionMap;
+    }
+
     /**
      * Returns <code>true</code> if soft-delete is enabled.
      */
@@ -1078,6 +1097,13 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns <code>true</code> if the replicas of this index copy the segments of their primary instead of indexing the operations.
+     */
+    public boolean isSegmentReplicationEnabled() {
+        return replicationType == ReplicationType.SEGMENT;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
@@ -35,10 +35,12 @@ package org.opensearch.index;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.stats.IndexingPressureStats;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -68,9 +70,12 @@ public class IndexingPressure {
     private final long primaryAndCoordinatingLimits;
     private final long replicaLimits;
 
+    private final ShardIndexingPressure shardIndexingPressure;
+
     public IndexingPressure(Settings settings) {
         this.primaryAndCoordinatingLimits = MAX_INDEXING_BYTES.get(settings).getBytes();
         this.replicaLimits = (long) (this.primaryAndCoordinatingLimits * 1.5);
+        this.shardIndexingPressure = new ShardIndexingPressure(settings);
     }
 
 
@@ -142,6 +147,39 @@ public class IndexingPressure {
         });
     }
 
+    /**
+     * Same as {@link #markPrimaryOperationStarted(long, boolean)}, but also tracks the operation against the given shard when
+     * shard-level indexing pressure is enabled, and rejects it early if the shard falls behind.
+     */
+    public Releasable markPrimaryOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
+        if (shardIndexingPressure.isEnabled() == false) {
+            return markPrimaryOperationStarted(bytes, forceExecution);
+        }
+        if (forceExecution == false) {
+            final long nodeBytes = currentCombinedCoordinatingAndPrimaryBytes.get() + currentReplicaBytes.get() + bytes;
+            shardIndexingPressure.checkRejection(shardId, bytes, false, nodeBytes, primaryAndCoordinatingLimits);
+        }
+        final Releasable primary = markPrimaryOperationStarted(bytes, forceExecution);
+        final Releasable shard = shardIndexingPressure.markOperationStarted(shardId, bytes, false);
+        return wrapReleasable(() -> Releasables.close(shard, primary));
+    }
+
+    /**
+     * Same as {@link #markReplicaOperationStarted(long, boolean)}, but also tracks the operation against the given shard when
+     * shard-level indexing pressure is enabled, and rejects it early if the shard falls behind.
+     */
+    public Releasable markReplicaOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
+        if (shardIndexingPressure.isEnabled() == false) {
+            return markReplicaOperationStarted(bytes, forceExecution);
+        }
+        if (forceExecution == false) {
+            shardIndexingPressure.checkRejection(shardId, bytes, true, currentReplicaBytes.get() + bytes, replicaLimits);
+        }
+        final Releasable replica = markReplicaOperationStarted(bytes, forceExecution);
+        final Releasable shard = shardIndexingPressure.markOperationStarted(shardId, bytes, true);
+        return wrapReleasable(() -> Releasables.close(shard, replica));
+    }
+
     public Releasable markReplicaOperationStarted(long bytes, boolean forceExecution) {
         long replicaWriteBytes = this.currentReplicaBytes.addAndGet(bytes);
         if (forceExecution == false && replicaWriteBytes > replicaLimits) {
@@ -177,6 +215,8 @@ public class IndexingPressure {
         return new IndexingPressureStats(totalCombinedCoordinatingAndPrimaryBytes.get(), totalCoordinatingBytes.get(),
             totalPrimaryBytes.get(), totalReplicaBytes.get(), currentCombinedCoordinatingAndPrimaryBytes.get(),
             currentCoordinatingBytes.get(), currentPrimaryBytes.get(), currentReplicaBytes.get(), coordinatingRejections.get(),
-            primaryRejections.get(), replicaRejections.get(), primaryAndCoordinatingLimits);
+            primaryRejections.get(), replicaRejections.get(), primaryAndCoordinatingLimits,
+            shardIndexingPressure.getPrimaryRejections(), shardIndexingPressure.getReplicaRejections(),
+            shardIndexingPressure.isEnabled() ? shardIndexingPressure.shardStats() : null);
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.index;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.TieredMergePolicy;
@@ -59,6 +60,16 @@ import org.opensearch.common.unit.ByteSizeValue;
  * The merge policy has the following settings:
  *
  * <ul>
+ * <li><code>index.merge.policy.type</code>:
+ *
+ *     Either <code>tiered</code> (the default) for the merge policy described here, or
+ *     <code>log_byte_size</code> for a merge policy that only ever merges adjacent segments,
+ *     which keeps the segments of append-only time series data sorted by time, and their
+ *     ranges of timestamps tight. It merges up to <code>max_merge_at_once</code> segments of
+ *     similar size at once, treats segments smaller than <code>floor_segment</code> as equal
+ *     and doesn't merge segments larger than <code>max_merged_segment</code>. This setting can
+ *     only be set when creating the index or on a closed index.
+ *
  * <li><code>index.merge.policy.expunge_deletes_allowed</code>:
  *
  *     When expungeDeletes is called, we only merge away a segment if its delete
@@ -130,8 +141,13 @@ import org.opensearch.common.unit.ByteSizeValue;
 
 public final class MergePolicyConfig {
     private final OpenSearchTieredMergePolicy mergePolicy = new OpenSearchTieredMergePolicy();
+    private final LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
     private final Logger logger;
     private final boolean mergesEnabled;
+    private final String type;
+
+    public static final String TIERED_MERGE_POLICY = "tiered";
+    public static final String LOG_BYTE_SIZE_MERGE_POLICY = "log_byte_size";
 
     public static final double          DEFAULT_EXPUNGE_DELETES_ALLOWED     = 10d;
     public static final ByteSizeValue   DEFAULT_FLOOR_SEGMENT               = new ByteSizeValue(2, ByteSizeUnit.MB);
@@ -141,6 +157,8 @@ public final class MergePolicyConfig {
     public static final double          DEFAULT_SEGMENTS_PER_TIER           = 10.0d;
     public static final double          DEFAULT_RECLAIM_DELETES_WEIGHT      = 2.0d;
     public static final double          DEFAULT_DELETES_PCT_ALLOWED         = 33.0d;
+    public static final Setting<String> INDEX_MERGE_POLICY_TYPE_SETTING =
+        new Setting<>("index.merge.policy.type", TIERED_MERGE_POLICY, MergePolicyConfig::parseType, Property.IndexScope);
     public static final Setting<Double> INDEX_COMPOUND_FORMAT_SETTING       =
         new Setting<>("index.compound_format", Double.toString(TieredMergePolicy.DEFAULT_NO_CFS_RATIO),
             MergePolicyConfig::parseNoCFSRatio, Property.Dynamic, Property.IndexScope);
@@ -184,6 +202,7 @@ public final class MergePolicyConfig {
         double segmentsPerTier = indexSettings.getValue(INDEX_MERGE_POLICY_SEGMENTS_PER_TIER_SETTING);
         double reclaimDeletesWeight = indexSettings.getValue(INDEX_MERGE_POLICY_RECLAIM_DELETES_WEIGHT_SETTING);
         double deletesPctAllowed = indexSettings.getValue(INDEX_MERGE_POLICY_DELETES_PCT_ALLOWED_SETTING);
+        this.type = indexSettings.getValue(INDEX_MERGE_POLICY_TYPE_SETTING);
         this.mergesEnabled = indexSettings.getSettings().getAsBoolean(INDEX_MERGE_ENABLED, true);
         if (mergesEnabled == false) {
             logger.warn("[{}] is set to false, this should only be used in tests and can cause serious problems in production" +
@@ -198,7 +217,16 @@ public final class MergePolicyConfig {
         mergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
         mergePolicy.setSegmentsPerTier(segmentsPerTier);
         mergePolicy.setDeletesPctAllowed(deletesPctAllowed);
-        if (logger.isTraceEnabled()) {
+        logByteSizeMergePolicy.setNoCFSRatio(indexSettings.getValue(INDEX_COMPOUND_FORMAT_SETTING));
+        logByteSizeMergePolicy.setMinMergeMB(floorSegment.getMbFrac());
+        logByteSizeMergePolicy.setMergeFactor(maxMergeAtOnce);
+        logByteSizeMergePolicy.setMaxMergeMB(maxMergedSegment.getMbFrac());
+        if (LOG_BYTE_SIZE_MERGE_POLICY.equals(type)) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("using [log_byte_size] merge policy with floor_segment[{}], max_merge_at_once[{}]," +
+                        " max_merged_segment[{}]", floorSegment, maxMergeAtOnce, maxMergedSegment);
+            }
+        } else if (logger.isTraceEnabled()) {
             logger.trace("using [tiered] merge mergePolicy with expunge_deletes_allowed[{}], floor_segment[{}]," +
                     " max_merge_at_once[{}], max_merge_at_once_explicit[{}], max_merged_segment[{}], segments_per_tier[{}]," +
                     " deletes_pct_allowed[{}]",
@@ -213,6 +241,7 @@ public final class MergePolicyConfig {
 
     void setMaxMergedSegment(ByteSizeValue maxMergedSegment) {
         mergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
+        logByteSizeMergePolicy.setMaxMergeMB(maxMergedSegment.getMbFrac());
     }
 
     void setMaxMergesAtOnceExplicit(Integer maxMergeAtOnceExplicit) {
@@ -221,10 +250,12 @@ public final class MergePolicyConfig {
 
     void setMaxMergesAtOnce(Integer maxMergeAtOnce) {
         mergePolicy.setMaxMergeAtOnce(maxMergeAtOnce);
+        logByteSizeMergePolicy.setMergeFactor(maxMergeAtOnce);
     }
 
     void setFloorSegmentSetting(ByteSizeValue floorSegementSetting) {
         mergePolicy.setFloorSegmentMB(floorSegementSetting.getMbFrac());
+        logByteSizeMergePolicy.setMinMergeMB(floorSegementSetting.getMbFrac());
     }
 
     void setExpungeDeletesAllowed(Double value) {
@@ -233,6 +264,7 @@ public final class MergePolicyConfig {
 
     void setNoCFSRatio(Double noCFSRatio) {
         mergePolicy.setNoCFSRatio(noCFSRatio);
+        logByteSizeMergePolicy.setNoCFSRatio(noCFSRatio);
     }
 
     void setDeletesPctAllowed(Double deletesPctAllowed) {
@@ -256,7 +288,18 @@ public final class MergePolicyConfig {
     }
 
     MergePolicy getMergePolicy() {
-        return mergesEnabled ? mergePolicy : NoMergePolicy.INSTANCE;
+        if (mergesEnabled == false) {
+            return NoMergePolicy.INSTANCE;
+        }
+        return LOG_BYTE_SIZE_MERGE_POLICY.equals(type) ? logByteSizeMergePolicy : mergePolicy;
+    }
+
+    private static String parseType(String type) {
+        if (TIERED_MERGE_POLICY.equals(type) || LOG_BYTE_SIZE_MERGE_POLICY.equals(type)) {
+            return type;
+        }
+        throw new IllegalArgumentException("unknown merge policy type [" + type + "], must be one of [" + TIERED_MERGE_POLICY +
+            ", " + LOG_BYTE_SIZE_MERGE_POLICY + "]");
     }
 
     private static double parseNoCFSRatio(String noCFSRatio) {
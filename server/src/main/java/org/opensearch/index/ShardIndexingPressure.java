@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the outstanding bytes and requests of the primary and replica write operations of each shard, along with the recent
+ * throughput and latency of the shard, so that the operations of a shard that falls behind, for instance because its disk is
+ * degraded or because it is stuck merging, are rejected before it consumes the whole indexing pressure budget of the node.
+ * <p>
+ * Once the node uses more than a soft limit of its budget, the operations of a shard that holds more than a minimum share of
+ * the budget are rejected if the shard is falling behind: if it has too many outstanding requests, if none of its requests
+ * completed for too long, or if its recent throughput degraded well below its historical throughput. The operations of the
+ * healthy shards are only rejected by the node-wide limits of {@link IndexingPressure}.
+ */
+public class ShardIndexingPressure {
+
+    /** Whether the indexing pressure of each shard is tracked and limited (default: false). */
+    public static final Setting<Boolean> SHARD_INDEXING_PRESSURE_ENABLED =
+        Setting.boolSetting("shard_indexing_pressure.enabled", false, Property.NodeScope);
+
+    /** The fraction of the node limit above which the operations of the shards that fall behind are rejected (default: 0.7). */
+    public static final Setting<Double> NODE_SOFT_LIMIT =
+        Setting.doubleSetting("shard_indexing_pressure.node.soft_limit", 0.7d, 0.0d, 1.0d, Property.NodeScope);
+
+    /** The fraction of the node limit that a shard may always hold, whether it falls behind or not (default: 0.01). */
+    public static final Setting<Double> SHARD_MIN_LIMIT =
+        Setting.doubleSetting("shard_indexing_pressure.shard.min_limit", 0.01d, 0.0d, 1.0d, Property.NodeScope);
+
+    /** The number of outstanding requests above which a shard is considered to fall behind (default: 100). */
+    public static final Setting<Integer> MAX_OUTSTANDING_REQUESTS =
+        Setting.intSetting("shard_indexing_pressure.max_outstanding_requests", 100, 1, Property.NodeScope);
+
+    /**
+     * How long a shard may have outstanding requests without any of them completing before it is considered to fall behind
+     * (default: 5m).
+     */
+    public static final Setting<TimeValue> SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT = Setting.positiveTimeSetting(
+        "shard_indexing_pressure.successful_request.elapsed_timeout", TimeValue.timeValueMinutes(5), Property.NodeScope);
+
+    /**
+     * The factor by which the recent throughput of a shard must be lower than its historical throughput for the shard to be
+     * considered to fall behind (default: 5).
+     */
+    public static final Setting<Double> THROUGHPUT_DEGRADATION_FACTOR =
+        Setting.doubleSetting("shard_indexing_pressure.throughput.degradation_factor", 5.0d, 1.0d, Property.NodeScope);
+
+    /** The number of completed requests of a shard below which its throughput isn't considered. */
+    static final int MIN_REQUESTS_FOR_THROUGHPUT = 16;
+
+    /** The weight of the last completed request in the recent throughput and latency of a shard. */
+    private static final double RECENT_WEIGHT = 0.1d;
+
+    private final boolean enabled;
+    private final double nodeSoftLimit;
+    private final double shardMinLimit;
+    private final int maxOutstandingRequests;
+    private final long successfulRequestElapsedTimeoutNanos;
+    private final double throughputDegradationFactor;
+    private final LongSupplier relativeTimeInNanos;
+
+    private final ConcurrentMap<ShardId, ShardTracker> trackers = ConcurrentCollections.newConcurrentMap();
+    private final AtomicLong primaryRejections = new AtomicLong();
+    private final AtomicLong replicaRejections = new AtomicLong();
+
+    public ShardIndexingPressure(Settings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    ShardIndexingPressure(Settings settings, LongSupplier relativeTimeInNanos) {
+        this.enabled = SHARD_INDEXING_PRESSURE_ENABLED.get(settings);
+        this.nodeSoftLimit = NODE_SOFT_LIMIT.get(settings);
+        this.shardMinLimit = SHARD_MIN_LIMIT.get(settings);
+        this.maxOutstandingRequests = MAX_OUTSTANDING_REQUESTS.get(settings);
+        this.successfulRequestElapsedTimeoutNanos = SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT.get(settings).nanos();
+        this.throughputDegradationFactor = THROUGHPUT_DEGRADATION_FACTOR.get(settings);
+        this.relativeTimeInNanos = relativeTimeInNanos;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Rejects an operation of the given number of bytes on the given shard if the node uses more than its soft limit and the
+     * shard falls behind.
+     *
+     * @param nodeBytes the bytes that the node currently uses, this operation included
+     * @param nodeLimit the limit of the node
+     */
+    void checkRejection(ShardId shardId, long bytes, boolean replica, long nodeBytes, long nodeLimit) {
+        if (nodeBytes <= nodeSoftLimit * nodeLimit) {
+            return;
+        }
+        final ShardTracker tracker = trackers.get(shardId);
+        if (tracker == null) {
+            return;
+        }
+        final long shardBytes = tracker.currentPrimaryBytes.get() + tracker.currentReplicaBytes.get() + bytes;
+        if (shardBytes <= shardMinLimit * nodeLimit) {
+            return;
+        }
+        final String reason = tracker.fallingBehindReason(relativeTimeInNanos.getAsLong());
+        if (reason == null) {
+            return;
+        }
+        if (replica) {
+            tracker.replicaRejections.incrementAndGet();
+            replicaRejections.incrementAndGet();
+        } else {
+            tracker.primaryRejections.incrementAndGet();
+            primaryRejections.incrementAndGet();
+        }
+        throw new OpenSearchRejectedExecutionException("rejected execution of " + (replica ? "replica" : "primary")
+            + " operation on shard " + shardId + " falling behind [" + reason + ", "
+            + "shard_bytes=" + (shardBytes - bytes) + ", "
+            + "node_bytes=" + (nodeBytes - bytes) + ", "
+            + "operation_bytes=" + bytes + ", "
+            + "node_soft_limit_bytes=" + (long) (nodeSoftLimit * nodeLimit) + "]", false);
+    }
+
+    /**
+     * Tracks an accepted operation of the given number of bytes on the given shard, until the returned releasable is closed once
+     * the operation completed.
+     */
+    Releasable markOperationStarted(ShardId shardId, long bytes, boolean replica) {
+        ShardTracker tracker = trackers.get(shardId);
+        if (tracker == null) {
+            final long now = relativeTimeInNanos.getAsLong();
+            pruneIdleTrackers(now);
+            tracker = trackers.computeIfAbsent(shardId, k -> new ShardTracker(now));
+        }
+        final ShardTracker shardTracker = tracker;
+        final long startTime = relativeTimeInNanos.getAsLong();
+        shardTracker.started(bytes, replica, startTime);
+        return () -> shardTracker.completed(bytes, replica, startTime, relativeTimeInNanos.getAsLong());
+    }
+
+    /**
+     * Stops tracking the shards that had no outstanding operation for longer than the successful request timeout.
+     */
+    private void pruneIdleTrackers(long now) {
+        for (Iterator<ShardTracker> iterator = trackers.values().iterator(); iterator.hasNext(); ) {
+            final ShardTracker tracker = iterator.next();
+            if (tracker.outstandingRequests.get() == 0 && now - tracker.lastActivityNanos > successfulRequestElapsedTimeoutNanos) {
+                iterator.remove();
+            }
+        }
+    }
+
+    long getPrimaryRejections() {
+        return primaryRejections.get();
+    }
+
+    long getReplicaRejections() {
+        return replicaRejections.get();
+    }
+
+    List<ShardIndexingPressureStats> shardStats() {
+        final List<ShardIndexingPressureStats> stats = new ArrayList<>(trackers.size());
+        trackers.forEach((shardId, tracker) -> stats.add(tracker.stats(shardId)));
+        return stats;
+    }
+
+    private final class ShardTracker {
+
+        private final AtomicLong currentPrimaryBytes = new AtomicLong();
+        private final AtomicLong currentReplicaBytes = new AtomicLong();
+        private final AtomicLong outstandingRequests = new AtomicLong();
+        private final AtomicLong totalPrimaryBytes = new AtomicLong();
+        private final AtomicLong totalReplicaBytes = new AtomicLong();
+        private final AtomicLong totalRequests = new AtomicLong();
+        private final AtomicLong primaryRejections = new AtomicLong();
+        private final AtomicLong replicaRejections = new AtomicLong();
+
+        // guarded by this
+        private long completedRequests;
+        private long completedBytes;
+        private long completedLatencyNanos;
+        private double recentThroughput;
+        private double recentLatencyNanos;
+
+        private volatile long lastSuccessfulRequestNanos;
+        private volatile long lastActivityNanos;
+
+        ShardTracker(long now) {
+            this.lastSuccessfulRequestNanos = now;
+            this.lastActivityNanos = now;
+        }
+
+        void started(long bytes, boolean replica, long now) {
+            if (outstandingRequests.getAndIncrement() == 0) {
+                // the timeout only applies to the requests that are outstanding, not to the time the shard spent idle
+                lastSuccessfulRequestNanos = now;
+            }
+            (replica ? currentReplicaBytes : currentPrimaryBytes).addAndGet(bytes);
+            (replica ? totalReplicaBytes : totalPrimaryBytes).addAndGet(bytes);
+            totalRequests.incrementAndGet();
+            lastActivityNanos = now;
+        }
+
+        void completed(long bytes, boolean replica, long startTime, long now) {
+            (replica ? currentReplicaBytes : currentPrimaryBytes).addAndGet(-bytes);
+            final long latencyNanos = Math.max(1L, now - startTime);
+            synchronized (this) {
+                final double throughput = (double) bytes / latencyNanos;
+                if (completedRequests == 0) {
+                    recentThroughput = throughput;
+                    recentLatencyNanos = latencyNanos;
+                } else {
+                    recentThroughput += RECENT_WEIGHT * (throughput - recentThroughput);
+                    recentLatencyNanos += RECENT_WEIGHT * (latencyNanos - recentLatencyNanos);
+                }
+                completedRequests++;
+                completedBytes += bytes;
+                completedLatencyNanos += latencyNanos;
+            }
+            lastSuccessfulRequestNanos = now;
+            lastActivityNanos = now;
+            outstandingRequests.decrementAndGet();
+        }
+
+        /**
+         * Returns why the shard falls behind, or {@code null} if it doesn't.
+         */
+        String fallingBehindReason(long now) {
+            final long outstanding = outstandingRequests.get();
+            if (outstanding >= maxOutstandingRequests) {
+                return "outstanding_requests=" + outstanding;
+            }
+            if (outstanding > 0 && now - lastSuccessfulRequestNanos > successfulRequestElapsedTimeoutNanos) {
+                return "last_successful_request_elapsed=" + TimeValue.timeValueNanos(now - lastSuccessfulRequestNanos);
+            }
+            synchronized (this) {
+                if (completedRequests >= MIN_REQUESTS_FOR_THROUGHPUT) {
+                    final double historicalThroughput = (double) completedBytes / completedLatencyNanos;
+                    if (recentThroughput * throughputDegradationFactor < historicalThroughput) {
+                        return "throughput_degraded=" + bytesPerSecond(recentThroughput) + "b/s<"
+                            + bytesPerSecond(historicalThroughput) + "b/s";
+                    }
+                }
+            }
+            return null;
+        }
+
+        synchronized ShardIndexingPressureStats stats(ShardId shardId) {
+            return new ShardIndexingPressureStats(shardId, currentPrimaryBytes.get(), currentReplicaBytes.get(),
+                outstandingRequests.get(), totalPrimaryBytes.get(), totalReplicaBytes.get(), totalRequests.get(),
+                primaryRejections.get(), replicaRejections.get(), bytesPerSecond(recentThroughput),
+                TimeUnit.NANOSECONDS.toMillis((long) recentLatencyNanos));
+        }
+    }
+
+    private static long bytesPerSecond(double bytesPerNano) {
+        return (long) (bytesPerNano * TimeUnit.SECONDS.toNanos(1));
+    }
+}
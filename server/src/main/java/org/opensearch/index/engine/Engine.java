@@ -184,6 +184,12 @@ public abstract class Engine implements Closeable {
         return new MergeStats();
     }
 
+    /**
+     * Caps the rate at which auto throttled merges of this engine may write, in MB per second. Engines that don't merge ignore it.
+     */
+    public void setMergeIORateLimit(double mbPerSec) {
+    }
+
     /** returns the history uuid for the engine */
     public abstract String getHistoryUUID();
 
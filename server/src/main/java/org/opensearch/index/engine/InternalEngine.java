@@ -155,7 +155,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    private final LiveVersionMap versionMap = new LiveVersionMap();
+    private final LiveVersionMap versionMap;
 
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
@@ -221,6 +221,7 @@ public class InternalEngine extends Engine {
     InternalEngine(EngineConfig engineConfig, int maxDocs, BiFunction<Long, Long, LocalCheckpointTracker> localCheckpointTrackerSupplier) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(engineConfig.getIndexSettings().isPackedVersionMap());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -651,8 +652,10 @@ public class InternalEngine extends Engine {
         OpenSearchReaderManager internalReaderManager = null;
         try {
             try {
+                // the replicas of indices that use segment replication copy the files of the refreshed segments, deletes included
+                final boolean writeAllDeletes = engineConfig.getIndexSettings().isSegmentReplicationEnabled();
                 final OpenSearchDirectoryReader directoryReader =
-                    OpenSearchDirectoryReader.wrap(DirectoryReader.open(indexWriter), shardId);
+                    OpenSearchDirectoryReader.wrap(DirectoryReader.open(indexWriter, true, writeAllDeletes), shardId);
                 internalReaderManager = new OpenSearchReaderManager(directoryReader,
                     new RamAccountingRefreshListener(engineConfig.getCircuitBreakerService()));
                 lastCommittedSegmentInfos = store.readLastCommittedSegmentsInfo();
@@ -2592,6 +2595,11 @@ public class InternalEngine extends Engine {
         return mergeScheduler.stats();
     }
 
+    @Override
+    public void setMergeIORateLimit(double mbPerSec) {
+        mergeScheduler.setNodeIORateLimit(mbPerSec);
+    }
+
     LocalCheckpointTracker getLocalCheckpointTracker() {
         return localCheckpointTracker;
     }
@@ -45,12 +45,85 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
 
 /** Maps _uid value to its version information. */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
     private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
 
+    /**
+     * The version values of the uids that were indexed since a refresh. The RAM that a table uses is accounted by the version map
+     * from the changes that its updates return.
+     */
+    interface VersionTable {
+
+        VersionValue get(BytesRef uid);
+
+        /** Maps the uid to the given value and returns by how many bytes the RAM used by the table changed. */
+        long put(BytesRef uid, VersionValue value);
+
+        /** Removes the value of the uid, if any, and returns by how many bytes the RAM used by the table changed. */
+        long remove(BytesRef uid);
+
+        int size();
+
+        /** Returns the uids and values of the table as a map. */
+        Map<BytesRef, VersionValue> asMap();
+    }
+
+    /**
+     * A {@link VersionTable} that keeps a {@link BytesRef} and a {@link VersionValue} per uid in a map.
+     */
+    private static final class MapVersionTable implements VersionTable {
+
+        private static final MapVersionTable EMPTY = new MapVersionTable(Collections.emptyMap());
+
+        private final Map<BytesRef, VersionValue> map;
+
+        MapVersionTable(int capacity) {
+            this(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(capacity));
+        }
+
+        private MapVersionTable(Map<BytesRef, VersionValue> map) {
+            this.map = map;
+        }
+
+        @Override
+        public VersionValue get(BytesRef uid) {
+            return map.get(uid);
+        }
+
+        @Override
+        public long put(BytesRef uid, VersionValue value) {
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + uidRAMBytesUsed;
+            VersionValue previousValue = map.put(uid, value);
+            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            return ramAccounting;
+        }
+
+        @Override
+        public long remove(BytesRef uid) {
+            VersionValue previousValue = map.remove(uid);
+            if (previousValue == null) {
+                return 0;
+            }
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            return -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Map<BytesRef, VersionValue> asMap() {
+            return map;
+        }
+    }
+
     private static final class VersionLookup {
 
         /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
@@ -58,8 +131,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          *  clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new VersionLookup(MapVersionTable.EMPTY);
+        private final VersionTable table;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -77,24 +150,24 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
-            this.map = map;
+        private VersionLookup(VersionTable table) {
+            this.table = table;
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return table.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        long put(BytesRef key, VersionValue value) {
+            return table.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return table.size() == 0;
         }
 
         int size() {
-            return map.size();
+            return table.size();
         }
 
         boolean isUnsafe() {
@@ -105,8 +178,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+        public long remove(BytesRef uid) {
+            return table.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -129,16 +202,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
+        // creates the tables of the maps, given the expected number of uids
+        private final IntFunction<VersionTable> tableFactory;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess, IntFunction<VersionTable> tableFactory) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.tableFactory = tableFactory;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()),
-                VersionLookup.EMPTY, false);
+        Maps(IntFunction<VersionTable> tableFactory) {
+            this(new VersionLookup(tableFactory.apply(16)), VersionLookup.EMPTY, false, tableFactory);
         }
 
         boolean isSafeAccessMode() {
@@ -156,23 +231,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())), current,
-                shouldInheritSafeAccess());
+            return new Maps(new VersionLookup(tableFactory.apply(current.size())), current, shouldInheritSafeAccess(), tableFactory);
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, tableFactory);
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
+            adjustRam(current.put(uid, version));
         }
 
         void adjustRam(long value) {
@@ -183,12 +253,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            long ramAccounting = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
+            adjustRam(ramAccounting);
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -204,10 +271,24 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private final IntFunction<VersionTable> tableFactory;
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap = new Maps(MapVersionTable::new);
+
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param packed whether the version values of the indexed uids are packed into paged arrays rather than kept in a map of
+     *               objects, see {@link PackedVersionTable}
+     */
+    LiveVersionMap(boolean packed) {
+        this.tableFactory = packed ? capacity -> new PackedVersionTable() : MapVersionTable::new;
+        this.maps = new Maps(tableFactory);
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -428,7 +509,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(tableFactory);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip.  Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -467,7 +548,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.table.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
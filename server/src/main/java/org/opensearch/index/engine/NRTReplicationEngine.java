@@ -0,0 +1,515 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.search.ReferenceManager;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.util.concurrent.ReleasableLock;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.seqno.LocalCheckpointTracker;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogCorruptedException;
+import org.opensearch.index.translog.TranslogDeletionPolicy;
+import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.search.suggest.completion.CompletionStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * The engine of the replicas of indices that use segment replication.
+ * <p>
+ * This engine never indexes documents: the operations that the primary replicates are only written to the translog, for
+ * durability, and the searchable content of the shard is made of the segments that are copied from the primary. The segment
+ * infos of the last refresh of the primary are installed with {@link #updateSegments(SegmentInfos)}, without being committed:
+ * the only commits of the store are the ones copied from the primary, and the translog operations that the last of them
+ * contains are released. Since it has no {@link org.apache.lucene.index.IndexWriter}, the files of the store can be replaced
+ * while this engine is open, which is also why the translog of this engine is not the one of the copied commits.
+ * <p>
+ * When the shard is promoted to primary, this engine is replaced by a read-write engine that replays the translog
+ * operations that are not part of the last commit.
+ */
+public class NRTReplicationEngine extends Engine {
+
+    private volatile SegmentInfos lastCommittedSegmentInfos;
+    private final NRTReplicationReaderManager readerManager;
+    private final LocalCheckpointTracker localCheckpointTracker;
+    private final Translog translog;
+    private final CompletionStatsCache completionStatsCache;
+    private final AtomicLong maxSeqNoOfUpdatesOrDeletes;
+
+    public NRTReplicationEngine(EngineConfig engineConfig) {
+        super(engineConfig);
+        store.incRef();
+        NRTReplicationReaderManager readerManager = null;
+        Translog translog = null;
+        boolean success = false;
+        try {
+            this.lastCommittedSegmentInfos = store.readLastCommittedSegmentsInfo();
+            final Map<String, String> userData = lastCommittedSegmentInfos.getUserData();
+            final SequenceNumbers.CommitInfo commitInfo = SequenceNumbers.loadSeqNoInfoFromLuceneCommit(userData.entrySet());
+            this.localCheckpointTracker = new LocalCheckpointTracker(commitInfo.maxSeqNo, commitInfo.localCheckpoint);
+            final TranslogDeletionPolicy translogDeletionPolicy = new TranslogDeletionPolicy(
+                engineConfig.getIndexSettings().getTranslogRetentionSize().getBytes(),
+                engineConfig.getIndexSettings().getTranslogRetentionAge().getMillis(),
+                engineConfig.getIndexSettings().getTranslogRetentionTotalFiles()
+            );
+            translogDeletionPolicy.setLocalCheckpointOfSafeCommit(commitInfo.localCheckpoint);
+            final String translogUUID = Translog.readTranslogUUID(engineConfig.getTranslogConfig().getTranslogPath());
+            translog = new Translog(engineConfig.getTranslogConfig(), translogUUID, translogDeletionPolicy,
+                engineConfig.getGlobalCheckpointSupplier(), engineConfig.getPrimaryTermSupplier(),
+                localCheckpointTracker::markSeqNoAsPersisted);
+            this.translog = translog;
+            this.maxSeqNoOfUpdatesOrDeletes = new AtomicLong(SequenceNumbers.max(localCheckpointTracker.getMaxSeqNo(),
+                translog.getMaxSeqNo()));
+            readerManager = new NRTReplicationReaderManager(store.directory(), shardId, lastCommittedSegmentInfos,
+                engineConfig.getIndexSettings().isSoftDeleteEnabled(),
+                new RamAccountingRefreshListener(engineConfig.getCircuitBreakerService()));
+            this.readerManager = readerManager;
+            for (ReferenceManager.RefreshListener listener : engineConfig.getExternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            for (ReferenceManager.RefreshListener listener : engineConfig.getInternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            this.completionStatsCache = new CompletionStatsCache(() -> acquireSearcher("completion_stats"));
+            readerManager.addListener(completionStatsCache);
+            success = true;
+        } catch (IOException | TranslogCorruptedException e) {
+            throw new EngineCreationFailureException(shardId, "failed to create engine", e);
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(readerManager, translog);
+                store.decRef();
+            }
+        }
+        logger.trace("created new NRTReplicationEngine");
+    }
+
+    /**
+     * Installs the given segment infos of the primary, whose files were copied to the store, as the searchable content of this
+     * engine. If the primary committed since the last update, its commit was copied along, and the translog operations that it
+     * contains are released.
+     */
+    public void updateSegments(final SegmentInfos infos) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final SegmentInfos lastCommit = store.readLastCommittedSegmentsInfo();
+            if (Arrays.equals(lastCommit.getId(), lastCommittedSegmentInfos.getId()) == false) {
+                final SequenceNumbers.CommitInfo commitInfo =
+                    SequenceNumbers.loadSeqNoInfoFromLuceneCommit(lastCommit.getUserData().entrySet());
+                lastCommittedSegmentInfos = lastCommit;
+                // the primary may have committed operations that are still in flight to this replica
+                final long localCheckpointOfCommit =
+                    Math.min(commitInfo.localCheckpoint, localCheckpointTracker.getPersistedCheckpoint());
+                final TranslogDeletionPolicy deletionPolicy = translog.getDeletionPolicy();
+                if (localCheckpointOfCommit > deletionPolicy.getLocalCheckpointOfSafeCommit()) {
+                    deletionPolicy.setLocalCheckpointOfSafeCommit(localCheckpointOfCommit);
+                }
+                translog.rollGeneration();
+                translog.trimUnreferencedReaders();
+            }
+            readerManager.updateSegments(infos);
+            readerManager.maybeRefreshBlocking();
+        }
+    }
+
+    /**
+     * The segment infos that this engine searches, which may not be committed.
+     */
+    public SegmentInfos getLatestSegmentInfos() {
+        return readerManager.getSegmentInfos();
+    }
+
+    /**
+     * The UUID of the translog of this engine, which differs from the translog UUID of the commits copied from the primary.
+     */
+    public String getTranslogUUID() {
+        return translog.getTranslogUUID();
+    }
+
+    @Override
+    protected SegmentInfos getLastCommittedSegmentInfos() {
+        return lastCommittedSegmentInfos;
+    }
+
+    @Override
+    public String getHistoryUUID() {
+        return lastCommittedSegmentInfos.getUserData().get(Engine.HISTORY_UUID_KEY);
+    }
+
+    @Override
+    public long getWritingBytes() {
+        return 0;
+    }
+
+    @Override
+    public CompletionStats completionStats(String... fieldNamePatterns) {
+        return completionStatsCache.get(fieldNamePatterns);
+    }
+
+    @Override
+    public long getIndexThrottleTimeInMillis() {
+        return 0;
+    }
+
+    @Override
+    public boolean isThrottled() {
+        return false;
+    }
+
+    @Override
+    public void trimOperationsFromTranslog(long belowTerm, long aboveSeqNo) throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.trimOperations(belowTerm, aboveSeqNo);
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to trim translog operations", e);
+        }
+    }
+
+    @Override
+    public IndexResult index(Index index) throws IOException {
+        assert index.origin() != Operation.Origin.PRIMARY : "primary operations are not supported, got " + index.origin();
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final IndexResult indexResult = new IndexResult(index.version(), index.primaryTerm(), index.seqNo(), false);
+            addToTranslog(index, indexResult, new Translog.Index(index, indexResult));
+            return indexResult;
+        }
+    }
+
+    @Override
+    public DeleteResult delete(Delete delete) throws IOException {
+        assert delete.origin() != Operation.Origin.PRIMARY : "primary operations are not supported, got " + delete.origin();
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final DeleteResult deleteResult = new DeleteResult(delete.version(), delete.primaryTerm(), delete.seqNo(), true);
+            addToTranslog(delete, deleteResult, new Translog.Delete(delete, deleteResult));
+            return deleteResult;
+        }
+    }
+
+    @Override
+    public NoOpResult noOp(NoOp noOp) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final NoOpResult noOpResult = new NoOpResult(noOp.primaryTerm(), noOp.seqNo());
+            addToTranslog(noOp, noOpResult, new Translog.NoOp(noOp.seqNo(), noOp.primaryTerm(), noOp.reason()));
+            return noOpResult;
+        }
+    }
+
+    private void addToTranslog(Operation operation, Result result, Translog.Operation translogOperation) throws IOException {
+        if (operation.origin().isFromTranslog() == false) {
+            result.setTranslogLocation(translog.add(translogOperation));
+        }
+        localCheckpointTracker.advanceMaxSeqNo(operation.seqNo());
+        localCheckpointTracker.markSeqNoAsProcessed(operation.seqNo());
+        if (result.getTranslogLocation() == null) {
+            // the op is coming from the translog and is hence persisted already
+            localCheckpointTracker.markSeqNoAsPersisted(operation.seqNo());
+        }
+        result.setTook(System.nanoTime() - operation.startTime());
+        result.freeze();
+    }
+
+    @Override
+    public SyncedFlushResult syncFlush(String syncId, CommitId expectedCommitId) throws EngineException {
+        // the commits of this engine are copied from the primary and can't carry a sync id of their own
+        return SyncedFlushResult.COMMIT_MISMATCH;
+    }
+
+    @Override
+    public GetResult get(Get get, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException {
+        return getFromSearcher(get, searcherFactory, SearcherScope.EXTERNAL);
+    }
+
+    @Override
+    protected ReferenceManager<OpenSearchDirectoryReader> getReferenceManager(SearcherScope scope) {
+        return readerManager;
+    }
+
+    @Override
+    public boolean isTranslogSyncNeeded() {
+        return translog.syncNeeded();
+    }
+
+    @Override
+    public boolean ensureTranslogSynced(Stream<Translog.Location> locations) throws IOException {
+        return translog.ensureSynced(locations);
+    }
+
+    @Override
+    public void syncTranslog() throws IOException {
+        translog.sync();
+    }
+
+    @Override
+    public Closeable acquireHistoryRetentionLock(HistorySource historySource) {
+        return translog.acquireRetentionLock();
+    }
+
+    @Override
+    public Translog.Snapshot newChangesSnapshot(String source, MapperService mapperService, long fromSeqNo, long toSeqNo,
+                                               boolean requiredFullRange) throws IOException {
+        return translog.newSnapshot(fromSeqNo, toSeqNo);
+    }
+
+    @Override
+    public Translog.Snapshot readHistoryOperations(String reason, HistorySource historySource, MapperService mapperService,
+                                                   long startingSeqNo) throws IOException {
+        return translog.newSnapshot(startingSeqNo, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int estimateNumberOfHistoryOperations(String reason, HistorySource historySource, MapperService mapperService,
+                                                 long startingSeqNo) {
+        return translog.estimateTotalOperationsFromMinSeq(startingSeqNo);
+    }
+
+    @Override
+    public boolean hasCompleteOperationHistory(String reason, HistorySource historySource, MapperService mapperService,
+                                               long startingSeqNo) throws IOException {
+        final long currentLocalCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
+        if (startingSeqNo > currentLocalCheckpoint) {
+            return true;
+        }
+        final LocalCheckpointTracker tracker = new LocalCheckpointTracker(startingSeqNo, startingSeqNo - 1);
+        try (Translog.Snapshot snapshot = translog.newSnapshot(startingSeqNo, Long.MAX_VALUE)) {
+            Translog.Operation operation;
+            while ((operation = snapshot.next()) != null) {
+                if (operation.seqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
+                    tracker.markSeqNoAsProcessed(operation.seqNo());
+                }
+            }
+        }
+        return tracker.getProcessedCheckpoint() >= currentLocalCheckpoint;
+    }
+
+    @Override
+    public long getMinRetainedSeqNo() {
+        throw new UnsupportedOperationException("the history of a segment replication replica is only retained in its translog");
+    }
+
+    @Override
+    public TranslogStats getTranslogStats() {
+        return translog.stats();
+    }
+
+    @Override
+    public Translog.Location getTranslogLastWriteLocation() {
+        return translog.getLastWriteLocation();
+    }
+
+    @Override
+    public long getPersistedLocalCheckpoint() {
+        return localCheckpointTracker.getPersistedCheckpoint();
+    }
+
+    @Override
+    public SeqNoStats getSeqNoStats(long globalCheckpoint) {
+        return localCheckpointTracker.getStats(globalCheckpoint);
+    }
+
+    @Override
+    public long getLastSyncedGlobalCheckpoint() {
+        return translog.getLastSyncedGlobalCheckpoint();
+    }
+
+    @Override
+    public long getIndexBufferRAMBytesUsed() {
+        return 0;
+    }
+
+    @Override
+    public List<Segment> segments(boolean verbose) {
+        return Arrays.asList(getSegmentInfo(getLatestSegmentInfos(), verbose));
+    }
+
+    @Override
+    public void refresh(String source) throws EngineException {
+        // the reader only changes when new segments are installed, this picks them up if they were not yet
+        try {
+            readerManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new RefreshFailedEngineException(shardId, e);
+        }
+    }
+
+    @Override
+    public boolean maybeRefresh(String source) throws EngineException {
+        try {
+            return readerManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new RefreshFailedEngineException(shardId, e);
+        }
+    }
+
+    @Override
+    public void writeIndexingBuffer() throws EngineException {
+    }
+
+    @Override
+    public boolean shouldPeriodicallyFlush() {
+        return false;
+    }
+
+    @Override
+    public CommitId flush(boolean force, boolean waitIfOngoing) throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.sync();
+            translog.trimUnreferencedReaders();
+        } catch (IOException e) {
+            throw new FlushFailedEngineException(shardId, e);
+        }
+        return new CommitId(lastCommittedSegmentInfos.getId());
+    }
+
+    @Override
+    public void trimUnreferencedTranslogFiles() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.trimUnreferencedReaders();
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to trim translog", e);
+        }
+    }
+
+    @Override
+    public boolean shouldRollTranslogGeneration() {
+        return translog.shouldRollGeneration();
+    }
+
+    @Override
+    public void rollTranslogGeneration() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.rollGeneration();
+            translog.trimUnreferencedReaders();
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to roll translog", e);
+        }
+    }
+
+    @Override
+    public void forceMerge(boolean flush, int maxNumSegments, boolean onlyExpungeDeletes, boolean upgrade,
+                           boolean upgradeOnlyAncientSegments, String forceMergeUUID) throws EngineException, IOException {
+        // merges happen on the primary, their result is copied with the next refresh of the primary
+    }
+
+    @Override
+    public IndexCommitRef acquireLastIndexCommit(boolean flushFirst) throws EngineException {
+        store.incRef();
+        try {
+            return new IndexCommitRef(Lucene.getIndexCommit(lastCommittedSegmentInfos, store.directory()), store::decRef);
+        } catch (IOException e) {
+            store.decRef();
+            throw new EngineException(shardId, "failed to acquire the last index commit", e);
+        }
+    }
+
+    @Override
+    public IndexCommitRef acquireSafeIndexCommit() throws EngineException {
+        return acquireLastIndexCommit(false);
+    }
+
+    @Override
+    public SafeCommitInfo getSafeCommitInfo() {
+        final SegmentInfos segmentInfos = lastCommittedSegmentInfos;
+        final long localCheckpoint = Long.parseLong(segmentInfos.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY));
+        return new SafeCommitInfo(localCheckpoint, segmentInfos.totalMaxDoc());
+    }
+
+    @Override
+    protected void closeNoLock(String reason, CountDownLatch closedLatch) {
+        if (isClosed.compareAndSet(false, true)) {
+            try {
+                IOUtils.close(readerManager, translog, store::decRef);
+            } catch (Exception e) {
+                logger.warn("failed to close engine", e);
+            } finally {
+                closedLatch.countDown();
+            }
+        }
+    }
+
+    @Override
+    public void activateThrottling() {
+    }
+
+    @Override
+    public void deactivateThrottling() {
+    }
+
+    @Override
+    public int restoreLocalHistoryFromTranslog(TranslogRecoveryRunner translogRecoveryRunner) {
+        return 0;
+    }
+
+    @Override
+    public int fillSeqNoGaps(long primaryTerm) {
+        return 0;
+    }
+
+    /**
+     * The operations of the translog are not indexed by this engine, recovering from the translog only marks them as processed.
+     */
+    @Override
+    public Engine recoverFromTranslog(TranslogRecoveryRunner translogRecoveryRunner, long recoverUpToSeqNo) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final long startingSeqNo = localCheckpointTracker.getProcessedCheckpoint() + 1;
+            try (Translog.Snapshot snapshot = translog.newSnapshot(startingSeqNo, recoverUpToSeqNo)) {
+                Translog.Operation operation;
+                while ((operation = snapshot.next()) != null) {
+                    localCheckpointTracker.advanceMaxSeqNo(operation.seqNo());
+                    localCheckpointTracker.markSeqNoAsProcessed(operation.seqNo());
+                    localCheckpointTracker.markSeqNoAsPersisted(operation.seqNo());
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void skipTranslogRecovery() {
+    }
+
+    @Override
+    public void maybePruneDeletes() {
+    }
+
+    @Override
+    public void updateMaxUnsafeAutoIdTimestamp(long newTimestamp) {
+    }
+
+    @Override
+    public long getMaxSeqNoOfUpdatesOrDeletes() {
+        return maxSeqNoOfUpdatesOrDeletes.get();
+    }
+
+    @Override
+    public void advanceMaxSeqNoOfUpdatesOrDeletes(long maxSeqNoOfUpdatesOnPrimary) {
+        maxSeqNoOfUpdatesOrDeletes.accumulateAndGet(maxSeqNoOfUpdatesOnPrimary, Math::max);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Opens the readers of a {@link NRTReplicationEngine} on the segment infos that the replica copied from its primary, which are
+ * not committed on the replica. A refresh opens a reader on the last segment infos given to {@link #updateSegments(SegmentInfos)}
+ * and shares the segment readers of the current reader for the segments that did not change.
+ */
+@SuppressForbidden(reason = "reference counting is required here")
+class NRTReplicationReaderManager extends ReferenceManager<OpenSearchDirectoryReader> {
+
+    private final Directory directory;
+    private final ShardId shardId;
+    private final boolean softDeletesEnabled;
+    private final BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener;
+    private volatile SegmentInfos currentInfos;
+
+    /**
+     * Creates a reader manager that opens its first reader on the given segment infos.
+     *
+     * @param directory           the directory of the store of the shard
+     * @param shardId             the shard the readers belong to
+     * @param infos               the segment infos to open the first reader on
+     * @param softDeletesEnabled  whether the soft-deleted documents must be hidden from the readers
+     * @param refreshListener     a consumer that is called every time a new reader is opened
+     */
+    NRTReplicationReaderManager(Directory directory, ShardId shardId, SegmentInfos infos, boolean softDeletesEnabled,
+                                BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener) throws IOException {
+        this.directory = directory;
+        this.shardId = shardId;
+        this.softDeletesEnabled = softDeletesEnabled;
+        this.refreshListener = refreshListener;
+        this.currentInfos = infos;
+        this.current = openReader(infos, null);
+        refreshListener.accept(current, null);
+    }
+
+    /**
+     * Sets the segment infos that the next refresh opens a reader on. All the files of these segments must exist in the directory.
+     */
+    void updateSegments(SegmentInfos infos) {
+        currentInfos = infos;
+    }
+
+    /**
+     * The segment infos that the current reader was opened on, or that the next refresh opens a reader on.
+     */
+    SegmentInfos getSegmentInfos() {
+        return currentInfos;
+    }
+
+    @Override
+    protected OpenSearchDirectoryReader refreshIfNeeded(OpenSearchDirectoryReader referenceToRefresh) throws IOException {
+        final SegmentInfos infos = currentInfos;
+        final StandardDirectoryReader current = unwrap(referenceToRefresh);
+        if (current.getSegmentInfos() == infos) {
+            return null;
+        }
+        final OpenSearchDirectoryReader reader = openReader(infos, current);
+        refreshListener.accept(reader, referenceToRefresh);
+        return reader;
+    }
+
+    private OpenSearchDirectoryReader openReader(SegmentInfos infos, StandardDirectoryReader previous) throws IOException {
+        final List<LeafReader> reusableReaders = new ArrayList<>();
+        if (previous != null) {
+            // a new primary may write a segment under the name of a segment of the previous primary, whose reader can't be shared
+            final Map<String, SegmentCommitInfo> segments = new HashMap<>();
+            for (SegmentCommitInfo info : infos) {
+                segments.put(info.info.name, info);
+            }
+            for (LeafReaderContext leaf : previous.leaves()) {
+                final SegmentReader segmentReader = (SegmentReader) leaf.reader();
+                final SegmentCommitInfo info = segments.get(segmentReader.getSegmentName());
+                if (info != null && Arrays.equals(info.info.getId(), segmentReader.getSegmentInfo().info.getId())) {
+                    reusableReaders.add(segmentReader);
+                }
+            }
+        }
+        DirectoryReader reader = StandardDirectoryReader.open(directory, infos, reusableReaders);
+        if (softDeletesEnabled) {
+            reader = new SoftDeletesDirectoryReaderWrapper(reader, Lucene.SOFT_DELETES_FIELD);
+        }
+        return OpenSearchDirectoryReader.wrap(reader, shardId);
+    }
+
+    private static StandardDirectoryReader unwrap(OpenSearchDirectoryReader reader) {
+        final DirectoryReader unwrapped = FilterDirectoryReader.unwrap(reader);
+        assert unwrapped instanceof StandardDirectoryReader : "expected a standard directory reader but got " + unwrapped;
+        return (StandardDirectoryReader) unwrapped;
+    }
+
+    @Override
+    protected void decRef(OpenSearchDirectoryReader reference) throws IOException {
+        reference.decRef();
+    }
+
+    @Override
+    protected boolean tryIncRef(OpenSearchDirectoryReader reference) {
+        return reference.tryIncRef();
+    }
+
+    @Override
+    protected int getRefCount(OpenSearchDirectoryReader reference) {
+        return reference.getRefCount();
+    }
+}
@@ -78,6 +78,8 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    /** Upper bound for the auto throttle rate that the node sets based on the load of the devices merges write to. */
+    private double nodeIORateLimitMBPerSec = Double.POSITIVE_INFINITY;
 
     OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
         this.config = indexSettings.getMergeSchedulerConfig();
@@ -187,6 +189,25 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         return thread;
     }
 
+    /**
+     * Caps the rate the auto throttle lets merges write at. Merges that are too small to be throttled by the auto throttle and
+     * forced merges are not affected, neither are merges of shards that disabled the auto throttle.
+     */
+    synchronized void setNodeIORateLimit(double mbPerSec) {
+        if (mbPerSec != nodeIORateLimitMBPerSec) {
+            nodeIORateLimitMBPerSec = mbPerSec;
+            updateMergeThreads();
+        }
+    }
+
+    @Override
+    protected synchronized void updateMergeThreads() {
+        if (targetMBPerSec > nodeIORateLimitMBPerSec) {
+            targetMBPerSec = nodeIORateLimitMBPerSec;
+        }
+        super.updateMergeThreads();
+    }
+
     MergeStats stats() {
         final MergeStats mergeStats = new MergeStats();
         mergeStats.add(totalMerges.count(), totalMerges.sum(), totalMergesNumDocs.count(), totalMergesSizeInBytes.count(),
@@ -194,6 +215,17 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 totalMergeStoppedTime.count(),
                 totalMergeThrottledTime.count(),
                 config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY);
+        // merges beyond the maximum thread count wait, the largest ones first
+        final int backlog = onGoingMerges.size() - getMaxThreadCount();
+        if (backlog > 0) {
+            final long backlogSizeInBytes = onGoingMerges.stream()
+                .map(OnGoingMerge::getTotalBytesSize)
+                .sorted(Collections.reverseOrder())
+                .limit(backlog)
+                .mapToLong(Long::longValue)
+                .sum();
+            mergeStats.addBacklog(backlog, backlogSizeInBytes);
+        }
         return mergeStats;
     }
 
@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ByteArray;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A {@link LiveVersionMap.VersionTable} that packs the uids and the version values of the indexed documents into paged arrays,
+ * rather than keeping a {@link BytesRef} and an {@link IndexVersionValue} object per uid in a hash map.
+ * <p>
+ * The table is split into stripes, selected by the hash of the uid, that are each guarded by their own lock. Each stripe appends
+ * the bytes of its uids to a byte arena and the values of its entries to parallel arrays, and indexes the entries with an
+ * open-addressing hash table using linear probing. Lookups don't take the lock of the stripe: they read the arrays optimistically
+ * and only retry under the read lock if a concurrent write modified the stripe in the meantime. Removed entries are only marked as
+ * removed: the table is discarded as a whole once the refresh that follows makes its entries visible to the searcher, so that the
+ * memory of removed entries isn't reclaimed.
+ * <p>
+ * The arrays are allocated from non-recycling {@link BigArrays} on purpose: a lookup may still read a table that a concurrent
+ * refresh already discarded, so that its pages must not be handed to another table.
+ */
+final class PackedVersionTable implements LiveVersionMap.VersionTable {
+
+    private static final int NUM_STRIPES = 16;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+
+    private static final int NO_LOCATION = -1;
+    private static final int REMOVED = -2;
+
+    private final Stripe[] stripes = new Stripe[NUM_STRIPES];
+
+    PackedVersionTable() {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static int hash(BytesRef uid) {
+        return StringHelper.murmurhash3_x86_32(uid, 0);
+    }
+
+    private Stripe stripe(int hash) {
+        // the low bits of the hash select the slot within the stripe
+        return stripes[(hash >>> 28) & (NUM_STRIPES - 1)];
+    }
+
+    @Override
+    public VersionValue get(BytesRef uid) {
+        final int hash = hash(uid);
+        return stripe(hash).get(uid, hash);
+    }
+
+    @Override
+    public long put(BytesRef uid, VersionValue value) {
+        if (value instanceof IndexVersionValue == false) {
+            throw new IllegalArgumentException("only index version values can be packed, got " + value);
+        }
+        final int hash = hash(uid);
+        return stripe(hash).put(uid, hash, value);
+    }
+
+    @Override
+    public long remove(BytesRef uid) {
+        final int hash = hash(uid);
+        stripe(hash).remove(uid, hash);
+        // the memory of the entry is only released once the table is discarded
+        return 0;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    @Override
+    public Map<BytesRef, VersionValue> asMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(map);
+        }
+        return map;
+    }
+
+    private static final class Stripe {
+
+        private final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+        private final StampedLock lock = new StampedLock();
+
+        // open-addressing table of entry ids plus one, 0 for empty slots
+        private IntArray slots;
+        private int mask;
+
+        // the uids of the entries, appended to the arena
+        private ByteArray arena;
+        private long arenaSize;
+        private LongArray uidOffsets;
+        private IntArray uidLengths;
+        private IntArray hashes;
+
+        // the values of the entries
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        private LongArray locationGenerations;
+        private LongArray locationOffsets;
+        private IntArray locationSizes;
+
+        private int numEntries;
+        private int size;
+        private long ramBytesUsed;
+
+        VersionValue get(BytesRef uid, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    final int entry = find(uid, hash);
+                    if (entry < 0) {
+                        if (lock.validate(stamp)) {
+                            return null;
+                        }
+                    } else {
+                        final long version = versions.get(entry);
+                        final long seqNo = seqNos.get(entry);
+                        final long term = terms.get(entry);
+                        final long generation = locationGenerations.get(entry);
+                        final long offset = locationOffsets.get(entry);
+                        final int locationSize = locationSizes.get(entry);
+                        if (lock.validate(stamp)) {
+                            return versionValue(version, seqNo, term, generation, offset, locationSize);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    // a concurrent write resized the arrays while they were read, the lookup is retried under the read lock
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                final int entry = find(uid, hash);
+                return entry < 0 ? null : versionValue(entry);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long put(BytesRef uid, int hash, VersionValue value) {
+            final long stamp = lock.writeLock();
+            try {
+                return doPut(uid, hash, value);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private long doPut(BytesRef uid, int hash, VersionValue value) {
+            final long ramBytesUsedBefore = ramBytesUsed;
+            if (slots == null) {
+                allocate();
+            }
+            int entry = find(uid, hash);
+            if (entry < 0) {
+                entry = append(uid, hash);
+                insert(entry, hash);
+                size++;
+                if (numEntries > MAX_LOAD_FACTOR * (mask + 1)) {
+                    rehash();
+                }
+            } else if (locationSizes.get(entry) == REMOVED) {
+                size++;
+            }
+            versions.set(entry, value.version);
+            seqNos.set(entry, value.seqNo);
+            terms.set(entry, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                locationSizes.set(entry, NO_LOCATION);
+            } else {
+                locationGenerations.set(entry, location.generation);
+                locationOffsets.set(entry, location.translogLocation);
+                locationSizes.set(entry, location.size);
+            }
+            updateRamBytesUsed();
+            return ramBytesUsed - ramBytesUsedBefore;
+        }
+
+        void remove(BytesRef uid, int hash) {
+            final long stamp = lock.writeLock();
+            try {
+                final int entry = find(uid, hash);
+                if (entry >= 0 && locationSizes.get(entry) != REMOVED) {
+                    locationSizes.set(entry, REMOVED);
+                    size--;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            final long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void copyTo(Map<BytesRef, VersionValue> map) {
+            final long stamp = lock.readLock();
+            try {
+                for (int entry = 0; entry < numEntries; entry++) {
+                    if (locationSizes.get(entry) != REMOVED) {
+                        final BytesRef uid = new BytesRef();
+                        arena.get(uidOffsets.get(entry), uidLengths.get(entry), uid);
+                        map.put(BytesRef.deepCopyOf(uid), versionValue(entry));
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private VersionValue versionValue(int entry) {
+            return versionValue(versions.get(entry), seqNos.get(entry), terms.get(entry), locationGenerations.get(entry),
+                locationOffsets.get(entry), locationSizes.get(entry));
+        }
+
+        private static VersionValue versionValue(long version, long seqNo, long term, long generation, long offset, int locationSize) {
+            if (locationSize == REMOVED) {
+                return null;
+            }
+            final Translog.Location location = locationSize == NO_LOCATION ? null : new Translog.Location(generation, offset, locationSize);
+            return new IndexVersionValue(location, version, seqNo, term);
+        }
+
+        private void allocate() {
+            slots = bigArrays.newIntArray(INITIAL_CAPACITY);
+            mask = INITIAL_CAPACITY - 1;
+            arena = bigArrays.newByteArray(INITIAL_CAPACITY * 16, false);
+            uidOffsets = bigArrays.newLongArray(INITIAL_CAPACITY, false);
+            uidLengths = bigArrays.newIntArray(INITIAL_CAPACITY, false);
+            hashes = bigArrays.newIntArray(INITIAL_CAPACITY, false);
+            versions = bigArrays.newLongArray(INITIAL_CAPACITY, false);
+            seqNos = bigArrays.newLongArray(INITIAL_CAPACITY, false);
+            terms = bigArrays.newLongArray(INITIAL_CAPACITY, false);
+            locationGenerations = bigArrays.newLongArray(INITIAL_CAPACITY, false);
+            locationOffsets = bigArrays.newLongArray(INITIAL_CAPACITY, false);
+            locationSizes = bigArrays.newIntArray(INITIAL_CAPACITY, false);
+        }
+
+        /**
+         * Returns the entry of the given uid, or {@code -1} if the stripe doesn't have one. This may be called without holding the
+         * lock, in which case the result must be validated: the probing is bounded so that it terminates even if a concurrent write
+         * modifies the table, and the uids are compared in place so that no shared state is modified.
+         */
+        private int find(BytesRef uid, int hash) {
+            final IntArray slots = this.slots;
+            final int mask = this.mask;
+            if (slots == null) {
+                return -1;
+            }
+            int slot = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final int entry = slots.get(slot) - 1;
+                if (entry < 0) {
+                    return -1;
+                }
+                if (hashes.get(entry) == hash && uidEquals(entry, uid)) {
+                    return entry;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private boolean uidEquals(int entry, BytesRef uid) {
+            if (uidLengths.get(entry) != uid.length) {
+                return false;
+            }
+            final long offset = uidOffsets.get(entry);
+            for (int i = 0; i < uid.length; i++) {
+                if (arena.get(offset + i) != uid.bytes[uid.offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int append(BytesRef uid, int hash) {
+            final int entry = numEntries++;
+            arena = bigArrays.grow(arena, arenaSize + uid.length);
+            arena.set(arenaSize, uid.bytes, uid.offset, uid.length);
+            uidOffsets = bigArrays.grow(uidOffsets, numEntries);
+            uidOffsets.set(entry, arenaSize);
+            arenaSize += uid.length;
+            uidLengths = bigArrays.grow(uidLengths, numEntries);
+            uidLengths.set(entry, uid.length);
+            hashes = bigArrays.grow(hashes, numEntries);
+            hashes.set(entry, hash);
+            versions = bigArrays.grow(versions, numEntries);
+            seqNos = bigArrays.grow(seqNos, numEntries);
+            terms = bigArrays.grow(terms, numEntries);
+            locationGenerations = bigArrays.grow(locationGenerations, numEntries);
+            locationOffsets = bigArrays.grow(locationOffsets, numEntries);
+            locationSizes = bigArrays.grow(locationSizes, numEntries);
+            return entry;
+        }
+
+        private void insert(int entry, int hash) {
+            int slot = hash & mask;
+            while (slots.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots.set(slot, entry + 1);
+        }
+
+        private void rehash() {
+            final int capacity = (mask + 1) << 1;
+            slots.close();
+            slots = bigArrays.newIntArray(capacity);
+            mask = capacity - 1;
+            for (int entry = 0; entry < numEntries; entry++) {
+                insert(entry, hashes.get(entry));
+            }
+        }
+
+        private void updateRamBytesUsed() {
+            ramBytesUsed = slots.ramBytesUsed() + arena.ramBytesUsed() + uidOffsets.ramBytesUsed() + uidLengths.ramBytesUsed()
+                + hashes.ramBytesUsed() + versions.ramBytesUsed() + seqNos.ramBytesUsed() + terms.ramBytesUsed()
+                + locationGenerations.ramBytesUsed() + locationOffsets.ramBytesUsed() + locationSizes.ramBytesUsed();
+        }
+    }
+}
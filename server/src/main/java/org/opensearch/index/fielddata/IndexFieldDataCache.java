@@ -57,6 +57,12 @@ public interface IndexFieldDataCache {
      */
     void clear(String fieldName);
 
+    /**
+     * Clears the state that this cache keeps for the specified shard beyond the lifetime of its readers, once the shard is closed.
+     */
+    default void clear(ShardId shardId) {
+    }
+
     interface Listener {
 
         /**
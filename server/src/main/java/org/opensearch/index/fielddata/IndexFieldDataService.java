@@ -121,6 +121,18 @@ public class IndexFieldDataService extends AbstractIndexComponent implements Clo
         ExceptionsHelper.maybeThrowRuntimeAndSuppress(exceptions);
     }
 
+    public synchronized void clearShard(final ShardId shardId) {
+        List<Exception> exceptions = new ArrayList<>(0);
+        for (IndexFieldDataCache cache : fieldDataCaches.values()) {
+            try {
+                cache.clear(shardId);
+            } catch (Exception e) {
+                exceptions.add(e);
+            }
+        }
+        ExceptionsHelper.maybeThrowRuntimeAndSuppress(exceptions);
+    }
+
     /**
      * Returns fielddata for the provided field type, given the provided fully qualified index name, while also making
      * a {@link SearchLookup} supplier available that is required for runtime fields.
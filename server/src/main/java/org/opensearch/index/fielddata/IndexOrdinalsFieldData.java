@@ -35,7 +35,9 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.OrdinalMap;
-
+import org.apache.lucene.util.LongValues;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
 
 /**
  * Specialization of {@link IndexFieldData} for data that is indexed with ordinals.
@@ -55,12 +57,30 @@ public interface IndexOrdinalsFieldData extends IndexFieldData.Global<LeafOrdina
     @Override
     IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader) throws Exception;
 
+    /**
+     * Load a global view of the ordinals for the given {@link IndexReader}, extending the global ordinals
+     * of a previous reader of the same shard rather than rebuilding them when possible.
+     */
+    default IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader,
+                                                    @Nullable IncrementalOrdinalMap previous) throws Exception {
+        return loadGlobalDirect(indexReader);
+    }
+
     /**
      * Returns the underlying {@link OrdinalMap} for this fielddata
      * or null if global ordinals are not needed (constant value or single segment).
      */
     OrdinalMap getOrdinalMap();
 
+    /**
+     * Returns the mapping from the ordinals of the segment at the given index to global ordinals,
+     * or null if global ordinals are not needed (constant value or single segment).
+     */
+    default LongValues getGlobalOrds(int segmentIndex) {
+        final OrdinalMap ordinalMap = getOrdinalMap();
+        return ordinalMap == null ? null : ordinalMap.getGlobalOrds(segmentIndex);
+    }
+
     /**
      * Whether this field data is able to provide a mapping between global and segment ordinals,
      * by returning the underlying {@link OrdinalMap}. If this method returns false, then calling
@@ -35,11 +35,11 @@ package org.opensearch.index.fielddata.ordinals;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.util.Accountable;
-import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
 import org.opensearch.index.fielddata.LeafOrdinalsFieldData;
@@ -65,6 +65,17 @@ public enum GlobalOrdinalsBuilder {
     public static IndexOrdinalsFieldData build(final IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
             CircuitBreakerService breakerService, Logger logger,
             Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) throws IOException {
+        return build(indexReader, indexFieldData, breakerService, logger, scriptFunction, null);
+    }
+
+    /**
+     * Build global ordinals for the provided {@link IndexReader}, extending the given global ordinals of a previous
+     * reader of the same shard if the provided reader only added segments to it.
+     */
+    public static IndexOrdinalsFieldData build(final IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
+            CircuitBreakerService breakerService, Logger logger,
+            Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction,
+            @Nullable IncrementalOrdinalMap previous) throws IOException {
         assert indexReader.leaves().size() > 1;
         long startTimeNS = System.nanoTime();
 
@@ -74,20 +85,26 @@ public enum GlobalOrdinalsBuilder {
             atomicFD[i] = indexFieldData.load(indexReader.leaves().get(i));
             subs[i] = atomicFD[i].getOrdinalsValues();
         }
-        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        final IndexReader.CacheKey[] segmentKeys = segmentKeys(indexReader);
+        IncrementalOrdinalMap ordinalMap = previous == null ? null : IncrementalOrdinalMap.extend(previous, segmentKeys, subs);
+        final boolean extended = ordinalMap != null;
+        if (ordinalMap == null) {
+            ordinalMap = IncrementalOrdinalMap.build(segmentKeys, subs);
+        }
         final long memorySizeInBytes = ordinalMap.ramBytesUsed();
         breakerService.getBreaker(CircuitBreaker.FIELDDATA).addWithoutBreaking(memorySizeInBytes);
 
         if (logger.isDebugEnabled()) {
             logger.debug(
-                    "global-ordinals [{}][{}] took [{}]",
+                    "global-ordinals [{}][{}] took [{}] (extended: {})",
                     indexFieldData.getFieldName(),
                     ordinalMap.getValueCount(),
-                    new TimeValue(System.nanoTime() - startTimeNS, TimeUnit.NANOSECONDS)
+                    new TimeValue(System.nanoTime() - startTimeNS, TimeUnit.NANOSECONDS),
+                    extended
             );
         }
         return new GlobalOrdinalsIndexFieldData(indexFieldData.getFieldName(), indexFieldData.getValuesSourceType(),
-                atomicFD, ordinalMap, memorySizeInBytes, scriptFunction
+                atomicFD, ordinalMap, memorySizeInBytes, scriptFunction, breakerService.getBreaker(CircuitBreaker.FIELDDATA)
         );
     }
 
@@ -119,10 +136,26 @@ public enum GlobalOrdinalsBuilder {
             };
             subs[i] = atomicFD[i].getOrdinalsValues();
         }
-        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        final IncrementalOrdinalMap ordinalMap = IncrementalOrdinalMap.build(null, subs);
         return new GlobalOrdinalsIndexFieldData(indexFieldData.getFieldName(), indexFieldData.getValuesSourceType(),
-                atomicFD, ordinalMap, 0, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION
+                atomicFD, ordinalMap, 0, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION,
+                new NoopCircuitBreaker(CircuitBreaker.FIELDDATA)
         );
     }
 
+    /**
+     * Returns the core cache keys of the segments of the given reader, or {@code null} if some segments don't have one.
+     */
+    private static IndexReader.CacheKey[] segmentKeys(IndexReader indexReader) {
+        final IndexReader.CacheKey[] segmentKeys = new IndexReader.CacheKey[indexReader.leaves().size()];
+        for (int i = 0; i < segmentKeys.length; ++i) {
+            final IndexReader.CacheHelper cacheHelper = indexReader.leaves().get(i).reader().getCoreCacheHelper();
+            if (cacheHelper == null) {
+                return null;
+            }
+            segmentKeys[i] = cacheHelper.getKey();
+        }
+        return segmentKeys;
+    }
+
 }
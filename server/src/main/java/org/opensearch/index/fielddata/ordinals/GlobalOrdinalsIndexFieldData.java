@@ -38,7 +38,11 @@ import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.index.fielddata.IndexFieldData.XFieldComparatorSource.Nested;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
@@ -65,29 +69,39 @@ import java.util.function.Function;
  * Each instance of {@link Consumer} uses a new set of {@link TermsEnum} that can be reused during the collection,
  * this is done to avoid creating all segment's {@link TermsEnum} each time we want to access the values of a single
  * segment.
+ * <p>
+ * Global ordinals that were extended incrementally lazily build an {@link OrdinalMap} over all segments for the consumers
+ * that need one. It is built once, accounted in the fielddata circuit breaker and released when this instance is closed.
  */
-public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldData, Accountable {
+public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldData, Accountable, Releasable {
 
     private final String fieldName;
     private final ValuesSourceType valuesSourceType;
     private final long memorySizeInBytes;
 
-    private final OrdinalMap ordinalMap;
+    private final IncrementalOrdinalMap ordinalMap;
     private final LeafOrdinalsFieldData[] segmentAfd;
     private final Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction;
+    private final CircuitBreaker breaker;
+
+    // the ordinal map over all segments of incremental global ordinals, built on demand
+    private OrdinalMap fullOrdinalMap;
+    private boolean closed;
 
     protected GlobalOrdinalsIndexFieldData(String fieldName,
                                            ValuesSourceType valuesSourceType,
                                            LeafOrdinalsFieldData[] segmentAfd,
-                                           OrdinalMap ordinalMap,
+                                           IncrementalOrdinalMap ordinalMap,
                                            long memorySizeInBytes,
-                                           Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) {
+                                           Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction,
+                                           CircuitBreaker breaker) {
         this.fieldName = fieldName;
         this.valuesSourceType = valuesSourceType;
         this.memorySizeInBytes = memorySizeInBytes;
         this.ordinalMap = ordinalMap;
         this.segmentAfd = segmentAfd;
         this.scriptFunction = scriptFunction;
+        this.breaker = breaker;
     }
 
     public IndexOrdinalsFieldData newConsumer(DirectoryReader source) {
@@ -148,9 +162,67 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
 
     @Override
     public OrdinalMap getOrdinalMap() {
+        return toOrdinalMap();
+    }
+
+    @Override
+    public LongValues getGlobalOrds(int segmentIndex) {
+        return ordinalMap.getGlobalOrds(segmentIndex);
+    }
+
+    /**
+     * Returns the mapping between the ordinals of the segments and global ordinals, which may extend the mapping of the
+     * global ordinals of a previous reader.
+     */
+    public IncrementalOrdinalMap getIncrementalOrdinalMap() {
         return ordinalMap;
     }
 
+    /**
+     * Returns an {@link OrdinalMap} over all segments. Global ordinals that were extended incrementally only have an
+     * {@link OrdinalMap} over their base segments, so the consumers that need one over all segments, such as joins,
+     * build it on the first call and reuse it afterwards.
+     */
+    private OrdinalMap toOrdinalMap() {
+        if (ordinalMap.isIncremental() == false) {
+            return ordinalMap.getBase();
+        }
+        synchronized (this) {
+            if (fullOrdinalMap != null) {
+                return fullOrdinalMap;
+            }
+            final SortedSetDocValues[] subs = new SortedSetDocValues[segmentAfd.length];
+            for (int i = 0; i < segmentAfd.length; i++) {
+                subs[i] = segmentAfd[i].getOrdinalsValues();
+            }
+            final OrdinalMap built;
+            try {
+                built = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to build ordinal map", e);
+            }
+            if (closed) {
+                // evicted from the cache, the map is only used by the caller and must not be accounted anymore
+                return built;
+            }
+            breaker.addEstimateBytesAndMaybeBreak(built.ramBytesUsed(), fieldName);
+            fullOrdinalMap = built;
+            return built;
+        }
+    }
+
+    /**
+     * Releases the ordinal map over all segments that was built on demand from the fielddata circuit breaker.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (fullOrdinalMap != null) {
+            breaker.addWithoutBreaking(-fullOrdinalMap.ramBytesUsed());
+            fullOrdinalMap = null;
+        }
+    }
+
     @Override
     public boolean supportsGlobalOrdinalsMapping() {
         return true;
@@ -269,7 +341,12 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
 
         @Override
         public OrdinalMap getOrdinalMap() {
-            return ordinalMap;
+            return toOrdinalMap();
+        }
+
+        @Override
+        public LongValues getGlobalOrds(int segmentIndex) {
+            return ordinalMap.getGlobalOrds(segmentIndex);
         }
 
     }
@@ -0,0 +1,394 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.PriorityQueue;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Maps the ordinals of the segments of a reader to global ordinals, like an {@link OrdinalMap}, but can be extended with the
+ * segments that a newer reader of the same shard added without rebuilding the mapping of the segments that both readers share.
+ * <p>
+ * The mapping is made of an {@link OrdinalMap} over the base segments, which is built when the mapping can't be extended, and
+ * of the segments that were appended since then. The terms of the appended segments that the base segments don't have are
+ * inserted into the global ordinals, which shifts the global ordinals of the base terms: these are remapped through a
+ * monotonic mapping, while each appended segment has its own mapping to global ordinals. Extending the mapping with new
+ * segments only looks up the terms of the new segments in the existing global ordinals, and then rewrites the monotonic
+ * mappings, which doesn't compare any term.
+ */
+public final class IncrementalOrdinalMap implements Accountable {
+
+    /**
+     * The maximum number of appended segments, after which the mapping is rebuilt from scratch.
+     */
+    static final int MAX_APPENDED_SEGMENTS = 32;
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(IncrementalOrdinalMap.class);
+
+    /**
+     * The core cache keys of the segments, or {@code null} if some segments can't be identified.
+     */
+    @Nullable
+    private final IndexReader.CacheKey[] segmentKeys;
+    private final OrdinalMap base;
+    private final int numBaseSegments;
+    /**
+     * Maps the global ordinals of the base to global ordinals, or {@code null} if no term was inserted.
+     */
+    @Nullable
+    private final PackedLongValues baseToGlobal;
+    /**
+     * The sorted global ordinals of the terms that the base doesn't have, and the first segment that has each of them.
+     */
+    private final PackedLongValues addedGlobalOrds;
+    private final PackedLongValues addedSegments;
+    private final PackedLongValues addedSegmentOrds;
+    private final PackedLongValues[] appendedSegmentToGlobal;
+    private final long valueCount;
+
+    private IncrementalOrdinalMap(IndexReader.CacheKey[] segmentKeys, OrdinalMap base, int numBaseSegments,
+                                  PackedLongValues baseToGlobal, PackedLongValues addedGlobalOrds, PackedLongValues addedSegments,
+                                  PackedLongValues addedSegmentOrds, PackedLongValues[] appendedSegmentToGlobal, long valueCount) {
+        this.segmentKeys = segmentKeys;
+        this.base = base;
+        this.numBaseSegments = numBaseSegments;
+        this.baseToGlobal = baseToGlobal;
+        this.addedGlobalOrds = addedGlobalOrds;
+        this.addedSegments = addedSegments;
+        this.addedSegmentOrds = addedSegmentOrds;
+        this.appendedSegmentToGlobal = appendedSegmentToGlobal;
+        this.valueCount = valueCount;
+    }
+
+    /**
+     * Builds the mapping of the given segments from scratch.
+     *
+     * @param segmentKeys the core cache keys of the segments, or {@code null} if the mapping must never be extended
+     */
+    public static IncrementalOrdinalMap build(@Nullable IndexReader.CacheKey[] segmentKeys, SortedSetDocValues[] subs)
+            throws IOException {
+        final OrdinalMap base = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        final PackedLongValues empty = PackedLongValues.monotonicBuilder(PackedInts.COMPACT).build();
+        return new IncrementalOrdinalMap(segmentKeys, base, subs.length, null, empty, empty, empty, new PackedLongValues[0],
+            base.getValueCount());
+    }
+
+    /**
+     * Extends the given mapping of the segments of a previous reader with the segments that the current reader added, or
+     * returns {@code null} if the mapping must be rebuilt, because the current reader doesn't start with the segments of the
+     * previous reader or because too many segments were appended since the mapping was last rebuilt.
+     */
+    @Nullable
+    public static IncrementalOrdinalMap extend(IncrementalOrdinalMap previous, @Nullable IndexReader.CacheKey[] segmentKeys,
+                                               SortedSetDocValues[] subs) throws IOException {
+        if (previous.segmentKeys == null || segmentKeys == null || segmentKeys.length < previous.segmentKeys.length) {
+            return null;
+        }
+        final int numPreviousSegments = previous.segmentKeys.length;
+        for (int i = 0; i < numPreviousSegments; i++) {
+            if (segmentKeys[i] != previous.segmentKeys[i]) {
+                // segments were merged or dropped
+                return null;
+            }
+        }
+        if (segmentKeys.length == numPreviousSegments) {
+            return previous;
+        }
+        if (segmentKeys.length - previous.numBaseSegments > MAX_APPENDED_SEGMENTS) {
+            return null;
+        }
+
+        // merge the terms of the new segments and look them up in the previous global ordinals
+        final int numNewSegments = segmentKeys.length - numPreviousSegments;
+        final PackedLongValues.Builder[] newSegmentToGlobal = new PackedLongValues.Builder[numNewSegments];
+        final SegmentTermsQueue queue = new SegmentTermsQueue(numNewSegments);
+        for (int i = 0; i < numNewSegments; i++) {
+            newSegmentToGlobal[i] = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+            final SegmentTerms segmentTerms = new SegmentTerms(numPreviousSegments + i, subs[numPreviousSegments + i].termsEnum());
+            if (segmentTerms.next() != null) {
+                queue.add(segmentTerms);
+            }
+        }
+        final PackedLongValues.Builder insertedPositions = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        final PackedLongValues.Builder insertedSegments = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        final PackedLongValues.Builder insertedSegmentOrds = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        final BytesRefBuilder term = new BytesRefBuilder();
+        long numInserted = 0;
+        // the terms of the previous global ordinals below this one are smaller than the current term
+        long lower = 0;
+        while (queue.size() != 0) {
+            final SegmentTerms top = queue.top();
+            term.copyBytes(top.term);
+            long upper = previous.valueCount - 1;
+            long found = -1;
+            while (lower <= upper) {
+                final long mid = (lower + upper) >>> 1;
+                final int cmp = previous.lookupOrd(subs, mid).compareTo(term.get());
+                if (cmp < 0) {
+                    lower = mid + 1;
+                } else if (cmp > 0) {
+                    upper = mid - 1;
+                } else {
+                    found = mid;
+                    break;
+                }
+            }
+            final long globalOrd;
+            if (found >= 0) {
+                globalOrd = found + numInserted;
+                lower = found + 1;
+            } else {
+                globalOrd = lower + numInserted;
+                insertedPositions.add(lower);
+                insertedSegments.add(top.segment);
+                insertedSegmentOrds.add(top.ord);
+                numInserted++;
+            }
+            while (queue.size() != 0 && queue.top().term.equals(term.get())) {
+                final SegmentTerms segmentTerms = queue.top();
+                newSegmentToGlobal[segmentTerms.segment - numPreviousSegments].add(globalOrd);
+                if (segmentTerms.next() == null) {
+                    queue.pop();
+                } else {
+                    queue.updateTop();
+                }
+            }
+        }
+        final PackedLongValues inserted = insertedPositions.build();
+        final PackedLongValues insertedSegmentValues = insertedSegments.build();
+        final PackedLongValues insertedSegmentOrdValues = insertedSegmentOrds.build();
+
+        // shift the global ordinals of the base terms
+        final long numBaseValues = previous.base.getValueCount();
+        PackedLongValues baseToGlobal = previous.baseToGlobal;
+        if (numInserted > 0) {
+            final OrdinalShift shift = new OrdinalShift(inserted);
+            final PackedLongValues.Builder builder = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+            for (long baseOrd = 0; baseOrd < numBaseValues; baseOrd++) {
+                builder.add(shift.apply(previous.baseToGlobal == null ? baseOrd : previous.baseToGlobal.get(baseOrd)));
+            }
+            baseToGlobal = builder.build();
+        }
+
+        // merge the previously added terms, shifted, with the inserted terms
+        final PackedLongValues.Builder addedGlobalOrds = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        final PackedLongValues.Builder addedSegments = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        final PackedLongValues.Builder addedSegmentOrds = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        final OrdinalShift addedShift = new OrdinalShift(inserted);
+        final long numPreviouslyAdded = previous.addedGlobalOrds.size();
+        for (long i = 0, j = 0; i < numPreviouslyAdded || j < numInserted; ) {
+            final long previouslyAdded = i < numPreviouslyAdded ? addedShift.apply(previous.addedGlobalOrds.get(i)) : Long.MAX_VALUE;
+            final long insertedGlobalOrd = j < numInserted ? inserted.get(j) + j : Long.MAX_VALUE;
+            if (previouslyAdded < insertedGlobalOrd) {
+                addedGlobalOrds.add(previouslyAdded);
+                addedSegments.add(previous.addedSegments.get(i));
+                addedSegmentOrds.add(previous.addedSegmentOrds.get(i));
+                i++;
+            } else {
+                addedGlobalOrds.add(insertedGlobalOrd);
+                addedSegments.add(insertedSegmentValues.get(j));
+                addedSegmentOrds.add(insertedSegmentOrdValues.get(j));
+                j++;
+            }
+        }
+
+        // shift the mappings of the previously appended segments, and add the new ones
+        final int numPreviouslyAppended = previous.appendedSegmentToGlobal.length;
+        final PackedLongValues[] appendedSegmentToGlobal = new PackedLongValues[numPreviouslyAppended + numNewSegments];
+        for (int i = 0; i < numPreviouslyAppended; i++) {
+            final PackedLongValues segmentToGlobal = previous.appendedSegmentToGlobal[i];
+            if (numInserted == 0) {
+                appendedSegmentToGlobal[i] = segmentToGlobal;
+                continue;
+            }
+            final OrdinalShift shift = new OrdinalShift(inserted);
+            final PackedLongValues.Builder builder = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+            for (long ord = 0; ord < segmentToGlobal.size(); ord++) {
+                builder.add(shift.apply(segmentToGlobal.get(ord)));
+            }
+            appendedSegmentToGlobal[i] = builder.build();
+        }
+        for (int i = 0; i < numNewSegments; i++) {
+            appendedSegmentToGlobal[numPreviouslyAppended + i] = newSegmentToGlobal[i].build();
+        }
+        return new IncrementalOrdinalMap(segmentKeys, previous.base, previous.numBaseSegments, baseToGlobal, addedGlobalOrds.build(),
+            addedSegments.build(), addedSegmentOrds.build(), appendedSegmentToGlobal, previous.valueCount + numInserted);
+    }
+
+    /**
+     * Whether segments were appended to the base segments, in which case {@link #getBase()} doesn't map all segments.
+     */
+    public boolean isIncremental() {
+        return appendedSegmentToGlobal.length > 0;
+    }
+
+    /**
+     * The {@link OrdinalMap} of the base segments.
+     */
+    public OrdinalMap getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the total number of unique terms in the global ordinal space.
+     */
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * Given a segment number, returns a mapping from the ordinals of the segment to global ordinals.
+     */
+    public LongValues getGlobalOrds(int segmentIndex) {
+        if (segmentIndex >= numBaseSegments) {
+            return appendedSegmentToGlobal[segmentIndex - numBaseSegments];
+        }
+        final LongValues segmentToBase = base.getGlobalOrds(segmentIndex);
+        if (baseToGlobal == null) {
+            return segmentToBase;
+        }
+        return new LongValues() {
+            @Override
+            public long get(long index) {
+                return baseToGlobal.get(segmentToBase.get(index));
+            }
+        };
+    }
+
+    /**
+     * Given a global ordinal, returns the index of the first segment that contains this term.
+     */
+    public int getFirstSegmentNumber(long globalOrd) {
+        final long index = addedIndex(globalOrd);
+        if (index >= 0) {
+            return (int) addedSegments.get(index);
+        }
+        return base.getFirstSegmentNumber(globalOrd + index + 1);
+    }
+
+    /**
+     * Given a global ordinal, returns the corresponding ordinal in the first segment that contains this term.
+     */
+    public long getFirstSegmentOrd(long globalOrd) {
+        final long index = addedIndex(globalOrd);
+        if (index >= 0) {
+            return addedSegmentOrds.get(index);
+        }
+        return base.getFirstSegmentOrd(globalOrd + index + 1);
+    }
+
+    /**
+     * Returns the index of the given global ordinal among the added terms if it is one of them, or {@code -1 - n} where
+     * {@code n} is the number of added terms before it.
+     */
+    private long addedIndex(long globalOrd) {
+        long lo = 0;
+        long hi = addedGlobalOrds.size() - 1;
+        while (lo <= hi) {
+            final long mid = (lo + hi) >>> 1;
+            final long value = addedGlobalOrds.get(mid);
+            if (value < globalOrd) {
+                lo = mid + 1;
+            } else if (value > globalOrd) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1 - lo;
+    }
+
+    private BytesRef lookupOrd(SortedSetDocValues[] subs, long globalOrd) throws IOException {
+        return subs[getFirstSegmentNumber(globalOrd)].lookupOrd(getFirstSegmentOrd(globalOrd));
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long size = BASE_RAM_BYTES_USED + base.ramBytesUsed() + addedGlobalOrds.ramBytesUsed() + addedSegments.ramBytesUsed()
+            + addedSegmentOrds.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(appendedSegmentToGlobal);
+        if (baseToGlobal != null) {
+            size += baseToGlobal.ramBytesUsed();
+        }
+        for (PackedLongValues segmentToGlobal : appendedSegmentToGlobal) {
+            size += segmentToGlobal.ramBytesUsed();
+        }
+        if (segmentKeys != null) {
+            size += RamUsageEstimator.shallowSizeOf(segmentKeys);
+        }
+        return size;
+    }
+
+    /**
+     * Maps increasing global ordinals of the previous global ordinals to the global ordinals once terms were inserted.
+     */
+    private static final class OrdinalShift {
+
+        private final PackedLongValues insertedPositions;
+        private long numInsertedBefore;
+
+        OrdinalShift(PackedLongValues insertedPositions) {
+            this.insertedPositions = insertedPositions;
+        }
+
+        long apply(long globalOrd) {
+            while (numInsertedBefore < insertedPositions.size() && insertedPositions.get(numInsertedBefore) <= globalOrd) {
+                numInsertedBefore++;
+            }
+            return globalOrd + numInsertedBefore;
+        }
+    }
+
+    private static final class SegmentTerms {
+
+        private final int segment;
+        private final TermsEnum termsEnum;
+        private BytesRef term;
+        private long ord = -1;
+
+        SegmentTerms(int segment, TermsEnum termsEnum) {
+            this.segment = segment;
+            this.termsEnum = termsEnum;
+        }
+
+        BytesRef next() throws IOException {
+            term = termsEnum.next();
+            ord++;
+            return term;
+        }
+    }
+
+    private static final class SegmentTermsQueue extends PriorityQueue<SegmentTerms> {
+
+        SegmentTermsQueue(int size) {
+            super(size);
+        }
+
+        @Override
+        protected boolean lessThan(SegmentTerms a, SegmentTerms b) {
+            final int cmp = a.term.compareTo(b.term);
+            if (cmp != 0) {
+                return cmp < 0;
+            }
+            return a.segment < b.segment;
+        }
+    }
+}
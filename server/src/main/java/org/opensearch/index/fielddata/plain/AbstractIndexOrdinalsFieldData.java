@@ -48,6 +48,7 @@ import org.opensearch.index.fielddata.RamAccountingTermsEnum;
 import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsBuilder;
 import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.aggregations.support.ValuesSourceType;
 
@@ -170,6 +171,18 @@ public abstract class AbstractIndexOrdinalsFieldData implements IndexOrdinalsFie
         );
     }
 
+    @Override
+    public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader, IncrementalOrdinalMap previous) throws Exception {
+        return GlobalOrdinalsBuilder.build(
+            indexReader,
+            this,
+            breakerService,
+            logger,
+            scriptFunction,
+            previous
+        );
+    }
+
     @Override
     public boolean supportsGlobalOrdinalsMapping() {
         return false;
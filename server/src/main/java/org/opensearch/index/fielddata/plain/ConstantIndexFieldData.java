@@ -49,6 +49,7 @@ import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
 import org.opensearch.index.fielddata.LeafOrdinalsFieldData;
 import org.opensearch.index.fielddata.fieldcomparator.BytesRefFieldComparatorSource;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.MultiValueMode;
@@ -184,6 +185,11 @@ public class ConstantIndexFieldData extends AbstractIndexOrdinalsFieldData {
         return loadGlobal(indexReader);
     }
 
+    @Override
+    public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader, IncrementalOrdinalMap previous) {
+        return loadGlobal(indexReader);
+    }
+
     public String getValue() {
         return atomicFieldData.value;
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.merge;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -60,6 +61,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long totalBytesPerSecAutoThrottle;
 
+    /** Number of merges that are waiting for a merge thread. */
+    private long backlog;
+    private long backlogSizeInBytes;
+
     public MergeStats() {
 
     }
@@ -76,6 +81,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
         totalStoppedTimeInMillis = in.readVLong();
         totalThrottledTimeInMillis = in.readVLong();
         totalBytesPerSecAutoThrottle = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            backlog = in.readVLong();
+            backlogSizeInBytes = in.readVLong();
+        }
     }
 
     public void add(long totalMerges, long totalMergeTime, long totalNumDocs, long totalSizeInBytes,
@@ -98,6 +107,15 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
     }
 
+    /**
+     * Adds merges that are registered but are waiting for a merge thread, either because they were not started yet or because the
+     * merge scheduler paused them so that smaller merges could finish first.
+     */
+    public void addBacklog(long backlogMerges, long backlogSizeInBytes) {
+        this.backlog += backlogMerges;
+        this.backlogSizeInBytes += backlogSizeInBytes;
+    }
+
     public void add(MergeStats mergeStats) {
         if (mergeStats == null) {
             return;
@@ -105,6 +123,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.current += mergeStats.current;
         this.currentNumDocs += mergeStats.currentNumDocs;
         this.currentSizeInBytes += mergeStats.currentSizeInBytes;
+        this.backlog += mergeStats.backlog;
+        this.backlogSizeInBytes += mergeStats.backlogSizeInBytes;
 
         addTotals(mergeStats);
     }
@@ -210,12 +230,29 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(currentSizeInBytes);
     }
 
+    /**
+     * The number of current merges that are waiting for a merge thread.
+     */
+    public long getBacklog() {
+        return this.backlog;
+    }
+
+    public long getBacklogSizeInBytes() {
+        return this.backlogSizeInBytes;
+    }
+
+    public ByteSizeValue getBacklogSize() {
+        return new ByteSizeValue(backlogSizeInBytes);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.MERGES);
         builder.field(Fields.CURRENT, current);
         builder.field(Fields.CURRENT_DOCS, currentNumDocs);
         builder.humanReadableField(Fields.CURRENT_SIZE_IN_BYTES, Fields.CURRENT_SIZE, getCurrentSize());
+        builder.field(Fields.BACKLOG, backlog);
+        builder.humanReadableField(Fields.BACKLOG_SIZE_IN_BYTES, Fields.BACKLOG_SIZE, getBacklogSize());
         builder.field(Fields.TOTAL, total);
         builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, getTotalTime());
         builder.field(Fields.TOTAL_DOCS, totalNumDocs);
@@ -236,6 +273,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String CURRENT_DOCS = "current_docs";
         static final String CURRENT_SIZE = "current_size";
         static final String CURRENT_SIZE_IN_BYTES = "current_size_in_bytes";
+        static final String BACKLOG = "backlog";
+        static final String BACKLOG_SIZE = "backlog_size";
+        static final String BACKLOG_SIZE_IN_BYTES = "backlog_size_in_bytes";
         static final String TOTAL = "total";
         static final String TOTAL_TIME = "total_time";
         static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
@@ -263,5 +303,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalStoppedTimeInMillis);
         out.writeVLong(totalThrottledTimeInMillis);
         out.writeVLong(totalBytesPerSecAutoThrottle);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(backlog);
+            out.writeVLong(backlogSizeInBytes);
+        }
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.index.reindex;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.search.SearchRequest;
@@ -128,6 +129,12 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
      */
     private int slices = DEFAULT_SLICES;
 
+    /**
+     * Should the next scroll batch be fetched while the bulk request of the current one is in flight, and the size of the bulk requests
+     * be adapted to the observed bulk latency and rejections? Defaults to false meaning scroll and bulk requests strictly alternate.
+     */
+    private boolean pipelined = false;
+
     public AbstractBulkByScrollRequest(StreamInput in) throws IOException {
         super(in);
         searchRequest = new SearchRequest(in);
@@ -140,6 +147,9 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         maxRetries = in.readVInt();
         requestsPerSecond = in.readFloat();
         slices = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            pipelined = in.readBoolean();
+        }
     }
 
     /**
@@ -435,6 +445,24 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         return slices;
     }
 
+    /**
+     * Should the next scroll batch be fetched while the bulk request of the current one is in flight, and the size of the bulk requests
+     * be adapted to the observed bulk latency and rejections?
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Set whether the next scroll batch should be fetched while the bulk request of the current one is in flight, and the size of the
+     * bulk requests be adapted to the observed bulk latency and rejections. When slices are set as {@code "auto"} this also takes the
+     * load of the local node into account when picking the number of slices.
+     */
+    public Self setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+        return self();
+    }
+
     /**
      * Build a new request for a slice of the parent request.
      */
@@ -450,6 +478,7 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
 
         request.setAbortOnVersionConflict(abortOnVersionConflict).setRefresh(refresh).setTimeout(timeout)
                 .setWaitForActiveShards(activeShardCount).setRetryBackoffInitialTime(retryBackoffInitialTime).setMaxRetries(maxRetries)
+                .setPipelined(pipelined)
                 // Parent task will store result
                 .setShouldStoreResult(false)
                 // Split requests per second between all slices
@@ -491,6 +520,9 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         } else {
             out.writeVInt(slices);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeBoolean(pipelined);
+        }
     }
 
     /**
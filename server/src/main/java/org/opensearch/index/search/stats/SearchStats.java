@@ -32,6 +32,7 @@
 
 package org.opensearch.index.search.stats;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
@@ -67,6 +68,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long suggestTimeInMillis;
         private long suggestCurrent;
 
+        private long pitCount;
+        private long pitTimeInMillis;
+        private long pitCurrent;
+
         private Stats() {
             // for internal use, initializes all counts to 0
         }
@@ -76,6 +81,17 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 long fetchCount, long fetchTimeInMillis, long fetchCurrent,
                 long scrollCount, long scrollTimeInMillis, long scrollCurrent,
                 long suggestCount, long suggestTimeInMillis, long suggestCurrent
+        ) {
+            this(queryCount, queryTimeInMillis, queryCurrent, fetchCount, fetchTimeInMillis, fetchCurrent,
+                scrollCount, scrollTimeInMillis, scrollCurrent, suggestCount, suggestTimeInMillis, suggestCurrent, 0, 0, 0);
+        }
+
+        public Stats(
+                long queryCount, long queryTimeInMillis, long queryCurrent,
+                long fetchCount, long fetchTimeInMillis, long fetchCurrent,
+                long scrollCount, long scrollTimeInMillis, long scrollCurrent,
+                long suggestCount, long suggestTimeInMillis, long suggestCurrent,
+                long pitCount, long pitTimeInMillis, long pitCurrent
         ) {
             this.queryCount = queryCount;
             this.queryTimeInMillis = queryTimeInMillis;
@@ -92,6 +108,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.suggestCount = suggestCount;
             this.suggestTimeInMillis = suggestTimeInMillis;
             this.suggestCurrent = suggestCurrent;
+
+            this.pitCount = pitCount;
+            this.pitTimeInMillis = pitTimeInMillis;
+            this.pitCurrent = pitCurrent;
         }
 
         private Stats(StreamInput in) throws IOException {
@@ -110,6 +130,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
             suggestCount = in.readVLong();
             suggestTimeInMillis = in.readVLong();
             suggestCurrent = in.readVLong();
+
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                pitCount = in.readVLong();
+                pitTimeInMillis = in.readVLong();
+                pitCurrent = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -128,6 +154,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             suggestCount += stats.suggestCount;
             suggestTimeInMillis += stats.suggestTimeInMillis;
             suggestCurrent += stats.suggestCurrent;
+
+            pitCount += stats.pitCount;
+            pitTimeInMillis += stats.pitTimeInMillis;
+            pitCurrent += stats.pitCurrent;
         }
 
         public void addForClosingShard(Stats stats) {
@@ -144,6 +174,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
 
             suggestCount += stats.suggestCount;
             suggestTimeInMillis += stats.suggestTimeInMillis;
+
+            pitCount += stats.pitCount;
+            pitTimeInMillis += stats.pitTimeInMillis;
+            // need consider the count of the shard's current point in time readers
+            pitCount += stats.pitCurrent;
         }
 
         public long getQueryCount() {
@@ -210,6 +245,22 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return suggestCurrent;
         }
 
+        public long getPitCount() {
+            return pitCount;
+        }
+
+        public TimeValue getPitTime() {
+            return new TimeValue(pitTimeInMillis);
+        }
+
+        public long getPitTimeInMillis() {
+            return pitTimeInMillis;
+        }
+
+        public long getPitCurrent() {
+            return pitCurrent;
+        }
+
         public static Stats readStats(StreamInput in) throws IOException {
             return new Stats(in);
         }
@@ -231,6 +282,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
             out.writeVLong(suggestCount);
             out.writeVLong(suggestTimeInMillis);
             out.writeVLong(suggestCurrent);
+
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeVLong(pitCount);
+                out.writeVLong(pitTimeInMillis);
+                out.writeVLong(pitCurrent);
+            }
         }
 
         @Override
@@ -251,6 +308,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.SUGGEST_TIME_IN_MILLIS, Fields.SUGGEST_TIME, getSuggestTime());
             builder.field(Fields.SUGGEST_CURRENT, suggestCurrent);
 
+            builder.field(Fields.POINT_IN_TIME_TOTAL, pitCount);
+            builder.humanReadableField(Fields.POINT_IN_TIME_TIME_IN_MILLIS, Fields.POINT_IN_TIME_TIME, getPitTime());
+            builder.field(Fields.POINT_IN_TIME_CURRENT, pitCurrent);
+
             return builder;
         }
     }
@@ -366,6 +427,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String SUGGEST_TIME = "suggest_time";
         static final String SUGGEST_TIME_IN_MILLIS = "suggest_time_in_millis";
         static final String SUGGEST_CURRENT = "suggest_current";
+        static final String POINT_IN_TIME_TOTAL = "point_in_time_total";
+        static final String POINT_IN_TIME_TIME = "point_in_time_time";
+        static final String POINT_IN_TIME_TIME_IN_MILLIS = "point_in_time_time_in_millis";
+        static final String POINT_IN_TIME_CURRENT = "point_in_time_current";
     }
 
     @Override
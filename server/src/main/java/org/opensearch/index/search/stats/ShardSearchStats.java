@@ -182,6 +182,18 @@ public final class ShardSearchStats implements SearchOperationListener {
         totalStats.scrollMetric.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readerContext.getStartTimeInNano()));
     }
 
+    @Override
+    public void onNewPitContext(ReaderContext readerContext) {
+        totalStats.pitCurrent.inc();
+    }
+
+    @Override
+    public void onFreePitContext(ReaderContext readerContext) {
+        totalStats.pitCurrent.dec();
+        assert totalStats.pitCurrent.count() >= 0;
+        totalStats.pitMetric.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readerContext.getStartTimeInNano()));
+    }
+
     static final class StatsHolder {
         final MeanMetric queryMetric = new MeanMetric();
         final MeanMetric fetchMetric = new MeanMetric();
@@ -193,10 +205,13 @@ public final class ShardSearchStats implements SearchOperationListener {
          * for one-thousand times as long (i.e., scrolls that execute for almost twelve days on average).
          */
         final MeanMetric scrollMetric = new MeanMetric();
+        // point in time readers are long lived like scrolls so their time is stored in microseconds as well
+        final MeanMetric pitMetric = new MeanMetric();
         final MeanMetric suggestMetric = new MeanMetric();
         final CounterMetric queryCurrent = new CounterMetric();
         final CounterMetric fetchCurrent = new CounterMetric();
         final CounterMetric scrollCurrent = new CounterMetric();
+        final CounterMetric pitCurrent = new CounterMetric();
         final CounterMetric suggestCurrent = new CounterMetric();
 
         SearchStats.Stats stats() {
@@ -204,7 +219,8 @@ public final class ShardSearchStats implements SearchOperationListener {
                     queryMetric.count(), TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()), queryCurrent.count(),
                     fetchMetric.count(), TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()), fetchCurrent.count(),
                     scrollMetric.count(), TimeUnit.MICROSECONDS.toMillis(scrollMetric.sum()), scrollCurrent.count(),
-                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count()
+                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count(),
+                    pitMetric.count(), TimeUnit.MICROSECONDS.toMillis(pitMetric.sum()), pitCurrent.count()
             );
         }
     }
@@ -104,6 +104,14 @@ public interface IndexEventListener {
      */
     default void onShardInactive(IndexShard indexShard) {}
 
+    /**
+     * Called after a refresh of a primary of an index that uses segment replication changed the segments that it searches, so
+     * that its replicas can copy them. The execution must be lightweight.
+     *
+     * @param indexShard The primary shard that was refreshed
+     */
+    default void onNewSegmentReplicationCheckpoint(IndexShard indexShard) {}
+
     /**
      * Called before the index gets created. Note that this is also called
      * when the index is created on data nodes
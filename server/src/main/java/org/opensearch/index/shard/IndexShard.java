@@ -107,6 +107,7 @@ import org.opensearch.index.engine.Engine.GetResult;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.engine.NRTReplicationEngine;
 import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.engine.RefreshFailedEngineException;
 import org.opensearch.index.engine.SafeCommitInfo;
@@ -152,6 +153,7 @@ import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.TranslogSyncScheduler;
 import org.opensearch.indices.TypeMissingException;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
@@ -256,6 +258,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final MeanMetric externalRefreshMetric = new MeanMetric();
     private final MeanMetric flushMetric = new MeanMetric();
     private final CounterMetric periodicFlushMetric = new CounterMetric();
+    private final MeanMetric translogSyncMetric = new MeanMetric();
+    private final CounterMetric translogSyncedLocations = new CounterMetric();
 
     private final ShardEventListener shardEventListener = new ShardEventListener();
 
@@ -323,7 +327,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
-        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine);
+        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::ensureTranslogSynced);
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats();
@@ -573,6 +577,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                  * primary/replica re-sync completes successfully and we are now being promoted, we have to restore
                                  * the reverted operations on this shard by replaying the translog to avoid losing acknowledged writes.
                                  */
+                                if (indexSettings.isSegmentReplicationEnabled()) {
+                                    resetToWriteableEngine();
+                                }
                                 final Engine engine = getEngine();
                                 engine.restoreLocalHistoryFromTranslog((resettingEngine, snapshot) ->
                                     runTranslogRecovery(resettingEngine, snapshot, Engine.Operation.Origin.LOCAL_RESET, () -> {}));
@@ -761,22 +768,38 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                                            long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
                                                            boolean isRetry)
         throws IOException {
+        return applyIndexOperationOnPrimary(version, versionType, sourceToParse, ifSeqNo, ifPrimaryTerm, autoGeneratedTimestamp,
+            isRetry, null);
+    }
+
+    /**
+     * Same as {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean)}, but indexes the
+     * document that {@code preParsedDocument} returns for the current document mapper of the type, if any, rather than parsing
+     * the source again. The function returns {@code null} if the source wasn't parsed with the given mapper.
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(long version, VersionType versionType, SourceToParse sourceToParse,
+                                                           long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
+                                                           boolean isRetry,
+                                                           @Nullable Function<DocumentMapper, ParsedDocument> preParsedDocument)
+        throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(getEngine(), UNASSIGNED_SEQ_NO, getOperationPrimaryTerm(), version, versionType, ifSeqNo,
-            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse);
+            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse, preParsedDocument);
     }
 
     public Engine.IndexResult applyIndexOperationOnReplica(long seqNo, long opPrimaryTerm, long version, long autoGeneratedTimeStamp,
         boolean isRetry, SourceToParse sourceToParse)
         throws IOException {
         return applyIndexOperation(getEngine(), seqNo, opPrimaryTerm, version, null, UNASSIGNED_SEQ_NO, 0,
-            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse);
+            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse, null);
     }
 
     private Engine.IndexResult applyIndexOperation(Engine engine, long seqNo, long opPrimaryTerm, long version,
                                                    @Nullable VersionType versionType, long ifSeqNo, long ifPrimaryTerm,
                                                    long autoGeneratedTimeStamp, boolean isRetry, Engine.Operation.Origin origin,
-                                                   SourceToParse sourceToParse) throws IOException {
+                                                   SourceToParse sourceToParse,
+                                                   @Nullable Function<DocumentMapper, ParsedDocument> preParsedDocument)
+        throws IOException {
         assert opPrimaryTerm <= getOperationPrimaryTerm()
                 : "op term [ " + opPrimaryTerm + " ] > shard term [" + getOperationPrimaryTerm() + "]";
         ensureWriteAllowed(origin);
@@ -790,8 +813,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
                     sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
             }
-            operation = prepareIndex(docMapper(resolvedType), sourceWithResolvedType,
-                seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            final DocumentMapperForType docMapper = docMapper(resolvedType);
+            final ParsedDocument parsedDocument = preParsedDocument == null || docMapper.getMapping() != null
+                ? null : preParsedDocument.apply(docMapper.getDocumentMapper());
+            if (parsedDocument != null) {
+                operation = prepareIndex(parsedDocument, System.nanoTime(), seqNo, opPrimaryTerm, version, versionType, origin,
+                    autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            } else {
+                operation = prepareIndex(docMapper, sourceWithResolvedType, seqNo, opPrimaryTerm, version, versionType, origin,
+                    autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            }
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -817,6 +848,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         if (docMapper.getMapping() != null) {
             doc.addDynamicMappingsUpdate(docMapper.getMapping());
         }
+        return prepareIndex(doc, startTime, seqNo, primaryTerm, version, versionType, origin, autoGeneratedIdTimestamp, isRetry,
+            ifSeqNo, ifPrimaryTerm);
+    }
+
+    private static Engine.Index prepareIndex(ParsedDocument doc, long startTime, long seqNo, long primaryTerm, long version,
+                                             VersionType versionType, Engine.Operation.Origin origin, long autoGeneratedIdTimestamp,
+                                             boolean isRetry, long ifSeqNo, long ifPrimaryTerm) {
         Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
         return new Engine.Index(uid, doc, seqNo, primaryTerm, version, versionType, origin, startTime, autoGeneratedIdTimestamp, isRetry,
             ifSeqNo, ifPrimaryTerm);
@@ -1067,6 +1105,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return engine.getMergeStats();
     }
 
+    /**
+     * Caps the rate at which auto throttled merges of this shard may write, in MB per second.
+     */
+    public void setMergeIORateLimit(double mbPerSec) {
+        final Engine engine = getEngineOrNull();
+        if (engine != null) {
+            engine.setMergeIORateLimit(mbPerSec);
+        }
+    }
+
     public SegmentsStats segmentStats(boolean includeSegmentFileSizes, boolean includeUnloadedSegments) {
         SegmentsStats segmentsStats = getEngine().segmentsStats(includeSegmentFileSizes, includeUnloadedSegments);
         segmentsStats.addBitsetMemoryInBytes(shardBitsetFilterCache.getMemorySizeInBytes());
@@ -1082,7 +1130,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     public TranslogStats translogStats() {
-        return getEngine().getTranslogStats();
+        final TranslogStats translogStats = getEngine().getTranslogStats();
+        translogStats.setSyncStats(translogSyncMetric.count(), translogSyncedLocations.count(),
+            TimeUnit.NANOSECONDS.toMillis(translogSyncMetric.sum()));
+        return translogStats;
     }
 
     public CompletionStats completionStats(String... fields) {
@@ -1550,7 +1601,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 result = applyIndexOperation(engine, index.seqNo(), index.primaryTerm(), index.version(),
                     versionType, UNASSIGNED_SEQ_NO, 0, index.getAutoGeneratedIdTimestamp(), true, origin,
                     new SourceToParse(shardId.getIndexName(), index.type(), index.id(), index.source(),
-                        XContentHelper.xContentType(index.source()), index.routing()));
+                        XContentHelper.xContentType(index.source()), index.routing()), null);
                 break;
             case DELETE:
                 final Translog.Delete delete = (Translog.Delete) operation;
@@ -1664,7 +1715,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             assert currentEngineReference.get() == null : "engine is running";
             verifyNotClosed();
             // we must create a new engine under mutex (see IndexShard#snapshotStoreMetadata).
-            final Engine newEngine = engineFactory.newReadWriteEngine(config);
+            final Engine newEngine = createEngine(config);
             onNewEngine(newEngine);
             currentEngineReference.set(newEngine);
             // We set active because we are now writing operations to the engine; this way,
@@ -1696,6 +1747,49 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         refreshListeners.setCurrentRefreshLocationSupplier(newEngine::getTranslogLastWriteLocation);
     }
 
+    /**
+     * Creates the engine of this shard: replicas of indices that use segment replication copy the segments of their primary
+     * instead of indexing the operations and so use a {@link NRTReplicationEngine}.
+     */
+    private Engine createEngine(EngineConfig config) {
+        if (indexSettings.isSegmentReplicationEnabled() && shardRouting.primary() == false) {
+            return new NRTReplicationEngine(config);
+        }
+        return engineFactory.newReadWriteEngine(config);
+    }
+
+    /**
+     * Acquires a searcher on the segments that this primary of an index that uses segment replication exposes to searches. The
+     * files of these segments are not deleted while the searcher is open, so that the replicas can copy them.
+     */
+    public Engine.Searcher acquireSegmentReplicationSearcher() {
+        return getEngine().acquireSearcher("segment_replication", Engine.SearcherScope.EXTERNAL);
+    }
+
+    /**
+     * Returns the segment infos that this replica of an index that uses segment replication searches, which are not committed.
+     */
+    public SegmentInfos getLatestSegmentInfos() {
+        return getNRTReplicationEngine().getLatestSegmentInfos();
+    }
+
+    /**
+     * Installs the given segment infos of the primary as the searchable content of this replica of an index that uses segment
+     * replication, after their files and the files of the last commit of the primary were copied to the store.
+     */
+    public void finalizeSegmentReplication(SegmentInfos infos) throws IOException {
+        getNRTReplicationEngine().updateSegments(infos);
+    }
+
+    private NRTReplicationEngine getNRTReplicationEngine() {
+        final Engine engine = getEngine();
+        if (engine instanceof NRTReplicationEngine == false) {
+            throw new IllegalStateException("shard " + shardId + " does not use segment replication, engine is ["
+                + engine.getClass().getSimpleName() + "]");
+        }
+        return (NRTReplicationEngine) engine;
+    }
+
     /**
      * called if recovery has to be restarted after network error / delay **
      */
@@ -2802,7 +2896,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 similarityService.similarity(mapperService), codecService, shardEventListener,
                 indexCache != null ? indexCache.query() : null, cachingPolicy, translogConfig,
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING.get(indexSettings.getSettings()),
-                Arrays.asList(refreshListeners, refreshPendingLocationListener),
+                Arrays.asList(refreshListeners, refreshPendingLocationListener, new SegmentReplicationCheckpointPublisher()),
                 Collections.singletonList(new RefreshMetricUpdater(refreshMetric)),
                 indexSort, circuitBreakerService, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
                 () -> getOperationPrimaryTerm(), tombstoneDocSupplier());
@@ -3113,17 +3207,15 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    private volatile TranslogSyncScheduler translogSyncScheduler;
 
-    private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(Logger logger, ThreadContext threadContext,
-                                                                                   Supplier<Engine> engineSupplier) {
+    private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
+        Logger logger, ThreadContext threadContext, CheckedConsumer<List<Translog.Location>, IOException> translogSyncer) {
         return new AsyncIOProcessor<Translog.Location>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
                 try {
-                    engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
-                } catch (AlreadyClosedException ex) {
-                    // that's fine since we already synced everything on engine close - this also is conform with the methods
-                    // documentation
+                    translogSyncer.accept(candidates.stream().map(Tuple::v1).collect(Collectors.toList()));
                 } catch (IOException ex) { // if this fails we are in deep shit - fail the request
                     logger.debug("failed to sync translog", ex);
                     throw ex;
@@ -3132,6 +3224,30 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         };
     }
 
+    /**
+     * Sets the node-wide scheduler that groups the translog syncs of the shards of the node, see {@link TranslogSyncScheduler}.
+     */
+    public void setTranslogSyncScheduler(TranslogSyncScheduler translogSyncScheduler) {
+        this.translogSyncScheduler = translogSyncScheduler;
+    }
+
+    /**
+     * Syncs the translog up to the given locations unless already synced, and records the sync in the translog statistics of
+     * this shard. This is called by the sync processor of this shard or by the node-wide {@link TranslogSyncScheduler}.
+     */
+    public void ensureTranslogSynced(List<Translog.Location> locations) throws IOException {
+        final long startTime = System.nanoTime();
+        try {
+            getEngine().ensureTranslogSynced(locations.stream());
+        } catch (AlreadyClosedException ex) {
+            // that's fine since we already synced everything on engine close - this also is conform with the methods
+            // documentation
+        } finally {
+            translogSyncMetric.inc(System.nanoTime() - startTime);
+            translogSyncedLocations.inc(locations.size());
+        }
+    }
+
     /**
      * Syncs the given location with the underlying storage unless already synced. This method might return immediately without
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
@@ -3143,7 +3259,12 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        final TranslogSyncScheduler translogSyncScheduler = this.translogSyncScheduler;
+        if (translogSyncScheduler != null && translogSyncScheduler.isEnabled()) {
+            translogSyncScheduler.sync(this, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
@@ -3443,6 +3564,29 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Notifies the replicas of a primary of an index that uses segment replication every time a refresh changes the segments that
+     * the primary searches, so that they copy them.
+     */
+    private class SegmentReplicationCheckpointPublisher implements ReferenceManager.RefreshListener {
+
+        @Override
+        public void beforeRefresh() {
+        }
+
+        @Override
+        public void afterRefresh(boolean didRefresh) {
+            if (didRefresh && indexSettings.isSegmentReplicationEnabled() && shardRouting.primary()
+                && state == IndexShardState.STARTED) {
+                try {
+                    indexEventListener.onNewSegmentReplicationCheckpoint(IndexShard.this);
+                } catch (Exception e) {
+                    logger.warn("failed to publish segment replication checkpoint", e);
+                }
+            }
+        }
+    }
+
     private EngineConfig.TombstoneDocSupplier tombstoneDocSupplier() {
         final RootObjectMapper.Builder noopRootMapper = new RootObjectMapper.Builder("__noop");
         final DocumentMapper noopDocumentMapper = mapperService != null ?
@@ -3460,6 +3604,39 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         };
     }
 
+    /**
+     * Replaces the {@link NRTReplicationEngine} of a replica of an index that uses segment replication by a read-write engine when
+     * the replica is promoted to primary. The last commit copied from the previous primary is associated with the translog of the
+     * replica, and the new engine indexes the operations of this translog that are above the local checkpoint of the commit.
+     */
+    private void resetToWriteableEngine() throws IOException {
+        assert getActiveOperationsCount() == OPERATIONS_BLOCKED
+            : "resetting engine without blocking operations; active operations are [" + getActiveOperations() + ']';
+        final Engine newEngine;
+        synchronized (engineMutex) {
+            verifyNotClosed();
+            final Engine currentEngine = currentEngineReference.get();
+            if (currentEngine instanceof NRTReplicationEngine == false) {
+                return;
+            }
+            currentEngine.flush(false, true);
+            final String translogUUID = ((NRTReplicationEngine) currentEngine).getTranslogUUID();
+            IOUtils.close(currentEngine);
+            if (translogUUID.equals(store.readLastCommittedSegmentsInfo().getUserData().get(Translog.TRANSLOG_UUID_KEY)) == false) {
+                store.associateIndexWithNewTranslog(translogUUID);
+            }
+            newEngine = engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker));
+            onNewEngine(newEngine);
+            currentEngineReference.set(newEngine);
+        }
+        final Engine.TranslogRecoveryRunner translogRunner = (engine, snapshot) -> runTranslogRecovery(
+            engine, snapshot, Engine.Operation.Origin.LOCAL_RESET, () -> {});
+        newEngine.recoverFromTranslog(translogRunner, Long.MAX_VALUE);
+        newEngine.refresh("promote_to_primary");
+        active.set(true);
+        onSettingsChanged();
+    }
+
     /**
      * Rollback the current engine to the safe commit, then replay local translog up to the global checkpoint.
      */
@@ -3516,7 +3693,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     }
                 };
             IOUtils.close(currentEngineReference.getAndSet(readOnlyEngine));
-            newEngineReference.set(engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker)));
+            newEngineReference.set(createEngine(newEngineConfig(replicationTracker)));
             onNewEngine(newEngineReference.get());
         }
         final Engine.TranslogRecoveryRunner translogRunner = (engine, snapshot) -> runTranslogRecovery(
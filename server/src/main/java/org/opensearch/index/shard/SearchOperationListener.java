@@ -120,6 +120,19 @@ public interface SearchOperationListener {
      */
     default void onFreeScrollContext(ReaderContext readerContext) {}
 
+    /**
+     * Executed when a new point in time {@link ReaderContext} was created
+     * @param readerContext the created reader context
+     */
+    default void onNewPitContext(ReaderContext readerContext) {}
+
+    /**
+     * Executed when a point in time {@link ReaderContext} is freed.
+     * This happens either when the point in time is closed or if its keep alive expired.
+     * @param readerContext the freed reader context
+     */
+    default void onFreePitContext(ReaderContext readerContext) {}
+
     /**
      * Executed prior to using a {@link ReaderContext} that has been retrieved
      * from the active contexts. If the context is deemed invalid a runtime
@@ -251,6 +264,28 @@ public interface SearchOperationListener {
             }
         }
 
+        @Override
+        public void onNewPitContext(ReaderContext readerContext) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onNewPitContext(readerContext);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onNewPitContext listener [{}] failed", listener), e);
+                }
+            }
+        }
+
+        @Override
+        public void onFreePitContext(ReaderContext readerContext) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onFreePitContext(readerContext);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onFreePitContext listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         @Override
         public void validateReaderContext(ReaderContext readerContext, TransportRequest request) {
             Exception exception = null;
@@ -33,6 +33,8 @@
 package org.opensearch.index.stats;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -41,6 +43,7 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.List;
 
 public class IndexingPressureStats implements Writeable, ToXContentFragment {
 
@@ -58,6 +61,10 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
     private final long primaryRejections;
     private final long replicaRejections;
     private final long memoryLimit;
+    private final long shardPrimaryRejections;
+    private final long shardReplicaRejections;
+    @Nullable
+    private final List<ShardIndexingPressureStats> shardStats;
 
     public IndexingPressureStats(StreamInput in) throws IOException {
         totalCombinedCoordinatingAndPrimaryBytes = in.readVLong();
@@ -79,12 +86,32 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         } else {
             memoryLimit = -1L;
         }
+
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            shardPrimaryRejections = in.readVLong();
+            shardReplicaRejections = in.readVLong();
+            shardStats = in.readBoolean() ? in.readList(ShardIndexingPressureStats::new) : null;
+        } else {
+            shardPrimaryRejections = 0L;
+            shardReplicaRejections = 0L;
+            shardStats = null;
+        }
     }
 
     public IndexingPressureStats(long totalCombinedCoordinatingAndPrimaryBytes, long totalCoordinatingBytes, long totalPrimaryBytes,
                                  long totalReplicaBytes, long currentCombinedCoordinatingAndPrimaryBytes, long currentCoordinatingBytes,
                                  long currentPrimaryBytes, long currentReplicaBytes, long coordinatingRejections, long primaryRejections,
                                  long replicaRejections, long memoryLimit) {
+        this(totalCombinedCoordinatingAndPrimaryBytes, totalCoordinatingBytes, totalPrimaryBytes, totalReplicaBytes,
+            currentCombinedCoordinatingAndPrimaryBytes, currentCoordinatingBytes, currentPrimaryBytes, currentReplicaBytes,
+            coordinatingRejections, primaryRejections, replicaRejections, memoryLimit, 0L, 0L, null);
+    }
+
+    public IndexingPressureStats(long totalCombinedCoordinatingAndPrimaryBytes, long totalCoordinatingBytes, long totalPrimaryBytes,
+                                 long totalReplicaBytes, long currentCombinedCoordinatingAndPrimaryBytes, long currentCoordinatingBytes,
+                                 long currentPrimaryBytes, long currentReplicaBytes, long coordinatingRejections, long primaryRejections,
+                                 long replicaRejections, long memoryLimit, long shardPrimaryRejections, long shardReplicaRejections,
+                                 @Nullable List<ShardIndexingPressureStats> shardStats) {
         this.totalCombinedCoordinatingAndPrimaryBytes = totalCombinedCoordinatingAndPrimaryBytes;
         this.totalCoordinatingBytes = totalCoordinatingBytes;
         this.totalPrimaryBytes = totalPrimaryBytes;
@@ -97,6 +124,9 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         this.primaryRejections = primaryRejections;
         this.replicaRejections = replicaRejections;
         this.memoryLimit = memoryLimit;
+        this.shardPrimaryRejections = shardPrimaryRejections;
+        this.shardReplicaRejections = shardReplicaRejections;
+        this.shardStats = shardStats;
     }
 
     @Override
@@ -118,6 +148,15 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
             out.writeVLong(memoryLimit);
         }
+
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(shardPrimaryRejections);
+            out.writeVLong(shardReplicaRejections);
+            out.writeBoolean(shardStats != null);
+            if (shardStats != null) {
+                out.writeList(shardStats);
+            }
+        }
     }
 
     public long getTotalCombinedCoordinatingAndPrimaryBytes() {
@@ -164,6 +203,22 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         return replicaRejections;
     }
 
+    /** returns the number of primary operations rejected because their shard was falling behind */
+    public long getShardPrimaryRejections() {
+        return shardPrimaryRejections;
+    }
+
+    /** returns the number of replica operations rejected because their shard was falling behind */
+    public long getShardReplicaRejections() {
+        return shardReplicaRejections;
+    }
+
+    /** returns the indexing pressure of each tracked shard, or {@code null} if shard-level indexing pressure is disabled */
+    @Nullable
+    public List<ShardIndexingPressureStats> getShardStats() {
+        return shardStats;
+    }
+
     private static final String COMBINED = "combined_coordinating_and_primary";
     private static final String COMBINED_IN_BYTES = "combined_coordinating_and_primary_in_bytes";
     private static final String COORDINATING = "coordinating";
@@ -203,6 +258,17 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         builder.endObject();
         builder.humanReadableField(LIMIT_IN_BYTES, LIMIT, new ByteSizeValue(memoryLimit));
         builder.endObject();
+        if (shardStats != null) {
+            builder.startObject("shard_level");
+            builder.field(PRIMARY_REJECTIONS, shardPrimaryRejections);
+            builder.field(REPLICA_REJECTIONS, shardReplicaRejections);
+            builder.startObject("shards");
+            for (ShardIndexingPressureStats stats : shardStats) {
+                stats.toXContent(builder, params);
+            }
+            builder.endObject();
+            builder.endObject();
+        }
         return builder.endObject();
     }
 }
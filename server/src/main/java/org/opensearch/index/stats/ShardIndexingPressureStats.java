@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.stats;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+
+/**
+ * The indexing pressure of a single shard, as tracked by the node when shard-level indexing pressure is enabled.
+ */
+public class ShardIndexingPressureStats implements Writeable, ToXContentFragment {
+
+    private final ShardId shardId;
+    private final long currentPrimaryBytes;
+    private final long currentReplicaBytes;
+    private final long outstandingRequests;
+    private final long totalPrimaryBytes;
+    private final long totalReplicaBytes;
+    private final long totalRequests;
+    private final long primaryRejections;
+    private final long replicaRejections;
+    private final long throughputInBytesPerSecond;
+    private final long averageLatencyInMillis;
+
+    public ShardIndexingPressureStats(ShardId shardId, long currentPrimaryBytes, long currentReplicaBytes, long outstandingRequests,
+                                      long totalPrimaryBytes, long totalReplicaBytes, long totalRequests, long primaryRejections,
+                                      long replicaRejections, long throughputInBytesPerSecond, long averageLatencyInMillis) {
+        this.shardId = shardId;
+        this.currentPrimaryBytes = currentPrimaryBytes;
+        this.currentReplicaBytes = currentReplicaBytes;
+        this.outstandingRequests = outstandingRequests;
+        this.totalPrimaryBytes = totalPrimaryBytes;
+        this.totalReplicaBytes = totalReplicaBytes;
+        this.totalRequests = totalRequests;
+        this.primaryRejections = primaryRejections;
+        this.replicaRejections = replicaRejections;
+        this.throughputInBytesPerSecond = throughputInBytesPerSecond;
+        this.averageLatencyInMillis = averageLatencyInMillis;
+    }
+
+    public ShardIndexingPressureStats(StreamInput in) throws IOException {
+        shardId = new ShardId(in);
+        currentPrimaryBytes = in.readVLong();
+        currentReplicaBytes = in.readVLong();
+        outstandingRequests = in.readVLong();
+        totalPrimaryBytes = in.readVLong();
+        totalReplicaBytes = in.readVLong();
+        totalRequests = in.readVLong();
+        primaryRejections = in.readVLong();
+        replicaRejections = in.readVLong();
+        throughputInBytesPerSecond = in.readVLong();
+        averageLatencyInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        shardId.writeTo(out);
+        out.writeVLong(currentPrimaryBytes);
+        out.writeVLong(currentReplicaBytes);
+        out.writeVLong(outstandingRequests);
+        out.writeVLong(totalPrimaryBytes);
+        out.writeVLong(totalReplicaBytes);
+        out.writeVLong(totalRequests);
+        out.writeVLong(primaryRejections);
+        out.writeVLong(replicaRejections);
+        out.writeVLong(throughputInBytesPerSecond);
+        out.writeVLong(averageLatencyInMillis);
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    public long getCurrentPrimaryBytes() {
+        return currentPrimaryBytes;
+    }
+
+    public long getCurrentReplicaBytes() {
+        return currentReplicaBytes;
+    }
+
+    public long getOutstandingRequests() {
+        return outstandingRequests;
+    }
+
+    public long getTotalPrimaryBytes() {
+        return totalPrimaryBytes;
+    }
+
+    public long getTotalReplicaBytes() {
+        return totalReplicaBytes;
+    }
+
+    public long getTotalRequests() {
+        return totalRequests;
+    }
+
+    public long getPrimaryRejections() {
+        return primaryRejections;
+    }
+
+    public long getReplicaRejections() {
+        return replicaRejections;
+    }
+
+    public long getThroughputInBytesPerSecond() {
+        return throughputInBytesPerSecond;
+    }
+
+    public long getAverageLatencyInMillis() {
+        return averageLatencyInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(shardId.toString());
+        builder.startObject("memory");
+        builder.startObject("current");
+        builder.humanReadableField("primary_in_bytes", "primary", new ByteSizeValue(currentPrimaryBytes));
+        builder.humanReadableField("replica_in_bytes", "replica", new ByteSizeValue(currentReplicaBytes));
+        builder.endObject();
+        builder.startObject("total");
+        builder.humanReadableField("primary_in_bytes", "primary", new ByteSizeValue(totalPrimaryBytes));
+        builder.humanReadableField("replica_in_bytes", "replica", new ByteSizeValue(totalReplicaBytes));
+        builder.field("primary_rejections", primaryRejections);
+        builder.field("replica_rejections", replicaRejections);
+        builder.endObject();
+        builder.endObject();
+        builder.field("outstanding_requests", outstandingRequests);
+        builder.field("total_requests", totalRequests);
+        builder.humanReadableField("throughput_in_bytes_per_second", "throughput", new ByteSizeValue(throughputInBytesPerSecond));
+        builder.humanReadableField("average_latency_in_millis", "average_latency", TimeValue.timeValueMillis(averageLatencyInMillis));
+        return builder.endObject();
+    }
+}
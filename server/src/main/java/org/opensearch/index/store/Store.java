@@ -308,6 +308,27 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         }
     }
 
+    /**
+     * Returns the metadata of the files of the segments of the given segment infos, which need not be committed, by file name. The
+     * segments file is not part of it. The caller must make sure that the files are not deleted while they are read, for instance
+     * by holding a reader that was opened on these segment infos.
+     */
+    public Map<String, StoreFileMetadata> getSegmentMetadataMap(SegmentInfos segmentInfos) throws IOException {
+        ensureOpen();
+        failIfCorrupted();
+        metadataLock.readLock().lock();
+        try {
+            final Map<String, StoreFileMetadata> builder = new HashMap<>();
+            MetadataSnapshot.loadSegmentFilesMetadata(segmentInfos, directory, logger, builder);
+            return unmodifiableMap(builder);
+        } catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException ex) {
+            markStoreCorrupted(ex);
+            throw ex;
+        } finally {
+            metadataLock.readLock().unlock();
+        }
+    }
+
     /**
      * Renames all the given files from the key of the map to the
      * value of the map. All successfully renamed files are removed from the map in-place.
@@ -673,6 +694,35 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         }
     }
 
+    /**
+     * Deletes every file of this store that is not one of the given files, other than the files that the store generates itself.
+     * Unlike {@link #cleanupAndVerify(String, MetadataSnapshot)}, this allows to keep segments that are not part of the last
+     * commit, as the replicas of indices that use segment replication search segments that their primary did not commit.
+     *
+     * @param reason       the reason for this cleanup operation logged for each deleted file
+     * @param filesToKeep  the names of the files to keep
+     */
+    public void cleanupUnreferencedFiles(String reason, Set<String> filesToKeep) throws IOException {
+        metadataLock.writeLock().lock();
+        try (Lock writeLock = directory.obtainLock(IndexWriter.WRITE_LOCK_NAME)) {
+            for (String existingFile : directory.listAll()) {
+                if (Store.isAutogenerated(existingFile) || filesToKeep.contains(existingFile)
+                    || existingFile.startsWith(CORRUPTED_MARKER_NAME_PREFIX)) {
+                    continue;
+                }
+                try {
+                    directory.deleteFile(reason, existingFile);
+                } catch (IOException ex) {
+                    // the file may still be open by a reader, it is deleted on the next cleanup
+                    logger.debug(() -> new ParameterizedMessage("failed to delete file [{}]", existingFile), ex);
+                }
+            }
+            directory.syncMetaData();
+        } finally {
+            metadataLock.writeLock().unlock();
+        }
+    }
+
     // pkg private for testing
     final void verifyAfterCleanup(MetadataSnapshot sourceMetadata, MetadataSnapshot targetMetadata) {
         final RecoveryDiff recoveryDiff = targetMetadata.recoveryDiff(sourceMetadata);
@@ -861,22 +911,7 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
                 final SegmentInfos segmentCommitInfos = Store.readSegmentsInfo(commit, directory);
                 numDocs = Lucene.getNumDocs(segmentCommitInfos);
                 commitUserDataBuilder.putAll(segmentCommitInfos.getUserData());
-                // we don't know which version was used to write so we take the max version.
-                Version maxVersion = segmentCommitInfos.getMinSegmentLuceneVersion();
-                for (SegmentCommitInfo info : segmentCommitInfos) {
-                    final Version version = info.info.getVersion();
-                    if (version == null) {
-                        // version is written since 3.1+: we should have already hit IndexFormatTooOld.
-                        throw new IllegalArgumentException("expected valid version value: " + info.info.toString());
-                    }
-                    if (version.onOrAfter(maxVersion)) {
-                        maxVersion = version;
-                    }
-                    for (String file : info.files()) {
-                        checksumFromLuceneFile(directory, file, builder, logger, version,
-                            SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file)));
-                    }
-                }
+                Version maxVersion = loadSegmentFilesMetadata(segmentCommitInfos, directory, logger, builder);
                 if (maxVersion == null) {
                     maxVersion = org.opensearch.Version.CURRENT.minimumIndexCompatibilityVersion().luceneVersion;
                 }
@@ -906,6 +941,31 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
             return new LoadedMetadata(unmodifiableMap(builder), unmodifiableMap(commitUserDataBuilder), numDocs);
         }
 
+        /**
+         * Loads the metadata of the files of the segments of the given segment infos, but not of their segments file, and returns
+         * the max Lucene version of the segments.
+         */
+        private static Version loadSegmentFilesMetadata(SegmentInfos segmentInfos, Directory directory, Logger logger,
+                                                        Map<String, StoreFileMetadata> builder) throws IOException {
+            // we don't know which version was used to write so we take the max version.
+            Version maxVersion = segmentInfos.getMinSegmentLuceneVersion();
+            for (SegmentCommitInfo info : segmentInfos) {
+                final Version version = info.info.getVersion();
+                if (version == null) {
+                    // version is written since 3.1+: we should have already hit IndexFormatTooOld.
+                    throw new IllegalArgumentException("expected valid version value: " + info.info.toString());
+                }
+                if (version.onOrAfter(maxVersion)) {
+                    maxVersion = version;
+                }
+                for (String file : info.files()) {
+                    checksumFromLuceneFile(directory, file, builder, logger, version,
+                        SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file)));
+                }
+            }
+            return maxVersion;
+        }
+
         private static void checksumFromLuceneFile(Directory directory, String file, Map<String, StoreFileMetadata> builder,
                 Logger logger, Version version, boolean readFileAsHash) throws IOException {
             final String checksum;
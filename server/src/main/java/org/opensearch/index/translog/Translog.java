@@ -1817,6 +1817,26 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         return checkpoint.globalCheckpoint;
     }
 
+    /**
+     * Reads the UUID of the translog at the given location, from the header of its current generation.
+     *
+     * @param location the location of the translog
+     * @return the translog UUID
+     * @throws IOException                if an I/O exception occurred reading the checkpoint or the header
+     * @throws TranslogCorruptedException if the translog is corrupted
+     */
+    public static String readTranslogUUID(final Path location) throws IOException {
+        final Checkpoint checkpoint = readCheckpoint(location);
+        final Path translogFile = location.resolve(getFilename(checkpoint.generation));
+        try (FileChannel channel = FileChannel.open(translogFile, StandardOpenOption.READ)) {
+            return TranslogHeader.read(translogFile, channel).getTranslogUUID();
+        } catch (TranslogCorruptedException ex) {
+            throw ex; // just bubble up.
+        } catch (Exception ex) {
+            throw new TranslogCorruptedException(location.toString(), ex);
+        }
+    }
+
     private static Checkpoint readCheckpoint(Path location, String expectedTranslogUUID) throws IOException {
         final Checkpoint checkpoint = readCheckpoint(location);
         // We need to open at least one translog header to validate the translogUUID.
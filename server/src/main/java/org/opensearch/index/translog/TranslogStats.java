@@ -32,11 +32,13 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
@@ -49,6 +51,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int  uncommittedOperations;
     private long earliestLastModifiedAge;
+    private long syncCount;
+    private long syncedLocations;
+    private long syncTimeInMillis;
 
     public TranslogStats() {
     }
@@ -66,6 +71,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (in.getVersion().onOrAfter(LegacyESVersion.V_6_3_0)) {
             earliestLastModifiedAge = in.readVLong();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            syncCount = in.readVLong();
+            syncedLocations = in.readVLong();
+            syncTimeInMillis = in.readVLong();
+        }
     }
 
     public TranslogStats(int numberOfOperations, long translogSizeInBytes, int uncommittedOperations, long uncommittedSizeInBytes,
@@ -107,6 +117,22 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             this.earliestLastModifiedAge =
                 Math.min(this.earliestLastModifiedAge, translogStats.earliestLastModifiedAge);
         }
+        this.syncCount += translogStats.syncCount;
+        this.syncedLocations += translogStats.syncedLocations;
+        this.syncTimeInMillis += translogStats.syncTimeInMillis;
+    }
+
+    /**
+     * Sets the statistics of the syncs requested by write operations that were executed with the {@code request} durability.
+     *
+     * @param syncCount         the number of syncs, each of which covers one or more locations
+     * @param syncedLocations   the number of locations that were synced
+     * @param syncTimeInMillis  the total time spent syncing
+     */
+    public void setSyncStats(long syncCount, long syncedLocations, long syncTimeInMillis) {
+        this.syncCount = syncCount;
+        this.syncedLocations = syncedLocations;
+        this.syncTimeInMillis = syncTimeInMillis;
     }
 
     public long getTranslogSizeInBytes() {
@@ -129,6 +155,21 @@ public class TranslogStats implements Writeable, ToXContentFragment {
 
     public long getEarliestLastModifiedAge() { return earliestLastModifiedAge; }
 
+    /** the number of syncs of the translog requested by write operations */
+    public long getSyncCount() {
+        return syncCount;
+    }
+
+    /** the number of locations covered by the syncs, which divided by the number of syncs gives the average batch size */
+    public long getSyncedLocations() {
+        return syncedLocations;
+    }
+
+    /** the total time spent syncing the translog on behalf of write operations */
+    public long getSyncTimeInMillis() {
+        return syncTimeInMillis;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("translog");
@@ -137,6 +178,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        builder.startObject("sync");
+        builder.field("total", syncCount);
+        builder.field("locations", syncedLocations);
+        builder.humanReadableField("total_time_in_millis", "total_time", new TimeValue(syncTimeInMillis));
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -157,5 +203,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_3_0)) {
             out.writeVLong(earliestLastModifiedAge);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(syncCount);
+            out.writeVLong(syncedLocations);
+            out.writeVLong(syncTimeInMillis);
+        }
     }
 }
@@ -67,4 +67,24 @@ abstract class AbstractIndexShardCacheEntity implements IndicesRequestCache.Cach
         stats().onRemoval(notification.getKey(), notification.getValue(),
                 notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED);
     }
+
+    @Override
+    public final void onDiskHit() {
+        stats().onDiskHit();
+    }
+
+    @Override
+    public final void onDiskMiss() {
+        stats().onDiskMiss();
+    }
+
+    @Override
+    public final void onSpilled(IndicesRequestCache.Key key, long sizeInBytes) {
+        stats().onSpilled(sizeInBytes);
+    }
+
+    @Override
+    public final void onDiskRemoval(IndicesRequestCache.Key key, long sizeInBytes, boolean evicted) {
+        stats().onDiskRemoval(sizeInBytes, evicted);
+    }
 }
@@ -41,6 +41,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
@@ -57,9 +58,12 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -74,6 +78,9 @@ import java.util.concurrent.ConcurrentMap;
  * Currently, the cache is only enabled for count requests, and can only be opted in on an index
  * level setting that can be dynamically changed and defaults to false.
  * <p>
+ * When {@link #INDICES_CACHE_DISK_SIZE} is set, the entries evicted from the heap are spilled to a
+ * {@link RequestCacheDiskTier} and promoted back to the heap on the next request for the same key.
+ * <p>
  * There are still several TODOs left in this class, some easily addressable, some more complex, but the support
  * is functional.
  */
@@ -91,14 +98,32 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
         Setting.positiveTimeSetting("indices.requests.cache.expire", new TimeValue(0), Property.NodeScope);
+    /**
+     * The maximum size of the disk tier of the cache, the disk tier is disabled when set to 0.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_DISK_SIZE =
+        Setting.byteSizeSetting("indices.requests.cache.disk.size", new ByteSizeValue(0), Property.NodeScope);
+
+    static final String DISK_CACHE_FOLDER = "request_cache";
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
     private final Cache<Key, BytesReference> cache;
+    @Nullable
+    private final RequestCacheDiskTier diskTier;
+    // entries evicted from the heap are spilled outside of the cache lock by the next thread accessing the cache
+    private final ConcurrentMap<Key, BytesReference> pendingSpills = ConcurrentCollections.newConcurrentMap();
 
     IndicesRequestCache(Settings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * @param diskPath the directory of the disk tier, or <code>null</code> if this node cannot spill entries to disk
+     */
+    IndicesRequestCache(Settings settings, @Nullable Path diskPath) {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
         this.expire = INDICES_CACHE_QUERY_EXPIRE.exists(settings) ? INDICES_CACHE_QUERY_EXPIRE.get(settings) : null;
         long sizeInBytes = size.getBytes();
@@ -108,11 +133,25 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             cacheBuilder.setExpireAfterAccess(expire);
         }
         cache = cacheBuilder.build();
+        final long diskSizeInBytes = INDICES_CACHE_DISK_SIZE.get(settings).getBytes();
+        if (diskPath != null && diskSizeInBytes > 0) {
+            try {
+                diskTier = new RequestCacheDiskTier(diskPath, diskSizeInBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to create the request cache directory [" + diskPath + "]", e);
+            }
+        } else {
+            diskTier = null;
+        }
     }
 
     @Override
     public void close() {
         cache.invalidateAll();
+        pendingSpills.clear();
+        if (diskTier != null) {
+            diskTier.close();
+        }
     }
 
     void clear(CacheEntity entity) {
@@ -122,7 +161,12 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
-        notification.getKey().entity.onRemoval(notification);
+        final Key key = notification.getKey();
+        key.entity.onRemoval(notification);
+        if (diskTier != null && notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED && key.entity.isOpen()) {
+            // this is called under the lock of the cache, the value is written to disk later on
+            pendingSpills.put(key, notification.getValue());
+        }
     }
 
     BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
@@ -130,7 +174,12 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         assert reader.getReaderCacheHelper() != null;
         final Key key =  new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
         Loader cacheLoader = new Loader(cacheEntity, loader);
-        BytesReference value = cache.computeIfAbsent(key, cacheLoader);
+        BytesReference value;
+        try {
+            value = cache.computeIfAbsent(key, cacheLoader);
+        } finally {
+            spillPendingEntries();
+        }
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
             // see if its the first time we see this reader, and make sure to register a cleanup key
@@ -155,10 +204,35 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        if (diskTier != null) {
+            pendingSpills.remove(key);
+            diskTier.invalidate(key);
+        }
     }
 
-    private static class Loader implements CacheLoader<Key, BytesReference> {
+    /**
+     * Writes the entries that were evicted from the heap to the disk tier.
+     */
+    private void spillPendingEntries() {
+        if (diskTier == null || pendingSpills.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Key, BytesReference> entry : pendingSpills.entrySet()) {
+            final Key key = entry.getKey();
+            // another thread may be spilling or promoting the same entry
+            if (pendingSpills.remove(key, entry.getValue()) && key.entity.isOpen()) {
+                try {
+                    diskTier.put(key, entry.getValue());
+                } catch (IOException e) {
+                    logger.warn("failed to spill a request cache entry to disk", e);
+                }
+            }
+        }
+    }
+
+    private class Loader implements CacheLoader<Key, BytesReference> {
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
@@ -175,13 +249,33 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
         @Override
         public BytesReference load(Key key) throws Exception {
-            BytesReference value = loader.get();
+            BytesReference value = diskTier == null ? null : promote(key);
+            if (value == null) {
+                value = loader.get();
+            }
             entity.onCached(key, value);
             loaded = true;
             return value;
         }
     }
 
+    /**
+     * Looks up the key in the entries that are waiting to be spilled and then in the disk tier.
+     */
+    @Nullable
+    private BytesReference promote(Key key) {
+        BytesReference value = pendingSpills.remove(key);
+        if (value == null) {
+            value = diskTier.promote(key);
+        }
+        if (value == null) {
+            key.entity.onDiskMiss();
+        } else {
+            key.entity.onDiskHit();
+        }
+        return value;
+    }
+
     /**
      * Basic interface to make this cache testable.
      */
@@ -218,6 +312,26 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called each time a heap miss of this entity is served from the disk tier.
+         */
+        void onDiskHit();
+
+        /**
+         * Called each time a heap miss of this entity cannot be served from the disk tier.
+         */
+        void onDiskMiss();
+
+        /**
+         * Called when an entry of this entity is written to the disk tier.
+         */
+        void onSpilled(Key key, long sizeInBytes);
+
+        /**
+         * Called when an entry of this entity is removed from the disk tier.
+         */
+        void onDiskRemoval(Key key, long sizeInBytes, boolean evicted);
     }
 
     static class Key implements Accountable {
@@ -319,19 +433,31 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
-            for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
-                Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
-                    iterator.remove();
-                } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
-                        iterator.remove();
-                    }
-                }
+            cleanKeys(cache.keys(), currentKeysToClean, currentFullClean);
+            if (diskTier != null) {
+                cleanKeys(pendingSpills.keySet(), currentKeysToClean, currentFullClean);
+                cleanKeys(diskTier.keys(), currentKeysToClean, currentFullClean);
             }
         }
 
         cache.refresh();
+        if (diskTier != null) {
+            spillPendingEntries();
+            diskTier.refresh();
+        }
+    }
+
+    private void cleanKeys(Iterable<Key> keys, ObjectSet<CleanupKey> currentKeysToClean, ObjectSet<Object> currentFullClean) {
+        for (Iterator<Key> iterator = keys.iterator(); iterator.hasNext(); ) {
+            Key key = iterator.next();
+            if (currentFullClean.contains(key.entity.getCacheIdentity())) {
+                iterator.remove();
+            } else {
+                if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
+                    iterator.remove();
+                }
+            }
+        }
     }
 
 
@@ -342,6 +468,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         return cache.count();
     }
 
+    /**
+     * Returns the number of entries in the disk tier of the cache, including the entries that are waiting to be spilled
+     */
+    int diskCount() {
+        return diskTier == null ? 0 : diskTier.count() + pendingSpills.size();
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
@@ -0,0 +1,277 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.monitor.fs.FsInfo;
+import org.opensearch.monitor.fs.FsProbe;
+import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shares a node wide budget for the rate at which merges write between the shards of the node. Each shard's merge scheduler auto
+ * throttles its own merges based on its own backlog, without knowing how busy the devices it writes to already are. This controller
+ * periodically samples the utilization and the average IO time of the data path devices from {@code /proc/diskstats}, shrinks the
+ * budget when they exceed their targets and grows it back while merges are waiting. The budget is split between the shards that
+ * are merging in proportion to their number of segments, weighted by their search rate, so that the merges that cut the cost of
+ * searches the most get the largest share.
+ * <p>
+ * Merges that are too small to be auto throttled still run at full speed.
+ */
+public class MergeIOController implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(MergeIOController.class);
+
+    /** Whether the node limits the rate of merges based on the load of its devices (default: false). */
+    public static final Setting<Boolean> MERGE_IO_THROTTLE_ENABLED_SETTING =
+        Setting.boolSetting("indices.merge.io_throttle.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /** The fraction of the time the devices may be busy before merges are slowed down (default: 0.8). */
+    public static final Setting<Double> MERGE_IO_THROTTLE_TARGET_UTILIZATION_SETTING =
+        Setting.doubleSetting("indices.merge.io_throttle.target_utilization", 0.8, 0.0, 1.0, Property.Dynamic, Property.NodeScope);
+
+    /** The average time an IO may take before merges are slowed down (default: 20 milliseconds). */
+    public static final Setting<TimeValue> MERGE_IO_THROTTLE_TARGET_LATENCY_SETTING = Setting.positiveTimeSetting(
+        "indices.merge.io_throttle.target_latency", TimeValue.timeValueMillis(20), Property.Dynamic, Property.NodeScope);
+
+    /** How frequently the load of the devices is sampled (default: 5 seconds). */
+    public static final Setting<TimeValue> MERGE_IO_THROTTLE_INTERVAL_SETTING =
+        Setting.positiveTimeSetting("indices.merge.io_throttle.interval", TimeValue.timeValueSeconds(5), Property.NodeScope);
+
+    /** Lower bound of the budget, the same as the lower bound of the auto throttle of the merge schedulers. */
+    static final double MIN_MB_PER_SEC = 5.0;
+
+    /** Above this budget merges are not limited at all, the same as the upper bound of the auto throttle of the merge schedulers. */
+    static final double MAX_MB_PER_SEC = 10240.0;
+
+    private static final EnumSet<IndexShardState> CAN_MERGE_STATES = EnumSet.of(
+        IndexShardState.RECOVERING, IndexShardState.POST_RECOVERY, IndexShardState.STARTED);
+
+    private final Iterable<IndexShard> indexShards;
+    private final FsProbe fsProbe;
+    private final TimeValue interval;
+    private final Cancellable scheduler;
+
+    private volatile boolean enabled;
+    private volatile double targetUtilization;
+    private volatile TimeValue targetLatency;
+
+    // only accessed by the scheduled task, which never runs concurrently with itself
+    private double budgetMBPerSec = Double.POSITIVE_INFINITY;
+    private FsInfo previousFsInfo;
+    private Map<ShardId, Long> previousQueryCounts = new HashMap<>();
+
+    MergeIOController(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, NodeEnvironment nodeEnv,
+                      Iterable<IndexShard> indexShards) {
+        this.indexShards = indexShards;
+        this.fsProbe = new FsProbe(nodeEnv);
+        this.interval = MERGE_IO_THROTTLE_INTERVAL_SETTING.get(settings);
+        this.enabled = MERGE_IO_THROTTLE_ENABLED_SETTING.get(settings);
+        this.targetUtilization = MERGE_IO_THROTTLE_TARGET_UTILIZATION_SETTING.get(settings);
+        this.targetLatency = MERGE_IO_THROTTLE_TARGET_LATENCY_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MERGE_IO_THROTTLE_ENABLED_SETTING, enabled -> this.enabled = enabled);
+        clusterSettings.addSettingsUpdateConsumer(MERGE_IO_THROTTLE_TARGET_UTILIZATION_SETTING, v -> this.targetUtilization = v);
+        clusterSettings.addSettingsUpdateConsumer(MERGE_IO_THROTTLE_TARGET_LATENCY_SETTING, v -> this.targetLatency = v);
+        this.scheduler = scheduleTask(threadPool);
+    }
+
+    protected Cancellable scheduleTask(ThreadPool threadPool) {
+        // sampling the devices reads /proc/diskstats, so don't run on the scheduler thread
+        return threadPool.scheduleWithFixedDelay(new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                logger.warn("failed to adjust the merge IO budget", e);
+            }
+
+            @Override
+            protected void doRun() {
+                adjustBudget();
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    public void close() {
+        scheduler.cancel();
+    }
+
+    /**
+     * Samples the load of the devices and of the shards, and hands out the resulting budget to the shards.
+     */
+    void adjustBudget() {
+        final List<IndexShard> shards = availableShards();
+        if (enabled == false) {
+            if (budgetMBPerSec != Double.POSITIVE_INFINITY) {
+                budgetMBPerSec = Double.POSITIVE_INFINITY;
+                for (IndexShard shard : shards) {
+                    setMergeIORateLimit(shard, Double.POSITIVE_INFINITY);
+                }
+            }
+            previousFsInfo = null;
+            previousQueryCounts = new HashMap<>();
+            return;
+        }
+
+        final FsInfo fsInfo = sampleDevices();
+        boolean overloaded = false;
+        double throughputMBPerSec = Double.POSITIVE_INFINITY;
+        if (fsInfo != null && previousFsInfo != null && fsInfo.getIoStats() != null) {
+            final long elapsedMillis = fsInfo.getTimestamp() - previousFsInfo.getTimestamp();
+            if (elapsedMillis > 0) {
+                double utilization = 0;
+                double latencyMillis = 0;
+                long kilobytes = 0;
+                for (FsInfo.DeviceStats device : fsInfo.getIoStats().getDevicesStats()) {
+                    final long ioTimeInMillis = device.ioTimeInMillis();
+                    if (ioTimeInMillis != -1) {
+                        utilization = Math.max(utilization, (double) ioTimeInMillis / elapsedMillis);
+                        if (device.operations() > 0) {
+                            latencyMillis = Math.max(latencyMillis, (double) ioTimeInMillis / device.operations());
+                        }
+                    }
+                    kilobytes += Math.max(0, device.readKilobytes()) + Math.max(0, device.writeKilobytes());
+                }
+                overloaded = utilization > targetUtilization || latencyMillis > targetLatency.millis();
+                throughputMBPerSec = kilobytes / 1024.0 / (elapsedMillis / 1000.0);
+                logger.trace("data path devices are [{}] utilized with [{}ms] per IO at [{}MB/sec]",
+                    utilization, latencyMillis, throughputMBPerSec);
+            }
+        }
+        previousFsInfo = fsInfo;
+
+        final Map<ShardId, Long> queryCounts = new HashMap<>();
+        final List<IndexShard> merging = new ArrayList<>();
+        final List<Long> segmentCounts = new ArrayList<>();
+        final List<Double> queryRates = new ArrayList<>();
+        boolean backlog = false;
+        for (IndexShard shard : shards) {
+            try {
+                final long queryCount = shard.searchStats().getTotal().getQueryCount();
+                queryCounts.put(shard.shardId(), queryCount);
+                final MergeStats mergeStats = shard.mergeStats();
+                if (mergeStats.getCurrent() > 0) {
+                    final long previousQueryCount = previousQueryCounts.getOrDefault(shard.shardId(), queryCount);
+                    merging.add(shard);
+                    segmentCounts.add(shard.segmentStats(false, false).getCount());
+                    queryRates.add(Math.max(0, queryCount - previousQueryCount) / (interval.millis() / 1000.0));
+                    backlog |= mergeStats.getBacklog() > 0;
+                }
+            } catch (AlreadyClosedException e) {
+                // the shard is closing, it doesn't need a share of the budget
+            }
+        }
+        previousQueryCounts = queryCounts;
+
+        final double budget = nextBudget(budgetMBPerSec, overloaded, throughputMBPerSec, backlog);
+        if (budget != budgetMBPerSec) {
+            logger.debug("now limiting merges of the node to [{}MB/sec], overloaded [{}], backlog [{}]", budget, overloaded, backlog);
+        }
+        budgetMBPerSec = budget;
+
+        final double[] shares = shares(budget, segmentCounts.stream().mapToLong(Long::longValue).toArray(),
+            queryRates.stream().mapToDouble(Double::doubleValue).toArray());
+        final Map<IndexShard, Double> limits = new HashMap<>();
+        for (int i = 0; i < merging.size(); i++) {
+            limits.put(merging.get(i), shares[i]);
+        }
+        for (IndexShard shard : shards) {
+            // shards that don't merge right now may use the whole budget for the merges they start before the next adjustment
+            setMergeIORateLimit(shard, limits.getOrDefault(shard, budget));
+        }
+    }
+
+    /**
+     * Computes the next budget: shrinks it by a quarter below what the devices currently do when they are overloaded, grows it by a
+     * fifth while merges are waiting, and lifts it entirely once it exceeds what merges are ever throttled to.
+     */
+    static double nextBudget(double budgetMBPerSec, boolean overloaded, double throughputMBPerSec, boolean backlog) {
+        if (overloaded) {
+            return Math.max(MIN_MB_PER_SEC, Math.min(budgetMBPerSec, throughputMBPerSec) * 0.75);
+        }
+        if (backlog && budgetMBPerSec != Double.POSITIVE_INFINITY) {
+            final double grown = budgetMBPerSec * 1.2;
+            return grown > MAX_MB_PER_SEC ? Double.POSITIVE_INFINITY : grown;
+        }
+        return budgetMBPerSec;
+    }
+
+    /**
+     * Splits the budget between the merging shards in proportion to their number of segments, weighted by their number of queries
+     * per second, so that merges of hot shards with many segments are slowed down the least.
+     */
+    static double[] shares(double budgetMBPerSec, long[] segmentCounts, double[] queryRates) {
+        assert segmentCounts.length == queryRates.length;
+        final double[] shares = new double[segmentCounts.length];
+        if (budgetMBPerSec == Double.POSITIVE_INFINITY) {
+            Arrays.fill(shares, Double.POSITIVE_INFINITY);
+            return shares;
+        }
+        final double[] weights = new double[segmentCounts.length];
+        double totalWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.max(1, segmentCounts[i]) * (1 + queryRates[i]);
+            totalWeight += weights[i];
+        }
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = Math.max(MIN_MB_PER_SEC, budgetMBPerSec * weights[i] / totalWeight);
+        }
+        return shares;
+    }
+
+    /** returns the budget merges of this node currently share, in MB per second */
+    double budgetMBPerSec() {
+        return budgetMBPerSec;
+    }
+
+    protected List<IndexShard> availableShards() {
+        List<IndexShard> availableShards = new ArrayList<>();
+        for (IndexShard shard : indexShards) {
+            if (CAN_MERGE_STATES.contains(shard.state())) {
+                availableShards.add(shard);
+            }
+        }
+        return availableShards;
+    }
+
+    /** samples the data path devices, returns null if they can't be sampled */
+    protected FsInfo sampleDevices() {
+        try {
+            return fsProbe.stats(previousFsInfo);
+        } catch (Exception e) {
+            logger.debug("failed to sample the data path devices", e);
+            return null;
+        }
+    }
+
+    /** limits the rate at which the merges of this shard may write */
+    protected void setMergeIORateLimit(IndexShard shard, double mbPerSec) {
+        shard.setMergeIORateLimit(mbPerSec);
+    }
+}
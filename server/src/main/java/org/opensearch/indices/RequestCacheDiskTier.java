@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.core.internal.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The disk tier of the {@link IndicesRequestCache}. Entries evicted from the heap are written to one file per entry
+ * under a node local directory, while their keys and the location of the files are kept in a size bounded LRU cache.
+ * Entries are removed from this tier once they are promoted back to the heap.
+ * <p>
+ * The keys of the request cache are bound to the identity of the shards and of the readers, so the entries of this tier
+ * never outlive the node and the directory is wiped when the tier is created.
+ */
+final class RequestCacheDiskTier implements RemovalListener<IndicesRequestCache.Key, RequestCacheDiskTier.DiskEntry>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RequestCacheDiskTier.class);
+
+    private final Path path;
+    private final AtomicLong nextFileId = new AtomicLong();
+    private final Cache<IndicesRequestCache.Key, DiskEntry> entries;
+
+    RequestCacheDiskTier(Path path, long maxSizeInBytes) throws IOException {
+        this.path = path;
+        IOUtils.rm(path);
+        Files.createDirectories(path);
+        this.entries = CacheBuilder.<IndicesRequestCache.Key, DiskEntry>builder()
+            .setMaximumWeight(maxSizeInBytes).weigher((k, v) -> v.sizeInBytes).removalListener(this).build();
+    }
+
+    /**
+     * Writes the provided value to disk, replacing the entry that may already exist for the same key.
+     */
+    void put(IndicesRequestCache.Key key, BytesReference value) throws IOException {
+        final Path file = path.resolve(nextFileId.getAndIncrement() + ".cache");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            value.writeTo(out);
+        }
+        final DiskEntry entry = new DiskEntry(file, value.length());
+        key.entity.onSpilled(key, entry.sizeInBytes);
+        entries.put(key, entry);
+    }
+
+    /**
+     * Reads the value of the provided key and removes it from this tier, returns <code>null</code> if the key is not on disk.
+     */
+    @Nullable
+    BytesReference promote(IndicesRequestCache.Key key) {
+        final DiskEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return new BytesArray(Files.readAllBytes(entry.file));
+        } catch (IOException e) {
+            // the entry may have been evicted concurrently
+            logger.debug(() -> new ParameterizedMessage("failed to read request cache entry [{}]", entry.file), e);
+            return null;
+        } finally {
+            entries.invalidate(key, entry);
+        }
+    }
+
+    void invalidate(IndicesRequestCache.Key key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * An LRU ordered view over the keys of this tier, removing a key through the iterator deletes its entry.
+     */
+    Iterable<IndicesRequestCache.Key> keys() {
+        return entries.keys();
+    }
+
+    void refresh() {
+        entries.refresh();
+    }
+
+    int count() {
+        return entries.count();
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<IndicesRequestCache.Key, DiskEntry> notification) {
+        final DiskEntry entry = notification.getValue();
+        try {
+            Files.deleteIfExists(entry.file);
+        } catch (IOException e) {
+            logger.warn(() -> new ParameterizedMessage("failed to delete request cache entry [{}]", entry.file), e);
+        }
+        notification.getKey().entity.onDiskRemoval(notification.getKey(), entry.sizeInBytes,
+            notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED);
+    }
+
+    @Override
+    public void close() {
+        entries.invalidateAll();
+    }
+
+    static final class DiskEntry {
+        final Path file;
+        final long sizeInBytes;
+
+        DiskEntry(Path file, long sizeInBytes) {
+            this.file = file;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
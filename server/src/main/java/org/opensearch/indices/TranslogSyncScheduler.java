@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Groups the translog syncs requested by the write operations of all the shards of a node that are executed with the
+ * {@code request} durability.
+ * <p>
+ * Each shard otherwise syncs its own translog as soon as a write operation asks for it, so that a node hosting many actively
+ * written shards issues many small fsyncs. When enabled, the sync requests of the shards that share a data path are instead
+ * collected for a short group-commit window, after which a single worker syncs the translog of each shard of the batch once,
+ * up to the highest location requested for that shard. Write operations are only acknowledged once the sync covering their
+ * location completed, so that the durability guarantees of the {@code request} durability are unchanged: the window only
+ * trades a bit of latency for fewer fsyncs.
+ * <p>
+ * The number of syncs, the number of locations that they covered and the time spent syncing are reported per shard in the
+ * translog statistics.
+ */
+public class TranslogSyncScheduler {
+
+    private static final Logger logger = LogManager.getLogger(TranslogSyncScheduler.class);
+
+    /** Whether the translog syncs of the shards of the node are grouped (default: false). */
+    public static final Setting<Boolean> GROUP_COMMIT_ENABLED_SETTING =
+        Setting.boolSetting("indices.translog.group_commit.enabled", false, Property.NodeScope);
+
+    /** How long the sync requests are collected before they are processed (default: 2ms). */
+    public static final Setting<TimeValue> GROUP_COMMIT_WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.window", TimeValue.timeValueMillis(2), TimeValue.ZERO, Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final boolean enabled;
+    private final TimeValue window;
+    private final ConcurrentMap<Path, DataPathSyncer> syncers = ConcurrentCollections.newConcurrentMap();
+
+    public TranslogSyncScheduler(Settings settings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.enabled = GROUP_COMMIT_ENABLED_SETTING.get(settings);
+        this.window = GROUP_COMMIT_WINDOW_SETTING.get(settings);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Syncs the translog of the given shard up to the given location, and notifies the listener once done, with {@code null} or
+     * the exception that made the sync fail.
+     */
+    public void sync(IndexShard shard, Translog.Location location, Consumer<Exception> listener) {
+        final Path dataPath = shard.shardPath().getRootDataPath();
+        syncers.computeIfAbsent(dataPath, DataPathSyncer::new).add(new PendingSync(shard, location, preserveContext(listener)));
+    }
+
+    private Consumer<Exception> preserveContext(Consumer<Exception> listener) {
+        final Supplier<ThreadContext.StoredContext> restorableContext = threadPool.getThreadContext().newRestorableContext(false);
+        return e -> {
+            try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                listener.accept(e);
+            }
+        };
+    }
+
+    private static final class PendingSync {
+
+        private final IndexShard shard;
+        private final Translog.Location location;
+        private final Consumer<Exception> listener;
+
+        PendingSync(IndexShard shard, Translog.Location location, Consumer<Exception> listener) {
+            this.shard = shard;
+            this.location = location;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Collects the sync requests of the shards of a data path and processes them in batches, one batch at a time.
+     */
+    private final class DataPathSyncer {
+
+        private final Path dataPath;
+        private final Queue<PendingSync> pendingSyncs = ConcurrentCollections.newQueue();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        DataPathSyncer(Path dataPath) {
+            this.dataPath = dataPath;
+        }
+
+        void add(PendingSync pendingSync) {
+            pendingSyncs.add(pendingSync);
+            if (scheduled.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            final AbstractRunnable processBatch = new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    logger.warn(new ParameterizedMessage("failed to sync translogs of data path [{}]", dataPath), e);
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    // the node is shutting down, the shards sync their translogs when closing
+                    processBatch();
+                }
+
+                @Override
+                protected void doRun() {
+                    processBatch();
+                }
+            };
+            if (window.nanos() == 0) {
+                threadPool.generic().execute(processBatch);
+            } else {
+                try {
+                    threadPool.schedule(processBatch, window, ThreadPool.Names.GENERIC);
+                } catch (OpenSearchRejectedExecutionException e) {
+                    processBatch.onRejection(e);
+                }
+            }
+        }
+
+        private void processBatch() {
+            try (ThreadContext.StoredContext ignore = threadPool.getThreadContext().stashContext()) {
+                final Map<IndexShard, List<PendingSync>> batch = new IdentityHashMap<>();
+                PendingSync pendingSync;
+                while ((pendingSync = pendingSyncs.poll()) != null) {
+                    batch.computeIfAbsent(pendingSync.shard, k -> new ArrayList<>()).add(pendingSync);
+                }
+                for (Map.Entry<IndexShard, List<PendingSync>> entry : batch.entrySet()) {
+                    syncShard(entry.getKey(), entry.getValue());
+                }
+            } finally {
+                scheduled.set(false);
+                // a sync request may have been added after the queue was drained but before the flag was reset
+                if (pendingSyncs.isEmpty() == false && scheduled.compareAndSet(false, true)) {
+                    schedule();
+                }
+            }
+        }
+
+        private void syncShard(IndexShard shard, List<PendingSync> pendingSyncs) {
+            final List<Translog.Location> locations = new ArrayList<>(pendingSyncs.size());
+            for (PendingSync pendingSync : pendingSyncs) {
+                locations.add(pendingSync.location);
+            }
+            Exception exception = null;
+            try {
+                shard.ensureTranslogSynced(locations);
+            } catch (Exception e) {
+                logger.debug(new ParameterizedMessage("{} failed to sync translog", shard.shardId()), e);
+                exception = e;
+            }
+            for (PendingSync pendingSync : pendingSyncs) {
+                try {
+                    pendingSync.listener.accept(exception);
+                } catch (Exception e) {
+                    logger.warn("failed to notify callback", e);
+                }
+            }
+        }
+    }
+}
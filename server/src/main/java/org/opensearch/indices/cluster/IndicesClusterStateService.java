@@ -81,6 +81,7 @@ import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.SegmentReplicationSourceService;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.search.SearchService;
 import org.opensearch.snapshots.SnapshotShardsService;
@@ -146,6 +147,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SearchService searchService,
             final SyncedFlushService syncedFlushService,
             final PeerRecoverySourceService peerRecoverySourceService,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
             final SnapshotShardsService snapshotShardsService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final GlobalCheckpointSyncAction globalCheckpointSyncAction,
@@ -162,6 +164,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 searchService,
                 syncedFlushService,
                 peerRecoverySourceService,
+                segmentReplicationSourceService,
                 snapshotShardsService,
                 primaryReplicaSyncer,
                 globalCheckpointSyncAction::updateGlobalCheckpointForShard,
@@ -181,6 +184,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SearchService searchService,
             final SyncedFlushService syncedFlushService,
             final PeerRecoverySourceService peerRecoverySourceService,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
             final SnapshotShardsService snapshotShardsService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final Consumer<ShardId> globalCheckpointSyncer,
@@ -192,7 +196,8 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                         recoveryTargetService,
                         searchService,
                         syncedFlushService,
-                        snapshotShardsService);
+                        snapshotShardsService,
+                        segmentReplicationSourceService);
         this.indicesService = indicesService;
         this.clusterService = clusterService;
         this.threadPool = threadPool;
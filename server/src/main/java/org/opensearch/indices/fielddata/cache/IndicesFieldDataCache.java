@@ -42,6 +42,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.IndexReader.CacheKey;
 import org.apache.lucene.util.Accountable;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.RemovalListener;
@@ -52,16 +53,23 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.Index;
 import org.opensearch.index.fielddata.LeafFieldData;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
+import org.opensearch.index.fielddata.ordinals.IncrementalOrdinalMap;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.shard.ShardUtils;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.ToLongBiFunction;
 
 public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCache.Key, Accountable>, Releasable{
@@ -70,11 +78,26 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
 
     public static final Setting<ByteSizeValue> INDICES_FIELDDATA_CACHE_SIZE_KEY =
         Setting.memorySizeSetting("indices.fielddata.cache.size", new ByteSizeValue(-1), Property.NodeScope);
+    /**
+     * Whether the global ordinals of a shard are built by extending the global ordinals of its previous reader with the terms
+     * of the segments that were added since, rather than from scratch, when no segment was merged away (default: false).
+     */
+    public static final Setting<Boolean> INDICES_FIELDDATA_INCREMENTAL_GLOBAL_ORDINALS_SETTING =
+        Setting.boolSetting("indices.fielddata.global_ordinals.incremental", false, Property.NodeScope);
     private final IndexFieldDataCache.Listener indicesFieldDataCacheListener;
     private final Cache<Key, Accountable> cache;
+    private final boolean incrementalGlobalOrdinals;
+    private final CircuitBreakerService circuitBreakerService;
 
     public IndicesFieldDataCache(Settings settings, IndexFieldDataCache.Listener indicesFieldDataCacheListener) {
+        this(settings, indicesFieldDataCacheListener, new NoneCircuitBreakerService());
+    }
+
+    public IndicesFieldDataCache(Settings settings, IndexFieldDataCache.Listener indicesFieldDataCacheListener,
+                                 CircuitBreakerService circuitBreakerService) {
         this.indicesFieldDataCacheListener = indicesFieldDataCacheListener;
+        this.circuitBreakerService = circuitBreakerService;
+        this.incrementalGlobalOrdinals = INDICES_FIELDDATA_INCREMENTAL_GLOBAL_ORDINALS_SETTING.get(settings);
         final long sizeInBytes = INDICES_FIELDDATA_CACHE_SIZE_KEY.get(settings).getBytes();
         CacheBuilder<Key, Accountable> cacheBuilder = CacheBuilder.<Key, Accountable>builder()
                 .removalListener(this);
@@ -90,7 +113,8 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
     }
 
     public IndexFieldDataCache buildIndexFieldDataCache(IndexFieldDataCache.Listener listener, Index index, String fieldName) {
-        return new IndexFieldCache(logger, cache, index, fieldName, indicesFieldDataCacheListener, listener);
+        return new IndexFieldCache(logger, cache, index, fieldName, incrementalGlobalOrdinals,
+            circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA), indicesFieldDataCacheListener, listener);
     }
 
     public Cache<Key, Accountable> getCache() {
@@ -114,6 +138,10 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 logger.error("Failed to call listener on field data cache unloading", e);
             }
         }
+        if (value instanceof GlobalOrdinalsIndexFieldData) {
+            // releases the ordinal map that may have been built on demand
+            ((GlobalOrdinalsIndexFieldData) value).close();
+        }
     }
 
     public static class FieldDataWeigher implements ToLongBiFunction<Key, Accountable> {
@@ -133,9 +161,20 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         final String fieldName;
         private final Cache<Key, Accountable> cache;
         private final Listener[] listeners;
+        private final boolean incrementalGlobalOrdinals;
+        private final CircuitBreaker breaker;
+        /**
+         * The global ordinals last built for each shard, that the global ordinals of the next reader of the shard extend. They
+         * can outlive the cache entry of their reader, so they are accounted in the circuit breaker until they are replaced or
+         * their shard is cleared.
+         */
+        private final ConcurrentMap<ShardId, IncrementalOrdinalMap> lastGlobalOrdinals = ConcurrentCollections.newConcurrentMap();
 
-        IndexFieldCache(Logger logger,final Cache<Key, Accountable> cache, Index index, String fieldName, Listener... listeners) {
+        IndexFieldCache(Logger logger, final Cache<Key, Accountable> cache, Index index, String fieldName,
+                        boolean incrementalGlobalOrdinals, CircuitBreaker breaker, Listener... listeners) {
             this.logger = logger;
+            this.incrementalGlobalOrdinals = incrementalGlobalOrdinals;
+            this.breaker = breaker;
             this.listeners = listeners;
             this.index = index;
             this.fieldName = fieldName;
@@ -184,7 +223,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             final Accountable accountable = cache.computeIfAbsent(key, k -> {
                 OpenSearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
-                final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                final Accountable ifd = loadGlobalDirect(shardId, indexReader, indexFieldData);
                 for (Listener listener : k.listeners) {
                     try {
                         listener.onCache(shardId, fieldName, ifd);
@@ -198,6 +237,33 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             return (IFD) accountable;
         }
 
+        private Accountable loadGlobalDirect(ShardId shardId, DirectoryReader indexReader,
+                                             IndexFieldData.Global<?> indexFieldData) throws Exception {
+            if (incrementalGlobalOrdinals == false || shardId == null || indexFieldData instanceof IndexOrdinalsFieldData == false) {
+                return (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+            }
+            final IndexOrdinalsFieldData global =
+                ((IndexOrdinalsFieldData) indexFieldData).loadGlobalDirect(indexReader, lastGlobalOrdinals.get(shardId));
+            if (global instanceof GlobalOrdinalsIndexFieldData) {
+                final IncrementalOrdinalMap ordinalMap = ((GlobalOrdinalsIndexFieldData) global).getIncrementalOrdinalMap();
+                breaker.addWithoutBreaking(ordinalMap.ramBytesUsed());
+                releaseGlobalOrdinals(lastGlobalOrdinals.put(shardId, ordinalMap));
+            }
+            return (Accountable) global;
+        }
+
+        private void releaseGlobalOrdinals(@Nullable IncrementalOrdinalMap ordinalMap) {
+            if (ordinalMap != null) {
+                breaker.addWithoutBreaking(-ordinalMap.ramBytesUsed());
+            }
+        }
+
+        private void clearGlobalOrdinals() {
+            for (ShardId shardId : lastGlobalOrdinals.keySet()) {
+                releaseGlobalOrdinals(lastGlobalOrdinals.remove(shardId));
+            }
+        }
+
         @Override
         public void onClose(CacheKey key) throws IOException {
             cache.invalidate(new Key(this, key, null));
@@ -211,6 +277,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                     cache.invalidate(key);
                 }
             }
+            clearGlobalOrdinals();
             // force eviction
             cache.refresh();
         }
@@ -224,11 +291,19 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                     }
                 }
             }
+            if (this.fieldName.equals(fieldName)) {
+                clearGlobalOrdinals();
+            }
             // we call refresh because this is a manual operation, should happen
             // rarely and probably means the user wants to see memory returned as
             // soon as possible
             cache.refresh();
         }
+
+        @Override
+        public void clear(ShardId shardId) {
+            releaseGlobalOrdinals(lastGlobalOrdinals.remove(shardId));
+        }
     }
 
     public static class Key {
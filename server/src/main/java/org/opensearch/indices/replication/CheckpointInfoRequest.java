@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Sent by a replica to its primary to get the files of the last commit of the primary and of the segments that the primary
+ * searches, unless the replica already copied them.
+ */
+public class CheckpointInfoRequest extends TransportRequest {
+
+    private final ShardId shardId;
+    private final String targetAllocationId;
+    private final long lastCopiedGeneration;
+    private final long lastCopiedVersion;
+
+    public CheckpointInfoRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        targetAllocationId = in.readString();
+        lastCopiedGeneration = in.readLong();
+        lastCopiedVersion = in.readLong();
+    }
+
+    public CheckpointInfoRequest(ShardId shardId, String targetAllocationId, long lastCopiedGeneration, long lastCopiedVersion) {
+        this.shardId = shardId;
+        this.targetAllocationId = targetAllocationId;
+        this.lastCopiedGeneration = lastCopiedGeneration;
+        this.lastCopiedVersion = lastCopiedVersion;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String targetAllocationId() {
+        return targetAllocationId;
+    }
+
+    /**
+     * The generation of the last commit of the primary that the replica copied, or {@code -1} if it did not copy any.
+     */
+    public long lastCopiedGeneration() {
+        return lastCopiedGeneration;
+    }
+
+    /**
+     * The version of the segment infos of the primary that the replica copied, or {@code -1} if it did not copy any.
+     */
+    public long lastCopiedVersion() {
+        return lastCopiedVersion;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeString(targetAllocationId);
+        out.writeLong(lastCopiedGeneration);
+        out.writeLong(lastCopiedVersion);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.store.Store;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+
+/**
+ * The generation of the last commit of a primary and the version of the segment infos that it searches, along with the files of
+ * both and the serialized segment infos. The files are omitted if the replica already copied this commit and these segment infos.
+ */
+public class CheckpointInfoResponse extends TransportResponse {
+
+    private final long generation;
+    private final long version;
+    @Nullable
+    private final Store.MetadataSnapshot metadataSnapshot;
+    private final BytesReference segmentInfosBytes;
+
+    public CheckpointInfoResponse(StreamInput in) throws IOException {
+        super(in);
+        generation = in.readLong();
+        version = in.readLong();
+        metadataSnapshot = in.readOptionalWriteable(Store.MetadataSnapshot::new);
+        segmentInfosBytes = in.readBytesReference();
+    }
+
+    public CheckpointInfoResponse(long generation, long version, @Nullable Store.MetadataSnapshot metadataSnapshot,
+                                  BytesReference segmentInfosBytes) {
+        this.generation = generation;
+        this.version = version;
+        this.metadataSnapshot = metadataSnapshot;
+        this.segmentInfosBytes = segmentInfosBytes;
+    }
+
+    /**
+     * Creates a response telling the replica that it already copied the given commit and segment infos.
+     */
+    public static CheckpointInfoResponse upToDate(long generation, long version) {
+        return new CheckpointInfoResponse(generation, version, null, BytesArray.EMPTY);
+    }
+
+    /**
+     * The generation of the last commit of the primary.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * The version of the segment infos that the primary searches.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * The files of the commit and of the segment infos, or {@code null} if the replica is up to date.
+     */
+    @Nullable
+    public Store.MetadataSnapshot metadataSnapshot() {
+        return metadataSnapshot;
+    }
+
+    /**
+     * The segment infos that the primary searches, as written by {@link org.apache.lucene.index.SegmentInfos#write}, or an empty
+     * reference if the replica is up to date.
+     */
+    public BytesReference segmentInfosBytes() {
+        return segmentInfosBytes;
+    }
+
+    public boolean isUpToDate() {
+        return metadataSnapshot == null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeLong(generation);
+        out.writeLong(version);
+        out.writeOptionalWriteable(metadataSnapshot);
+        out.writeBytesReference(segmentInfosBytes);
+    }
+}
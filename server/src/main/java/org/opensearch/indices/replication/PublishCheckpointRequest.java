@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Sent by a primary to its replicas after a refresh changed the segments that it searches, so that they copy them.
+ */
+public class PublishCheckpointRequest extends TransportRequest {
+
+    private final ShardId shardId;
+
+    public PublishCheckpointRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+    }
+
+    public PublishCheckpointRequest(ShardId shardId) {
+        this.shardId = shardId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+    }
+}
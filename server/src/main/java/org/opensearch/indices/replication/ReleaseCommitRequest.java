@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Sent by a replica to its primary once it copied the files of a commit and of segment infos, so that the primary can release them.
+ */
+public class ReleaseCommitRequest extends TransportRequest {
+
+    private final ShardId shardId;
+    private final String targetAllocationId;
+
+    public ReleaseCommitRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        targetAllocationId = in.readString();
+    }
+
+    public ReleaseCommitRequest(ShardId shardId, String targetAllocationId) {
+        this.shardId = shardId;
+        this.targetAllocationId = targetAllocationId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String targetAllocationId() {
+        return targetAllocationId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeString(targetAllocationId);
+    }
+}
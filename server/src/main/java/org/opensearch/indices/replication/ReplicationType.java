@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import java.util.Locale;
+
+/**
+ * How the replicas of an index are kept in sync with their primary.
+ */
+public enum ReplicationType {
+
+    /**
+     * Every replica indexes the operations that the primary forwards to it.
+     */
+    DOCUMENT,
+
+    /**
+     * Only the primary indexes the operations. Replicas only write them to their translog for durability and copy the
+     * segment files of the primary every time it refreshes.
+     */
+    SEGMENT;
+
+    public static ReplicationType parseString(String replicationType) {
+        try {
+            return ReplicationType.valueOf(replicationType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown replication type [" + replicationType + "], must be one of [document, segment]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Sent by a replica to its primary to read a chunk of a file of the commit that the primary returned in its last
+ * {@link CheckpointInfoResponse}.
+ */
+public class SegmentFileChunkRequest extends TransportRequest {
+
+    private final ShardId shardId;
+    private final String targetAllocationId;
+    private final String fileName;
+    private final long position;
+    private final int length;
+
+    public SegmentFileChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        targetAllocationId = in.readString();
+        fileName = in.readString();
+        position = in.readVLong();
+        length = in.readVInt();
+    }
+
+    public SegmentFileChunkRequest(ShardId shardId, String targetAllocationId, String fileName, long position, int length) {
+        this.shardId = shardId;
+        this.targetAllocationId = targetAllocationId;
+        this.fileName = fileName;
+        this.position = position;
+        this.length = length;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String targetAllocationId() {
+        return targetAllocationId;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeString(targetAllocationId);
+        out.writeString(fileName);
+        out.writeVLong(position);
+        out.writeVInt(length);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+
+/**
+ * A chunk of a segment file read by a primary.
+ */
+public class SegmentFileChunkResponse extends TransportResponse {
+
+    private final BytesReference content;
+
+    public SegmentFileChunkResponse(StreamInput in) throws IOException {
+        super(in);
+        content = in.readBytesReference();
+    }
+
+    public SegmentFileChunkResponse(BytesReference content) {
+        this.content = content;
+    }
+
+    public BytesReference content() {
+        return content;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBytesReference(content);
+    }
+}
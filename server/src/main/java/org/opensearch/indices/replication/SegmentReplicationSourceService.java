@@ -0,0 +1,336 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.OutputStreamIndexOutput;
+import org.apache.lucene.store.RateLimiter;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.EmptyTransportResponseHandler;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Serves the segments of the primaries of this node to their replicas that use segment replication.
+ * <p>
+ * Every refresh of a primary that changes the segments it searches is published to the nodes of its started replicas. A replica
+ * then asks for the files of the last commit of its primary and of the segments that the primary searches, which acquires both
+ * the commit and a searcher so that these files are not deleted while the replica copies them. The replica reads the files that
+ * it misses chunk by chunk and finally asks the primary to release them. The commits and searchers held for replicas that are no
+ * longer part of the replication group of their primary are released on cluster state changes.
+ */
+public class SegmentReplicationSourceService extends AbstractLifecycleComponent implements ClusterStateListener, IndexEventListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationSourceService.class);
+
+    public static class Actions {
+        public static final String CHECKPOINT_INFO = "internal:index/shard/replication/checkpoint_info";
+        public static final String FILE_CHUNK = "internal:index/shard/replication/file_chunk";
+        public static final String RELEASE_COMMIT = "internal:index/shard/replication/release_commit";
+    }
+
+    private final TransportService transportService;
+    private final IndicesService indicesService;
+    private final RecoverySettings recoverySettings;
+
+    // the commits and searchers held for the replicas, by shard and allocation id of the replica
+    private final Map<ShardId, Map<String, CopyState>> copyStates = new HashMap<>();
+
+    public SegmentReplicationSourceService(TransportService transportService, IndicesService indicesService,
+                                           RecoverySettings recoverySettings) {
+        this.transportService = transportService;
+        this.indicesService = indicesService;
+        this.recoverySettings = recoverySettings;
+        transportService.registerRequestHandler(Actions.CHECKPOINT_INFO, ThreadPool.Names.GENERIC, CheckpointInfoRequest::new,
+            new CheckpointInfoRequestHandler());
+        transportService.registerRequestHandler(Actions.FILE_CHUNK, ThreadPool.Names.GENERIC, SegmentFileChunkRequest::new,
+            new FileChunkRequestHandler());
+        transportService.registerRequestHandler(Actions.RELEASE_COMMIT, ThreadPool.Names.GENERIC, ReleaseCommitRequest::new,
+            new ReleaseCommitRequestHandler());
+    }
+
+    @Override
+    protected void doStart() {
+        if (DiscoveryNode.isDataNode(indicesService.clusterService().getSettings())) {
+            indicesService.clusterService().addListener(this);
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        if (DiscoveryNode.isDataNode(indicesService.clusterService().getSettings())) {
+            indicesService.clusterService().removeListener(this);
+        }
+        final List<CopyState> released = new ArrayList<>();
+        synchronized (copyStates) {
+            copyStates.values().forEach(states -> released.addAll(states.values()));
+            copyStates.clear();
+        }
+        IOUtils.closeWhileHandlingException(released);
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        final List<CopyState> released = new ArrayList<>();
+        synchronized (copyStates) {
+            for (Iterator<Map.Entry<ShardId, Map<String, CopyState>>> it = copyStates.entrySet().iterator(); it.hasNext(); ) {
+                final Map.Entry<ShardId, Map<String, CopyState>> entry = it.next();
+                final IndexShard shard = getShardOrNull(entry.getKey());
+                if (shard == null || shard.routingEntry().primary() == false) {
+                    released.addAll(entry.getValue().values());
+                    it.remove();
+                    continue;
+                }
+                entry.getValue().entrySet().removeIf(state -> {
+                    if (shard.getReplicationGroup().getRoutingTable().getByAllocationId(state.getKey()) == null) {
+                        released.add(state.getValue());
+                        return true;
+                    }
+                    return false;
+                });
+                if (entry.getValue().isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        if (released.isEmpty() == false) {
+            // releasing a commit may delete its files, which we do not want to do on the cluster applier thread
+            transportService.getThreadPool().generic().execute(() -> IOUtils.closeWhileHandlingException(released));
+        }
+    }
+
+    @Override
+    public void onNewSegmentReplicationCheckpoint(IndexShard indexShard) {
+        final ClusterState state = indicesService.clusterService().state();
+        final IndexRoutingTable indexRoutingTable = state.routingTable().index(indexShard.shardId().getIndex());
+        if (indexRoutingTable == null) {
+            return;
+        }
+        final PublishCheckpointRequest request = new PublishCheckpointRequest(indexShard.shardId());
+        for (ShardRouting replica : indexRoutingTable.shard(indexShard.shardId().id()).replicaShards()) {
+            final DiscoveryNode node = replica.started() ? state.nodes().get(replica.currentNodeId()) : null;
+            if (node != null) {
+                transportService.sendRequest(node, SegmentReplicationTargetService.Actions.PUBLISH_CHECKPOINT, request,
+                    EmptyTransportResponseHandler.INSTANCE_SAME);
+            }
+        }
+    }
+
+    private IndexShard getShardOrNull(ShardId shardId) {
+        final IndexService indexService = indicesService.indexService(shardId.getIndex());
+        return indexService == null ? null : indexService.getShardOrNull(shardId.id());
+    }
+
+    CheckpointInfoResponse getCheckpointInfo(CheckpointInfoRequest request) throws IOException {
+        final IndexShard shard = indicesService.indexServiceSafe(request.shardId().getIndex()).getShard(request.shardId().id());
+        final ShardRouting routingEntry = shard.routingEntry();
+        if (routingEntry.primary() == false || routingEntry.active() == false) {
+            throw new IllegalStateException("shard [" + routingEntry + "] is not an active primary");
+        }
+        if (shard.getReplicationGroup().getRoutingTable().getByAllocationId(request.targetAllocationId()) == null) {
+            throw new IllegalStateException("[" + request.targetAllocationId() + "] is not a copy of " + request.shardId());
+        }
+        Engine.IndexCommitRef commitRef = null;
+        Engine.Searcher searcher = null;
+        boolean success = false;
+        try {
+            commitRef = shard.acquireLastIndexCommit(false);
+            searcher = shard.acquireSegmentReplicationSearcher();
+            final IndexCommit commit = commitRef.getIndexCommit();
+            final SegmentInfos segmentInfos = getSegmentInfos(searcher.getDirectoryReader());
+            if (commit.getGeneration() == request.lastCopiedGeneration() && segmentInfos.getVersion() == request.lastCopiedVersion()) {
+                return CheckpointInfoResponse.upToDate(commit.getGeneration(), segmentInfos.getVersion());
+            }
+            final Store store = shard.store();
+            final Store.MetadataSnapshot commitMetadata = store.getMetadata(commit);
+            final Map<String, StoreFileMetadata> files = new HashMap<>(commitMetadata.asMap());
+            files.putAll(store.getSegmentMetadataMap(segmentInfos));
+            final Store.MetadataSnapshot metadataSnapshot =
+                new Store.MetadataSnapshot(unmodifiableMap(files), commitMetadata.getCommitUserData(), commitMetadata.getNumDocs());
+            final BytesReference segmentInfosBytes = serialize(segmentInfos, store);
+            final CopyState previous;
+            synchronized (copyStates) {
+                previous = copyStates.computeIfAbsent(request.shardId(), k -> new HashMap<>())
+                    .put(request.targetAllocationId(), new CopyState(store, commitRef, searcher, metadataSnapshot));
+            }
+            IOUtils.close(previous);
+            success = true;
+            logger.trace("{} serving commit generation [{}] and segment infos version [{}] to [{}]", request.shardId(),
+                commit.getGeneration(), segmentInfos.getVersion(), request.targetAllocationId());
+            return new CheckpointInfoResponse(commit.getGeneration(), segmentInfos.getVersion(), metadataSnapshot, segmentInfosBytes);
+        } finally {
+            if (success == false) {
+                IOUtils.close(commitRef, searcher);
+            }
+        }
+    }
+
+    private static SegmentInfos getSegmentInfos(DirectoryReader reader) {
+        final DirectoryReader unwrapped = FilterDirectoryReader.unwrap(reader);
+        assert unwrapped instanceof StandardDirectoryReader : "expected a standard directory reader but got " + unwrapped;
+        return ((StandardDirectoryReader) unwrapped).getSegmentInfos();
+    }
+
+    private static BytesReference serialize(SegmentInfos segmentInfos, Store store) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            try (OutputStreamIndexOutput indexOutput = new OutputStreamIndexOutput("segment infos", "segment_infos", out, 4096)) {
+                segmentInfos.write(store.directory(), indexOutput);
+            }
+            return out.bytes();
+        }
+    }
+
+    SegmentFileChunkResponse readFileChunk(SegmentFileChunkRequest request) throws IOException {
+        final CopyState copyState;
+        synchronized (copyStates) {
+            final Map<String, CopyState> states = copyStates.get(request.shardId());
+            copyState = states == null ? null : states.get(request.targetAllocationId());
+        }
+        if (copyState == null) {
+            throw new ResourceNotFoundException("no files of {} are held for [{}]", request.shardId(), request.targetAllocationId());
+        }
+        final StoreFileMetadata fileMetadata = copyState.metadataSnapshot.get(request.fileName());
+        if (fileMetadata == null) {
+            throw new IllegalArgumentException("file [" + request.fileName() + "] is not part of the files held for ["
+                + request.targetAllocationId() + "]");
+        }
+        if (request.position() < 0 || request.length() < 0 || request.position() + request.length() > fileMetadata.length()) {
+            throw new IllegalArgumentException("cannot read [" + request.length() + "] bytes at position [" + request.position()
+                + "] of file [" + fileMetadata.name() + "] of length [" + fileMetadata.length() + "]");
+        }
+        final RateLimiter rateLimiter = recoverySettings.rateLimiter();
+        if (rateLimiter != null) {
+            rateLimiter.pause(request.length());
+        }
+        final byte[] bytes = new byte[request.length()];
+        final Store store = copyState.store;
+        store.incRef();
+        try (IndexInput input = store.directory().openInput(fileMetadata.name(), IOContext.READONCE)) {
+            input.seek(request.position());
+            input.readBytes(bytes, 0, bytes.length);
+        } finally {
+            store.decRef();
+        }
+        return new SegmentFileChunkResponse(new BytesArray(bytes));
+    }
+
+    void releaseCommit(ReleaseCommitRequest request) throws IOException {
+        final CopyState released;
+        synchronized (copyStates) {
+            final Map<String, CopyState> states = copyStates.get(request.shardId());
+            if (states == null) {
+                return;
+            }
+            released = states.remove(request.targetAllocationId());
+            if (states.isEmpty()) {
+                copyStates.remove(request.shardId());
+            }
+        }
+        IOUtils.close(released);
+    }
+
+    // exposed for testing
+    int numberOfHeldCommits() {
+        synchronized (copyStates) {
+            return copyStates.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    /**
+     * A commit and a searcher held for a replica, along with their files.
+     */
+    private static final class CopyState implements Closeable {
+
+        private final Store store;
+        private final Engine.IndexCommitRef commitRef;
+        private final Releasable searcher;
+        private final Store.MetadataSnapshot metadataSnapshot;
+
+        CopyState(Store store, Engine.IndexCommitRef commitRef, Releasable searcher, Store.MetadataSnapshot metadataSnapshot) {
+            this.store = store;
+            this.commitRef = commitRef;
+            this.searcher = searcher;
+            this.metadataSnapshot = metadataSnapshot;
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOUtils.close(commitRef, searcher);
+        }
+    }
+
+    class CheckpointInfoRequestHandler implements TransportRequestHandler<CheckpointInfoRequest> {
+        @Override
+        public void messageReceived(CheckpointInfoRequest request, TransportChannel channel, Task task) throws Exception {
+            channel.sendResponse(getCheckpointInfo(request));
+        }
+    }
+
+    class FileChunkRequestHandler implements TransportRequestHandler<SegmentFileChunkRequest> {
+        @Override
+        public void messageReceived(SegmentFileChunkRequest request, TransportChannel channel, Task task) throws Exception {
+            channel.sendResponse(readFileChunk(request));
+        }
+    }
+
+    class ReleaseCommitRequestHandler implements TransportRequestHandler<ReleaseCommitRequest> {
+        @Override
+        public void messageReceived(ReleaseCommitRequest request, TransportChannel channel, Task task) throws Exception {
+            releaseCommit(request);
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.MultiFileWriter;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.EmptyTransportResponseHandler;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the replicas of this node that use segment replication up to date with their primaries.
+ * <p>
+ * The started replicas ask their primary for the files of its last commit and of the segments that it searches every time the
+ * primary publishes a refresh, and periodically in case a publication was missed. They copy the files that they miss or that
+ * differ through a {@link MultiFileWriter}, as a peer recovery does, and finally install the copied segment infos in their
+ * engine. A replica copies a single checkpoint at a time: the publications received in the meantime trigger another copy once
+ * the ongoing one completes.
+ */
+public class SegmentReplicationTargetService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationTargetService.class);
+
+    public static class Actions {
+        public static final String PUBLISH_CHECKPOINT = "internal:index/shard/replication/publish_checkpoint";
+    }
+
+    /**
+     * The interval at which the replicas that use segment replication check whether their primary has new segments, in case
+     * they missed a publication of the primary.
+     */
+    public static final Setting<TimeValue> POLL_INTERVAL_SETTING = Setting.positiveTimeSetting(
+        "indices.replication.segment.poll_interval", TimeValue.timeValueSeconds(10), Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final TransportService transportService;
+    private final IndicesService indicesService;
+    private final ClusterService clusterService;
+    private final RecoverySettings recoverySettings;
+    private final TimeValue pollInterval;
+
+    // the shards that are copying a checkpoint, and whether they must copy again once done because a new one was published
+    private final Map<ShardId, Boolean> ongoingReplications = new HashMap<>();
+    private final ConcurrentMap<ShardId, CopiedCheckpoint> copiedCheckpoints = ConcurrentCollections.newConcurrentMap();
+
+    private volatile Scheduler.Cancellable poller;
+
+    public SegmentReplicationTargetService(Settings settings, ThreadPool threadPool, TransportService transportService,
+                                           IndicesService indicesService, ClusterService clusterService,
+                                           RecoverySettings recoverySettings) {
+        this.threadPool = threadPool;
+        this.transportService = transportService;
+        this.indicesService = indicesService;
+        this.clusterService = clusterService;
+        this.recoverySettings = recoverySettings;
+        this.pollInterval = POLL_INTERVAL_SETTING.get(settings);
+        transportService.registerRequestHandler(Actions.PUBLISH_CHECKPOINT, ThreadPool.Names.GENERIC, PublishCheckpointRequest::new,
+            new PublishCheckpointRequestHandler());
+    }
+
+    @Override
+    protected void doStart() {
+        if (DiscoveryNode.isDataNode(clusterService.getSettings())) {
+            poller = threadPool.scheduleWithFixedDelay(this::pollReplicas, pollInterval, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        final Scheduler.Cancellable poller = this.poller;
+        if (poller != null) {
+            poller.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    void pollReplicas() {
+        copiedCheckpoints.keySet().removeIf(shardId -> {
+            final IndexService indexService = indicesService.indexService(shardId.getIndex());
+            return indexService == null || indexService.getShardOrNull(shardId.id()) == null;
+        });
+        for (IndexService indexService : indicesService) {
+            if (indexService.getIndexSettings().isSegmentReplicationEnabled() == false) {
+                continue;
+            }
+            for (IndexShard shard : indexService) {
+                replicateFromPrimary(shard);
+            }
+        }
+    }
+
+    /**
+     * Copies the last checkpoint of the primary of the given shard if it is a started replica of an index that uses segment
+     * replication. If the shard is already copying a checkpoint, it copies again once done.
+     */
+    void replicateFromPrimary(IndexShard shard) {
+        if (shard.indexSettings().isSegmentReplicationEnabled() == false || shard.routingEntry().primary()
+            || shard.state() != IndexShardState.STARTED) {
+            return;
+        }
+        final ShardId shardId = shard.shardId();
+        synchronized (ongoingReplications) {
+            if (ongoingReplications.containsKey(shardId)) {
+                ongoingReplications.put(shardId, true);
+                return;
+            }
+            ongoingReplications.put(shardId, false);
+        }
+        final ActionListener<Void> listener = ActionListener.runAfter(ActionListener.wrap(r -> {},
+            e -> logger.debug(new ParameterizedMessage("{} failed to copy the segments of the primary", shardId), e)),
+            () -> onReplicationDone(shard));
+        final ClusterState state = clusterService.state();
+        final IndexRoutingTable indexRoutingTable = state.routingTable().index(shardId.getIndex());
+        final ShardRouting primary = indexRoutingTable == null ? null : indexRoutingTable.shard(shardId.id()).primaryShard();
+        final DiscoveryNode primaryNode = primary != null && primary.active() ? state.nodes().get(primary.currentNodeId()) : null;
+        if (primaryNode == null) {
+            listener.onResponse(null);
+            return;
+        }
+        try {
+            replicate(shard, primary.allocationId().getId(), primaryNode, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void onReplicationDone(IndexShard shard) {
+        synchronized (ongoingReplications) {
+            if (Boolean.TRUE.equals(ongoingReplications.remove(shard.shardId())) == false) {
+                return;
+            }
+        }
+        replicateFromPrimary(shard);
+    }
+
+    void replicate(IndexShard shard, String primaryAllocationId, DiscoveryNode primaryNode, ActionListener<Void> listener) {
+        final ShardId shardId = shard.shardId();
+        final String targetAllocationId = shard.routingEntry().allocationId().getId();
+        final CopiedCheckpoint copiedCheckpoint = copiedCheckpoints.get(shardId);
+        final boolean samePrimary = copiedCheckpoint != null && copiedCheckpoint.primaryAllocationId.equals(primaryAllocationId);
+        transportService.sendRequest(primaryNode, SegmentReplicationSourceService.Actions.CHECKPOINT_INFO,
+            new CheckpointInfoRequest(shardId, targetAllocationId, samePrimary ? copiedCheckpoint.generation : -1,
+                samePrimary ? copiedCheckpoint.version : -1),
+            new ActionListenerResponseHandler<>(ActionListener.wrap(response -> {
+                if (response.isUpToDate()) {
+                    listener.onResponse(null);
+                } else {
+                    final ActionListener<Void> releasingListener = ActionListener.runAfter(listener, () ->
+                        transportService.sendRequest(primaryNode, SegmentReplicationSourceService.Actions.RELEASE_COMMIT,
+                            new ReleaseCommitRequest(shardId, targetAllocationId), EmptyTransportResponseHandler.INSTANCE_SAME));
+                    new CommitCopy(shard, targetAllocationId, primaryAllocationId, primaryNode, response, releasingListener).start();
+                }
+            }, listener::onFailure), CheckpointInfoResponse::new, ThreadPool.Names.GENERIC));
+    }
+
+    /**
+     * The generation of the last commit and the version of the segment infos of a primary copied by a replica of this node.
+     */
+    private static final class CopiedCheckpoint {
+
+        private final String primaryAllocationId;
+        private final long generation;
+        private final long version;
+
+        CopiedCheckpoint(String primaryAllocationId, long generation, long version) {
+            this.primaryAllocationId = primaryAllocationId;
+            this.generation = generation;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Copies the files of a commit and of the segment infos of a primary that a replica misses, one chunk at a time.
+     */
+    private final class CommitCopy {
+
+        private final IndexShard shard;
+        private final String targetAllocationId;
+        private final String primaryAllocationId;
+        private final DiscoveryNode primaryNode;
+        private final long generation;
+        private final long version;
+        private final Store.MetadataSnapshot sourceMetadata;
+        private final BytesReference segmentInfosBytes;
+        private final ActionListener<Void> listener;
+        private final List<StoreFileMetadata> files = new ArrayList<>();
+        private final int chunkSize;
+
+        private MultiFileWriter multiFileWriter;
+        private int fileIndex;
+        private long position;
+
+        CommitCopy(IndexShard shard, String targetAllocationId, String primaryAllocationId, DiscoveryNode primaryNode,
+                   CheckpointInfoResponse checkpointInfo, ActionListener<Void> listener) {
+            this.shard = shard;
+            this.targetAllocationId = targetAllocationId;
+            this.primaryAllocationId = primaryAllocationId;
+            this.primaryNode = primaryNode;
+            this.generation = checkpointInfo.generation();
+            this.version = checkpointInfo.version();
+            this.sourceMetadata = checkpointInfo.metadataSnapshot();
+            this.segmentInfosBytes = checkpointInfo.segmentInfosBytes();
+            this.listener = listener;
+            this.chunkSize = recoverySettings.getChunkSize().bytesAsInt();
+        }
+
+        void start() {
+            final Store store = shard.store();
+            if (store.tryIncRef() == false) {
+                listener.onFailure(new IndexShardClosedException(shard.shardId()));
+                return;
+            }
+            final ActionListener<Void> storeReleasingListener = ActionListener.runAfter(listener, () -> {
+                if (multiFileWriter != null) {
+                    multiFileWriter.close();
+                }
+                store.decRef();
+            });
+            try {
+                final Map<String, StoreFileMetadata> localFiles = new HashMap<>(store.getMetadata(null).asMap());
+                localFiles.putAll(store.getSegmentMetadataMap(shard.getLatestSegmentInfos()));
+                final Store.RecoveryDiff diff =
+                    sourceMetadata.recoveryDiff(new Store.MetadataSnapshot(localFiles, Collections.emptyMap(), 0));
+                files.addAll(diff.different);
+                files.addAll(diff.missing);
+                final RecoveryState.Index indexState = new RecoveryState.Index();
+                for (StoreFileMetadata file : files) {
+                    indexState.addFileDetail(file.name(), file.length(), false);
+                }
+                indexState.setFileDetailsComplete();
+                multiFileWriter = new MultiFileWriter(store, indexState, "replication." + UUIDs.randomBase64UUID() + ".", logger,
+                    this::ensureShardOpen);
+                logger.trace("{} copying [{}] files of commit generation [{}] and segment infos version [{}] from {}",
+                    shard.shardId(), files.size(), generation, version, primaryNode);
+            } catch (Exception e) {
+                storeReleasingListener.onFailure(e);
+                return;
+            }
+            copyNextChunk(storeReleasingListener);
+        }
+
+        private void ensureShardOpen() {
+            if (shard.state() == IndexShardState.CLOSED) {
+                throw new IndexShardClosedException(shard.shardId());
+            }
+        }
+
+        private void copyNextChunk(ActionListener<Void> listener) {
+            if (fileIndex == files.size()) {
+                threadPool.generic().execute(new AbstractRunnable() {
+                    @Override
+                    public void onFailure(Exception e) {
+                        listener.onFailure(e);
+                    }
+
+                    @Override
+                    protected void doRun() throws IOException {
+                        finish();
+                        listener.onResponse(null);
+                    }
+                });
+                return;
+            }
+            final StoreFileMetadata file = files.get(fileIndex);
+            final int length = (int) Math.min(chunkSize, file.length() - position);
+            transportService.sendRequest(primaryNode, SegmentReplicationSourceService.Actions.FILE_CHUNK,
+                new SegmentFileChunkRequest(shard.shardId(), targetAllocationId, file.name(), position, length),
+                new ActionListenerResponseHandler<>(ActionListener.wrap(response -> {
+                    final boolean lastChunk = position + length == file.length();
+                    multiFileWriter.writeFileChunk(file, position, response.content(), lastChunk);
+                    if (lastChunk) {
+                        fileIndex++;
+                        position = 0;
+                    } else {
+                        position += length;
+                    }
+                    copyNextChunk(listener);
+                }, listener::onFailure), SegmentFileChunkResponse::new, ThreadPool.Names.GENERIC));
+        }
+
+        private void finish() throws IOException {
+            ensureShardOpen();
+            multiFileWriter.renameAllTempFiles();
+            final Store store = shard.store();
+            final SegmentInfos segmentInfos = SegmentInfos.readCommit(store.directory(),
+                new BufferedChecksumIndexInput(new ByteArrayIndexInput("segment infos", BytesReference.toBytes(segmentInfosBytes))),
+                generation);
+            shard.finalizeSegmentReplication(segmentInfos);
+            // the files of the commit of the primary are kept even if this replica has a more recent commit of its own, that the
+            // peer recovery of this replica wrote, so that they are not copied again until the primary commits
+            final Set<String> filesToKeep = new HashSet<>(sourceMetadata.asMap().keySet());
+            filesToKeep.addAll(store.readLastCommittedSegmentsInfo().files(true));
+            store.cleanupUnreferencedFiles("segment replication", filesToKeep);
+            copiedCheckpoints.put(shard.shardId(), new CopiedCheckpoint(primaryAllocationId, generation, version));
+            logger.trace("{} installed commit generation [{}] and segment infos version [{}] of the primary", shard.shardId(),
+                generation, version);
+        }
+    }
+
+    class PublishCheckpointRequestHandler implements TransportRequestHandler<PublishCheckpointRequest> {
+        @Override
+        public void messageReceived(PublishCheckpointRequest request, TransportChannel channel, Task task) throws Exception {
+            final IndexService indexService = indicesService.indexService(request.shardId().getIndex());
+            final IndexShard shard = indexService == null ? null : indexService.getShardOrNull(request.shardId().id());
+            if (shard != null) {
+                replicateFromPrimary(shard);
+            }
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+}
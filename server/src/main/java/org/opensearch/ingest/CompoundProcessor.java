@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -180,6 +181,80 @@ public class CompoundProcessor implements Processor {
         });
     }
 
+    @Override
+    public void batchExecute(List<IngestDocument> ingestDocuments, BatchHandler handler) {
+        final int[] slots = new int[ingestDocuments.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+        }
+        innerBatchExecute(0, ingestDocuments, slots, handler);
+    }
+
+    /**
+     * Executes the current processor on a batch of documents, and the next processor on the documents of the batch that were neither
+     * dropped nor failed once the current processor handed back all of them. The slots map the documents to their position in the
+     * batch that was passed to {@link #batchExecute(List, BatchHandler)}.
+     */
+    void innerBatchExecute(int currentProcessor, List<IngestDocument> ingestDocuments, int[] slots, BatchHandler handler) {
+        if (currentProcessor == processorsWithMetrics.size()) {
+            for (int i = 0; i < slots.length; i++) {
+                handler.accept(slots[i], ingestDocuments.get(i), null);
+            }
+            return;
+        }
+
+        Tuple<Processor, IngestMetric> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+        final Processor processor = processorWithMetric.v1();
+        final IngestMetric metric = processorWithMetric.v2();
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metric.preIngestBatch(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            metric.preIngest();
+        }
+        final IngestDocument[] results = new IngestDocument[slots.length];
+        final AtomicInteger pending = new AtomicInteger(slots.length);
+        processor.batchExecute(ingestDocuments, (i, result, e) -> {
+            metric.postIngestBatchItem();
+
+            final IngestDocument ingestDocument = ingestDocuments.get(i);
+            if (e != null) {
+                metric.ingestFailed();
+                if (ignoreFailure) {
+                    results[i] = ingestDocument;
+                } else {
+                    IngestProcessorException compoundProcessorException =
+                        newCompoundProcessorException(e, processor, ingestDocument);
+                    if (onFailureProcessors.isEmpty()) {
+                        handler.accept(slots[i], null, compoundProcessorException);
+                    } else {
+                        executeOnFailureAsync(0, ingestDocument, compoundProcessorException,
+                            (onFailureResult, onFailureException) -> handler.accept(slots[i], onFailureResult, onFailureException));
+                    }
+                }
+            } else if (result != null) {
+                results[i] = result;
+            } else {
+                handler.accept(slots[i], null, null);
+            }
+
+            if (pending.decrementAndGet() == 0) {
+                // the time of the processor is recorded once per batch, not once per document
+                metric.postIngestBatch(TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos));
+                final List<IngestDocument> nextDocuments = new ArrayList<>(results.length);
+                final int[] nextSlots = new int[results.length];
+                for (int j = 0; j < results.length; j++) {
+                    if (results[j] != null) {
+                        nextSlots[nextDocuments.size()] = slots[j];
+                        nextDocuments.add(results[j]);
+                    }
+                }
+                if (nextDocuments.isEmpty() == false) {
+                    innerBatchExecute(currentProcessor + 1, nextDocuments, Arrays.copyOf(nextSlots, nextDocuments.size()), handler);
+                }
+            }
+        });
+    }
+
     void executeOnFailureAsync(int currentOnFailureProcessor, IngestDocument ingestDocument, OpenSearchException exception,
                                BiConsumer<IngestDocument, Exception> handler) {
         if (currentOnFailureProcessor == 0) {
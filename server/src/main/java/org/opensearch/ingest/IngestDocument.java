@@ -766,6 +766,43 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline on a batch of documents, except for the documents for which the pipeline
+     * has already been executed.
+     *
+     * @param pipeline the pipeline to execute
+     * @param ingestDocuments the documents to execute the pipeline on
+     * @param handler handles the result or failure of each document, together with its position in the batch
+     */
+    static void executePipeline(Pipeline pipeline, List<IngestDocument> ingestDocuments, Processor.BatchHandler handler) {
+        final List<IngestDocument> batch = new ArrayList<>(ingestDocuments.size());
+        final int[] slots = new int[ingestDocuments.size()];
+        final Object[] previousPipelines = new Object[ingestDocuments.size()];
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            final IngestDocument ingestDocument = ingestDocuments.get(i);
+            if (ingestDocument.executedPipelines.add(pipeline.getId())) {
+                slots[batch.size()] = i;
+                previousPipelines[batch.size()] = ingestDocument.ingestMetadata.put("pipeline", pipeline.getId());
+                batch.add(ingestDocument);
+            } else {
+                handler.accept(i, null, new IllegalStateException(PIPELINE_CYCLE_ERROR_MESSAGE + pipeline.getId()));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pipeline.batchExecute(batch, (slot, result, e) -> {
+            final IngestDocument ingestDocument = batch.get(slot);
+            ingestDocument.executedPipelines.remove(pipeline.getId());
+            if (previousPipelines[slot] != null) {
+                ingestDocument.ingestMetadata.put("pipeline", previousPipelines[slot]);
+            } else {
+                ingestDocument.ingestMetadata.remove("pipeline");
+            }
+            handler.accept(slots[slot], result, e);
+        });
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
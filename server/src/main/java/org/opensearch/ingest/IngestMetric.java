@@ -63,6 +63,14 @@ class IngestMetric {
      * The only increasing count of failures
      */
     private final CounterMetric ingestFailed = new CounterMetric();
+    /**
+     * The ever increasing count of batches of things being measured together
+     */
+    private final CounterMetric ingestBatchCount = new CounterMetric();
+    /**
+     * The ever increasing count of things being measured as part of a batch
+     */
+    private final CounterMetric ingestBatchDocCount = new CounterMetric();
 
     /**
      * Call this prior to the ingest action.
@@ -81,6 +89,32 @@ class IngestMetric {
         ingestCount.inc();
     }
 
+    /**
+     * Call this prior to the ingest action of a batch, in addition to calling {@link #preIngest()} for each of its items.
+     * @param batchSize The number of items of the batch.
+     */
+    void preIngestBatch(int batchSize) {
+        ingestBatchCount.inc();
+        ingestBatchDocCount.inc(batchSize);
+    }
+
+    /**
+     * Call this after performing the ingest action on an item of a batch, even if the action failed. The time it took is recorded
+     * for the whole batch with {@link #postIngestBatch(long)} instead.
+     */
+    void postIngestBatchItem() {
+        ingestCurrent.decrementAndGet();
+        ingestCount.inc();
+    }
+
+    /**
+     * Call this once after all the items of a batch were handed back.
+     * @param ingestTimeInMillis The time it took to perform the action on the whole batch.
+     */
+    void postIngestBatch(long ingestTimeInMillis) {
+        ingestTime.inc(ingestTimeInMillis);
+    }
+
     /**
      * Call this if the ingest action failed.
      */
@@ -99,12 +133,15 @@ class IngestMetric {
         ingestCount.inc(metrics.ingestCount.count());
         ingestTime.inc(metrics.ingestTime.sum());
         ingestFailed.inc(metrics.ingestFailed.count());
+        ingestBatchCount.inc(metrics.ingestBatchCount.count());
+        ingestBatchDocCount.inc(metrics.ingestBatchDocCount.count());
     }
 
     /**
      * Creates a serializable representation for these metrics.
      */
     IngestStats.Stats createStats() {
-        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count());
+        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count(),
+            ingestBatchCount.count(), ingestBatchDocCount.count());
     }
 }
@@ -59,6 +59,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -79,6 +80,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -99,6 +101,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
     public static final String INGEST_ORIGIN = "ingest";
 
+    /**
+     * The maximum number of documents of a bulk request that are executed together by a pipeline, so that processors can amortize
+     * their work across documents. The default of <code>1</code> executes every document on its own.
+     */
+    public static final Setting<Integer> INGEST_BATCH_SIZE_SETTING =
+        Setting.intSetting("ingest.batch_size", 1, 1, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     private static final Logger logger = LogManager.getLogger(IngestService.class);
 
     private final ClusterService clusterService;
@@ -113,6 +122,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
     private final IngestMetric totalMetrics = new IngestMetric();
     private final List<Consumer<ClusterState>> ingestClusterStateListeners = new CopyOnWriteArrayList<>();
     private volatile ClusterState state;
+    private volatile int batchSize = INGEST_BATCH_SIZE_SETTING.getDefault(Settings.EMPTY);
 
     public IngestService(ClusterService clusterService, ThreadPool threadPool,
                          Environment env, ScriptService scriptService, AnalysisRegistry analysisRegistry,
@@ -133,6 +143,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         this.threadPool = threadPool;
     }
 
+    /**
+     * Sets the maximum number of documents of a bulk request that are executed together by a pipeline.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     private static Map<String, Processor.Factory> processorFactories(List<IngestPlugin> ingestPlugins,
         Processor.Parameters parameters) {
         Map<String, Processor.Factory> processorFactories = new HashMap<>();
@@ -479,6 +496,8 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                final int batchSize = IngestService.this.batchSize;
+                final List<BatchItem> batchItems = new ArrayList<>();
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -514,11 +533,19 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
-                    executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
-                                     onCompletion, originalThread);
+                    if (batchSize > 1) {
+                        batchItems.add(new BatchItem(i, pipelines.iterator(), hasFinalPipeline, indexRequest));
+                    } else {
+                        executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
+                                         onCompletion, originalThread);
+                    }
 
                     i++;
                 }
+
+                if (batchItems.isEmpty() == false) {
+                    executePipelinesInBatches(batchItems, batchSize, onDropped, onFailure, counter, onCompletion, originalThread);
+                }
             }
         });
     }
@@ -598,6 +625,111 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    /**
+     * Executes the next pipeline of each of the given items, in batches of at most the given size of items that share the same
+     * next pipeline. Once all items of a batch went through their pipeline, the items that have a pipeline left are batched again.
+     */
+    private void executePipelinesInBatches(
+        final List<BatchItem> items,
+        final int batchSize,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final Map<String, List<BatchItem>> itemsByPipeline = new LinkedHashMap<>();
+        for (BatchItem item : items) {
+            itemsByPipeline.computeIfAbsent(item.pipelines.next(), k -> new ArrayList<>()).add(item);
+        }
+        for (Map.Entry<String, List<BatchItem>> entry : itemsByPipeline.entrySet()) {
+            final List<BatchItem> pipelineItems = entry.getValue();
+            for (int from = 0; from < pipelineItems.size(); from += batchSize) {
+                final List<BatchItem> batch = pipelineItems.subList(from, Math.min(from + batchSize, pipelineItems.size()));
+                executePipelineBatch(entry.getKey(), batch, batchSize, onDropped, onFailure, counter, onCompletion, originalThread);
+            }
+        }
+    }
+
+    private void executePipelineBatch(
+        final String pipelineId,
+        final List<BatchItem> batch,
+        final int batchSize,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final PipelineHolder holder = pipelines.get(pipelineId);
+        if (holder == null) {
+            final Exception e = new IllegalArgumentException("pipeline with id [" + pipelineId + "] does not exist");
+            for (BatchItem item : batch) {
+                logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                    pipelineId, item.indexRequest.index(), item.indexRequest.id()), e);
+                onFailure.accept(item.slot, e);
+                if (counter.decrementAndGet() == 0) {
+                    onCompletion.accept(originalThread, null);
+                }
+                assert counter.get() >= 0;
+            }
+            return;
+        }
+        final String[] originalIndices = new String[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            originalIndices[i] = batch.get(i).indexRequest.indices()[0];
+        }
+        final BatchItem[] nextItems = new BatchItem[batch.size()];
+        final AtomicInteger pending = new AtomicInteger(batch.size());
+        innerBatchExecute(batch, holder.pipeline, onDropped, (i, e) -> {
+            final BatchItem item = batch.get(i);
+            final IndexRequest indexRequest = item.indexRequest;
+            if (e != null) {
+                logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                    pipelineId, indexRequest.index(), indexRequest.id()), e);
+                onFailure.accept(item.slot, e);
+            }
+
+            if (Objects.equals(originalIndices[i], indexRequest.indices()[0]) == false) {
+                if (item.hasFinalPipeline && item.pipelines.hasNext() == false) {
+                    totalMetrics.ingestFailed();
+                    onFailure.accept(item.slot, new IllegalStateException("final pipeline [" + pipelineId +
+                        "] can't change the target index"));
+                } else {
+                    indexRequest.isPipelineResolved(false);
+                    resolvePipelines(null, indexRequest, state.metadata());
+                    if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                        item.pipelines = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
+                        item.hasFinalPipeline = true;
+                    } else {
+                        item.pipelines = Collections.emptyIterator();
+                    }
+                }
+            }
+
+            if (item.pipelines.hasNext()) {
+                nextItems[i] = item;
+            } else {
+                if (counter.decrementAndGet() == 0) {
+                    onCompletion.accept(originalThread, null);
+                }
+                assert counter.get() >= 0;
+            }
+
+            if (pending.decrementAndGet() == 0) {
+                final List<BatchItem> remainingItems = new ArrayList<>(nextItems.length);
+                for (BatchItem nextItem : nextItems) {
+                    if (nextItem != null) {
+                        remainingItems.add(nextItem);
+                    }
+                }
+                if (remainingItems.isEmpty() == false) {
+                    executePipelinesInBatches(remainingItems, batchSize, onDropped, onFailure, counter, onCompletion, originalThread);
+                }
+            }
+        });
+    }
+
     public IngestStats stats() {
         IngestStats.Builder statsBuilder = new IngestStats.Builder();
         statsBuilder.addTotalMetrics(totalMetrics);
@@ -678,29 +810,87 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 itemDroppedHandler.accept(slot);
                 handler.accept(null);
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                //it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                //before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                updateIndexRequest(indexRequest, ingestDocument);
                 handler.accept(null);
             }
         });
     }
 
+    private void innerBatchExecute(List<BatchItem> batch, Pipeline pipeline, IntConsumer itemDroppedHandler,
+                                   BiConsumer<Integer, Exception> handler) {
+        if (pipeline.getProcessors().isEmpty()) {
+            for (int i = 0; i < batch.size(); i++) {
+                handler.accept(i, null);
+            }
+            return;
+        }
+
+        long startTimeInNanos = System.nanoTime();
+        final List<IngestDocument> ingestDocuments = new ArrayList<>(batch.size());
+        for (BatchItem item : batch) {
+            totalMetrics.preIngest();
+            IndexRequest indexRequest = item.indexRequest;
+            ingestDocuments.add(new IngestDocument(indexRequest.index(), indexRequest.type(), indexRequest.id(), indexRequest.routing(),
+                indexRequest.version(), indexRequest.versionType(), indexRequest.sourceAsMap()));
+        }
+        final AtomicInteger pending = new AtomicInteger(batch.size());
+        IngestDocument.executePipeline(pipeline, ingestDocuments, (i, result, e) -> {
+            totalMetrics.postIngestBatchItem();
+            if (pending.decrementAndGet() == 0) {
+                totalMetrics.postIngestBatch(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos));
+            }
+            BatchItem item = batch.get(i);
+            if (e != null) {
+                totalMetrics.ingestFailed();
+                handler.accept(i, e);
+            } else if (result == null) {
+                itemDroppedHandler.accept(item.slot);
+                handler.accept(i, null);
+            } else {
+                updateIndexRequest(item.indexRequest, ingestDocuments.get(i));
+                handler.accept(i, null);
+            }
+        });
+    }
+
+    private static void updateIndexRequest(IndexRequest indexRequest, IngestDocument ingestDocument) {
+        Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+        //it's fine to set all metadata fields all the time, as ingest document holds their starting values
+        //before ingestion, which might also get modified during ingestion.
+        indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+        indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
+        indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+        indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+        indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+        if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+            indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+            indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+            indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+        }
+        indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+    }
+
+    /**
+     * A document of a bulk request that is executed in batches, along with the pipelines that are left to execute on it.
+     */
+    private static final class BatchItem {
+        private final int slot;
+        private final IndexRequest indexRequest;
+        private Iterator<String> pipelines;
+        private boolean hasFinalPipeline;
+
+        BatchItem(int slot, Iterator<String> pipelines, boolean hasFinalPipeline, IndexRequest indexRequest) {
+            this.slot = slot;
+            this.pipelines = pipelines;
+            this.hasFinalPipeline = hasFinalPipeline;
+            this.indexRequest = indexRequest;
+        }
+    }
+
     @Override
     public void applyClusterState(final ClusterChangedEvent event) {
         state = event.state();
@@ -33,6 +33,7 @@
 package org.opensearch.ingest;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -185,12 +186,21 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final long ingestTimeInMillis;
         private final long ingestCurrent;
         private final long ingestFailedCount;
+        private final long ingestBatchCount;
+        private final long ingestBatchDocCount;
 
         public Stats(long ingestCount, long ingestTimeInMillis, long ingestCurrent, long ingestFailedCount) {
+            this(ingestCount, ingestTimeInMillis, ingestCurrent, ingestFailedCount, 0, 0);
+        }
+
+        public Stats(long ingestCount, long ingestTimeInMillis, long ingestCurrent, long ingestFailedCount,
+                     long ingestBatchCount, long ingestBatchDocCount) {
             this.ingestCount = ingestCount;
             this.ingestTimeInMillis = ingestTimeInMillis;
             this.ingestCurrent = ingestCurrent;
             this.ingestFailedCount = ingestFailedCount;
+            this.ingestBatchCount = ingestBatchCount;
+            this.ingestBatchDocCount = ingestBatchDocCount;
         }
 
         /**
@@ -201,6 +211,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
             ingestTimeInMillis = in.readVLong();
             ingestCurrent = in.readVLong();
             ingestFailedCount = in.readVLong();
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                ingestBatchCount = in.readVLong();
+                ingestBatchDocCount = in.readVLong();
+            } else {
+                ingestBatchCount = 0;
+                ingestBatchDocCount = 0;
+            }
         }
 
         @Override
@@ -209,6 +226,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
             out.writeVLong(ingestTimeInMillis);
             out.writeVLong(ingestCurrent);
             out.writeVLong(ingestFailedCount);
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeVLong(ingestBatchCount);
+                out.writeVLong(ingestBatchDocCount);
+            }
         }
 
         /**
@@ -239,12 +260,30 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return ingestFailedCount;
         }
 
+        /**
+         * @return The total number of batches of ingest preprocessing operations that were executed together.
+         */
+        public long getIngestBatchCount() {
+            return ingestBatchCount;
+        }
+
+        /**
+         * @return The total number of ingest preprocessing operations that were executed as part of a batch.
+         */
+        public long getIngestBatchDocCount() {
+            return ingestBatchDocCount;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.field("count", ingestCount);
             builder.humanReadableField("time_in_millis", "time", new TimeValue(ingestTimeInMillis, TimeUnit.MILLISECONDS));
             builder.field("current", ingestCurrent);
             builder.field("failed", ingestFailedCount);
+            if (ingestBatchCount > 0) {
+                builder.field("batch_count", ingestBatchCount);
+                builder.field("batch_doc_count", ingestBatchDocCount);
+            }
             return builder;
         }
 
@@ -256,12 +295,14 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.equals(ingestCount, that.ingestCount)
                 && Objects.equals(ingestTimeInMillis, that.ingestTimeInMillis)
                 && Objects.equals(ingestFailedCount, that.ingestFailedCount)
-                && Objects.equals(ingestCurrent, that.ingestCurrent);
+                && Objects.equals(ingestCurrent, that.ingestCurrent)
+                && Objects.equals(ingestBatchCount, that.ingestBatchCount)
+                && Objects.equals(ingestBatchDocCount, that.ingestBatchDocCount);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(ingestCount, ingestTimeInMillis, ingestFailedCount, ingestCurrent);
+            return Objects.hash(ingestCount, ingestTimeInMillis, ingestFailedCount, ingestCurrent, ingestBatchCount, ingestBatchDocCount);
         }
     }
 
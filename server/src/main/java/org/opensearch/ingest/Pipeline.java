@@ -40,6 +40,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 
@@ -120,6 +121,32 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies the data of a batch of documents to be indexed based on the processor this pipeline holds, handing each document
+     * back to the handler together with its position in the batch.
+     *
+     * If <code>null</code> is handed back then this document will be dropped and not indexed, otherwise
+     * this document will be kept and indexed.
+     */
+    public void batchExecute(List<IngestDocument> ingestDocuments, Processor.BatchHandler handler) {
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metrics.preIngestBatch(ingestDocuments.size());
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            metrics.preIngest();
+        }
+        final AtomicInteger pending = new AtomicInteger(ingestDocuments.size());
+        compoundProcessor.batchExecute(ingestDocuments, (slot, result, e) -> {
+            metrics.postIngestBatchItem();
+            if (pending.decrementAndGet() == 0) {
+                metrics.postIngestBatch(TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos));
+            }
+            if (e != null) {
+                metrics.ingestFailed();
+            }
+            handler.accept(slot, result, e);
+        });
+    }
+
     /**
      * The unique id of this pipeline
      */
@@ -39,6 +39,7 @@ import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.Scheduler;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -70,6 +71,21 @@ public interface Processor {
         handler.accept(result, null);
     }
 
+    /**
+     * Introspect and potentially modify a batch of incoming data.
+     *
+     * Each document of the batch must be handed back to the handler exactly once, together with its position in the batch and
+     * with the same semantics as {@link #execute(IngestDocument, BiConsumer)}. Expert method: only override this method if a
+     * processor implementation can amortize work across documents, e.g. by issuing a single lookup for the whole batch. The
+     * default implementation executes the documents one by one.
+     */
+    default void batchExecute(List<IngestDocument> ingestDocuments, BatchHandler handler) {
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            final int slot = i;
+            execute(ingestDocuments.get(i), (result, e) -> handler.accept(slot, result, e));
+        }
+    }
+
     /**
      * Introspect and potentially modify the incoming data.
      *
@@ -93,6 +109,20 @@ public interface Processor {
      */
     String getDescription();
 
+    /**
+     * Receives the outcome of each document of a batch passed to {@link #batchExecute(List, BatchHandler)}.
+     */
+    @FunctionalInterface
+    interface BatchHandler {
+
+        /**
+         * @param slot   the position of the document in the batch
+         * @param result the processed document, or <code>null</code> if the document was dropped or failed
+         * @param e      the failure of the document, or <code>null</code> if it was processed
+         */
+        void accept(int slot, IngestDocument result, Exception e);
+    }
+
     /**
      * A factory that knows how to construct a processor based on a map of maps.
      */
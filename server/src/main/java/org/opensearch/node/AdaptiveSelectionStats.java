@@ -94,6 +94,12 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
                     builder.field("avg_response_time", new TimeValue((long) stats.responseTime, TimeUnit.NANOSECONDS).toString());
                 }
                 builder.field("avg_response_time_ns", (long) stats.responseTime);
+                if (stats.searchPoolUtilization >= 0) {
+                    builder.field("avg_search_pool_utilization", stats.searchPoolUtilization);
+                }
+                if (stats.heapUsedPercent >= 0) {
+                    builder.field("avg_heap_used_percent", stats.heapUsedPercent);
+                }
                 builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches)));
             }
             builder.endObject();
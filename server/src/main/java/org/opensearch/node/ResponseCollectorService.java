@@ -32,6 +32,7 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -41,24 +42,32 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. It also collects the search thread pool utilization and
+ * heap usage of each node, and the response time of each shard copy.
  */
 public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<ShardCopy, ExponentiallyWeightedMovingAverage> shardCopyResponseTimes =
+        ConcurrentCollections.newConcurrentMap();
 
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
@@ -71,27 +80,77 @@ public final class ResponseCollectorService implements ClusterStateListener {
                 removeNode(removedNode.getId());
             }
         }
+        if (event.indicesDeleted().isEmpty() == false) {
+            final Set<Index> deletedIndices = new HashSet<>(event.indicesDeleted());
+            shardCopyResponseTimes.keySet().removeIf(copy -> deletedIndices.contains(copy.shardId.getIndex()));
+        }
     }
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        shardCopyResponseTimes.keySet().removeIf(copy -> copy.nodeId.equals(nodeId));
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
+        addNodeStatistics(nodeId, queueSize, responseTimeNanos, avgServiceTimeNanos, -1, -1);
+    }
+
+    /**
+     * Adds the statistics of a response of the given node. The search thread pool utilization, between 0 and 1, and the heap used
+     * percent are left as they are when negative, which is when the node didn't report them.
+     */
+    public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos,
+                                  double searchPoolUtilization, int heapUsedPercent) {
         nodeIdToStats.compute(nodeId, (id, ns) -> {
             if (ns == null) {
                 ExponentiallyWeightedMovingAverage queueEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, queueSize);
                 ExponentiallyWeightedMovingAverage responseEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
-                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
+                ns = new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
             } else {
                 ns.queueSize.addValue((double) queueSize);
                 ns.responseTime.addValue((double) responseTimeNanos);
                 ns.serviceTime = avgServiceTimeNanos;
-                return ns;
             }
+            if (searchPoolUtilization >= 0) {
+                if (ns.searchPoolUtilization == null) {
+                    ns.searchPoolUtilization = new ExponentiallyWeightedMovingAverage(ALPHA, searchPoolUtilization);
+                } else {
+                    ns.searchPoolUtilization.addValue(searchPoolUtilization);
+                }
+            }
+            if (heapUsedPercent >= 0) {
+                if (ns.heapUsedPercent == null) {
+                    ns.heapUsedPercent = new ExponentiallyWeightedMovingAverage(ALPHA, heapUsedPercent);
+                } else {
+                    ns.heapUsedPercent.addValue(heapUsedPercent);
+                }
+            }
+            return ns;
         });
     }
 
+    /**
+     * Adds the response time of a request to the copy of the given shard on the given node.
+     */
+    public void addShardCopyStatistics(String nodeId, ShardId shardId, long responseTimeNanos) {
+        shardCopyResponseTimes.compute(new ShardCopy(nodeId, shardId), (copy, responseTime) -> {
+            if (responseTime == null) {
+                return new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
+            }
+            responseTime.addValue(responseTimeNanos);
+            return responseTime;
+        });
+    }
+
+    /**
+     * Returns the EWMA of the response time of the copy of the given shard on the given node, in nanoseconds, or {@code -1} if no
+     * request was sent to that copy yet.
+     */
+    public double getShardCopyResponseTime(String nodeId, ShardId shardId) {
+        final ExponentiallyWeightedMovingAverage responseTime = shardCopyResponseTimes.get(new ShardCopy(nodeId, shardId));
+        return responseTime == null ? -1 : responseTime.getAverage();
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
@@ -126,6 +185,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
         // formula specifies milliseconds, therefore we need to convert
         // the values so the times don't unduely weight the formula
         private final double FACTOR = 1000000.0;
+        // the heap usage above which a node is considered under pressure, as the old generation fills up
+        public static final int HEAP_PRESSURE_THRESHOLD_PERCENT = 75;
         private final int clientNum;
 
         private double cachedRank = 0;
@@ -134,18 +195,30 @@ public final class ResponseCollectorService implements ClusterStateListener {
         public final int queueSize;
         public final double responseTime;
         public final double serviceTime;
+        // negative if the node didn't report them
+        public final double searchPoolUtilization;
+        public final int heapUsedPercent;
 
         public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime) {
+            this(nodeId, clientNum, queueSize, responseTime, serviceTime, -1, -1);
+        }
+
+        public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime,
+                                 double searchPoolUtilization, int heapUsedPercent) {
             this.nodeId = nodeId;
             this.clientNum = clientNum;
             this.queueSize = queueSize;
             this.responseTime = responseTime;
             this.serviceTime = serviceTime;
+            this.searchPoolUtilization = searchPoolUtilization;
+            this.heapUsedPercent = heapUsedPercent;
         }
 
         ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
             this(nodeStats.nodeId, clientNum,
-                    (int) nodeStats.queueSize.getAverage(), nodeStats.responseTime.getAverage(), nodeStats.serviceTime);
+                    (int) nodeStats.queueSize.getAverage(), nodeStats.responseTime.getAverage(), nodeStats.serviceTime,
+                    nodeStats.searchPoolUtilization == null ? -1 : nodeStats.searchPoolUtilization.getAverage(),
+                    nodeStats.heapUsedPercent == null ? -1 : (int) Math.round(nodeStats.heapUsedPercent.getAverage()));
         }
 
         ComputedNodeStats(StreamInput in) throws IOException {
@@ -154,6 +227,13 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.queueSize = in.readInt();
             this.responseTime = in.readDouble();
             this.serviceTime = in.readDouble();
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                this.searchPoolUtilization = in.readDouble();
+                this.heapUsedPercent = in.readInt();
+            } else {
+                this.searchPoolUtilization = -1;
+                this.heapUsedPercent = -1;
+            }
         }
 
         @Override
@@ -163,13 +243,17 @@ public final class ResponseCollectorService implements ClusterStateListener {
             out.writeInt(this.queueSize);
             out.writeDouble(this.responseTime);
             out.writeDouble(this.serviceTime);
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeDouble(this.searchPoolUtilization);
+                out.writeInt(this.heapUsedPercent);
+            }
         }
 
         /**
          * Rank this copy of the data, according to the adaptive replica selection formula from the C3 paper
          * https://www.usenix.org/system/files/conference/nsdi15/nsdi15-paper-suresh.pdf
          */
-        private double innerRank(long outstandingRequests) {
+        private double innerRank(long outstandingRequests, double responseTime) {
             // the concurrency compensation is defined as the number of
             // outstanding requests from the client to the node times the number
             // of clients in the system
@@ -195,11 +279,31 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
         public double rank(long outstandingRequests) {
             if (cachedRank == 0) {
-                cachedRank = innerRank(outstandingRequests);
+                cachedRank = innerRank(outstandingRequests, responseTime);
             }
             return cachedRank;
         }
 
+        /**
+         * Ranks a copy of a shard on this node like {@link #rank(long)}, but with the response time of the shard copy in place of
+         * the response time of the node, if known, so that copies that are slow to search, such as cold ones, rank lower. The rank
+         * is also raised with the utilization of the search thread pool of the node, and with its heap usage above
+         * {@link #HEAP_PRESSURE_THRESHOLD_PERCENT}, so that searches are steered away from nodes that are busy with other work,
+         * such as merges or recoveries, or that are collecting garbage, before their queues and response times show it. Each of
+         * these raises the rank by up to two times.
+         */
+        public double rank(long outstandingRequests, double shardCopyResponseTime) {
+            double rank = innerRank(outstandingRequests, shardCopyResponseTime >= 0 ? shardCopyResponseTime : responseTime);
+            if (searchPoolUtilization > 0) {
+                rank *= 1 + Math.min(searchPoolUtilization, 1);
+            }
+            if (heapUsedPercent > HEAP_PRESSURE_THRESHOLD_PERCENT) {
+                rank *= 1 + (double) (Math.min(heapUsedPercent, 100) - HEAP_PRESSURE_THRESHOLD_PERCENT)
+                    / (100 - HEAP_PRESSURE_THRESHOLD_PERCENT);
+            }
+            return rank;
+        }
+
         @Override
         public String toString() {
             StringBuilder sb = new StringBuilder("ComputedNodeStats[");
@@ -208,6 +312,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
             sb.append(", queue: ").append(queueSize);
             sb.append(", response time: ").append(String.format(Locale.ROOT, "%.1f", responseTime));
             sb.append(", service time: ").append(String.format(Locale.ROOT, "%.1f", serviceTime));
+            sb.append(", search pool utilization: ").append(String.format(Locale.ROOT, "%.2f", searchPoolUtilization));
+            sb.append(", heap used: ").append(heapUsedPercent);
             sb.append(", rank: ").append(String.format(Locale.ROOT, "%.1f", rank(1)));
             sb.append(")");
             return sb.toString();
@@ -224,6 +330,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
         final ExponentiallyWeightedMovingAverage queueSize;
         final ExponentiallyWeightedMovingAverage responseTime;
         double serviceTime;
+        ExponentiallyWeightedMovingAverage searchPoolUtilization;
+        ExponentiallyWeightedMovingAverage heapUsedPercent;
 
         NodeStatistics(String nodeId,
                        ExponentiallyWeightedMovingAverage queueSizeEWMA,
@@ -235,4 +343,31 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTimeEWMA;
         }
     }
+
+    private static final class ShardCopy {
+        private final String nodeId;
+        private final ShardId shardId;
+
+        ShardCopy(String nodeId, ShardId shardId) {
+            this.nodeId = nodeId;
+            this.shardId = shardId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ShardCopy that = (ShardCopy) o;
+            return nodeId.equals(that.nodeId) && shardId.equals(that.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, shardId);
+        }
+    }
 }
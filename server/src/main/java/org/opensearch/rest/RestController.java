@@ -49,6 +49,7 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.Streams;
+import org.opensearch.http.HttpIncrementalContent;
 import org.opensearch.http.HttpServerTransport;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.usage.UsageService;
@@ -234,8 +235,29 @@ public class RestController implements HttpServerTransport.Dispatcher {
         }
     }
 
+    @Override
+    public boolean supportsIncrementalContent(RestRequest.Method method, String uri) {
+        final int index = uri.indexOf('?');
+        final String rawPath = index >= 0 ? uri.substring(0, index) : uri;
+        // resolve the handler as tryAllHandlers does, the parameters of the path are discarded
+        final Iterator<MethodHandlers> allHandlers = getAllHandlers(new HashMap<>(), rawPath);
+        while (allHandlers.hasNext()) {
+            final MethodHandlers handlers = allHandlers.next();
+            final RestHandler handler = handlers == null ? null : handlers.getHandler(method);
+            if (handler != null) {
+                return handler.supportsIncrementalContent();
+            }
+        }
+        return false;
+    }
+
     private void dispatchRequest(RestRequest request, RestChannel channel, RestHandler handler) throws Exception {
-        final int contentLength = request.content().length();
+        final HttpIncrementalContent incrementalContent = request.incrementalContent();
+        if (incrementalContent != null && handler.supportsIncrementalContent() == false) {
+            throw new IllegalStateException("handler for uri [" + request.uri() + "] does not support incremental content");
+        }
+        // the in-flight requests breaker accounts for the declared length of content that is received incrementally
+        final int contentLength = incrementalContent == null ? request.content().length() : incrementalContent.length();
         if (contentLength > 0) {
             final XContentType xContentType = request.getXContentType();
             if (xContentType == null) {
@@ -66,6 +66,15 @@ public interface RestHandler {
         return false;
     }
 
+    /**
+     * Indicates if the RestHandler supports receiving the content of requests after they are dispatched. If a handler returns true, the
+     * content of its requests may be received chunk by chunk through {@link RestRequest#incrementalContent()} rather than be available
+     * from {@link RestRequest#content()}.
+     */
+    default boolean supportsIncrementalContent() {
+        return false;
+    }
+
     /**
      * Indicates if the RestHandler supports working with pooled buffers. If the request handler will not escape the return
      * {@link RestRequest#content()} or any buffers extracted from it then there is no need to make a copies of any pooled buffers in the
@@ -49,6 +49,7 @@ import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpIncrementalContent;
 import org.opensearch.http.HttpRequest;
 
 import java.io.IOException;
@@ -297,6 +298,15 @@ public class RestRequest implements ToXContent.Params {
         return httpRequest;
     }
 
+    /**
+     * Returns the content of this request if it's received after the request is dispatched, in which case {@link #content()} is
+     * empty, or {@code null} if the content was received along with the request. See {@link RestHandler#supportsIncrementalContent()}.
+     */
+    @Nullable
+    public HttpIncrementalContent incrementalContent() {
+        return httpRequest.incrementalContent();
+    }
+
     public final boolean hasParam(String key) {
         return params.containsKey(key);
     }
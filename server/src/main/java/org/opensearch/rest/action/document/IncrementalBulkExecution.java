@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.http.HttpIncrementalContent;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Executes a bulk request whose body is received incrementally. The items are parsed as the chunks of the body are received and are
+ * executed in batches of about the given size, so that the coordinating node starts indexing before the body is received completely
+ * and only retains the chunks that hold the items of the batches that weren't executed yet.
+ * <p>
+ * The batches are executed one after the other, so that the operations on the same document are executed in the order of the request,
+ * and reading the body is paused while a full batch waits for the previous one. The responses of the batches are merged into the
+ * response of the request. A failure to parse the body fails the request, even if the batches before the failure were executed.
+ */
+final class IncrementalBulkExecution implements HttpIncrementalContent.Listener {
+
+    private static final Logger logger = LogManager.getLogger(IncrementalBulkExecution.class);
+
+    private final NodeClient client;
+    private final RestChannel channel;
+    private final HttpIncrementalContent content;
+    private final Supplier<BulkRequest> batchSupplier;
+    private final long batchSizeInBytes;
+    private final Supplier<ThreadContext.StoredContext> contextSupplier;
+    private final long startTimeNanos = System.nanoTime();
+
+    // only accessed on the thread that receives the content
+    private BulkRequestParser.IncrementalParser parser;
+    private BulkRequest currentBatch;
+
+    private final Deque<BulkRequest> fullBatches = new ArrayDeque<>();
+    private final List<BulkItemResponse> itemResponses = new ArrayList<>();
+    private long ingestTookInMillis = BulkResponse.NO_INGEST_TOOK;
+    private boolean batchQueued;
+    private boolean executing;
+    private boolean paused;
+    private boolean lastChunkReceived;
+    private boolean completed;
+
+    IncrementalBulkExecution(NodeClient client, RestChannel channel, HttpIncrementalContent content, Supplier<BulkRequest> batchSupplier,
+                             long batchSizeInBytes) {
+        this.client = client;
+        this.channel = channel;
+        this.content = content;
+        this.batchSupplier = batchSupplier;
+        this.currentBatch = batchSupplier.get();
+        // refreshing after each batch would make a refresh per batch, so such requests are executed in a single batch
+        this.batchSizeInBytes = currentBatch.getRefreshPolicy() == WriteRequest.RefreshPolicy.NONE ? batchSizeInBytes : Long.MAX_VALUE;
+        // the chunks are received outside of the context of the request, the batches are then completed in the context they were
+        // executed in
+        this.contextSupplier = client.threadPool().getThreadContext().newRestorableContext(false);
+    }
+
+    /**
+     * Starts receiving the body, which is parsed with the given parser. The parser must pass the items to {@link #add}.
+     */
+    void start(BulkRequestParser.IncrementalParser parser) {
+        this.parser = parser;
+        content.setListener(this);
+    }
+
+    void add(DocWriteRequest<?> request) {
+        currentBatch.add(request);
+        if (currentBatch.estimatedSizeInBytes() >= batchSizeInBytes) {
+            queue(currentBatch);
+            currentBatch = batchSupplier.get();
+        }
+    }
+
+    @Override
+    public void onChunk(BytesReference chunk, boolean lastChunk) {
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+        }
+        try (ThreadContext.StoredContext ignore = contextSupplier.get()) {
+            parser.parse(chunk, lastChunk);
+            if (lastChunk) {
+                final boolean noBatchQueued;
+                synchronized (this) {
+                    noBatchQueued = batchQueued == false;
+                }
+                // a body without items is executed as an empty batch, which fails the validation as it would if the body was received
+                // at once
+                if (currentBatch.numberOfActions() > 0 || noBatchQueued) {
+                    queue(currentBatch);
+                }
+                currentBatch = null;
+                synchronized (this) {
+                    lastChunkReceived = true;
+                }
+            }
+            // the batch is executed in the context that the items were parsed in, so that it keeps their response headers
+            executeNextBatch();
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    @Override
+    public void onFailure(Exception e) {
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            fullBatches.clear();
+            if (paused) {
+                paused = false;
+                content.resume();
+            }
+        }
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (Exception inner) {
+            inner.addSuppressed(e);
+            logger.error(() -> new ParameterizedMessage("failed to send failure response for uri [{}]", channel.request().uri()), inner);
+        }
+    }
+
+    private synchronized void queue(BulkRequest batch) {
+        fullBatches.add(batch);
+        batchQueued = true;
+        if (executing && paused == false) {
+            paused = true;
+            content.pause();
+        }
+    }
+
+    private void executeNextBatch() {
+        final BulkRequest batch;
+        final BulkResponse response;
+        synchronized (this) {
+            if (completed || executing) {
+                return;
+            }
+            batch = fullBatches.poll();
+            if (batch == null) {
+                if (lastChunkReceived == false) {
+                    return;
+                }
+                completed = true;
+                response = new BulkResponse(itemResponses.toArray(new BulkItemResponse[0]),
+                    TimeValue.nsecToMSec(System.nanoTime() - startTimeNanos), ingestTookInMillis);
+            } else {
+                response = null;
+                executing = true;
+                // reading is only paused while another full batch waits for this one
+                if (fullBatches.isEmpty() == false && paused == false) {
+                    paused = true;
+                    content.pause();
+                } else if (fullBatches.isEmpty() && paused) {
+                    paused = false;
+                    content.resume();
+                }
+            }
+        }
+        if (batch == null) {
+            new RestStatusToXContentListener<BulkResponse>(channel).onResponse(response);
+        } else {
+            client.bulk(batch, ActionListener.wrap(this::onBatchResponse, this::onFailure));
+        }
+    }
+
+    private void onBatchResponse(BulkResponse response) {
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            // the ids of the items are their positions in the request
+            final int offset = itemResponses.size();
+            for (BulkItemResponse item : response.getItems()) {
+                final int itemId = offset + item.getItemId();
+                if (item.isFailed()) {
+                    itemResponses.add(new BulkItemResponse(itemId, item.getOpType(), item.getFailure()));
+                } else {
+                    final DocWriteResponse itemResponse = item.getResponse();
+                    itemResponses.add(new BulkItemResponse(itemId, item.getOpType(), itemResponse));
+                }
+            }
+            if (response.getIngestTookInMillis() != BulkResponse.NO_INGEST_TOOK) {
+                ingestTookInMillis = Math.max(ingestTookInMillis, 0) + response.getIngestTookInMillis();
+            }
+            executing = false;
+        }
+        executeNextBatch();
+    }
+}
@@ -34,12 +34,18 @@ package org.opensearch.rest.action.document;
 
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
 import org.opensearch.action.bulk.BulkShardRequest;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.client.Requests;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.http.HttpIncrementalContent;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.RestRequest;
@@ -49,6 +55,7 @@ import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
@@ -66,13 +73,32 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
  */
 public class RestBulkAction extends BaseRestHandler {
 
+    /**
+     * Whether the bodies of bulk requests may be received incrementally, in which case their items are parsed and executed in batches
+     * while the rest of the body is received. The items of such a request may be executed before a malformed item later in its body
+     * fails the request.
+     */
+    public static final Setting<Boolean> INCREMENTAL_CONTENT_ENABLED_SETTING =
+        Setting.boolSetting("rest.action.bulk.incremental_content.enabled", true, Setting.Property.NodeScope);
+
+    /**
+     * The size of the batches that the items of a bulk request whose body is received incrementally are executed in.
+     */
+    public static final Setting<ByteSizeValue> INCREMENTAL_CONTENT_BATCH_SIZE_SETTING =
+        Setting.byteSizeSetting("rest.action.bulk.incremental_content.batch_size", new ByteSizeValue(5, ByteSizeUnit.MB),
+            Setting.Property.NodeScope);
+
     private final boolean allowExplicitIndex;
+    private final boolean incrementalContentEnabled;
+    private final long incrementalContentBatchSize;
     private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(RestSearchAction.class);
     public static final String TYPES_DEPRECATION_MESSAGE = "[types removal]" +
     " Specifying types in bulk requests is deprecated.";
 
     public RestBulkAction(Settings settings) {
         this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
+        this.incrementalContentEnabled = INCREMENTAL_CONTENT_ENABLED_SETTING.get(settings);
+        this.incrementalContentBatchSize = INCREMENTAL_CONTENT_BATCH_SIZE_SETTING.get(settings).getBytes();
     }
 
     @Override
@@ -94,24 +120,46 @@ public class RestBulkAction extends BaseRestHandler {
 
     @Override
     public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
-        BulkRequest bulkRequest = Requests.bulkRequest();
         String defaultIndex = request.param("index");
-        String defaultType = request.param("type");
-        if (defaultType == null) {
+        String type = request.param("type");
+        final String defaultType;
+        if (type == null) {
             defaultType = MapperService.SINGLE_MAPPING_NAME;
         } else {
             deprecationLogger.deprecate("bulk_with_types", RestBulkAction.TYPES_DEPRECATION_MESSAGE);
+            defaultType = type;
         }
         String defaultRouting = request.param("routing");
         FetchSourceContext defaultFetchSourceContext = FetchSourceContext.parseFromRestRequest(request);
         String defaultPipeline = request.param("pipeline");
         String waitForActiveShards = request.param("wait_for_active_shards");
-        if (waitForActiveShards != null) {
-            bulkRequest.waitForActiveShards(ActiveShardCount.parseString(waitForActiveShards));
-        }
+        ActiveShardCount activeShardCount = waitForActiveShards == null ? null : ActiveShardCount.parseString(waitForActiveShards);
         Boolean defaultRequireAlias = request.paramAsBoolean(DocWriteRequest.REQUIRE_ALIAS, null);
-        bulkRequest.timeout(request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT));
-        bulkRequest.setRefreshPolicy(request.param("refresh"));
+        TimeValue timeout = request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT);
+        String refresh = request.param("refresh");
+        Supplier<BulkRequest> bulkRequestSupplier = () -> {
+            BulkRequest bulkRequest = Requests.bulkRequest();
+            if (activeShardCount != null) {
+                bulkRequest.waitForActiveShards(activeShardCount);
+            }
+            bulkRequest.timeout(timeout);
+            bulkRequest.setRefreshPolicy(refresh);
+            return bulkRequest;
+        };
+
+        HttpIncrementalContent incrementalContent = request.incrementalContent();
+        if (incrementalContent != null) {
+            BulkRequestParser parser = new BulkRequestParser(true);
+            return channel -> {
+                IncrementalBulkExecution execution = new IncrementalBulkExecution(client, channel, incrementalContent,
+                    bulkRequestSupplier, incrementalContentBatchSize);
+                execution.start(parser.incrementalParser(defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext,
+                    defaultPipeline, defaultRequireAlias, allowExplicitIndex, request.getXContentType(),
+                    execution::add, execution::add, execution::add));
+            };
+        }
+
+        BulkRequest bulkRequest = bulkRequestSupplier.get();
         bulkRequest.add(request.requiredContent(), defaultIndex, defaultType, defaultRouting,
             defaultFetchSourceContext, defaultPipeline, defaultRequireAlias, allowExplicitIndex, request.getXContentType());
 
@@ -123,6 +171,11 @@ public class RestBulkAction extends BaseRestHandler {
         return true;
     }
 
+    @Override
+    public boolean supportsIncrementalContent() {
+        return incrementalContentEnabled;
+    }
+
     @Override
     public boolean allowsUnsafeBuffers() {
         return true;
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.ListPointInTimeAction;
+import org.opensearch.action.search.ListPointInTimeRequest;
+import org.opensearch.action.search.ListPointInTimeResponse;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.Strings;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+public class RestListPointInTimeAction extends BaseRestHandler {
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(GET, "/_search/point_in_time/_all"),
+            new Route(GET, "/_nodes/{nodeId}/point_in_time")));
+    }
+
+    @Override
+    public String getName() {
+        return "list_point_in_time";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final ListPointInTimeRequest listRequest = new ListPointInTimeRequest(Strings.splitStringByCommaToArray(request.param("nodeId")));
+        listRequest.timeout(request.param("timeout"));
+        return channel -> client.execute(ListPointInTimeAction.INSTANCE, listRequest,
+            new RestBuilderListener<ListPointInTimeResponse>(channel) {
+                @Override
+                public RestResponse buildResponse(ListPointInTimeResponse response, XContentBuilder builder) throws Exception {
+                    builder.startObject();
+                    RestActions.buildNodesHeader(builder, channel.request(), response);
+                    builder.field("cluster_name", response.getClusterName().value());
+                    response.toXContent(builder, channel.request());
+                    builder.endObject();
+                    return new BytesRestResponse(RestStatus.OK, builder);
+                }
+            });
+    }
+
+    @Override
+    public boolean canTripCircuitBreaker() {
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.PointValues;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.mapper.DateFieldMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * The range of the values of a date field in a shard, in milliseconds since the epoch, along with the format of the field so that
+ * the bounds of range queries on the field can be parsed the same way the shard parses them.
+ */
+public final class DateFieldRange implements Writeable {
+
+    private final String format;
+    private final boolean hasValues;
+    private final long minMillis;
+    private final long maxMillis;
+
+    public DateFieldRange(String format, long minMillis, long maxMillis) {
+        this(format, true, minMillis, maxMillis);
+    }
+
+    private DateFieldRange(String format, boolean hasValues, long minMillis, long maxMillis) {
+        this.format = format;
+        this.hasValues = hasValues;
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    public DateFieldRange(StreamInput in) throws IOException {
+        format = in.readString();
+        hasValues = in.readBoolean();
+        minMillis = in.readLong();
+        maxMillis = in.readLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(format);
+        out.writeBoolean(hasValues);
+        out.writeLong(minMillis);
+        out.writeLong(maxMillis);
+    }
+
+    /**
+     * The range of a field that no document of the shard has a value for.
+     */
+    public static DateFieldRange empty(String format) {
+        return new DateFieldRange(format, false, Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    /**
+     * Reads the range of the given field from the points of the reader. Values of {@code date_nanos} fields are widened to the
+     * enclosing milliseconds.
+     */
+    public static DateFieldRange read(IndexReader reader, DateFieldMapper.DateFieldType fieldType) throws IOException {
+        final String format = fieldType.dateTimeFormatter().pattern();
+        final byte[] min = PointValues.getMinPackedValue(reader, fieldType.name());
+        final byte[] max = PointValues.getMaxPackedValue(reader, fieldType.name());
+        if (min == null || max == null) {
+            return empty(format);
+        }
+        final Instant minInstant = fieldType.resolution().toInstant(LongPoint.decodeDimension(min, 0));
+        final Instant maxInstant = fieldType.resolution().toInstant(LongPoint.decodeDimension(max, 0));
+        final long maxMillis = maxInstant.getNano() % 1_000_000 == 0 ? maxInstant.toEpochMilli() : maxInstant.toEpochMilli() + 1;
+        return new DateFieldRange(format, minInstant.toEpochMilli(), maxMillis);
+    }
+
+    /**
+     * The format of the field.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Whether any document of the shard has a value for the field.
+     */
+    public boolean hasValues() {
+        return hasValues;
+    }
+
+    public long getMinMillis() {
+        return minMillis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Returns whether a value between {@code fromMillis} and {@code toMillis}, both inclusive, may exist in the shard.
+     */
+    public boolean intersects(long fromMillis, long toMillis) {
+        return hasValues && fromMillis <= maxMillis && toMillis >= minMillis;
+    }
+}
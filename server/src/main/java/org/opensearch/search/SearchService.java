@@ -39,16 +39,20 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
+import org.opensearch.action.search.ShardFieldRangeCache;
 import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.component.AbstractLifecycleComponent;
@@ -63,6 +67,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
 import org.opensearch.core.internal.io.IOUtils;
@@ -71,6 +76,8 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.MatchNoneQueryBuilder;
@@ -85,6 +92,7 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
+import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.FieldScript;
 import org.opensearch.script.ScriptService;
@@ -111,6 +119,7 @@ import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalScrollSearchRequest;
 import org.opensearch.search.internal.LegacyReaderContext;
+import org.opensearch.search.internal.PitReaderContext;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchContextId;
@@ -135,6 +144,7 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -145,6 +155,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 import static org.opensearch.common.unit.TimeValue.timeValueHours;
@@ -181,6 +192,20 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Enables searching the segments of a single shard concurrently. The leaves of the shard reader are split into slices
+     * that are searched on the {@link Names#INDEX_SEARCHER} thread pool and reduced once all of them completed.
+     */
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_SETTING =
+        Setting.boolSetting("search.concurrent_segment_search.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The date fields whose ranges shards of write blocked indices report in can_match responses, so that coordinating nodes can
+     * cache them and skip the can_match round trip to shards that can't match the ranges of later requests.
+     */
+    public static final Setting<List<String>> CAN_MATCH_FIELD_RANGES_SETTING = Setting.listSetting("search.can_match.field_ranges",
+        Collections.singletonList("@timestamp"), Function.identity(), Property.Dynamic, Property.NodeScope);
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -214,6 +239,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile boolean concurrentSegmentSearch;
+
+    private volatile List<String> canMatchFieldRanges;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -227,7 +256,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     public SearchService(ClusterService clusterService, IndicesService indicesService,
                          ThreadPool threadPool, ScriptService scriptService, BigArrays bigArrays, FetchPhase fetchPhase,
-                         ResponseCollectorService responseCollectorService, CircuitBreakerService circuitBreakerService) {
+                         ResponseCollectorService responseCollectorService, CircuitBreakerService circuitBreakerService,
+                         @Nullable JvmService jvmService) {
         Settings settings = clusterService.getSettings();
         this.threadPool = threadPool;
         this.clusterService = clusterService;
@@ -235,7 +265,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.scriptService = scriptService;
         this.responseCollectorService = responseCollectorService;
         this.bigArrays = bigArrays;
-        this.queryPhase = new QueryPhase();
+        this.queryPhase = new QueryPhase(jvmService);
         this.fetchPhase = fetchPhase;
         this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings,
             circuitBreakerService.getBreaker(CircuitBreaker.REQUEST));
@@ -260,6 +290,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        concurrentSegmentSearch = CONCURRENT_SEGMENT_SEARCH_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(CONCURRENT_SEGMENT_SEARCH_SETTING,
+            this::setConcurrentSegmentSearch);
+
+        canMatchFieldRanges = CAN_MATCH_FIELD_RANGES_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(CAN_MATCH_FIELD_RANGES_SETTING,
+            fields -> this.canMatchFieldRanges = fields);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -296,6 +334,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setConcurrentSegmentSearch(boolean concurrentSegmentSearch) {
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -481,6 +523,75 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return new QueryFetchSearchResult(context.queryResult(), context.fetchResult());
     }
 
+    /**
+     * Executes the query and the fetch phase of each of the given requests, which all target the same shard, one after the other on
+     * a single reader of the shard, so that the requests share the searcher and see the same point in time. Each request fetches the
+     * top hits of the shard itself, like a search that targets a single shard does, and its listener is notified as soon as it is done.
+     */
+    public void executeQueryAndFetchBatch(List<ShardSearchRequest> requests, SearchShardTask task,
+                                          List<ActionListener<SearchPhaseResult>> listeners) {
+        assert requests.isEmpty() == false && requests.size() == listeners.size();
+        assert requests.stream().allMatch(r -> r.shardId().equals(requests.get(0).shardId())) : "requests must target the same shard";
+        final IndexShard shard;
+        try {
+            shard = getShard(requests.get(0));
+        } catch (Exception e) {
+            ActionListener.onFailure(listeners, e);
+            return;
+        }
+        final Executor executor = getExecutor(shard);
+        // check if there is a pending refresh and register, once for all requests
+        shard.awaitShardSearchActive(ignored -> executor.execute(new AbstractRunnable() {
+            @Override
+            protected void doRun() {
+                final ReaderContext readerContext = createOrGetReaderContext(requests.get(0), false);
+                executeQueryAndFetchBatch(readerContext, requests, listeners, 0, task, executor);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                ActionListener.onFailure(listeners, e);
+            }
+        }));
+    }
+
+    private void executeQueryAndFetchBatch(ReaderContext readerContext, List<ShardSearchRequest> requests,
+                                           List<ActionListener<SearchPhaseResult>> listeners, int index, SearchShardTask task,
+                                           Executor executor) {
+        if (index == requests.size()) {
+            freeReaderContext(readerContext.id());
+            return;
+        }
+        final ShardSearchRequest request = requests.get(index);
+        final ActionListener<SearchPhaseResult> listener = ActionListener.runAfter(listeners.get(index),
+            () -> executeQueryAndFetchBatch(readerContext, requests, listeners, index + 1, task, executor));
+        Rewriteable.rewriteAndFetch(request.getRewriteable(), indicesService.getRewriteContext(request::nowInMillis),
+            ActionListener.wrap(r -> runAsync(executor, () -> executeQueryAndFetch(readerContext, request, task), listener),
+                listener::onFailure));
+    }
+
+    private QueryFetchSearchResult executeQueryAndFetch(ReaderContext readerContext, ShardSearchRequest request,
+                                                        SearchShardTask task) throws Exception {
+        try (Releasable ignored = readerContext.markAsUsed(getKeepAlive(request));
+                SearchContext context = createContext(readerContext, request, task, true)) {
+            final long afterQueryTime;
+            try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context)) {
+                loadOrExecuteQueryPhase(request, context);
+                afterQueryTime = executor.success();
+            }
+            // unlike executeFetchPhase, this leaves the reader context open for the next requests of the batch
+            try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context, true, afterQueryTime)) {
+                shortcutDocIdsToLoad(context);
+                fetchPhase.execute(context);
+                executor.success();
+            }
+            return new QueryFetchSearchResult(context.queryResult(), context.fetchResult());
+        } catch (ExecutionException e) {
+            // execution exception can happen while loading the cache, strip it
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : new OpenSearchException(e.getCause());
+        }
+    }
+
     public void executeQueryPhase(InternalScrollSearchRequest request,
                                   SearchShardTask task,
                                   ActionListener<ScrollQuerySearchResult> listener) {
@@ -712,11 +823,18 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             try {
                 searcherSupplier = shard.acquireSearcherSupplier();
                 final ShardSearchContextId id = new ShardSearchContextId(sessionId, idGenerator.incrementAndGet());
-                readerContext = new ReaderContext(id, indexService, shard, searcherSupplier, keepAlive.millis(), false);
+                readerContext = new PitReaderContext(id, indexService, shard, searcherSupplier, keepAlive.millis());
                 final ReaderContext finalReaderContext = readerContext;
                 searcherSupplier = null; // transfer ownership to reader context
                 searchOperationListener.onNewReaderContext(readerContext);
-                readerContext.addOnClose(() -> searchOperationListener.onFreeReaderContext(finalReaderContext));
+                searchOperationListener.onNewPitContext(readerContext);
+                readerContext.addOnClose(() -> {
+                    try {
+                        searchOperationListener.onFreePitContext(finalReaderContext);
+                    } finally {
+                        searchOperationListener.onFreeReaderContext(finalReaderContext);
+                    }
+                });
                 putReaderContext(readerContext);
                 readerContext = null;
                 listener.onResponse(finalReaderContext.id());
@@ -727,6 +845,28 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         });
     }
 
+    /**
+     * Acquires a searcher on the reader of a reader context opened with {@link #openReaderContext}, for reads of a point in time
+     * view of a shard that don't go through a search request. The keep alive of the reader context is extended by {@code keepAlive}
+     * once the searcher is closed.
+     */
+    public Engine.Searcher acquireSearcher(ShardSearchContextId contextId, TimeValue keepAlive, String source) {
+        checkKeepAliveLimit(keepAlive.millis());
+        final ReaderContext readerContext = getReaderContext(contextId);
+        if (readerContext == null) {
+            throw new SearchContextMissingException(contextId);
+        }
+        final Releasable markAsUsed = readerContext.markAsUsed(keepAlive.millis());
+        try {
+            final Engine.Searcher searcher = readerContext.acquireSearcher(source);
+            return new Engine.Searcher(source, searcher.getIndexReader(), searcher.getSimilarity(), searcher.getQueryCache(),
+                searcher.getQueryCachingPolicy(), () -> Releasables.close(searcher, markAsUsed));
+        } catch (Exception e) {
+            markAsUsed.close();
+            throw e;
+        }
+    }
+
     final SearchContext createContext(ReaderContext readerContext,
                                       ShardSearchRequest request,
                                       SearchShardTask task,
@@ -778,7 +918,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 reader.indexShard().shardId(), request.getClusterAlias(), OriginalIndices.NONE);
             searchContext = new DefaultSearchContext(reader, request, shardTarget, clusterService, bigArrays,
                 threadPool::relativeTimeInMillis, timeout, fetchPhase, lowLevelCancellation,
-                clusterService.state().nodes().getMinNodeVersion());
+                clusterService.state().nodes().getMinNodeVersion(),
+                concurrentSegmentSearch ? threadPool.executor(Names.INDEX_SEARCHER) : null);
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -1125,6 +1266,19 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return this.activeReaders.size();
     }
 
+    /**
+     * Returns the point in time reader contexts that are currently open on this node
+     */
+    public List<PitReaderContext> getPitReaderContexts() {
+        final List<PitReaderContext> pitReaderContexts = new ArrayList<>();
+        for (ReaderContext context : activeReaders.values()) {
+            if (context instanceof PitReaderContext) {
+                pitReaderContexts.add((PitReaderContext) context);
+            }
+        }
+        return pitReaderContexts;
+    }
+
     public ResponseCollectorService getResponseCollectorService() {
         return this.responseCollectorService;
     }
@@ -1197,9 +1351,33 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     // null query means match_all
                     canMatch = aliasFilterCanMatch;
                 }
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                final Map<String, DateFieldRange> fieldRanges = readerContext == null
+                    ? readFieldRanges(indexService.getMetadata(), context, canMatchSearcher) : Collections.emptyMap();
+                return new CanMatchResponse(canMatch || hasRefreshPending, minMax, fieldRanges,
+                    indexService.getMetadata().getSettingsVersion());
+            }
+        }
+    }
+
+    /**
+     * Reads the ranges of the configured date fields so that coordinating nodes can cache them, but only if the index is write
+     * blocked and the searcher sees every operation of the shard, in which case they can't change anymore.
+     */
+    private Map<String, DateFieldRange> readFieldRanges(IndexMetadata indexMetadata, QueryShardContext context,
+                                                        Engine.Searcher searcher) throws IOException {
+        final List<String> fields = canMatchFieldRanges;
+        if (fields.isEmpty() || ShardFieldRangeCache.isWriteBlocked(indexMetadata) == false
+            || searcher.getDirectoryReader().isCurrent() == false) {
+            return Collections.emptyMap();
+        }
+        final Map<String, DateFieldRange> fieldRanges = new HashMap<>();
+        for (String field : fields) {
+            final MappedFieldType fieldType = context.fieldMapper(field);
+            if (fieldType instanceof DateFieldMapper.DateFieldType) {
+                fieldRanges.put(field, DateFieldRange.read(searcher.getIndexReader(), (DateFieldMapper.DateFieldType) fieldType));
             }
         }
+        return fieldRanges;
     }
 
     /**
@@ -1272,6 +1450,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final Map<String, DateFieldRange> fieldRanges;
+        private final long indexSettingsVersion;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
@@ -1281,11 +1461,29 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             } else {
                 estimatedMinAndMax = null;
             }
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                fieldRanges = in.readMap(StreamInput::readString, DateFieldRange::new);
+                indexSettingsVersion = in.readLong();
+            } else {
+                fieldRanges = Collections.emptyMap();
+                indexSettingsVersion = -1;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, Collections.emptyMap(), -1);
+        }
+
+        /**
+         * @param fieldRanges          the ranges of the date fields of a shard whose index is write blocked, which can't grow anymore
+         * @param indexSettingsVersion the version of the settings of the index the ranges were read under
+         */
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, Map<String, DateFieldRange> fieldRanges,
+                                long indexSettingsVersion) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.fieldRanges = fieldRanges;
+            this.indexSettingsVersion = indexSettingsVersion;
         }
 
         @Override
@@ -1294,6 +1492,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             if (out.getVersion().onOrAfter(LegacyESVersion.V_7_6_0)) {
                 out.writeOptionalWriteable(estimatedMinAndMax);
             }
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeMap(fieldRanges, StreamOutput::writeString, (o, range) -> range.writeTo(o));
+                out.writeLong(indexSettingsVersion);
+            }
         }
 
         public boolean canMatch() {
@@ -1303,6 +1505,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * The ranges of the configured date fields of the shard, only reported for shards that can't receive writes.
+         */
+        public Map<String, DateFieldRange> fieldRanges() {
+            return fieldRanges;
+        }
+
+        public long indexSettingsVersion() {
+            return indexSettingsVersion;
+        }
     }
 
     /**
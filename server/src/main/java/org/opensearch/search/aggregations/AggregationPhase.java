@@ -33,8 +33,11 @@ package org.opensearch.search.aggregations;
 
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.Query;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.query.CollectorResult;
@@ -84,6 +87,85 @@ public class AggregationPhase {
         }
     }
 
+    /**
+     * Returns <code>true</code> if the aggregations of the provided context can be collected by several slices of the
+     * shard concurrently, each slice using its own aggregators created with {@link #createSliceAggregators}.
+     */
+    public static boolean canCollectConcurrently(SearchContext context) {
+        if (context.aggregations() == null) {
+            return true;
+        }
+        for (Aggregator aggregator : context.aggregations().aggregators()) {
+            if (aggregator instanceof GlobalAggregator) {
+                // global aggregators run their own search over all documents after the query phase
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a fresh set of top level aggregators for a slice of a concurrent search and prepares them for collection.
+     */
+    public static BucketCollector createSliceAggregators(SearchContext context, List<Aggregator> sliceAggregators) {
+        assert canCollectConcurrently(context);
+        try {
+            Aggregator[] aggregators = context.aggregations().factories().createTopLevelAggregators(context);
+            Collections.addAll(sliceAggregators, aggregators);
+            BucketCollector collector = MultiBucketCollector.wrap(sliceAggregators);
+            collector.preCollection();
+            return collector;
+        } catch (IOException e) {
+            throw new AggregationInitializationException("Could not initialize aggregators", e);
+        }
+    }
+
+    /**
+     * Builds the aggregations collected by each slice of a concurrent search and reduces them to the shard level
+     * aggregations. The reduction is partial so that the coordinating node can reduce shard results as usual.
+     * <p>
+     * A partial reduction keeps the buckets of all slices, so like the partial reductions of the coordinating node, the
+     * buckets it keeps count towards the maximum number of buckets and the memory it needs is estimated in the request
+     * circuit breaker before it runs.
+     */
+    public static void executeSlices(SearchContext context, List<List<Aggregator>> slices) {
+        List<InternalAggregations> sliceAggregations = new ArrayList<>(slices.size());
+        for (List<Aggregator> sliceAggregators : slices) {
+            List<InternalAggregation> aggregations = new ArrayList<>(sliceAggregators.size());
+            context.aggregations().resetBucketMultiConsumer();
+            for (Aggregator aggregator : sliceAggregators) {
+                try {
+                    aggregator.postCollection();
+                    aggregations.add(aggregator.buildTopLevel());
+                } catch (IOException e) {
+                    throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
+                }
+            }
+            sliceAggregations.add(new InternalAggregations(aggregations, context.request().source().aggregations()::buildPipelineTree));
+        }
+        CircuitBreakerService breakerService = context.bigArrays().breakerService();
+        CircuitBreaker breaker = breakerService == null
+            ? new NoopCircuitBreaker(CircuitBreaker.REQUEST) : breakerService.getBreaker(CircuitBreaker.REQUEST);
+        long estimatedSize = 0;
+        for (InternalAggregations aggregations : sliceAggregations) {
+            estimatedSize += aggregations.getSerializedSize();
+        }
+        // roughly 1.5 times the size of the serialized aggregations to reduce, as estimated by QueryPhaseResultConsumer
+        estimatedSize = Math.round(1.5d * estimatedSize);
+        breaker.addEstimateBytesAndMaybeBreak(estimatedSize, "<reduce_aggs>");
+        try {
+            // only the buckets of the shard level aggregations are counted, not those of each slice
+            context.aggregations().resetBucketMultiConsumer();
+            // partial reductions never run scripts so no script service is needed here
+            InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(
+                context.bigArrays(), null, context.aggregations().multiBucketConsumer(),
+                context.request().source().aggregations()::buildPipelineTree);
+            context.queryResult().aggregations(InternalAggregations.topLevelReduce(sliceAggregations, reduceContext));
+        } finally {
+            breaker.addWithoutBreaking(-estimatedSize);
+        }
+    }
+
     public void execute(SearchContext context) {
         if (context.aggregations() == null) {
             context.queryResult().aggregations(null);
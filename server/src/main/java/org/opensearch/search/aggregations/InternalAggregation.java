@@ -90,7 +90,16 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
          */
         public static ReduceContext forPartialReduction(BigArrays bigArrays, ScriptService scriptService,
                 Supplier<PipelineTree> pipelineTreeForBwcSerialization) {
-            return new ReduceContext(bigArrays, scriptService, (s) -> {}, null, pipelineTreeForBwcSerialization);
+            return forPartialReduction(bigArrays, scriptService, (s) -> {}, pipelineTreeForBwcSerialization);
+        }
+
+        /**
+         * Build a {@linkplain ReduceContext} to perform a partial reduction that counts the buckets it keeps.
+         * @param multiBucketConsumer Counts the buckets of the reduced aggregations
+         */
+        public static ReduceContext forPartialReduction(BigArrays bigArrays, ScriptService scriptService,
+                IntConsumer multiBucketConsumer, Supplier<PipelineTree> pipelineTreeForBwcSerialization) {
+            return new ReduceContext(bigArrays, scriptService, multiBucketConsumer, null, pipelineTreeForBwcSerialization);
         }
 
         /**
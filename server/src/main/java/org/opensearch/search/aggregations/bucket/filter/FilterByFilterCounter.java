@@ -0,0 +1,315 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.filter;
+
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.FutureArrays;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+
+/**
+ * Counts, segment by segment, the documents that match both the query of the search request and each filter of a list of
+ * filters, without collecting the matching documents one by one.
+ * <p>
+ * This allows bucket aggregations whose buckets can be expressed as filters, such as the {@code filters}, {@code range} and
+ * {@code date_histogram} aggregations, to compute the document counts of their buckets filter by filter when they are at the
+ * top level of the request and have no sub-aggregations. When the request matches all documents and the segment has no
+ * deleted documents, the documents matching a term query are counted from the document frequency of the term, and the documents
+ * matching a range over a single-valued point field are counted from the points only: from the minimum and maximum values
+ * of the segment when they are all within or all outside of the range, and otherwise by visiting the points tree.
+ * <p>
+ * When the request doesn't match all documents, each filter is intersected with the query of the request, so the query is
+ * evaluated once per filter. Segments are then only counted filter by filter if the estimated cost of these intersections
+ * doesn't exceed the estimated cost of collecting the documents matching the query once, see {@link #canCount}.
+ */
+public final class FilterByFilterCounter {
+
+    /**
+     * Finite bounds above this magnitude can't be compared exactly with the {@code double} values of integral fields.
+     */
+    private static final double MAX_EXACT_INTEGRAL_BOUND = 1L << 53;
+
+    private final SearchContext context;
+    private final Query[] filters;
+    @Nullable
+    private final String pointField;
+    private final boolean matchAll;
+    private Weight[] weights;
+    private Weight queryWeight;
+    private Weight[] filterWeights;
+
+    /**
+     * @param context the search context
+     * @param filters the filters, one per bucket
+     * @param pointField the point field that the filters are ranges on, or {@code null} if they are arbitrary filters
+     */
+    public FilterByFilterCounter(SearchContext context, Query[] filters, @Nullable String pointField) {
+        this.context = context;
+        this.filters = filters;
+        this.pointField = pointField;
+        this.matchAll = context.query() == null || context.query().getClass() == MatchAllDocsQuery.class;
+    }
+
+    /**
+     * Returns whether an aggregator with the given parent and sub-aggregators can count the documents of its buckets filter by
+     * filter rather than document by document: it must be a top-level aggregator without sub-aggregations, and every document
+     * matching the query must be collected.
+     */
+    public static boolean canCountFilterByFilter(SearchContext context, Aggregator parent, Aggregator[] subAggregators) {
+        return parent == null
+            && subAggregators.length == 0
+            && context.minimumScore() == null
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER;
+    }
+
+    /**
+     * Builds a query matching the documents that have a value in {@code [from, to)} for the given field, with the same
+     * semantics as a comparison of the {@code double} doc values of the field, or returns {@code null} if the field isn't
+     * indexed with points that allow it.
+     */
+    public static Query pointRangeQuery(MappedFieldType fieldType, double from, double to) {
+        if (fieldType == null || fieldType.isSearchable() == false || Double.isNaN(from) || Double.isNaN(to)) {
+            return null;
+        }
+        final String field = fieldType.name();
+        if (fieldType instanceof DateFieldMapper.DateFieldType) {
+            if (((DateFieldMapper.DateFieldType) fieldType).resolution() != DateFieldMapper.Resolution.MILLISECONDS) {
+                return null;
+            }
+            return longRangeQuery(field, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false) {
+            return null;
+        }
+        final IndexNumericFieldData.NumericType numericType = ((NumberFieldMapper.NumberFieldType) fieldType).numericType();
+        switch (numericType) {
+            case LONG:
+                return longRangeQuery(field, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            case INT:
+                return longRangeQuery(field, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case SHORT:
+                return longRangeQuery(field, from, to, Short.MIN_VALUE, Short.MAX_VALUE);
+            case BYTE:
+                return longRangeQuery(field, from, to, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case DOUBLE:
+                // -0.0 sorts before 0.0 in the points but compares equal to it as a double
+                final double lower = from == 0d ? -0d : from;
+                return DoublePoint.newRangeQuery(field, lower, Math.nextDown(to));
+            default:
+                return null;
+        }
+    }
+
+    private static Query longRangeQuery(String field, double from, double to, long minValue, long maxValue) {
+        if (Math.abs(from) > MAX_EXACT_INTEGRAL_BOUND && Double.isInfinite(from) == false) {
+            return null;
+        }
+        if (Math.abs(to) > MAX_EXACT_INTEGRAL_BOUND && Double.isInfinite(to) == false) {
+            return null;
+        }
+        final long lower = Math.max(minValue, from == Double.NEGATIVE_INFINITY ? minValue : (long) Math.ceil(from));
+        final long upper = Math.min(maxValue, to == Double.POSITIVE_INFINITY ? maxValue : (long) Math.ceil(to) - 1);
+        if (lower > upper) {
+            return new MatchNoDocsQuery("empty range");
+        }
+        if (minValue == Long.MIN_VALUE) {
+            return LongPoint.newRangeQuery(field, lower, upper);
+        }
+        return IntPoint.newRangeQuery(field, (int) lower, (int) upper);
+    }
+
+    /**
+     * Returns whether the documents of the given segment should be counted by this counter rather than collected. Segments that
+     * don't index the point field of the filters with points, and whose documents may still have doc values for it, must be
+     * collected. So must the segments on which intersecting the query with each filter is estimated to cost more than collecting
+     * the documents matching the query.
+     */
+    public boolean canCount(LeafReaderContext ctx) throws IOException {
+        if (pointField != null && ctx.reader().getPointValues(pointField) == null) {
+            return false;
+        }
+        return matchAll || isCheaperThanCollecting(ctx);
+    }
+
+    /**
+     * Estimates whether the intersections of the query with each filter visit at most as many documents of the given segment as
+     * collecting the documents that match the query, from the costs of the scorers of the query and of the filters.
+     */
+    private boolean isCheaperThanCollecting(LeafReaderContext ctx) throws IOException {
+        if (queryWeight == null) {
+            final IndexSearcher searcher = context.searcher();
+            final Weight[] filterWeights = new Weight[filters.length];
+            for (int i = 0; i < filters.length; i++) {
+                filterWeights[i] = searcher.createWeight(searcher.rewrite(filters[i]), ScoreMode.COMPLETE_NO_SCORES, 1);
+            }
+            this.filterWeights = filterWeights;
+            this.queryWeight = searcher.createWeight(searcher.rewrite(context.query()), ScoreMode.COMPLETE_NO_SCORES, 1);
+        }
+        final ScorerSupplier querySupplier = queryWeight.scorerSupplier(ctx);
+        if (querySupplier == null) {
+            // no document of the segment matches the query, there is nothing to collect
+            return false;
+        }
+        final long queryCost = querySupplier.cost();
+        long cost = 0;
+        for (Weight filterWeight : filterWeights) {
+            final ScorerSupplier filterSupplier = filterWeight.scorerSupplier(ctx);
+            if (filterSupplier != null) {
+                // a conjunction costs as much as its cheapest clause
+                cost += Math.min(queryCost, filterSupplier.cost());
+                if (cost > queryCost) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the live documents of the given segment that match both the query and the filter at the given index.
+     */
+    public int count(int filter, LeafReaderContext ctx) throws IOException {
+        final Query query = filters[filter];
+        if (matchAll && ctx.reader().hasDeletions() == false) {
+            if (query instanceof MatchAllDocsQuery) {
+                return ctx.reader().maxDoc();
+            }
+            if (query instanceof TermQuery) {
+                return ctx.reader().docFreq(((TermQuery) query).getTerm());
+            }
+            if (query instanceof PointRangeQuery) {
+                final int count = countPoints((PointRangeQuery) query, ctx);
+                if (count >= 0) {
+                    return count;
+                }
+            }
+        }
+        final BulkScorer scorer = weights()[filter].bulkScorer(ctx);
+        if (scorer == null) {
+            return 0;
+        }
+        final int[] count = new int[1];
+        scorer.score(new LeafCollector() {
+            @Override
+            public void setScorer(Scorable scorer) {}
+
+            @Override
+            public void collect(int doc) {
+                count[0]++;
+            }
+        }, ctx.reader().getLiveDocs());
+        return count[0];
+    }
+
+    private Weight[] weights() throws IOException {
+        if (weights == null) {
+            final IndexSearcher searcher = context.searcher();
+            final Query query = matchAll ? null : context.query();
+            final Weight[] weights = new Weight[filters.length];
+            for (int i = 0; i < filters.length; i++) {
+                Query filter = filters[i];
+                if (query != null) {
+                    filter = new BooleanQuery.Builder()
+                        .add(query, BooleanClause.Occur.FILTER)
+                        .add(filter, BooleanClause.Occur.FILTER)
+                        .build();
+                }
+                weights[i] = searcher.createWeight(searcher.rewrite(filter), ScoreMode.COMPLETE_NO_SCORES, 1);
+            }
+            this.weights = weights;
+        }
+        return weights;
+    }
+
+    /**
+     * Counts the documents of a segment that match a range over a single-valued point field from the points of the field, or
+     * returns {@code -1} if they can't be counted that way.
+     */
+    private static int countPoints(PointRangeQuery query, LeafReaderContext ctx) throws IOException {
+        if (query.getNumDims() != 1) {
+            return -1;
+        }
+        final PointValues values = ctx.reader().getPointValues(query.getField());
+        if (values == null) {
+            return 0;
+        }
+        if (values.size() != values.getDocCount()) {
+            // some documents have several values
+            return -1;
+        }
+        final int bytesPerDim = query.getBytesPerDim();
+        final byte[] lower = query.getLowerPoint();
+        final byte[] upper = query.getUpperPoint();
+        final PointValues.Relation relation = relate(lower, upper, values.getMinPackedValue(), values.getMaxPackedValue(), bytesPerDim);
+        if (relation == PointValues.Relation.CELL_OUTSIDE_QUERY) {
+            return 0;
+        }
+        if (relation == PointValues.Relation.CELL_INSIDE_QUERY) {
+            return values.getDocCount();
+        }
+        final int[] count = new int[1];
+        values.intersect(new PointValues.IntersectVisitor() {
+            @Override
+            public void visit(int docID) {
+                count[0]++;
+            }
+
+            @Override
+            public void visit(int docID, byte[] packedValue) {
+                if (FutureArrays.compareUnsigned(packedValue, 0, bytesPerDim, lower, 0, bytesPerDim) >= 0
+                    && FutureArrays.compareUnsigned(packedValue, 0, bytesPerDim, upper, 0, bytesPerDim) <= 0) {
+                    count[0]++;
+                }
+            }
+
+            @Override
+            public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                return relate(lower, upper, minPackedValue, maxPackedValue, bytesPerDim);
+            }
+        });
+        return count[0];
+    }
+
+    private static PointValues.Relation relate(byte[] lower, byte[] upper, byte[] min, byte[] max, int bytesPerDim) {
+        if (FutureArrays.compareUnsigned(max, 0, bytesPerDim, lower, 0, bytesPerDim) < 0
+            || FutureArrays.compareUnsigned(min, 0, bytesPerDim, upper, 0, bytesPerDim) > 0) {
+            return PointValues.Relation.CELL_OUTSIDE_QUERY;
+        }
+        if (FutureArrays.compareUnsigned(min, 0, bytesPerDim, lower, 0, bytesPerDim) >= 0
+            && FutureArrays.compareUnsigned(max, 0, bytesPerDim, upper, 0, bytesPerDim) <= 0) {
+            return PointValues.Relation.CELL_INSIDE_QUERY;
+        }
+        return PointValues.Relation.CELL_CROSSES_QUERY;
+    }
+}
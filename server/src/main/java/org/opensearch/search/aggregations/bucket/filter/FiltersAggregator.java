@@ -33,6 +33,8 @@
 package org.opensearch.search.aggregations.bucket.filter;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Bits;
 import org.opensearch.common.ParseField;
@@ -134,10 +136,14 @@ public class FiltersAggregator extends BucketsAggregator {
     private final boolean showOtherBucket;
     private final String otherBucketKey;
     private final int totalNumKeys;
-
-    public FiltersAggregator(String name, AggregatorFactories factories, String[] keys, Supplier<Weight[]> filters, boolean keyed,
-            String otherBucketKey, SearchContext context, Aggregator parent, CardinalityUpperBound cardinality,
-            Map<String, Object> metadata) throws IOException {
+    /**
+     * Counts the documents of each filter segment by segment, or {@code null} if they must be collected one by one.
+     */
+    private final FilterByFilterCounter filterByFilterCounter;
+
+    public FiltersAggregator(String name, AggregatorFactories factories, String[] keys, Supplier<Weight[]> filters,
+            Query[] filterQueries, boolean keyed, String otherBucketKey, SearchContext context, Aggregator parent,
+            CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
         super(name, factories, context, parent, cardinality.multiply(keys.length + (otherBucketKey == null ? 0 : 1)), metadata);
         this.keyed = keyed;
         this.keys = keys;
@@ -149,11 +155,27 @@ public class FiltersAggregator extends BucketsAggregator {
         } else {
             this.totalNumKeys = keys.length;
         }
+        // the other bucket needs to know which documents match none of the filters
+        if (showOtherBucket == false && FilterByFilterCounter.canCountFilterByFilter(context, parent, subAggregators)) {
+            this.filterByFilterCounter = new FilterByFilterCounter(context, filterQueries, null);
+        } else {
+            this.filterByFilterCounter = null;
+        }
     }
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
             final LeafBucketCollector sub) throws IOException {
+        if (filterByFilterCounter != null && filterByFilterCounter.canCount(ctx)) {
+            for (int i = 0; i < keys.length; i++) {
+                final int count = filterByFilterCounter.count(i, ctx);
+                if (count > 0) {
+                    incrementBucketDocCount(bucketOrd(0, i), count);
+                }
+            }
+            // the documents of this segment have all been counted
+            throw new CollectionTerminatedException();
+        }
         // no need to provide deleted docs to the filter
         Weight[] filters = this.filters.get();
         final Bits[] bits = new Bits[filters.length];
@@ -32,12 +32,17 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -47,13 +52,16 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.filter.FilterByFilterCounter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
@@ -65,6 +73,11 @@ import java.util.function.BiConsumer;
  */
 class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator {
 
+    /**
+     * The maximum number of buckets for which the documents are counted bucket by bucket, with one query per bucket.
+     */
+    static final int MAX_FILTER_BY_FILTER_BUCKETS = 1024;
+
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat formatter;
     private final Rounding rounding;
@@ -81,6 +94,15 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * The keys of the buckets counted by {@link #filterByFilterCounter}.
+     */
+    private long[] filterByFilterKeys;
+    /**
+     * Counts the documents of each bucket segment by segment, or {@code null} if they must be collected one by one.
+     */
+    private final FilterByFilterCounter filterByFilterCounter;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +134,52 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        filterByFilterCounter = buildFilterByFilterCounter(valuesSourceConfig);
+    }
+
+    /**
+     * Builds a counter of the documents of each bucket with one point range query per bucket if this aggregator is at the top
+     * level, has no sub-aggregations and aggregates a date field indexed with points whose values span a reasonable number of
+     * buckets, or returns {@code null}.
+     */
+    private FilterByFilterCounter buildFilterByFilterCounter(ValuesSourceConfig valuesSourceConfig) throws IOException {
+        if (valuesSource instanceof ValuesSource.Numeric.FieldData == false
+                || preparedRounding == null
+                || FilterByFilterCounter.canCountFilterByFilter(context, parent, subAggregators) == false) {
+            return null;
+        }
+        final MappedFieldType fieldType = valuesSourceConfig.fieldType();
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false || valuesSourceConfig.getPointReaderOrNull() == null) {
+            return null;
+        }
+        final DateFieldMapper.DateFieldType dateFieldType = (DateFieldMapper.DateFieldType) fieldType;
+        final byte[] minPackedValue = PointValues.getMinPackedValue(context.searcher().getIndexReader(), fieldType.name());
+        if (minPackedValue == null) {
+            return null;
+        }
+        final byte[] maxPackedValue = PointValues.getMaxPackedValue(context.searcher().getIndexReader(), fieldType.name());
+        final long max = dateFieldType.resolution().parsePointAsMillis(maxPackedValue);
+        final List<Long> keys = new ArrayList<>();
+        final List<Query> filters = new ArrayList<>();
+        long key = preparedRounding.round(dateFieldType.resolution().parsePointAsMillis(minPackedValue));
+        for (int numKeys = 0; key <= max; numKeys++) {
+            final long nextKey = preparedRounding.nextRoundingValue(key);
+            if (nextKey <= key || preparedRounding.round(nextKey) != nextKey || numKeys >= MAX_FILTER_BY_FILTER_BUCKETS) {
+                // too many buckets, or a rounding that doesn't map each bucket to a single range of values
+                return null;
+            }
+            if (hardBounds == null || hardBounds.contain(key)) {
+                final Query filter = FilterByFilterCounter.pointRangeQuery(fieldType, key, nextKey);
+                if (filter == null) {
+                    return null;
+                }
+                keys.add(key);
+                filters.add(filter);
+            }
+            key = nextKey;
+        }
+        filterByFilterKeys = keys.stream().mapToLong(Long::longValue).toArray();
+        return new FilterByFilterCounter(context, filters.toArray(new Query[0]), fieldType.name());
     }
 
     @Override
@@ -127,6 +195,20 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (filterByFilterCounter != null && filterByFilterCounter.canCount(ctx)) {
+            for (int i = 0; i < filterByFilterKeys.length; i++) {
+                final int count = filterByFilterCounter.count(i, ctx);
+                if (count > 0) {
+                    long bucketOrd = bucketOrds.add(0, filterByFilterKeys[i]);
+                    if (bucketOrd < 0) { // already seen
+                        bucketOrd = -1 - bucketOrd;
+                    }
+                    incrementBucketDocCount(bucketOrd, count);
+                }
+            }
+            // the documents of this segment have all been counted
+            throw new CollectionTerminatedException();
+        }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -32,6 +32,8 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
@@ -44,6 +46,7 @@ import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -54,6 +57,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.filter.FilterByFilterCounter;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 
@@ -236,6 +240,11 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * Counts the documents of each range segment by segment, or {@code null} if they must be collected one by one.
+     */
+    private final FilterByFilterCounter filterByFilterCounter;
+
     public RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
             InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
             Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
@@ -255,6 +264,27 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to,maxTo[i-1]);
         }
 
+        this.filterByFilterCounter = buildFilterByFilterCounter();
+    }
+
+    /**
+     * Builds a counter of the documents of each range with one point range query per range if this aggregator is at the top
+     * level, has no sub-aggregations and aggregates a field indexed with points, or returns {@code null}.
+     */
+    private FilterByFilterCounter buildFilterByFilterCounter() {
+        if (FilterByFilterCounter.canCountFilterByFilter(context, parent, subAggregators) == false
+                || valuesSource instanceof ValuesSource.Numeric.FieldData == false) {
+            return null;
+        }
+        final MappedFieldType fieldType = context.fieldType(((ValuesSource.Numeric.FieldData) valuesSource).getFieldName());
+        final Query[] filters = new Query[ranges.length];
+        for (int i = 0; i < ranges.length; i++) {
+            filters[i] = FilterByFilterCounter.pointRangeQuery(fieldType, ranges[i].from, ranges[i].to);
+            if (filters[i] == null) {
+                return null;
+            }
+        }
+        return new FilterByFilterCounter(context, filters, fieldType.name());
     }
 
     @Override
@@ -268,6 +298,16 @@ public class RangeAggregator extends BucketsAggregator {
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
             final LeafBucketCollector sub) throws IOException {
+        if (filterByFilterCounter != null && filterByFilterCounter.canCount(ctx)) {
+            for (int i = 0; i < ranges.length; i++) {
+                final int count = filterByFilterCounter.count(i, ctx);
+                if (count > 0) {
+                    incrementBucketDocCount(subBucketOrdinal(0, i), count);
+                }
+            }
+            // the documents of this segment have all been counted
+            throw new CollectionTerminatedException();
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
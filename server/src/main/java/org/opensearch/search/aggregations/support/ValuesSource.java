@@ -241,12 +241,11 @@ public abstract class ValuesSource {
                 @Override
                 public LongUnaryOperator globalOrdinalsMapping(LeafReaderContext context) throws IOException {
                     final IndexOrdinalsFieldData global = indexFieldData.loadGlobal((DirectoryReader)context.parent.reader());
-                    final OrdinalMap map = global.getOrdinalMap();
-                    if (map == null) {
+                    final org.apache.lucene.util.LongValues segmentToGlobalOrd = global.getGlobalOrds(context.ord);
+                    if (segmentToGlobalOrd == null) {
                         // segments and global ordinals are the same
                         return LongUnaryOperator.identity();
                     }
-                    final org.apache.lucene.util.LongValues segmentToGlobalOrd = map.getGlobalOrds(context.ord);
                     return segmentToGlobalOrd::get;
                 }
             }
@@ -513,6 +512,13 @@ public abstract class ValuesSource {
                 this.indexFieldData = indexFieldData;
             }
 
+            /**
+             * The name of the field whose values are read.
+             */
+            public String getFieldName() {
+                return indexFieldData.getFieldName();
+            }
+
             @Override
             public boolean isFloatingPoint() {
                 return indexFieldData.getNumericType().isFloatingPoint();
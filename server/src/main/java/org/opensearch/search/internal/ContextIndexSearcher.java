@@ -62,6 +62,9 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -76,10 +79,16 @@ import org.opensearch.search.query.QuerySearchResult;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -91,25 +100,49 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     private static int CHECK_CANCELLED_SCORER_INTERVAL = 1 << 11;
 
+    /**
+     * The maximum number of documents a slice may hold before a new slice is started, see {@link #computeSlices}.
+     */
+    static final int MAX_DOCS_PER_SLICE = 250_000;
+    /**
+     * The maximum number of segments a slice may hold before a new slice is started, see {@link #computeSlices}.
+     */
+    static final int MAX_SEGMENTS_PER_SLICE = 5;
+
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    private final Executor executor;
+    private final List<List<LeafReaderContext>> slices;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader);
+        this(reader, similarity, queryCache, queryCachingPolicy, wrapWithExitableDirectoryReader, null);
+    }
+
+    /**
+     * Creates a searcher that searches the slices of the reader concurrently on the provided <code>executor</code> when
+     * {@link #search(Query, CollectorManager)} is used, or sequentially if the executor is <code>null</code>.
+     */
+    public ContextIndexSearcher(IndexReader reader, Similarity similarity,
+                                QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                                boolean wrapWithExitableDirectoryReader, @Nullable Executor executor) throws IOException {
+        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader, executor);
     }
 
     private ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                  QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                  MutableQueryTimeout cancellable,
-                                 boolean wrapWithExitableDirectoryReader) throws IOException {
+                                 boolean wrapWithExitableDirectoryReader,
+                                 @Nullable Executor executor) throws IOException {
         super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader);
         setSimilarity(similarity);
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        this.executor = executor;
+        this.slices = executor == null ? null : computeSlices(getIndexReader().leaves(), MAX_DOCS_PER_SLICE, MAX_SEGMENTS_PER_SLICE);
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -186,9 +219,27 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Returns <code>true</code> if this searcher searches slices of the reader concurrently
+     * and the reader has more than one slice.
+     */
+    public boolean isConcurrentSearchEnabled() {
+        return executor != null && slices.size() > 1;
+    }
+
+    /**
+     * Returns the number of slices that {@link #search(Query, CollectorManager)} searches concurrently,
+     * <code>1</code> if concurrent search is disabled.
+     */
+    public int getSliceCount() {
+        return executor == null ? 1 : slices.size();
+    }
+
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
+        // the leaves are sorted so that the most competitive ones come first and the shared hits threshold lets the
+        // following leaves terminate early, which only works if they are searched sequentially in that order
         for (LeafReaderContext ctx : leaves) {
             final Collector collector = manager.newCollector();
             searchLeaf(ctx, weight, collector);
@@ -206,6 +257,116 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches the provided query with one collector per slice of the reader and reduces the collectors with the
+     * provided <code>manager</code>. Slices are searched concurrently if this searcher was created with an executor,
+     * the calling thread searches the first slice while the others are executed on the executor.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> manager) throws IOException {
+        if (isConcurrentSearchEnabled() == false) {
+            final C collector = manager.newCollector();
+            search(query, collector);
+            return manager.reduce(Collections.singletonList(collector));
+        }
+        final List<C> collectors = new ArrayList<>(slices.size());
+        ScoreMode scoreMode = null;
+        for (int i = 0; i < slices.size(); i++) {
+            final C collector = manager.newCollector();
+            if (scoreMode == null) {
+                scoreMode = collector.scoreMode();
+            } else if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+            collectors.add(collector);
+        }
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1);
+        searchSlices(slices, weight, collectors);
+        return manager.reduce(collectors);
+    }
+
+    /**
+     * Searches each slice with its own collector. The first slice is searched on the calling thread, the others are
+     * forked to the executor if there is one. All slices are awaited before returning, even if some of them failed,
+     * so that no collector is still in use when the search context is released.
+     */
+    private <C extends Collector> void searchSlices(List<List<LeafReaderContext>> leafSlices, Weight weight,
+                                                    List<C> collectors) throws IOException {
+        assert leafSlices.size() == collectors.size();
+        if (executor == null || leafSlices.size() <= 1) {
+            for (int i = 0; i < leafSlices.size(); i++) {
+                search(leafSlices.get(i), weight, collectors.get(i));
+            }
+            return;
+        }
+        final List<FutureTask<Void>> tasks = new ArrayList<>(leafSlices.size() - 1);
+        for (int i = 1; i < leafSlices.size(); i++) {
+            final List<LeafReaderContext> leaves = leafSlices.get(i);
+            final Collector collector = collectors.get(i);
+            final FutureTask<Void> task = new FutureTask<>(() -> {
+                search(leaves, weight, collector);
+                return null;
+            });
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the slice thread pool is saturated, search the slice on the calling thread
+                task.run();
+            }
+        }
+        Exception failure = null;
+        try {
+            search(leafSlices.get(0), weight, collectors.get(0));
+        } catch (Exception e) {
+            failure = e;
+        }
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = ExceptionsHelper.useOrSuppress(failure, e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                failure = ExceptionsHelper.useOrSuppress(failure,
+                    cause instanceof Exception ? (Exception) cause : new OpenSearchException(cause));
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            throw ExceptionsHelper.convertToRuntime(failure);
+        }
+    }
+
+    /**
+     * Groups the leaves of a reader into slices that can be searched concurrently. Large leaves get their own slice
+     * while small leaves are grouped together until a slice holds <code>maxDocsPerSlice</code> documents or
+     * <code>maxSegmentsPerSlice</code> segments. Leaves are kept in index order within each slice.
+     */
+    static List<List<LeafReaderContext>> computeSlices(List<LeafReaderContext> leaves, int maxDocsPerSlice, int maxSegmentsPerSlice) {
+        final List<LeafReaderContext> sortedLeaves = new ArrayList<>(leaves);
+        sortedLeaves.sort((a, b) -> Integer.compare(b.reader().maxDoc(), a.reader().maxDoc()));
+        final List<List<LeafReaderContext>> slices = new ArrayList<>();
+        List<LeafReaderContext> current = null;
+        long docsInCurrent = 0;
+        for (LeafReaderContext ctx : sortedLeaves) {
+            if (current == null || docsInCurrent + ctx.reader().maxDoc() > maxDocsPerSlice || current.size() >= maxSegmentsPerSlice) {
+                current = new ArrayList<>();
+                slices.add(current);
+                docsInCurrent = 0;
+            }
+            current.add(ctx);
+            docsInCurrent += ctx.reader().maxDoc();
+        }
+        for (List<LeafReaderContext> slice : slices) {
+            slice.sort(Comparator.comparingInt(l -> l.ord));
+        }
+        return slices;
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
         for (LeafReaderContext ctx : leaves) { // search each subreader
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+
+/**
+ * A {@link ReaderContext} that was explicitly opened by a point in time request and that is kept
+ * until it is closed or its keep alive elapses.
+ */
+public class PitReaderContext extends ReaderContext {
+    private final long creationTime;
+
+    public PitReaderContext(ShardSearchContextId id,
+                            IndexService indexService,
+                            IndexShard indexShard,
+                            Engine.SearcherSupplier searcherSupplier,
+                            long keepAliveInMillis) {
+        super(id, indexService, indexShard, searcherSupplier, keepAliveInMillis, false);
+        this.creationTime = indexShard.getThreadPool().absoluteTimeInMillis();
+    }
+
+    /**
+     * Returns the absolute time, in milliseconds since the epoch, at which this point in time was opened
+     */
+    public long getCreationTime() {
+        return creationTime;
+    }
+}
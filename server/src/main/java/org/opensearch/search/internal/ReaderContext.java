@@ -218,4 +218,11 @@ public class ReaderContext implements Releasable {
     public long getStartTimeInNano() {
         return startTimeInNano;
     }
+
+    /**
+     * Returns the current keep alive of this reader context in milliseconds
+     */
+    public long getKeepAlive() {
+        return keepAlive.get();
+    }
 }
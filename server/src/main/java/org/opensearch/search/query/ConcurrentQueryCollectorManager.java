@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationPhase;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.sort.SortAndFormats;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.opensearch.search.query.QueryCollectorContext.createFilteredCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.createTopDocsCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.shortcutTotalHitCount;
+
+/**
+ * A {@link CollectorManager} that creates one query collector chain per slice of a shard that is searched
+ * concurrently, and merges the top docs and the aggregations of all slices into the {@link QuerySearchResult}.
+ */
+final class ConcurrentQueryCollectorManager implements CollectorManager<ConcurrentQueryCollectorManager.SliceCollector, Void> {
+    private final SearchContext searchContext;
+    private final boolean hasFilterCollector;
+    private final List<SliceCollector> collectors = new ArrayList<>();
+    private boolean reduced;
+
+    ConcurrentQueryCollectorManager(SearchContext searchContext, boolean hasFilterCollector) {
+        this.searchContext = searchContext;
+        this.hasFilterCollector = hasFilterCollector;
+    }
+
+    /**
+     * Returns <code>true</code> if the query of the provided context can be executed concurrently on the slices of the shard.
+     * Scrolls, field collapsing, <code>terminate_after</code> and profiling need a single collector over all the leaves
+     * and are always executed sequentially.
+     */
+    static boolean canSearchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher) {
+        if (searcher.isConcurrentSearchEnabled() == false) {
+            return false;
+        }
+        if (searchContext.scrollContext() != null
+                || searchContext.collapse() != null
+                || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+                || searchContext.getProfilers() != null) {
+            return false;
+        }
+        for (Class<?> key : searchContext.queryCollectors().keySet()) {
+            if (key != AggregationPhase.class) {
+                // plugins may register collectors that are not aware of slices
+                return false;
+            }
+        }
+        return AggregationPhase.canCollectConcurrently(searchContext);
+    }
+
+    @Override
+    public SliceCollector newCollector() throws IOException {
+        final LinkedList<QueryCollectorContext> contexts = new LinkedList<>();
+        final TopDocsCollectorContext topDocsContext = createTopDocsCollectorContext(searchContext, hasFilterCollector);
+        contexts.add(topDocsContext);
+        if (searchContext.parsedPostFilter() != null) {
+            contexts.add(createFilteredCollectorContext(searchContext.searcher(), searchContext.parsedPostFilter().query()));
+        }
+        final List<Aggregator> aggregators = new ArrayList<>();
+        if (searchContext.aggregations() != null) {
+            contexts.add(createMultiCollectorContext(
+                Collections.singletonList(AggregationPhase.createSliceAggregators(searchContext, aggregators))));
+        }
+        if (searchContext.minimumScore() != null) {
+            contexts.add(createMinScoreCollectorContext(searchContext.minimumScore()));
+        }
+        final SliceCollector collector = new SliceCollector(QueryCollectorContext.createQueryCollector(contexts),
+            topDocsContext, aggregators);
+        collectors.add(collector);
+        return collector;
+    }
+
+    /**
+     * Returns all the collectors created by this manager so far, so that the results of the slices can be reduced
+     * even if the search did not complete, for instance on timeout.
+     */
+    List<SliceCollector> getCollectors() {
+        return collectors;
+    }
+
+    /**
+     * Returns true if the merged top docs should be re-scored after the search
+     */
+    boolean shouldRescore() {
+        return collectors.isEmpty() == false && collectors.get(0).topDocsContext.shouldRescore();
+    }
+
+    @Override
+    public Void reduce(Collection<SliceCollector> sliceCollectors) throws IOException {
+        if (reduced) {
+            return null;
+        }
+        reduced = true;
+        final QuerySearchResult result = searchContext.queryResult();
+        final List<TopDocsAndMaxScore> topDocs = new ArrayList<>(sliceCollectors.size());
+        final List<List<Aggregator>> aggregators = new ArrayList<>(sliceCollectors.size());
+        for (SliceCollector collector : sliceCollectors) {
+            topDocs.add(collector.topDocsContext.newTopDocs());
+            aggregators.add(collector.aggregators);
+        }
+        final TopDocsCollectorContext first = sliceCollectors.iterator().next().topDocsContext;
+        final SortAndFormats sortAndFormats = searchContext.sort();
+        final DocValueFormat[] formats = first.numHits() == 0 || sortAndFormats == null ? null : sortAndFormats.formats;
+        result.topDocs(mergeTopDocs(topDocs, first.numHits(), sortAndFormats, computeTotalHits(topDocs)), formats);
+        if (searchContext.aggregations() != null) {
+            AggregationPhase.executeSlices(searchContext, aggregators);
+        }
+        return null;
+    }
+
+    /**
+     * Computes the total hits of the shard. Slices report the implicit hit count of the whole shard when it can be
+     * computed without collecting, otherwise the hits counted by each slice are summed.
+     */
+    private TotalHits computeTotalHits(List<TopDocsAndMaxScore> topDocs) throws IOException {
+        if (searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            return new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        if (hasFilterCollector == false) {
+            final int hitCount = shortcutTotalHitCount(searchContext.searcher().getIndexReader(), searchContext.query());
+            if (hitCount != -1) {
+                return new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+            }
+        }
+        long value = 0;
+        TotalHits.Relation relation = TotalHits.Relation.EQUAL_TO;
+        for (TopDocsAndMaxScore sliceTopDocs : topDocs) {
+            final TotalHits sliceTotalHits = sliceTopDocs.topDocs.totalHits;
+            value += sliceTotalHits.value;
+            if (sliceTotalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                relation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+        }
+        return new TotalHits(value, relation);
+    }
+
+    static TopDocsAndMaxScore mergeTopDocs(List<TopDocsAndMaxScore> topDocs, int numHits,
+                                           SortAndFormats sortAndFormats, TotalHits totalHits) {
+        float maxScore = Float.NaN;
+        for (TopDocsAndMaxScore sliceTopDocs : topDocs) {
+            if (Float.isNaN(sliceTopDocs.maxScore) == false) {
+                maxScore = Float.isNaN(maxScore) ? sliceTopDocs.maxScore : Math.max(maxScore, sliceTopDocs.maxScore);
+            }
+        }
+        final ScoreDoc[] scoreDocs;
+        if (numHits == 0) {
+            scoreDocs = new ScoreDoc[0];
+        } else if (sortAndFormats != null) {
+            final TopFieldDocs[] shardTopDocs = new TopFieldDocs[topDocs.size()];
+            for (int i = 0; i < shardTopDocs.length; i++) {
+                shardTopDocs[i] = (TopFieldDocs) topDocs.get(i).topDocs;
+            }
+            scoreDocs = TopDocs.merge(sortAndFormats.sort, 0, numHits, shardTopDocs, true).scoreDocs;
+        } else {
+            final TopDocs[] shardTopDocs = new TopDocs[topDocs.size()];
+            for (int i = 0; i < shardTopDocs.length; i++) {
+                shardTopDocs[i] = topDocs.get(i).topDocs;
+            }
+            scoreDocs = TopDocs.merge(0, numHits, shardTopDocs, true).scoreDocs;
+        }
+        // Lucene sets shards indexes during merging of topDocs from different slices
+        // We need to reset shard index; OpenSearch will set shard index later during reduce stage
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            scoreDoc.shardIndex = -1;
+        }
+        final TopDocs merged;
+        if (sortAndFormats != null) {
+            merged = new TopFieldDocs(totalHits, scoreDocs, sortAndFormats.sort.getSort());
+        } else {
+            merged = new TopDocs(totalHits, scoreDocs);
+        }
+        return new TopDocsAndMaxScore(merged, maxScore);
+    }
+
+    /**
+     * The collector chain of a single slice, along with the contexts needed to reduce its results.
+     */
+    static final class SliceCollector extends FilterCollector {
+        private final TopDocsCollectorContext topDocsContext;
+        private final List<Aggregator> aggregators;
+
+        private SliceCollector(Collector in, TopDocsCollectorContext topDocsContext, List<Aggregator> aggregators) {
+            super(in);
+            this.topDocsContext = topDocsContext;
+            this.aggregators = aggregators;
+        }
+    }
+}
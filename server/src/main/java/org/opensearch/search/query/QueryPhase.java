@@ -62,12 +62,14 @@ import org.apache.lucene.util.FutureArrays;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
 import org.opensearch.index.IndexSortConfig;
 import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchContextSourcePrinter;
 import org.opensearch.search.SearchService;
@@ -113,11 +115,22 @@ public class QueryPhase {
     private final AggregationPhase aggregationPhase;
     private final SuggestPhase suggestPhase;
     private final RescorePhase rescorePhase;
+    @Nullable
+    private final JvmService jvmService;
 
     public QueryPhase() {
+        this(null);
+    }
+
+    /**
+     * @param jvmService the service that provides the heap usage reported with the query results, or <code>null</code> if the
+     *                   heap usage must not be reported
+     */
+    public QueryPhase(@Nullable JvmService jvmService) {
         this.aggregationPhase = new AggregationPhase();
         this.suggestPhase = new SuggestPhase();
         this.rescorePhase = new RescorePhase();
+        this.jvmService = jvmService;
     }
 
     public void preProcess(SearchContext context) {
@@ -159,6 +172,10 @@ public class QueryPhase {
         // here to make sure it happens during the QUERY phase
         aggregationPhase.preProcess(searchContext);
         boolean rescore = executeInternal(searchContext);
+        if (jvmService != null) {
+            // the stats of the service are refreshed periodically, which keeps sampling them on every query cheap
+            searchContext.queryResult().heapUsedPercent(jvmService.stats().getMem().getHeapUsedPercent());
+        }
 
         if (rescore) { // only if we do a regular search
             rescorePhase.execute(searchContext);
@@ -305,6 +322,9 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (sortAndFormatsForRewrittenNumericSort == null
+                        && ConcurrentQueryCollectorManager.canSearchConcurrently(searchContext, searcher)) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, hasFilterCollector, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -320,6 +340,7 @@ public class QueryPhase {
                     QueueResizingOpenSearchThreadPoolExecutor rExecutor = (QueueResizingOpenSearchThreadPoolExecutor) executor;
                     queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
                     queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
+                    queryResult.searchPoolUtilization((double) rExecutor.getActiveCount() / rExecutor.getMaximumPoolSize());
                 }
                 return shouldRescore;
             } finally {
@@ -371,6 +392,28 @@ public class QueryPhase {
         return topDocsFactory.shouldRescore();
     }
 
+    /**
+     * Searches the slices of the shard concurrently, each slice with its own collector chain, and merges the results
+     * of the slices in the query result once all of them completed.
+     */
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+                                              boolean hasFilterCollector, boolean timeoutSet) throws IOException {
+        final ConcurrentQueryCollectorManager manager = new ConcurrentQueryCollectorManager(searchContext, hasFilterCollector);
+        QuerySearchResult queryResult = searchContext.queryResult();
+        try {
+            searcher.search(query, manager);
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            queryResult.searchTimedOut(true);
+            // all slices are done, either completed or timed out, so their partial results can be merged
+            manager.reduce(manager.getCollectors());
+        }
+        return manager.shouldRescore();
+    }
 
     /*
      * We use collectorManager during sort optimization, where
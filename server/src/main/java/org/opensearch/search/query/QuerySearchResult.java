@@ -41,6 +41,7 @@ import java.io.IOException;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -82,6 +83,8 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private double searchPoolUtilization = -1;
+    private int heapUsedPercent = -1;
 
     private final boolean isNull;
 
@@ -320,6 +323,30 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the share of the threads of the search thread pool that were busy, between 0 and 1, or {@code -1} if unknown.
+     */
+    public double searchPoolUtilization() {
+        return this.searchPoolUtilization;
+    }
+
+    public QuerySearchResult searchPoolUtilization(double searchPoolUtilization) {
+        this.searchPoolUtilization = searchPoolUtilization;
+        return this;
+    }
+
+    /**
+     * Returns the percentage of the heap that was used on the node, or {@code -1} if unknown.
+     */
+    public int heapUsedPercent() {
+        return this.heapUsedPercent;
+    }
+
+    public QuerySearchResult heapUsedPercent(int heapUsedPercent) {
+        this.heapUsedPercent = heapUsedPercent;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -371,6 +398,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
             setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
             setRescoreDocIds(new RescoreDocIds(in));
         }
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            searchPoolUtilization = in.readDouble();
+            heapUsedPercent = in.readInt();
+        }
     }
 
     @Override
@@ -446,6 +477,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
             out.writeOptionalWriteable(getShardSearchRequest());
             getRescoreDocIds().writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeDouble(searchPoolUtilization);
+            out.writeInt(heapUsedPercent);
+        }
     }
 
     public TotalHits getTotalHits() {
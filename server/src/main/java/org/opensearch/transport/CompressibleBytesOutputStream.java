@@ -45,7 +45,8 @@ import java.util.zip.DeflaterOutputStream;
 
 /**
  * This class exists to provide a stream with optional compression. This is useful as using compression
- * requires that the underlying {@link DeflaterOutputStream} be closed to write EOS bytes. However, the
+ * requires that the underlying {@link DeflaterOutputStream}, or {@link Lz4TransportOutputStream} depending on the
+ * {@link CompressionScheme}, be closed to write EOS bytes. However, the
  * {@link BytesStream} should not be closed yet, as we have not used the bytes. This class handles these
  * intricacies.
  *
@@ -63,10 +64,18 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     private final boolean shouldCompress;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress, CompressionScheme.DEFLATE);
+    }
+
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress, CompressionScheme scheme) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
         this.shouldCompress = shouldCompress;
         if (shouldCompress) {
-            this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            if (scheme == CompressionScheme.LZ4) {
+                this.stream = new Lz4TransportOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            } else {
+                this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            }
         } else {
             this.stream = bytesStreamOutput;
         }
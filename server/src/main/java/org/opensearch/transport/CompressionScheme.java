@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesReference;
+
+import java.util.Locale;
+
+/**
+ * The schemes available to compress the content of transport messages.
+ * <p>
+ * The compressed content of a message starts with a four bytes header identifying its scheme, so that the receiving node
+ * does not need to know in advance which scheme the sender picked. The sender only uses a scheme that the remote node can
+ * decompress, as determined by the version that was negotiated by the handshake of the connection, and falls back to
+ * {@link #DEFLATE} otherwise.
+ */
+public enum CompressionScheme {
+
+    DEFLATE(new byte[] { 'D', 'F', 'L', '\0' }, Version.V_EMPTY),
+    LZ4(new byte[] { 'L', 'Z', '4', '\0' }, Version.V_1_1_0);
+
+    static final int HEADER_LENGTH = 4;
+
+    private final byte[] header;
+    private final Version minimumVersion;
+
+    CompressionScheme(byte[] header, Version minimumVersion) {
+        assert header.length == HEADER_LENGTH;
+        this.header = header;
+        this.minimumVersion = minimumVersion;
+    }
+
+    byte[] header() {
+        return header;
+    }
+
+    /**
+     * Returns whether the provided bytes start with the header of this scheme.
+     */
+    boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HEADER_LENGTH; i++) {
+            if (bytes.get(i) != header[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the scheme to use to compress a message sent to a node of the provided version: this scheme if the remote node
+     * can decompress it, {@link #DEFLATE} otherwise.
+     */
+    CompressionScheme forVersion(Version version) {
+        return version.onOrAfter(minimumVersion) ? this : DEFLATE;
+    }
+
+    public static CompressionScheme fromString(String value) {
+        for (CompressionScheme scheme : values()) {
+            if (scheme.toString().equals(value)) {
+                return scheme;
+            }
+        }
+        throw new IllegalArgumentException("unknown compression scheme [" + value + "], must be one of [deflate, lz4]");
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -51,6 +51,7 @@ public class InboundDecoder implements Releasable {
     private final Version version;
     private final PageCacheRecycler recycler;
     private TransportDecompressor decompressor;
+    private boolean isCompressed = false;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
     private boolean isClosed = false;
@@ -87,9 +88,7 @@ public class InboundDecoder implements Releasable {
 
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
-                    if (header.isCompressed()) {
-                        decompressor = new TransportDecompressor(recycler);
-                    }
+                    isCompressed = header.isCompressed();
                     fragmentConsumer.accept(header);
 
                     if (isDone()) {
@@ -99,9 +98,12 @@ public class InboundDecoder implements Releasable {
                 }
             }
         } else {
-            // There are a minimum number of bytes required to start decompression
-            if (decompressor != null && decompressor.canDecompress(reference.length()) == false) {
-                return 0;
+            if (isCompressed && decompressor == null) {
+                // The scheme is identified by a header, so there are a minimum number of bytes required to start decompression
+                decompressor = TransportDecompressor.getDecompressor(recycler, reference);
+                if (decompressor == null) {
+                    return 0;
+                }
             }
             int bytesToConsume = Math.min(reference.length(), totalNetworkSize - bytesConsumed);
             bytesConsumed += bytesToConsume;
@@ -142,6 +144,7 @@ public class InboundDecoder implements Releasable {
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        isCompressed = false;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
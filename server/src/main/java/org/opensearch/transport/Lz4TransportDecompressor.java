@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.io.IOException;
+
+/**
+ * Decompresses the content of transport messages compressed with {@link CompressionScheme#LZ4}, see
+ * {@link Lz4TransportOutputStream} for the format. A block is decompressed once all its compressed bytes were received,
+ * the block headers and the blocks may be split across the invocations of {@link #decompress(BytesReference)}.
+ */
+public class Lz4TransportDecompressor extends TransportDecompressor {
+
+    private final byte[] blockHeader = new byte[Lz4TransportOutputStream.BLOCK_HEADER_LENGTH];
+    // grown on demand, most messages are much smaller than a block
+    private byte[] compressed = BytesRef.EMPTY_BYTES;
+    private byte[] uncompressed = BytesRef.EMPTY_BYTES;
+    private boolean hasReadHeader = false;
+    private int blockHeaderOffset = 0;
+    private int uncompressedLength;
+    private int compressedLength;
+    private int compressedOffset;
+    private boolean eos = false;
+
+    public Lz4TransportDecompressor(PageCacheRecycler recycler) {
+        super(recycler);
+    }
+
+    @Override
+    public int decompress(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
+        if (hasReadHeader == false) {
+            if (CompressionScheme.LZ4.isCompressed(bytesReference) == false) {
+                throw unknownCompressionScheme(bytesReference);
+            }
+            hasReadHeader = true;
+            bytesReference = bytesReference.slice(CompressionScheme.HEADER_LENGTH,
+                bytesReference.length() - CompressionScheme.HEADER_LENGTH);
+            bytesConsumed += CompressionScheme.HEADER_LENGTH;
+        }
+
+        BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while (eos == false && (ref = refIterator.next()) != null) {
+            int offset = ref.offset;
+            final int end = ref.offset + ref.length;
+            while (eos == false && offset < end) {
+                if (blockHeaderOffset < blockHeader.length) {
+                    final int toCopy = Math.min(blockHeader.length - blockHeaderOffset, end - offset);
+                    System.arraycopy(ref.bytes, offset, blockHeader, blockHeaderOffset, toCopy);
+                    blockHeaderOffset += toCopy;
+                    offset += toCopy;
+                    if (blockHeaderOffset == blockHeader.length) {
+                        readBlockHeader();
+                    }
+                } else {
+                    final int toCopy = Math.min(compressedLength - compressedOffset, end - offset);
+                    System.arraycopy(ref.bytes, offset, compressed, compressedOffset, toCopy);
+                    compressedOffset += toCopy;
+                    offset += toCopy;
+                    if (compressedOffset == compressedLength) {
+                        decompressBlock();
+                    }
+                }
+            }
+            bytesConsumed += offset - ref.offset;
+        }
+
+        return bytesConsumed;
+    }
+
+    private void readBlockHeader() throws IOException {
+        uncompressedLength = readInt(blockHeader, 0);
+        compressedLength = readInt(blockHeader, 4);
+        compressedOffset = 0;
+        if (uncompressedLength == 0 && compressedLength == 0) {
+            eos = true;
+        } else if (uncompressedLength <= 0 || uncompressedLength > Lz4TransportOutputStream.BLOCK_SIZE
+            || compressedLength <= 0 || compressedLength > Lz4TransportOutputStream.MAX_COMPRESSED_BLOCK_SIZE) {
+            throw new IOException("invalid lz4 block with uncompressed length [" + uncompressedLength
+                + "] and compressed length [" + compressedLength + "]");
+        } else {
+            compressed = ArrayUtil.grow(compressed, compressedLength);
+            uncompressed = ArrayUtil.grow(uncompressed, uncompressedLength);
+        }
+    }
+
+    private void decompressBlock() throws IOException {
+        final ByteArrayDataInput input = new ByteArrayDataInput(compressed, 0, compressedLength);
+        LZ4.decompress(input, uncompressedLength, uncompressed, 0);
+        if (input.getPosition() != compressedLength) {
+            throw new IOException("lz4 block was decompressed with [" + (compressedLength - input.getPosition())
+                + "] trailing bytes");
+        }
+        addDecompressedBytes(uncompressed, 0, uncompressedLength);
+        blockHeaderOffset = 0;
+    }
+
+    @Override
+    public boolean isEOS() {
+        return eos;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+            | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+}
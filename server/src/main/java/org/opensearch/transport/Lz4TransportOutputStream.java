@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses the content of a transport message with {@link CompressionScheme#LZ4}.
+ * <p>
+ * The stream starts with the header of the scheme, followed by blocks of at most {@link #BLOCK_SIZE} uncompressed bytes.
+ * Each block is made of its uncompressed length and its compressed length, as big endian integers, and of the compressed
+ * bytes. The stream ends with an empty block, which is written when this stream is closed.
+ * <p>
+ * The buffers are reused across the streams opened by the same thread.
+ */
+final class Lz4TransportOutputStream extends OutputStream {
+
+    static final int BLOCK_SIZE = 64 * 1024;
+    static final int BLOCK_HEADER_LENGTH = 8;
+    static final int MAX_COMPRESSED_BLOCK_SIZE = BLOCK_SIZE + BLOCK_SIZE / 255 + 16;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final OutputStream out;
+    private final Buffers buffers;
+    private int position;
+    private boolean closed;
+
+    Lz4TransportOutputStream(OutputStream out) throws IOException {
+        this.out = out;
+        final Buffers threadLocalBuffers = BUFFERS.get();
+        if (threadLocalBuffers.inUse) {
+            // a message is serialized while serializing another message on the same thread
+            buffers = new Buffers();
+        } else {
+            threadLocalBuffers.inUse = true;
+            buffers = threadLocalBuffers;
+        }
+        out.write(CompressionScheme.LZ4.header());
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == BLOCK_SIZE) {
+            writeBlock();
+        }
+        buffers.block[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == BLOCK_SIZE) {
+                writeBlock();
+            }
+            final int toCopy = Math.min(len, BLOCK_SIZE - position);
+            System.arraycopy(b, off, buffers.block, position, toCopy);
+            position += toCopy;
+            off += toCopy;
+            len -= toCopy;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // blocks are only written once full so that flushing does not degrade the compression ratio
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writeBlock();
+            writeBlockHeader(0, 0);
+            out.close();
+        } finally {
+            buffers.inUse = false;
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        final ByteArrayDataOutput compressed = new ByteArrayDataOutput(buffers.compressed);
+        LZ4.compress(buffers.block, 0, position, compressed, buffers.hashTable);
+        writeBlockHeader(position, compressed.getPosition());
+        out.write(buffers.compressed, 0, compressed.getPosition());
+        position = 0;
+    }
+
+    private void writeBlockHeader(int uncompressedLength, int compressedLength) throws IOException {
+        final byte[] header = buffers.blockHeader;
+        writeInt(header, 0, uncompressedLength);
+        writeInt(header, 4, compressedLength);
+        out.write(header, 0, BLOCK_HEADER_LENGTH);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static final class Buffers {
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[MAX_COMPRESSED_BLOCK_SIZE];
+        private final byte[] blockHeader = new byte[BLOCK_HEADER_LENGTH];
+        private final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        private boolean inUse;
+    }
+}
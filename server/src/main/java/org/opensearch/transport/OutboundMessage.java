@@ -47,10 +47,13 @@ import java.util.Set;
 abstract class OutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final CompressionScheme compressionScheme;
 
-    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message,
+                    CompressionScheme compressionScheme) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressionScheme = compressionScheme;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -68,7 +71,7 @@ abstract class OutboundMessage extends NetworkMessage {
         }
 
         try (CompressibleBytesOutputStream stream =
-                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status), compressionScheme)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -121,7 +124,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
                 boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, compress, CompressionScheme.DEFLATE);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, boolean compress, CompressionScheme compressionScheme) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
             this.action = action;
         }
@@ -155,7 +163,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
                  boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress, CompressionScheme.DEFLATE);
+        }
+
+        Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
+                 boolean isHandshake, boolean compress, CompressionScheme compressionScheme) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
         }
 
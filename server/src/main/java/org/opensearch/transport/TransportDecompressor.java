@@ -6,132 +6,60 @@
  * compatible open source license.
  */
 
-/*
- * Licensed to Elasticsearch under one or more contributor
- * license agreements. See the NOTICE file distributed with
- * this work for additional information regarding copyright
- * ownership. Elasticsearch licenses this file to you under
- * the Apache License, Version 2.0 (the "License"); you may
- * not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *    http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing,
- * software distributed under the License is distributed on an
- * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
- * KIND, either express or implied.  See the License for the
- * specific language governing permissions and limitations
- * under the License.
- */
-
-/*
- * Modifications Copyright OpenSearch Contributors. See
- * GitHub history for details.
- */
-
 package org.opensearch.transport;
 
-import org.apache.lucene.util.BytesRef;
-import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayDeque;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
-public class TransportDecompressor implements Closeable {
+/**
+ * Incrementally decompresses the content of a transport message into pages of the {@link PageCacheRecycler}.
+ * <p>
+ * The implementation is chosen by {@link #getDecompressor(PageCacheRecycler, BytesReference)} from the header of the
+ * compressed content, see {@link CompressionScheme}.
+ */
+public abstract class TransportDecompressor implements Closeable {
 
-    private final Inflater inflater;
-    private final PageCacheRecycler recycler;
-    private final ArrayDeque<Recycler.V<byte[]>> pages;
-    private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-    private boolean hasReadHeader = false;
+    final PageCacheRecycler recycler;
+    final ArrayDeque<Recycler.V<byte[]>> pages;
+    int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
 
-    public TransportDecompressor(PageCacheRecycler recycler) {
+    TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
-        inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
     }
 
-    public int decompress(BytesReference bytesReference) throws IOException {
-        int bytesConsumed = 0;
-        if (hasReadHeader == false) {
-            if (CompressorFactory.COMPRESSOR.isCompressed(bytesReference) == false) {
-                int maxToRead = Math.min(bytesReference.length(), 10);
-                StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
-                    .append(maxToRead).append("] content bytes out of [").append(bytesReference.length())
-                    .append("] readable bytes with message size [").append(bytesReference.length()).append("] ").append("] are [");
-                for (int i = 0; i < maxToRead; i++) {
-                    sb.append(bytesReference.get(i)).append(",");
-                }
-                sb.append("]");
-                throw new IllegalStateException(sb.toString());
-            }
-            hasReadHeader = true;
-            int headerLength = CompressorFactory.COMPRESSOR.headerLength();
-            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
-            bytesConsumed += headerLength;
+    /**
+     * Returns the decompressor for the scheme of the provided compressed content, or <code>null</code> if not enough bytes
+     * are available yet to identify the scheme.
+     */
+    public static TransportDecompressor getDecompressor(PageCacheRecycler recycler, BytesReference bytes) {
+        if (bytes.length() < CompressionScheme.HEADER_LENGTH) {
+            return null;
         }
-
-        BytesRefIterator refIterator = bytesReference.iterator();
-        BytesRef ref;
-        while ((ref = refIterator.next()) != null) {
-            inflater.setInput(ref.bytes, ref.offset, ref.length);
-            bytesConsumed += ref.length;
-            boolean continueInflating = true;
-            while (continueInflating) {
-                final Recycler.V<byte[]> page;
-                final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
-                if (isNewPage) {
-                    pageOffset = 0;
-                    page = recycler.bytePage(false);
-                } else {
-                    page = pages.getLast();
-                }
-                byte[] output = page.v();
-                try {
-                    int bytesInflated = inflater.inflate(output, pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
-                    pageOffset += bytesInflated;
-                    if (isNewPage) {
-                        if (bytesInflated == 0) {
-                            page.close();
-                            pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-                        } else {
-                            pages.add(page);
-                        }
-                    }
-                } catch (DataFormatException e) {
-                    throw new IOException("Exception while inflating bytes", e);
-                }
-                if (inflater.needsInput()) {
-                    continueInflating = false;
-                }
-                if (inflater.finished()) {
-                    bytesConsumed -= inflater.getRemaining();
-                    continueInflating = false;
-                }
-                assert inflater.needsDictionary() == false;
-            }
+        if (CompressionScheme.DEFLATE.isCompressed(bytes)) {
+            return new DeflateTransportDecompressor(recycler);
+        } else if (CompressionScheme.LZ4.isCompressed(bytes)) {
+            return new Lz4TransportDecompressor(recycler);
+        } else {
+            throw unknownCompressionScheme(bytes);
         }
-
-        return bytesConsumed;
     }
 
-    public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorFactory.COMPRESSOR.headerLength();
-    }
+    /**
+     * Decompresses the provided bytes, starting with the header of the scheme on the first invocation.
+     *
+     * @return the number of bytes consumed, which is less than the provided bytes only if the end of the stream was reached
+     */
+    public abstract int decompress(BytesReference bytesReference) throws IOException;
 
-    public boolean isEOS() {
-        return inflater.finished();
-    }
+    public abstract boolean isEOS();
 
     public ReleasableBytesReference pollDecompressedPage() {
         if (pages.isEmpty()) {
@@ -151,11 +79,39 @@ public class TransportDecompressor implements Closeable {
         }
     }
 
+    /**
+     * Appends decompressed bytes to the pages, for implementations that do not decompress into the pages directly.
+     */
+    void addDecompressedBytes(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                pages.add(recycler.bytePage(false));
+                pageOffset = 0;
+            }
+            final int toCopy = Math.min(length, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            System.arraycopy(bytes, offset, pages.getLast().v(), pageOffset, toCopy);
+            pageOffset += toCopy;
+            offset += toCopy;
+            length -= toCopy;
+        }
+    }
+
     @Override
     public void close() {
-        inflater.end();
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
     }
+
+    static IllegalStateException unknownCompressionScheme(BytesReference bytesReference) {
+        int maxToRead = Math.min(bytesReference.length(), 10);
+        StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
+            .append(maxToRead).append("] content bytes out of [").append(bytesReference.length())
+            .append("] readable bytes with message size [").append(bytesReference.length()).append("] ").append("] are [");
+        for (int i = 0; i < maxToRead; i++) {
+            sb.append(bytesReference.get(i)).append(",");
+        }
+        sb.append("]");
+        return new IllegalStateException(sb.toString());
+    }
 }
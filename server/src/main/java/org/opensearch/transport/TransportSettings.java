@@ -79,6 +79,13 @@ public final class TransportSettings {
         boolSetting("transport.tcp.compress", false, Setting.Property.NodeScope, Setting.Property.Deprecated);
     public static final Setting<Boolean> TRANSPORT_COMPRESS =
         boolSetting("transport.compress", OLD_TRANSPORT_COMPRESS, Setting.Property.NodeScope);
+    // the scheme used to compress messages, nodes that do not support it are sent deflate compressed messages
+    public static final Setting<CompressionScheme> TRANSPORT_COMPRESSION_SCHEME =
+        new Setting<>("transport.compression_scheme", CompressionScheme.DEFLATE.toString(), CompressionScheme::fromString,
+            Setting.Property.NodeScope);
+    // patterns of the actions that are compressed even if transport.compress is disabled, for instance indexing or recoveries
+    public static final Setting<List<String>> TRANSPORT_COMPRESSED_ACTIONS =
+        listSetting("transport.compressed_actions", emptyList(), Function.identity(), Setting.Property.NodeScope);
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE =
         timeSetting("transport.ping_schedule", TimeValue.timeValueSeconds(-1), Setting.Property.NodeScope);
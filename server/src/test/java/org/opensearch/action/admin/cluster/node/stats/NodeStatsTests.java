@@ -32,6 +32,7 @@
 
 package org.opensearch.action.admin.cluster.node.stats;
 
+import org.opensearch.action.search.SearchCoalescingStats;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
@@ -354,6 +355,15 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(limited, sum.getCompilationLimitTriggered());
                     assertEquals(compilations, sum.getCompilations());
                 }
+                SearchCoalescingStats searchCoalescingStats = nodeStats.getSearchCoalescingStats();
+                SearchCoalescingStats deserializedSearchCoalescingStats = deserializedNodeStats.getSearchCoalescingStats();
+                if (searchCoalescingStats == null) {
+                    assertNull(deserializedSearchCoalescingStats);
+                } else {
+                    assertEquals(searchCoalescingStats.getHitCount(), deserializedSearchCoalescingStats.getHitCount());
+                    assertEquals(searchCoalescingStats.getMissCount(), deserializedSearchCoalescingStats.getMissCount());
+                    assertEquals(searchCoalescingStats.getWaitTimeInMillis(), deserializedSearchCoalescingStats.getWaitTimeInMillis());
+                }
             }
         }
     }
@@ -529,10 +539,12 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        SearchCoalescingStats searchCoalescingStats = frequently() ? new SearchCoalescingStats(randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong()) : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, searchCoalescingStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
@@ -41,6 +41,7 @@ import org.hamcrest.Matchers;
 import org.opensearch.action.bulk.BulkRequestParser;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -147,6 +148,58 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
     }
 
+    public void testIncrementalParsing() throws IOException {
+        StringBuilder body = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        int numItems = randomIntBetween(1, 50);
+        for (int i = 0; i < numItems; i++) {
+            String id = randomAlphaOfLengthBetween(1, 10);
+            switch (randomInt(2)) {
+                case 0:
+                    String source = "{\"field\":\"" + randomAlphaOfLengthBetween(0, 100) + "\"}";
+                    body.append("{ \"index\":{ \"_id\": \"").append(id).append("\" } }\n").append(source).append("\n");
+                    expected.add("index " + id + " " + source);
+                    break;
+                case 1:
+                    body.append("{ \"delete\":{ \"_id\": \"").append(id).append("\" } }\n");
+                    expected.add("delete " + id);
+                    break;
+                default:
+                    body.append("{ \"update\":{ \"_id\": \"").append(id).append("\" } }\n{ \"doc\": {} }\n");
+                    expected.add("update " + id);
+                    break;
+            }
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<String> parsed = new ArrayList<>();
+        BulkRequestParser.IncrementalParser parser = new BulkRequestParser(randomBoolean()).incrementalParser("foo", null, null, null,
+            null, null, false, XContentType.JSON,
+            indexRequest -> parsed.add("index " + indexRequest.id() + " " + indexRequest.source().utf8ToString()),
+            updateRequest -> parsed.add("update " + updateRequest.id()),
+            deleteRequest -> parsed.add("delete " + deleteRequest.id()));
+        int from = 0;
+        while (from < bytes.length) {
+            int length = randomIntBetween(1, Math.min(64, bytes.length - from));
+            parser.parse(new BytesArray(bytes, from, length), false);
+            from += length;
+            // items are handed over as soon as they are complete
+            String received = new String(bytes, 0, from, StandardCharsets.UTF_8);
+            int completeLines = received.length() - received.replace("\n", "").length();
+            assertThat(parsed.size(), Matchers.lessThanOrEqualTo(completeLines));
+        }
+        parser.parse(BytesArray.EMPTY, true);
+        assertThat(parsed, Matchers.equalTo(expected));
+    }
+
+    public void testIncrementalParsingFailsOnIncompleteLastItem() throws IOException {
+        BulkRequestParser.IncrementalParser parser = new BulkRequestParser(randomBoolean()).incrementalParser("foo", null, null, null,
+            null, null, false, XContentType.JSON, indexRequest -> fail(), req -> fail(), req -> fail());
+        parser.parse(new BytesArray("{ \"index\":{ \"_id\": \"bar\" } }\n{"), false);
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> parser.parse(new BytesArray("}"), true));
+        assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
+    }
+
     public void testFailOnExplicitIndex() {
         BytesArray request = new BytesArray("{ \"index\":{ \"_index\": \"foo\", \"_id\": \"bar\" } }\n{}\n");
         BulkRequestParser parser = new BulkRequestParser(randomBoolean());
@@ -50,10 +50,12 @@ import org.opensearch.action.update.UpdateHelper;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Requests;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
@@ -247,6 +249,54 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testParallelParsingOfBulkIndexRequests() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items =
+            new BulkItemRequest[randomIntBetween(BulkItemParser.MIN_ITEMS_PER_PARSER, 3 * BulkItemParser.MAX_ITEMS_AHEAD)];
+        boolean[] malformed = new boolean[items.length];
+        for (int i = 0; i < items.length; i++) {
+            IndexRequest writeRequest = new IndexRequest("index", "_doc", "id_" + i);
+            malformed[i] = randomInt(10) == 0;
+            if (malformed[i]) {
+                writeRequest.source(new BytesArray("{\"field\":"), XContentType.JSON);
+            } else {
+                writeRequest.source(Requests.INDEX_CONTENT_TYPE);
+            }
+            items[i] = new BulkItemRequest(i, writeRequest.opType(randomFrom(DocWriteRequest.OpType.INDEX, DocWriteRequest.OpType.CREATE)));
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest, shard, null, threadPool::absoluteTimeInMillis, new NoopMappingUpdatePerformer(),
+            listener -> {}, ActionListener.runAfter(
+                ActionTestUtils.assertNoFailureListener(result -> {
+                    assertThat(result.finalResponseIfSuccessful.getResponses(), arrayWithSize(items.length));
+                    int numIndexed = 0;
+                    long expectedSeqNo = 0;
+                    for (int i = 0; i < items.length; i++) {
+                        BulkItemResponse response = result.finalResponseIfSuccessful.getResponses()[i];
+                        assertThat(response.getItemId(), equalTo(i));
+                        assertThat(response.getId(), equalTo("id_" + i));
+                        assertThat(response.isFailed(), equalTo(malformed[i]));
+                        if (malformed[i] == false) {
+                            // the documents are indexed in the order of the items
+                            assertThat(response.getResponse().getSeqNo(), equalTo(expectedSeqNo++));
+                            numIndexed++;
+                        }
+                    }
+                    try {
+                        assertDocCount(shard, numIndexed);
+                        closeShards(shard);
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                }), latch::countDown), threadPool, Names.WRITE, randomIntBetween(1, 4));
+
+        latch.await();
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
@@ -113,7 +113,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                     public void run() throws IOException {
                         result.set(iter);
                         latch.countDown();
-                    }}, SearchResponse.Clusters.EMPTY);
+                    }}, SearchResponse.Clusters.EMPTY, null);
 
         canMatchPhase.start();
         latch.await();
@@ -181,7 +181,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                 public void run() throws IOException {
                     result.set(iter);
                     latch.countDown();
-                }}, SearchResponse.Clusters.EMPTY);
+                }}, SearchResponse.Clusters.EMPTY, null);
 
         canMatchPhase.start();
         latch.await();
@@ -287,7 +287,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         listener.onFailure(new Exception("failure"));
                     }
                 }
-            }, SearchResponse.Clusters.EMPTY);
+            }, SearchResponse.Clusters.EMPTY, null);
 
         canMatchPhase.start();
         latch.await();
@@ -349,7 +349,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         result.set(iter);
                         latch.countDown();
                     }
-                }, SearchResponse.Clusters.EMPTY);
+                }, SearchResponse.Clusters.EMPTY, null);
 
             canMatchPhase.start();
             latch.await();
@@ -426,7 +426,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         result.set(iter);
                         latch.countDown();
                     }
-                }, SearchResponse.Clusters.EMPTY);
+                }, SearchResponse.Clusters.EMPTY, null);
 
             canMatchPhase.start();
             latch.await();
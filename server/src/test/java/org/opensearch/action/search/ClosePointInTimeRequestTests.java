@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class ClosePointInTimeRequestTests extends OpenSearchTestCase {
+
+    public void testFromXContent() throws Exception {
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder()
+                .startObject()
+                .field("id", "pit_id")
+                .endObject())) {
+            ClosePointInTimeRequest request = ClosePointInTimeRequest.fromXContent(parser);
+            assertThat(request.getId(), equalTo("pit_id"));
+            assertNull(request.validate());
+        }
+    }
+
+    public void testFromXContentWithUnknownField() throws Exception {
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder()
+                .startObject()
+                .field("scroll_id", "pit_id")
+                .endObject())) {
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> ClosePointInTimeRequest.fromXContent(parser));
+            assertThat(e.getMessage(), startsWith("Unknown parameter [scroll_id]"));
+        }
+    }
+
+    public void testValidate() {
+        assertNotNull(new ClosePointInTimeRequest("").validate());
+    }
+}
@@ -105,6 +105,57 @@ public class FetchSearchPhaseTests extends OpenSearchTestCase {
         assertTrue(mockSearchPhaseContext.releasedSearchContexts.isEmpty());
     }
 
+    public void testQueryAndFetchOnMultipleShards() {
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(2);
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(), s -> InternalAggregationTestCase.emptyReduceContextBuilder());
+        QueryPhaseResultConsumer results = controller.newSearchPhaseResults(OpenSearchExecutors.newDirectExecutorService(),
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST), SearchProgressListener.NOOP,
+            mockSearchPhaseContext.getRequest(), 2, exc  -> {});
+        int resultSetSize = randomIntBetween(2, 10);
+        int[] docIds = new int[] {42, 84};
+        float[] scores = new float[] {1.0F, 2.0F};
+        for (int shard = 0; shard < 2; shard++) {
+            QuerySearchResult queryResult = new QuerySearchResult(new ShardSearchContextId(UUIDs.base64UUID(), shard),
+                new SearchShardTarget("node" + shard, new ShardId("test", "na", shard), null, OriginalIndices.NONE), null);
+            queryResult.topDocs(new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                new ScoreDoc[] {new ScoreDoc(docIds[shard], scores[shard])}), scores[shard]), new DocValueFormat[0]);
+            queryResult.size(resultSetSize);
+            FetchSearchResult fetchResult = new FetchSearchResult();
+            fetchResult.hits(new SearchHits(new SearchHit[] {new SearchHit(docIds[shard])},
+                new TotalHits(1, TotalHits.Relation.EQUAL_TO), scores[shard]));
+            QueryFetchSearchResult queryFetchResult = new QueryFetchSearchResult(queryResult, fetchResult);
+            queryFetchResult.setShardIndex(shard);
+            results.consumeResult(queryFetchResult, () -> {});
+        }
+        // every shard fetched its hits along with the query, so no fetch request must be sent
+        mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteFetch(Transport.Connection connection, ShardFetchSearchRequest request, SearchTask task,
+                                         SearchActionListener<FetchSearchResult> listener) {
+                throw new AssertionError("unexpected fetch request for " + request.contextId());
+            }
+        };
+        FetchSearchPhase phase = new FetchSearchPhase(results, controller, null, mockSearchPhaseContext,
+            (searchResponse, scrollId) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    mockSearchPhaseContext.sendSearchResponse(searchResponse, null);
+                }
+            });
+        phase.run();
+        mockSearchPhaseContext.assertNoFailure();
+        SearchResponse searchResponse = mockSearchPhaseContext.searchResponse.get();
+        assertNotNull(searchResponse);
+        assertEquals(2, searchResponse.getHits().getTotalHits().value);
+        assertEquals(2, searchResponse.getHits().getHits().length);
+        assertEquals(84, searchResponse.getHits().getAt(0).docId());
+        assertEquals(42, searchResponse.getHits().getAt(1).docId());
+        assertEquals(0, searchResponse.getFailedShards());
+        assertEquals(2, searchResponse.getSuccessfulShards());
+        assertTrue(mockSearchPhaseContext.releasedSearchContexts.isEmpty());
+    }
+
     public void testFetchTwoDocument() {
         MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(2);
         SearchPhaseController controller = new SearchPhaseController(
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Strings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.Transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class NodeShardRequestBatcherTests extends OpenSearchTestCase {
+
+    public void testSendsOneBatchPerNodeOnceAllSearchesDispatched() {
+        List<SentBatch> sent = new ArrayList<>();
+        NodeShardRequestBatcher batcher = new NodeShardRequestBatcher(new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteQueryAndFetchBatch(Transport.Connection connection, List<ShardSearchRequest> requests,
+                                                      Task parentTask, List<SearchActionListener<SearchPhaseResult>> listeners) {
+                assertThat(requests.size(), equalTo(listeners.size()));
+                sent.add(new SentBatch(connection.getNode().getId(), requests));
+            }
+        }, null);
+        Transport.Connection node1 = new SearchAsyncActionTests.MockConnection(newNode("node_1"));
+        Transport.Connection node2 = new SearchAsyncActionTests.MockConnection(newNode("node_2"));
+
+        NodeShardRequestBatcher.Dispatch first = batcher.newDispatch();
+        NodeShardRequestBatcher.Dispatch second = batcher.newDispatch();
+        ShardSearchRequest firstOnNode1 = shardRequest(0);
+        ShardSearchRequest firstOnNode2 = shardRequest(1);
+        ShardSearchRequest secondOnNode1 = shardRequest(0);
+        first.add(node1, firstOnNode1, listener());
+        first.add(node2, firstOnNode2, listener());
+        first.dispatched();
+        // signalling twice doesn't count for the other search
+        first.dispatched();
+        assertThat(sent.size(), equalTo(0));
+
+        second.add(node1, secondOnNode1, listener());
+        second.dispatched();
+        assertThat(sent.size(), equalTo(2));
+        assertThat(sent.get(0).nodeId, equalTo("node_1"));
+        assertThat(sent.get(0).requests, contains(firstOnNode1, secondOnNode1));
+        assertThat(sent.get(1).nodeId, equalTo("node_2"));
+        assertThat(sent.get(1).requests, contains(firstOnNode2));
+
+        // retries on other shard copies are sent right away
+        ShardSearchRequest retry = shardRequest(0);
+        first.add(node2, retry, listener());
+        assertThat(sent.size(), equalTo(3));
+        assertThat(sent.get(2).nodeId, equalTo("node_2"));
+        assertThat(sent.get(2).requests, contains(retry));
+    }
+
+    public void testCanBatch() {
+        assertTrue(SearchQueryAndFetchBatchedAsyncAction.canBatch(new SearchRequest("index")));
+        assertTrue(SearchQueryAndFetchBatchedAsyncAction.canBatch(new SearchRequest("index").source(new SearchSourceBuilder().size(5))));
+        assertFalse(SearchQueryAndFetchBatchedAsyncAction.canBatch(new SearchRequest("index").source(new SearchSourceBuilder().from(5))));
+        assertFalse(SearchQueryAndFetchBatchedAsyncAction.canBatch(
+            new SearchRequest("index").source(new SearchSourceBuilder().collapse(new CollapseBuilder("field")))));
+        assertFalse(SearchQueryAndFetchBatchedAsyncAction.canBatch(new SearchRequest("index").scroll(TimeValue.timeValueMinutes(1))));
+        assertFalse(SearchQueryAndFetchBatchedAsyncAction.canBatch(
+            new SearchRequest("index").searchType(SearchType.DFS_QUERY_THEN_FETCH)));
+        assertFalse(SearchQueryAndFetchBatchedAsyncAction.canBatch(new SearchRequest("remote:index")));
+    }
+
+    private static DiscoveryNode newNode(String id) {
+        return new DiscoveryNode(id, buildNewFakeTransportAddress(), Version.CURRENT);
+    }
+
+    private static ShardSearchRequest shardRequest(int shard) {
+        return new ShardSearchRequest(new ShardId("index", "_na_", shard), Strings.EMPTY_ARRAY, 0, AliasFilter.EMPTY);
+    }
+
+    private static SearchActionListener<SearchPhaseResult> listener() {
+        return new SearchActionListener<SearchPhaseResult>(null, 0) {
+            @Override
+            protected void innerOnResponse(SearchPhaseResult response) {
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+            }
+        };
+    }
+
+    private static final class SentBatch {
+        private final String nodeId;
+        private final List<ShardSearchRequest> requests;
+
+        SentBatch(String nodeId, List<ShardSearchRequest> requests) {
+            this.nodeId = nodeId;
+            this.requests = requests;
+        }
+    }
+}
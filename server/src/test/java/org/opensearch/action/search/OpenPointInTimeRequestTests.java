@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+
+public class OpenPointInTimeRequestTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        OpenPointInTimeRequest request = new OpenPointInTimeRequest(generateRandomStringArray(5, 10, false, false));
+        request.keepAlive(TimeValue.timeValueMinutes(randomIntBetween(1, 60)));
+        request.indicesOptions(IndicesOptions.fromOptions(randomBoolean(), randomBoolean(), randomBoolean(), randomBoolean()));
+        if (randomBoolean()) {
+            request.routing(randomAlphaOfLength(5));
+        }
+        if (randomBoolean()) {
+            request.preference(randomAlphaOfLength(5));
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                OpenPointInTimeRequest deserialized = new OpenPointInTimeRequest(in);
+                assertArrayEquals(request.indices(), deserialized.indices());
+                assertEquals(request.indicesOptions(), deserialized.indicesOptions());
+                assertEquals(request.keepAlive(), deserialized.keepAlive());
+                assertEquals(request.routing(), deserialized.routing());
+                assertEquals(request.preference(), deserialized.preference());
+            }
+        }
+    }
+
+    public void testValidate() {
+        OpenPointInTimeRequest request = new OpenPointInTimeRequest("index");
+        ActionRequestValidationException e = request.validate();
+        assertNotNull(e);
+        assertThat(e.getMessage(), containsString("[keep_alive] is not specified"));
+
+        request.keepAlive(TimeValue.timeValueMinutes(1));
+        assertNull(request.validate());
+
+        request.indices(new String[0]);
+        e = request.validate();
+        assertNotNull(e);
+        assertThat(e.getMessage(), containsString("[index] is not specified"));
+    }
+}
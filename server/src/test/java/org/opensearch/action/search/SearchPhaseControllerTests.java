@@ -561,6 +561,60 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerConcurrentPartialReduces() throws Exception {
+        int expectedNumResults = randomIntBetween(10, 200);
+        int bufferSize = randomIntBetween(2, 5);
+        int maxConcurrentReduces = randomIntBetween(2, 4);
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.avg("foo")));
+        request.setBatchedReduceSize(bufferSize);
+        OpenSearchThreadPoolExecutor reduceExecutor = OpenSearchExecutors.newFixed("test_reduce", maxConcurrentReduces, 100,
+            OpenSearchExecutors.daemonThreadFactory("test_reduce"), threadPool.getThreadContext());
+        try {
+            QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(reduceExecutor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST), SearchProgressListener.NOOP,
+                request, expectedNumResults, maxConcurrentReduces, exc -> {});
+            AtomicInteger max = new AtomicInteger();
+            Thread[] threads = new Thread[expectedNumResults];
+            CountDownLatch latch = new CountDownLatch(expectedNumResults);
+            for (int i = 0; i < expectedNumResults; i++) {
+                int id = i;
+                threads[i] = new Thread(() -> {
+                    int number = randomIntBetween(1, 1000);
+                    max.updateAndGet(prev -> Math.max(prev, number));
+                    QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", id),
+                        new SearchShardTarget("node", new ShardId("a", "b", id), null, OriginalIndices.NONE), null);
+                    result.topDocs(new TopDocsAndMaxScore(
+                        new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] {new ScoreDoc(0, number)}), number),
+                        new DocValueFormat[0]);
+                    InternalAggregations aggs = InternalAggregations.from(Collections.singletonList(new InternalMax("test",
+                        (double) number, DocValueFormat.RAW, Collections.emptyMap())));
+                    result.aggregations(aggs);
+                    result.setShardIndex(id);
+                    result.size(1);
+                    consumer.consumeResult(result, latch::countDown);
+                });
+                threads[i].start();
+            }
+            for (int i = 0; i < expectedNumResults; i++) {
+                threads[i].join();
+            }
+            latch.await();
+
+            SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+            assertAggReduction(request);
+            InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+            assertEquals(max.get(), internalMax.getValue(), 0.0D);
+            assertEquals(1, reduce.sortedTopDocs.scoreDocs.length);
+            assertEquals(max.get(), reduce.maxScore, 0.0f);
+            assertEquals(expectedNumResults, reduce.totalHits.value);
+            assertEquals(max.get(), reduce.sortedTopDocs.scoreDocs[0].score, 0.0f);
+            assertThat(reduce.numReducePhases, greaterThanOrEqualTo(2));
+        } finally {
+            reduceExecutor.shutdownNow();
+        }
+    }
+
     public void testConsumerOnlyAggs() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -0,0 +1,248 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskCancelledException;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class SearchRequestCoalescerTests extends OpenSearchTestCase {
+
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    private final ClusterState clusterState = ClusterState.builder(ClusterName.DEFAULT).version(1).build();
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+
+    @Before
+    public void setupTaskManager() {
+        threadPool = new TestThreadPool(getTestName());
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+    }
+
+    @After
+    public void shutdownThreadPool() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    public void testCoalescesIdenticalSearches() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        AtomicReference<SearchResponse> first = new AtomicReference<>();
+        AtomicReference<SearchResponse> second = new AtomicReference<>();
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(first::set, e -> fail()));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(second::set, e -> fail()));
+        assertThat(executions.size(), equalTo(1));
+        assertThat(coalescer.inFlightCount(), equalTo(1));
+
+        SearchResponse response = response();
+        executions.get(0).onResponse(response);
+        assertThat(first.get(), sameInstance(response));
+        assertThat(second.get(), sameInstance(response));
+        assertThat(coalescer.inFlightCount(), equalTo(0));
+
+        // a search that arrives after the execution completed executes again
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        assertThat(executions.size(), equalTo(2));
+
+        SearchCoalescingStats stats = coalescer.stats();
+        assertThat(stats.getHitCount(), equalTo(1L));
+        assertThat(stats.getMissCount(), equalTo(2L));
+    }
+
+    public void testDoesNotCoalesceDifferentSearches() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        coalescer.execute(task(), request("bar"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        // the shards to search may have changed with the cluster state
+        ClusterState newClusterState = ClusterState.builder(clusterState).incrementVersion().build();
+        coalescer.execute(task(), request("foo"), newClusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        try (ThreadContext.StoredContext ignore = threadContext.stashContext()) {
+            threadContext.putHeader("user", "other");
+            coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        }
+        assertThat(executions.size(), equalTo(4));
+    }
+
+    public void testDisabledOrUncoalescable() {
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        SearchRequestCoalescer disabled = newCoalescer(false);
+        disabled.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        disabled.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        assertThat(executions.size(), equalTo(2));
+
+        assertTrue(SearchRequestCoalescer.canCoalesce(request("foo")));
+        assertFalse(SearchRequestCoalescer.canCoalesce(request("foo").scroll(TimeValue.timeValueMinutes(1))));
+        assertFalse(SearchRequestCoalescer.canCoalesce(request("foo").requestCache(false)));
+    }
+
+    public void testFailures() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> fail(), e -> {}));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> fail(), failure::set));
+        IllegalStateException e = new IllegalStateException("boom");
+        executions.get(0).onFailure(e);
+        assertThat(failure.get(), sameInstance(e));
+        assertThat(executions.size(), equalTo(1));
+
+        // requests that joined a search that got cancelled execute on their own
+        AtomicReference<SearchResponse> joined = new AtomicReference<>();
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> fail(), ex -> {}));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(joined::set, ex -> fail()));
+        executions.get(1).onFailure(new TaskCancelledException("cancelled"));
+        assertThat(executions.size(), equalTo(3));
+        SearchResponse response = response();
+        executions.get(2).onResponse(response);
+        assertThat(joined.get(), sameInstance(response));
+    }
+
+    public void testDoesNotShareResponseOfCancelledSearch() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        AtomicReference<SearchResponse> joined = new AtomicReference<>();
+        SearchTask leader = task();
+        coalescer.execute(leader, request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(joined::set, e -> fail()));
+        assertThat(executions.size(), equalTo(1));
+
+        // a search that got cancelled returns the partial results of the shards that completed, without shard failures
+        taskManager.cancel(leader, "test", () -> {});
+        executions.get(0).onResponse(response());
+        assertNull(joined.get());
+        assertThat(executions.size(), equalTo(2));
+        SearchResponse response = response();
+        executions.get(1).onResponse(response);
+        assertThat(joined.get(), sameInstance(response));
+
+        // a search that arrives after the search in flight got cancelled doesn't join it
+        leader = task();
+        coalescer.execute(leader, request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> {}));
+        taskManager.cancel(leader, "test", () -> {});
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(r -> {}, e -> fail()));
+        assertThat(executions.size(), equalTo(4));
+    }
+
+    public void testDoesNotShareFailureOfCancelledSearch() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        AtomicReference<SearchResponse> joined = new AtomicReference<>();
+        SearchTask leader = task();
+        coalescer.execute(leader, request("foo"), clusterState, executions::add, ActionListener.wrap(r -> fail(), e -> {}));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(joined::set, e -> fail()));
+
+        // the shard requests of a cancelled search fail, and so does the search
+        taskManager.cancel(leader, "test", () -> {});
+        ShardSearchFailure[] failures = new ShardSearchFailure[] { new ShardSearchFailure(new TaskCancelledException("cancelled")) };
+        executions.get(0).onFailure(new SearchPhaseExecutionException("query", "all shards failed", failures));
+        assertThat(executions.size(), equalTo(2));
+        SearchResponse response = response();
+        executions.get(1).onResponse(response);
+        assertThat(joined.get(), sameInstance(response));
+    }
+
+    public void testDoesNotSharePartialResponses() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        AtomicReference<SearchResponse> first = new AtomicReference<>();
+        AtomicReference<SearchResponse> joined = new AtomicReference<>();
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(first::set, e -> fail()));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(joined::set, e -> fail()));
+        SearchResponse partial = new SearchResponse(InternalSearchResponse.empty(), null, 2, 1, 0, 1,
+            new ShardSearchFailure[] { new ShardSearchFailure(new IllegalStateException("boom")) }, SearchResponse.Clusters.EMPTY);
+        executions.get(0).onResponse(partial);
+        assertThat(first.get(), sameInstance(partial));
+        assertNull(joined.get());
+        assertThat(executions.size(), equalTo(2));
+        SearchResponse response = response();
+        executions.get(1).onResponse(response);
+        assertThat(joined.get(), sameInstance(response));
+
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(first::set, e -> fail()));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add, ActionListener.wrap(joined::set, e -> fail()));
+        InternalSearchResponse timedOutInternal = new InternalSearchResponse(SearchHits.empty(), null, null, null, true, null, 1);
+        SearchResponse timedOut = new SearchResponse(timedOutInternal, null, 1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY);
+        executions.get(2).onResponse(timedOut);
+        assertThat(first.get(), sameInstance(timedOut));
+        assertThat(joined.get(), sameInstance(response));
+        assertThat(executions.size(), equalTo(4));
+    }
+
+    public void testWaiterLeavesWhenCancelled() {
+        SearchRequestCoalescer coalescer = newCoalescer(true);
+        List<ActionListener<SearchResponse>> executions = new ArrayList<>();
+        AtomicReference<SearchResponse> leaderResponse = new AtomicReference<>();
+        AtomicReference<Exception> waiterFailure = new AtomicReference<>();
+        AtomicReference<SearchResponse> otherWaiterResponse = new AtomicReference<>();
+        coalescer.execute(task(), request("foo"), clusterState, executions::add,
+            ActionListener.wrap(leaderResponse::set, e -> fail()));
+        SearchTask waiter = task();
+        coalescer.execute(waiter, request("foo"), clusterState, executions::add,
+            ActionListener.wrap(r -> fail(), waiterFailure::set));
+        coalescer.execute(task(), request("foo"), clusterState, executions::add,
+            ActionListener.wrap(otherWaiterResponse::set, e -> fail()));
+
+        taskManager.cancel(waiter, "test", () -> {});
+        assertThat(waiterFailure.get(), instanceOf(TaskCancelledException.class));
+        assertThat(coalescer.inFlightCount(), equalTo(1));
+
+        // the search in flight and the other waiters are not affected
+        SearchResponse response = response();
+        executions.get(0).onResponse(response);
+        assertThat(leaderResponse.get(), sameInstance(response));
+        assertThat(otherWaiterResponse.get(), sameInstance(response));
+        assertThat(executions.size(), equalTo(1));
+    }
+
+    private SearchTask task() {
+        return (SearchTask) taskManager.register("transport", SearchAction.NAME, new SearchRequest());
+    }
+
+    private SearchRequestCoalescer newCoalescer(boolean enabled) {
+        Settings settings = Settings.builder().put(SearchRequestCoalescer.SEARCH_COALESCING_ENABLED_SETTING.getKey(), enabled).build();
+        return new SearchRequestCoalescer(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadContext);
+    }
+
+    private static SearchRequest request(String value) {
+        return new SearchRequest("index").source(new SearchSourceBuilder().query(QueryBuilders.termQuery("field", value)));
+    }
+
+    private static SearchResponse response() {
+        return new SearchResponse(InternalSearchResponse.empty(), null, 1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DateFieldRange;
+import org.opensearch.search.SearchService.CanMatchResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ShardFieldRangeCacheTests extends OpenSearchTestCase {
+
+    private static final String FORMAT = "strict_date_optional_time||epoch_millis";
+
+    public void testRequiredRanges() {
+        RangeQueryBuilder first = QueryBuilders.rangeQuery("@timestamp").gte("2021-01-01");
+        RangeQueryBuilder second = QueryBuilders.rangeQuery("other").lt(10);
+        RangeQueryBuilder optional = QueryBuilders.rangeQuery("optional").lt(10);
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+            .must(QueryBuilders.constantScoreQuery(first))
+            .filter(second)
+            .should(optional)
+            .mustNot(QueryBuilders.rangeQuery("excluded").lt(10));
+        assertThat(ShardFieldRangeCache.requiredRanges(query), containsInAnyOrder(first, second));
+        assertThat(ShardFieldRangeCache.requiredRanges(QueryBuilders.matchAllQuery()), empty());
+    }
+
+    public void testIntersects() {
+        DateFieldRange range = new DateFieldRange(FORMAT, 1_000, 2_000);
+        assertTrue(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").gte(2_000), () -> 0));
+        assertFalse(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").gte(2_001), () -> 0));
+        assertFalse(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").lte(999), () -> 0));
+        assertTrue(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").gte(500).lte(1_500), () -> 0));
+        assertFalse(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").gte("now-1s"), () -> 10_000));
+        assertTrue(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").gte("now-1s"), () -> 2_500));
+        assertFalse(ShardFieldRangeCache.intersects(DateFieldRange.empty(FORMAT), QueryBuilders.rangeQuery("f").gte(0), () -> 0));
+        // bounds the shard would have to parse are left to the shard
+        assertTrue(ShardFieldRangeCache.intersects(range, QueryBuilders.rangeQuery("f").gte("not a date"), () -> 0));
+    }
+
+    public void testCanMatch() {
+        ShardFieldRangeCache cache = newCache(true);
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        IndexMetadata blocked = indexMetadata(true, 3);
+        List<RangeQueryBuilder> outside = Collections.singletonList(QueryBuilders.rangeQuery("@timestamp").gte(5_000));
+        List<RangeQueryBuilder> inside = Collections.singletonList(QueryBuilders.rangeQuery("@timestamp").gte(1_500));
+        List<RangeQueryBuilder> otherField = Collections.singletonList(QueryBuilders.rangeQuery("other").gte(5_000));
+
+        assertNull(cache.canMatch(shardId, blocked, outside, () -> 0));
+        cache.onCanMatchResponse(shardId, blocked, response(3));
+        assertThat(cache.count(), equalTo(1));
+        assertThat(cache.canMatch(shardId, blocked, outside, () -> 0), equalTo(false));
+        assertThat(cache.canMatch(shardId, blocked, inside, () -> 0), equalTo(true));
+        assertThat(cache.canMatch(shardId, blocked, otherField, () -> 0), equalTo(true));
+
+        // the index isn't write blocked anymore
+        assertNull(cache.canMatch(shardId, indexMetadata(false, 3), outside, () -> 0));
+        // the settings of the index changed since the shard reported its ranges
+        assertNull(cache.canMatch(shardId, indexMetadata(true, 4), outside, () -> 0));
+        assertThat(cache.count(), equalTo(0));
+    }
+
+    public void testIgnoresStaleResponses() {
+        ShardFieldRangeCache cache = newCache(true);
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        cache.onCanMatchResponse(shardId, indexMetadata(true, 4), response(3));
+        cache.onCanMatchResponse(shardId, indexMetadata(false, 3), response(3));
+        cache.onCanMatchResponse(shardId, indexMetadata(true, 3), new CanMatchResponse(true, null));
+        assertThat(cache.count(), equalTo(0));
+
+        ShardFieldRangeCache disabled = newCache(false);
+        disabled.onCanMatchResponse(shardId, indexMetadata(true, 3), response(3));
+        assertThat(disabled.count(), equalTo(0));
+    }
+
+    private static ShardFieldRangeCache newCache(boolean enabled) {
+        Settings settings = Settings.builder().put(ShardFieldRangeCache.SHARD_RANGE_CACHE_ENABLED_SETTING.getKey(), enabled).build();
+        return new ShardFieldRangeCache(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+
+    private static CanMatchResponse response(long indexSettingsVersion) {
+        return new CanMatchResponse(true, null, Collections.singletonMap("@timestamp", new DateFieldRange(FORMAT, 1_000, 2_000)),
+            indexSettingsVersion);
+    }
+
+    private static IndexMetadata indexMetadata(boolean writeBlocked, long settingsVersion) {
+        return IndexMetadata.builder("index")
+            .settings(Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), writeBlocked))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .settingsVersion(settingsVersion)
+            .build();
+    }
+}
@@ -207,6 +207,88 @@ public class TransportMultiSearchActionTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSlowBatchedSearchDoesNotHoldBackOthers() throws Exception {
+        Settings settings = Settings.builder()
+            .put("node.name", TransportMultiSearchActionTests.class.getSimpleName())
+            .build();
+        ActionFilters actionFilters = mock(ActionFilters.class);
+        when(actionFilters.filters()).thenReturn(new ActionFilter[0]);
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            TransportService transportService = new TransportService(Settings.EMPTY, mock(Transport.class), threadPool,
+                TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+                boundAddress -> DiscoveryNode.createLocal(settings, boundAddress.publishAddress(), UUIDs.randomBase64UUID()), null,
+                Collections.emptySet()) {
+                @Override
+                public TaskManager getTaskManager() {
+                    return taskManager;
+                }
+            };
+            ClusterService clusterService = mock(ClusterService.class);
+            DiscoveryNodes nodes = DiscoveryNodes.builder()
+                .add(new DiscoveryNode("local_node_id", buildNewFakeTransportAddress(), Version.CURRENT))
+                .build();
+            when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).nodes(nodes).build());
+
+            int maxConcurrentSearches = randomIntBetween(2, 4);
+            int numSearchRequests = randomIntBetween(maxConcurrentSearches + 1, 50);
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            multiSearchRequest.maxConcurrentSearchRequests(maxConcurrentSearches);
+            for (int i = 0; i < numSearchRequests; i++) {
+                multiSearchRequest.add(new SearchRequest());
+            }
+            SearchRequest slowRequest = multiSearchRequest.requests().get(0);
+
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger completed = new AtomicInteger();
+            AtomicReference<ActionListener<SearchResponse>> slowListener = new AtomicReference<>();
+            AtomicReference<AssertionError> errorHolder = new AtomicReference<>();
+            NodeClient client = new NodeClient(settings, threadPool) {
+                @Override
+                public void search(final SearchRequest request, final ActionListener<SearchResponse> listener) {
+                    if (request.batchDispatch() == null) {
+                        errorHolder.set(new AssertionError("search [" + request + "] isn't batched"));
+                    }
+                    int currentConcurrentSearches = running.incrementAndGet();
+                    if (currentConcurrentSearches > maxConcurrentSearches) {
+                        errorHolder.set(new AssertionError("Current concurrent search [" + currentConcurrentSearches +
+                            "] is higher than is allowed [" + maxConcurrentSearches + "]"));
+                    }
+                    if (request == slowRequest) {
+                        slowListener.set(listener);
+                        return;
+                    }
+                    running.decrementAndGet();
+                    completed.incrementAndGet();
+                    listener.onResponse(SearchResponse.empty(() -> 1L, SearchResponse.Clusters.EMPTY));
+                }
+
+                @Override
+                public String getLocalNodeId() {
+                    return "local_node_id";
+                }
+            };
+            TransportMultiSearchAction action = new TransportMultiSearchAction(threadPool, actionFilters, transportService,
+                clusterService, 10, System::nanoTime, client, null, true);
+
+            PlainActionFuture<MultiSearchResponse> future = newFuture();
+            Task task = multiSearchRequest.createTask(randomLong(), "type", "action", null, Collections.emptyMap());
+            action.execute(task, multiSearchRequest, future);
+
+            // the searches that were executed along with the slow one don't wait for it to free their slots
+            assertBusy(() -> assertThat(completed.get(), equalTo(numSearchRequests - 1)));
+            assertFalse(future.isDone());
+            running.decrementAndGet();
+            slowListener.get().onResponse(SearchResponse.empty(() -> 1L, SearchResponse.Clusters.EMPTY));
+
+            MultiSearchResponse response = future.get();
+            assertThat(response.getResponses().length, equalTo(numSearchRequests));
+            assertThat(errorHolder.get(), nullValue());
+        } finally {
+            assertTrue(OpenSearchTestCase.terminate(threadPool));
+        }
+    }
+
     public void testDefaultMaxConcurrentSearches() {
         int numDataNodes = randomIntBetween(1, 10);
         DiscoveryNodes.Builder builder = DiscoveryNodes.builder();
@@ -626,6 +626,44 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         terminate(threadPool);
     }
 
+    public void testAdaptiveReplicaSelectionWithExtendedSignals() throws Exception {
+        final String[] indexNames = new String[] { "test" };
+        ClusterState state = ClusterStateCreationUtils.stateWithAssignedPrimariesAndReplicas(indexNames, 1, 2);
+        OperationRouting opRouting = new OperationRouting(Settings.EMPTY,
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        opRouting.setUseAdaptiveReplicaSelection(true);
+        opRouting.setUseAdaptiveReplicaSelectionExtendedSignals(true);
+        TestThreadPool threadPool = new TestThreadPool("testAdaptiveReplicaSelectionWithExtendedSignals");
+        ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+        Map<String, Long> outstandingRequests = new HashMap<>();
+
+        // all nodes have the same queue size and response and service times, but node 0 has a busy search thread pool
+        // and node 1 is short on heap
+        final long responseTime = TimeValue.timeValueMillis(100).nanos();
+        final long serviceTime = TimeValue.timeValueMillis(50).nanos();
+        collector.addNodeStatistics("node_0", 1, responseTime, serviceTime, 0.9, 50);
+        collector.addNodeStatistics("node_1", 1, responseTime, serviceTime, 0.0, 95);
+        collector.addNodeStatistics("node_2", 1, responseTime, serviceTime, 0.0, 50);
+        outstandingRequests.put("node_0", 1L);
+        outstandingRequests.put("node_1", 1L);
+        outstandingRequests.put("node_2", 1L);
+
+        GroupShardsIterator<ShardIterator> groupIterator = opRouting.searchShards(state, indexNames, null, null, collector,
+            outstandingRequests);
+        ShardRouting shardChoice = groupIterator.get(0).nextOrNull();
+        assertThat(shardChoice.currentNodeId(), equalTo("node_2"));
+
+        // the copy on node 2 turns out to be slow to search, so a node under less pressure than node 0 is chosen instead
+        collector.addShardCopyStatistics("node_2", groupIterator.get(0).shardId(), TimeValue.timeValueSeconds(1).nanos());
+        groupIterator = opRouting.searchShards(state, indexNames, null, null, collector, outstandingRequests);
+        shardChoice = groupIterator.get(0).nextOrNull();
+        assertThat(shardChoice.currentNodeId(), equalTo("node_1"));
+
+        IOUtils.close(clusterService);
+        terminate(threadPool);
+    }
+
     public void testAllocationAwarenessDeprecation() {
         OperationRouting routing = new OperationRouting(
             Settings.builder()
@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class FrequencyAwareCacheTests extends OpenSearchTestCase {
+
+    public void testBuilder() {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().setFrequencyAware(true).build();
+        assertThat(cache, instanceOf(FrequencyAwareCache.class));
+        assertThat(CacheBuilder.<Integer, String>builder().build(), instanceOf(Cache.class));
+    }
+
+    public void testPutGetAndInvalidate() {
+        List<RemovalNotification<Integer, String>> notifications = new ArrayList<>();
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setFrequencyAware(true)
+            .removalListener(notifications::add)
+            .build();
+        int numberOfEntries = randomIntBetween(10, 1000);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(numberOfEntries, cache.count());
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        assertNull(cache.get(numberOfEntries));
+        assertEquals(numberOfEntries, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+
+        cache.put(0, "replaced");
+        assertEquals("replaced", cache.get(0));
+        assertEquals(1, notifications.size());
+        assertEquals(RemovalNotification.RemovalReason.REPLACED, notifications.get(0).getRemovalReason());
+        assertEquals("0", notifications.get(0).getValue());
+
+        cache.invalidate(1);
+        cache.invalidate(2, "not the value");
+        assertNull(cache.get(1));
+        assertEquals("2", cache.get(2));
+        assertEquals(numberOfEntries - 1, cache.count());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertEquals(numberOfEntries + 1, notifications.size());
+        for (RemovalNotification<Integer, String> notification : notifications.subList(1, notifications.size())) {
+            assertEquals(RemovalNotification.RemovalReason.INVALIDATED, notification.getRemovalReason());
+        }
+    }
+
+    public void testWeightBasedEviction() {
+        AtomicLong evictedWeight = new AtomicLong();
+        int maximumWeight = randomIntBetween(100, 1000);
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setFrequencyAware(true)
+            .setMaximumWeight(maximumWeight)
+            .weigher((k, v) -> v.length())
+            .removalListener(notification -> {
+                assertEquals(RemovalNotification.RemovalReason.EVICTED, notification.getRemovalReason());
+                evictedWeight.addAndGet(notification.getValue().length());
+            })
+            .build();
+        long totalWeight = 0;
+        for (int i = 0; i < 10 * maximumWeight; i++) {
+            String value = randomAlphaOfLengthBetween(1, 10);
+            totalWeight += value.length();
+            cache.put(i, value);
+            assertThat(cache.weight(), lessThanOrEqualTo((long) maximumWeight));
+        }
+        assertEquals(totalWeight, cache.weight() + evictedWeight.get());
+        assertEquals(cache.stats().getEvictions(), 10 * maximumWeight - cache.count());
+    }
+
+    public void testFrequentEntriesSurviveScans() {
+        int maximumWeight = 100;
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setFrequencyAware(true)
+            .setMaximumWeight(maximumWeight)
+            .build();
+        // a hot set that is accessed repeatedly
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < maximumWeight / 2; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, Integer.toString(i));
+                }
+            }
+            cache.refresh();
+        }
+        // a scan of one-off keys that would flush a LRU cache
+        for (int i = maximumWeight; i < 20 * maximumWeight; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        int hotEntries = 0;
+        for (int i = 0; i < maximumWeight / 2; i++) {
+            if (cache.get(i) != null) {
+                hotEntries++;
+            }
+        }
+        assertThat(hotEntries, greaterThanOrEqualTo(maximumWeight / 2 - 2));
+    }
+
+    public void testExpireAfterAccess() {
+        AtomicLong now = new AtomicLong();
+        FrequencyAwareCache<Integer, String> cache = new FrequencyAwareCache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setExpireAfterAccessNanos(1);
+        List<Integer> evictedKeys = new ArrayList<>();
+        cache.setRemovalListener(notification -> {
+            assertEquals(RemovalNotification.RemovalReason.EVICTED, notification.getRemovalReason());
+            evictedKeys.add(notification.getKey());
+        });
+        int numberOfEntries = randomIntBetween(10, 1000);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(1);
+        for (int i = numberOfEntries; i < 2 * numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(2);
+        cache.refresh();
+        assertEquals(numberOfEntries, cache.count());
+        assertEquals(numberOfEntries, evictedKeys.size());
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertNull(cache.get(i));
+            assertEquals(Integer.toString(numberOfEntries + i), cache.get(numberOfEntries + i));
+        }
+    }
+
+    public void testIteratorRemove() {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().setFrequencyAware(true).build();
+        int numberOfEntries = randomIntBetween(10, 1000);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        Set<Integer> removed = new HashSet<>();
+        for (Iterator<Integer> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
+            Integer key = iterator.next();
+            if (key % 2 == 0) {
+                iterator.remove();
+                removed.add(key);
+            }
+        }
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(removed.contains(i), cache.get(i) == null);
+        }
+        assertEquals(numberOfEntries - removed.size(), cache.count());
+    }
+
+    public void testComputeIfAbsentLoadsOnce() throws Exception {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setFrequencyAware(true)
+            .setMaximumWeight(1000)
+            .build();
+        int numberOfThreads = randomIntBetween(2, 8);
+        int numberOfKeys = randomIntBetween(1, 100);
+        AtomicInteger loads = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int i = 0; i < numberOfKeys; i++) {
+                        assertEquals(Integer.toString(i), cache.computeIfAbsent(i, k -> {
+                            loads.incrementAndGet();
+                            return Integer.toString(k);
+                        }));
+                    }
+                } catch (Exception | AssertionError e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        latch.await();
+        assertEquals(List.of(), failures);
+        assertEquals(numberOfKeys, loads.get());
+        cache.refresh();
+        assertEquals(numberOfKeys, cache.count());
+    }
+
+    public void testComputeIfAbsentFailures() {
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().setFrequencyAware(true).build();
+        ExecutionException e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> {
+            throw new IllegalArgumentException("boom");
+        }));
+        assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+        e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> null));
+        assertThat(e.getCause(), instanceOf(NullPointerException.class));
+        assertEquals(0, cache.count());
+    }
+
+    public void testFrequencySketch() {
+        FrequencySketch<Integer> sketch = new FrequencySketch<>();
+        sketch.ensureCapacity(512);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(42);
+        }
+        assertThat(sketch.frequency(42), equalTo(15));
+        assertThat(sketch.frequency(43), lessThanOrEqualTo(1));
+        // the counters are halved once ten times the capacity of the sketch was sampled
+        for (int i = 0; i < 10 * 512; i++) {
+            sketch.increment(1000 + i);
+        }
+        assertThat(sketch.frequency(42), lessThan(15));
+    }
+}
@@ -35,7 +35,9 @@ package org.opensearch.index;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.stats.IndexingPressureStats;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class IndexingPressureTests extends OpenSearchTestCase {
@@ -155,4 +157,57 @@ public class IndexingPressureTests extends OpenSearchTestCase {
         }
         assertEquals(0, indexingPressure.stats().getCurrentCoordinatingBytes());
     }
+
+    public void testShardFallingBehindIsRejectedEarly() {
+        IndexingPressure indexingPressure = new IndexingPressure(Settings.builder()
+            .put(settings)
+            .put(ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .put(ShardIndexingPressure.NODE_SOFT_LIMIT.getKey(), 0.1d)
+            .put(ShardIndexingPressure.MAX_OUTSTANDING_REQUESTS.getKey(), 2)
+            .build());
+        ShardId slowShard = new ShardId("index", "_na_", 0);
+        ShardId healthyShard = new ShardId("index", "_na_", 1);
+        try (Releasable primary = indexingPressure.markPrimaryOperationStarted(slowShard, 600, false);
+             Releasable replica = indexingPressure.markReplicaOperationStarted(slowShard, 600, false)) {
+            // the node is above its soft limit and the slow shard has too many outstanding requests
+            expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> indexingPressure.markPrimaryOperationStarted(slowShard, 600, false));
+            expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> indexingPressure.markReplicaOperationStarted(slowShard, 1024, false));
+            // the slow shard can still be forced, and the healthy shard keeps accepting writes
+            indexingPressure.markPrimaryOperationStarted(slowShard, 600, true).close();
+            indexingPressure.markPrimaryOperationStarted(healthyShard, 600, false).close();
+
+            IndexingPressureStats stats = indexingPressure.stats();
+            assertEquals(1, stats.getShardPrimaryRejections());
+            assertEquals(1, stats.getShardReplicaRejections());
+            assertEquals(0, stats.getPrimaryRejections());
+            assertEquals(0, stats.getReplicaRejections());
+            assertEquals(2, stats.getShardStats().size());
+            for (ShardIndexingPressureStats shardStats : stats.getShardStats()) {
+                if (shardStats.getShardId().equals(slowShard)) {
+                    assertEquals(600, shardStats.getCurrentPrimaryBytes());
+                    assertEquals(600, shardStats.getCurrentReplicaBytes());
+                    assertEquals(2, shardStats.getOutstandingRequests());
+                    assertEquals(3, shardStats.getTotalRequests());
+                    assertEquals(1, shardStats.getPrimaryRejections());
+                    assertEquals(1, shardStats.getReplicaRejections());
+                } else {
+                    assertEquals(healthyShard, shardStats.getShardId());
+                    assertEquals(0, shardStats.getOutstandingRequests());
+                    assertEquals(1, shardStats.getTotalRequests());
+                    assertEquals(0, shardStats.getPrimaryRejections());
+                }
+            }
+        }
+        IndexingPressureStats stats = indexingPressure.stats();
+        assertEquals(0, stats.getCurrentPrimaryBytes());
+        assertEquals(0, stats.getCurrentReplicaBytes());
+    }
+
+    public void testShardLevelStatsDisabledByDefault() {
+        IndexingPressure indexingPressure = new IndexingPressure(settings);
+        indexingPressure.markPrimaryOperationStarted(new ShardId("index", "_na_", 0), 10, false).close();
+        assertNull(indexingPressure.stats().getShardStats());
+    }
 }
@@ -31,6 +31,7 @@
 
 package org.opensearch.index;
 
+import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.index.NoMergePolicy;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
@@ -77,6 +78,33 @@ public class MergePolicySettingsTests extends OpenSearchTestCase {
         assertTrue(mp.getMergePolicy() instanceof NoMergePolicy);
     }
 
+    public void testLogByteSizeMergePolicy() {
+        IndexSettings indexSettings = indexSettings(Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), MergePolicyConfig.LOG_BYTE_SIZE_MERGE_POLICY)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGE_AT_ONCE_SETTING.getKey(), 5)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGED_SEGMENT_SETTING.getKey(), "1gb")
+            .build());
+        LogByteSizeMergePolicy mergePolicy = (LogByteSizeMergePolicy) indexSettings.getMergePolicy();
+        assertThat(mergePolicy.getMergeFactor(), equalTo(5));
+        assertEquals(mergePolicy.getMaxMergeMB(), 1024, 0.0d);
+        assertEquals(mergePolicy.getMinMergeMB(), MergePolicyConfig.DEFAULT_FLOOR_SEGMENT.getMbFrac(), 0.0d);
+        assertThat(mergePolicy.getNoCFSRatio(), equalTo(0.1));
+
+        indexSettings.updateIndexMetadata(newIndexMeta("index", Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), MergePolicyConfig.LOG_BYTE_SIZE_MERGE_POLICY)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGE_AT_ONCE_SETTING.getKey(), 8)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_FLOOR_SEGMENT_SETTING.getKey(), "4mb")
+            .build()));
+        assertSame(mergePolicy, indexSettings.getMergePolicy());
+        assertThat(mergePolicy.getMergeFactor(), equalTo(8));
+        assertEquals(mergePolicy.getMinMergeMB(), 4, 0.0d);
+        assertEquals(mergePolicy.getMaxMergeMB(), MergePolicyConfig.DEFAULT_MAX_MERGED_SEGMENT.getMbFrac(), 0.0d);
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> indexSettings(Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), "log_doc").build()));
+        assertThat(e.getMessage(), containsString("unknown merge policy type [log_doc]"));
+    }
+
     public void testUpdateSettings() throws IOException {
         IndexSettings indexSettings = indexSettings(EMPTY_SETTINGS);
         assertThat(indexSettings.getMergePolicy().getNoCFSRatio(), equalTo(0.1));
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.OutputStreamIndexOutput;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.replication.ReplicationType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class NRTReplicationEngineTests extends EngineTestCase {
+
+    @Override
+    protected Settings indexSettings() {
+        return Settings.builder()
+            .put(super.indexSettings())
+            .put(IndexMetadata.SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT.toString())
+            .build();
+    }
+
+    public void testOperationsAreOnlyAddedToTheTranslog() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        final EngineConfig config = config(defaultSettings, storeReplica, replicaTranslogDir, newMergePolicy(), null, null,
+            globalCheckpoint::get);
+        try (NRTReplicationEngine nrtEngine = new NRTReplicationEngine(config)) {
+            final int numDocs = randomIntBetween(1, 100);
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), new BytesArray("{}"), null);
+                final Engine.IndexResult result = nrtEngine.index(replicaIndexForDoc(doc, 1, i, false));
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+                assertNotNull(result.getTranslogLocation());
+            }
+            nrtEngine.refresh("test");
+            assertThat(countDocs(nrtEngine), equalTo(0));
+            assertThat(nrtEngine.getProcessedLocalCheckpoint(), equalTo((long) numDocs - 1));
+            assertThat(nrtEngine.getSeqNoStats(globalCheckpoint.get()).getMaxSeqNo(), equalTo((long) numDocs - 1));
+            assertThat(nrtEngine.getTranslogStats().getUncommittedOperations(), equalTo(numDocs));
+            nrtEngine.syncTranslog();
+            assertThat(nrtEngine.getPersistedLocalCheckpoint(), equalTo((long) numDocs - 1));
+        }
+    }
+
+    public void testUpdateSegmentsDoesNotCommit() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        final EngineConfig config = config(defaultSettings, storeReplica, replicaTranslogDir, newMergePolicy(), null, null,
+            globalCheckpoint::get);
+        final SegmentInfos commitBefore = storeReplica.readLastCommittedSegmentsInfo();
+        try (NRTReplicationEngine nrtEngine = new NRTReplicationEngine(config)) {
+            final int numDocs = randomIntBetween(1, 100);
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), new BytesArray("{}"), null);
+                engine.index(replicaIndexForDoc(doc, 1, i, false));
+                nrtEngine.index(replicaIndexForDoc(doc, 1, i, false));
+            }
+            engine.refresh("test");
+            nrtEngine.updateSegments(copySegments(engine, store, nrtEngine, storeReplica));
+            assertThat(countDocs(nrtEngine), equalTo(numDocs));
+
+            // deletes are written to disk by the primary and copied along with the segments
+            final int numDeletes = randomIntBetween(1, numDocs);
+            for (int i = 0; i < numDeletes; i++) {
+                final Engine.Delete delete = replicaDeleteForDoc(Integer.toString(i), 2, numDocs + i, System.nanoTime());
+                engine.delete(delete);
+                nrtEngine.delete(delete);
+            }
+            engine.refresh("test");
+            nrtEngine.updateSegments(copySegments(engine, store, nrtEngine, storeReplica));
+            assertThat(countDocs(nrtEngine), equalTo(numDocs - numDeletes));
+
+            // the replica did not commit, its last commit is its initial one or the initial one of the primary, which was copied
+            final SegmentInfos commitAfter = storeReplica.readLastCommittedSegmentsInfo();
+            assertTrue(Arrays.equals(commitBefore.getId(), commitAfter.getId())
+                || Arrays.equals(store.readLastCommittedSegmentsInfo().getId(), commitAfter.getId()));
+            assertThat(commitAfter.totalMaxDoc(), equalTo(0));
+            assertThat(nrtEngine.getTranslogStats().getUncommittedOperations(), equalTo(numDocs + numDeletes));
+        }
+    }
+
+    public void testUpdateSegmentsInstallsTheCommitOfThePrimary() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        final EngineConfig config = config(defaultSettings, storeReplica, replicaTranslogDir, newMergePolicy(), null, null,
+            globalCheckpoint::get);
+        try (NRTReplicationEngine nrtEngine = new NRTReplicationEngine(config)) {
+            final String translogUUID = nrtEngine.getTranslogUUID();
+            final int numDocs = randomIntBetween(1, 100);
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), new BytesArray("{}"), null);
+                engine.index(replicaIndexForDoc(doc, 1, i, false));
+                nrtEngine.index(replicaIndexForDoc(doc, 1, i, false));
+            }
+            globalCheckpoint.set(numDocs - 1);
+            engine.flush();
+            nrtEngine.syncTranslog();
+            nrtEngine.updateSegments(copySegments(engine, store, nrtEngine, storeReplica));
+
+            assertThat(countDocs(nrtEngine), equalTo(numDocs));
+            assertThat(nrtEngine.getHistoryUUID(), equalTo(engine.getHistoryUUID()));
+            assertThat(nrtEngine.getTranslogStats().getUncommittedOperations(), equalTo(0));
+            assertThat(nrtEngine.getProcessedLocalCheckpoint(), equalTo((long) numDocs - 1));
+            // the copied commit is the one of the primary, it is not associated with the translog of the replica
+            final SegmentInfos lastCommit = storeReplica.readLastCommittedSegmentsInfo();
+            assertArrayEquals(store.readLastCommittedSegmentsInfo().getId(), lastCommit.getId());
+            assertThat(lastCommit.getUserData().get(Translog.TRANSLOG_UUID_KEY), not(equalTo(translogUUID)));
+            assertThat(nrtEngine.getTranslogUUID(), equalTo(translogUUID));
+        }
+    }
+
+    public void testPromotionReplaysTheOperationsThatAreNotCommitted() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        final EngineConfig config = config(defaultSettings, storeReplica, replicaTranslogDir, newMergePolicy(), null, null,
+            globalCheckpoint::get);
+        final int numCommittedDocs = randomIntBetween(0, 50);
+        final int numDocs = numCommittedDocs + randomIntBetween(1, 50);
+        final String translogUUID;
+        try (NRTReplicationEngine nrtEngine = new NRTReplicationEngine(config)) {
+            translogUUID = nrtEngine.getTranslogUUID();
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), new BytesArray("{}"), null);
+                engine.index(replicaIndexForDoc(doc, 1, i, false));
+                nrtEngine.index(replicaIndexForDoc(doc, 1, i, false));
+                if (i == numCommittedDocs - 1) {
+                    engine.flush();
+                }
+            }
+            engine.refresh("test");
+            nrtEngine.syncTranslog();
+            nrtEngine.updateSegments(copySegments(engine, store, nrtEngine, storeReplica));
+            assertThat(countDocs(nrtEngine), equalTo(numDocs));
+        }
+        // what IndexShard#resetToWriteableEngine does when the replica is promoted
+        if (translogUUID.equals(storeReplica.readLastCommittedSegmentsInfo().getUserData().get(Translog.TRANSLOG_UUID_KEY)) == false) {
+            storeReplica.associateIndexWithNewTranslog(translogUUID);
+        }
+        try (InternalEngine promotedEngine = new InternalEngine(config)) {
+            promotedEngine.recoverFromTranslog(translogHandler, Long.MAX_VALUE);
+            promotedEngine.refresh("test");
+            assertThat(promotedEngine.getProcessedLocalCheckpoint(), equalTo((long) numDocs - 1));
+            assertThat(countDocs(promotedEngine), equalTo(numDocs));
+        }
+    }
+
+    /**
+     * Copies the files of the last commit of the primary and of the segments that it searches that the replica misses, as the
+     * segment replication target service does, and returns the segment infos of the primary read from the replica's store.
+     */
+    private static SegmentInfos copySegments(Engine primary, Store source, NRTReplicationEngine replica, Store target)
+        throws IOException {
+        try (Engine.IndexCommitRef commitRef = primary.acquireLastIndexCommit(false);
+             Engine.Searcher searcher = primary.acquireSearcher("test", Engine.SearcherScope.EXTERNAL)) {
+            final SegmentInfos infos =
+                ((StandardDirectoryReader) FilterDirectoryReader.unwrap(searcher.getDirectoryReader())).getSegmentInfos();
+            final Map<String, StoreFileMetadata> sourceFiles = new HashMap<>(source.getMetadata(commitRef.getIndexCommit()).asMap());
+            sourceFiles.putAll(source.getSegmentMetadataMap(infos));
+            final Map<String, StoreFileMetadata> targetFiles = new HashMap<>(target.getMetadata(null).asMap());
+            targetFiles.putAll(target.getSegmentMetadataMap(replica.getLatestSegmentInfos()));
+            final Store.RecoveryDiff diff = new Store.MetadataSnapshot(sourceFiles, Collections.emptyMap(), 0)
+                .recoveryDiff(new Store.MetadataSnapshot(targetFiles, Collections.emptyMap(), 0));
+            final List<StoreFileMetadata> files = new ArrayList<>(diff.different);
+            files.addAll(diff.missing);
+            final List<String> existingFiles = Arrays.asList(target.directory().listAll());
+            for (StoreFileMetadata file : files) {
+                if (existingFiles.contains(file.name())) {
+                    target.directory().deleteFile(file.name());
+                }
+                target.directory().copyFrom(source.directory(), file.name(), file.name(), IOContext.DEFAULT);
+            }
+            final BytesReference bytes;
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                try (OutputStreamIndexOutput indexOutput = new OutputStreamIndexOutput("test", "segment_infos", out, 4096)) {
+                    infos.write(source.directory(), indexOutput);
+                }
+                bytes = out.bytes();
+            }
+            return SegmentInfos.readCommit(target.directory(),
+                new BufferedChecksumIndexInput(new ByteArrayIndexInput("test", BytesReference.toBytes(bytes))), infos.getGeneration());
+        }
+    }
+
+    private static int countDocs(Engine engine) throws IOException {
+        try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+            final TotalHitCountCollector collector = new TotalHitCountCollector();
+            searcher.search(new MatchAllDocsQuery(), collector);
+            return collector.getTotalHits();
+        }
+    }
+}
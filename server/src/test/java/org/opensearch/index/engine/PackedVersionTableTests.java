@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class PackedVersionTableTests extends OpenSearchTestCase {
+
+    public void testMatchesMap() {
+        final PackedVersionTable table = new PackedVersionTable();
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(Uid.encodeId(randomBoolean() ? UUIDs.randomBase64UUID(random()) : Integer.toString(i)));
+        }
+        long ramBytesUsed = 0;
+        final int numOps = randomIntBetween(1, 10000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomFrom(uids);
+            if (randomInt(10) == 0) {
+                assertThat(table.remove(uid), equalTo(0L));
+                expected.remove(uid);
+            } else {
+                final Translog.Location location = randomBoolean()
+                    ? null : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, 1 << 20));
+                final VersionValue value = new IndexVersionValue(location, randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong());
+                ramBytesUsed += table.put(uid, value);
+                expected.put(uid, value);
+            }
+            if (randomInt(100) == 0) {
+                assertThat(table.asMap(), equalTo(expected));
+            }
+        }
+        assertThat(table.size(), equalTo(expected.size()));
+        for (BytesRef uid : uids) {
+            assertThat(table.get(uid), equalTo(expected.get(uid)));
+        }
+        assertThat(table.asMap(), equalTo(expected));
+        assertThat(ramBytesUsed, greaterThan(0L));
+    }
+
+    public void testConcurrentReads() throws Exception {
+        final PackedVersionTable table = new PackedVersionTable();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 5000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(Uid.encodeId(UUIDs.randomBase64UUID(random())));
+        }
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<AssertionError> failure = new AtomicReference<>();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] readers = new Thread[randomIntBetween(1, 4)];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                // every value is written with the same number for all of its fields, so a torn read can't go unnoticed
+                final long[] lastVersions = new long[numUids];
+                try {
+                    while (done.get() == false) {
+                        for (int uid = 0; uid < numUids; uid++) {
+                            final VersionValue value = table.get(uids.get(uid));
+                            if (value != null) {
+                                assertThat(value.seqNo, equalTo(value.version));
+                                assertThat(value.term, equalTo(value.version));
+                                assertThat(value.getLocation(), equalTo(new Translog.Location(value.version, value.version, uid)));
+                                assertThat(value.version, greaterThanOrEqualTo(lastVersions[uid]));
+                                lastVersions[uid] = value.version;
+                            }
+                        }
+                    }
+                } catch (AssertionError e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            readers[i].start();
+        }
+        startLatch.countDown();
+        try {
+            final int numOps = randomIntBetween(1000, 20000);
+            for (long version = 1; version <= numOps; version++) {
+                final int uid = randomIntBetween(0, numUids - 1);
+                table.put(uids.get(uid), new IndexVersionValue(new Translog.Location(version, version, uid), version, version, version));
+            }
+        } finally {
+            done.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    public void testRejectsDeletes() {
+        final PackedVersionTable table = new PackedVersionTable();
+        expectThrows(IllegalArgumentException.class,
+            () -> table.put(Uid.encodeId("1"), new DeleteVersionValue(1, 1, 1, 1)));
+    }
+
+    public void testRefreshWithPackedVersionMap() throws IOException {
+        final LiveVersionMap map = new LiveVersionMap(true);
+        map.enforceSafeAccess();
+        final BytesRef uid = Uid.encodeId("1");
+        final IndexVersionValue value = new IndexVersionValue(null, 1, 1, 1);
+        try (Releasable ignore = map.acquireLock(uid)) {
+            map.putIndexUnderLock(uid, value);
+            assertThat(map.getUnderLock(uid), equalTo(value));
+        }
+        final long ramBytesUsed = map.ramBytesUsedForRefresh();
+        assertThat(ramBytesUsed, greaterThan(0L));
+        map.beforeRefresh();
+        assertThat(map.getRefreshingBytes(), equalTo(ramBytesUsed));
+        assertThat(map.ramBytesUsedForRefresh(), equalTo(0L));
+        try (Releasable ignore = map.acquireLock(uid)) {
+            assertThat(map.getUnderLock(uid), equalTo(value));
+        }
+        map.afterRefresh(true);
+        assertThat(map.getRefreshingBytes(), equalTo(0L));
+        try (Releasable ignore = map.acquireLock(uid)) {
+            assertThat(map.getUnderLock(uid), nullValue());
+            final DeleteVersionValue delete = new DeleteVersionValue(2, 2, 1, 1);
+            map.putDeleteUnderLock(uid, delete);
+            assertThat(map.getUnderLock(uid), equalTo(delete));
+        }
+    }
+}
@@ -41,20 +41,32 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
 import org.opensearch.index.fielddata.plain.AbstractLeafOrdinalsFieldData;
 import org.opensearch.index.fielddata.plain.PagedBytesIndexFieldData;
 import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.FieldMaskingReader;
 
+import java.io.IOException;
+import java.util.Collections;
+
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class FieldDataCacheTests extends OpenSearchTestCase {
 
@@ -97,6 +109,67 @@ public class FieldDataCacheTests extends OpenSearchTestCase {
         dir.close();
     }
 
+    public void testIncrementalGlobalOrdinalsAreAccountedInTheBreaker() throws Exception {
+        final ShardId shardId = new ShardId("_index", "_na_", 0);
+        final CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(Settings.EMPTY, Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        final CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.FIELDDATA);
+        final Settings settings = Settings.builder()
+            .put(IndicesFieldDataCache.INDICES_FIELDDATA_INCREMENTAL_GLOBAL_ORDINALS_SETTING.getKey(), true)
+            .build();
+        final IndicesFieldDataCache indicesFieldDataCache = new IndicesFieldDataCache(settings, new IndexFieldDataCache.Listener() {
+            @Override
+            public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
+                breaker.addWithoutBreaking(-sizeInBytes);
+            }
+        }, breakerService);
+        final IndexFieldDataCache cache =
+            indicesFieldDataCache.buildIndexFieldDataCache(new IndexFieldDataCache.Listener() {}, shardId.getIndex(), "field1");
+        final SortedSetOrdinalsIndexFieldData fieldData = new SortedSetOrdinalsIndexFieldData(cache, "field1",
+            CoreValuesSourceType.BYTES, breakerService, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION);
+
+        try (Directory dir = newDirectory();
+             IndexWriter iw = new IndexWriter(dir, new IndexWriterConfig(null).setMergePolicy(NoMergePolicy.INSTANCE))) {
+            addSegment(iw);
+            addSegment(iw);
+            final DirectoryReader firstReader = DirectoryReader.open(iw);
+            final DirectoryReader first = OpenSearchDirectoryReader.wrap(firstReader, shardId);
+            final GlobalOrdinalsIndexFieldData firstGlobal = (GlobalOrdinalsIndexFieldData) cache.load(first, fieldData);
+            final long firstBytes = firstGlobal.getIncrementalOrdinalMap().ramBytesUsed();
+            // the cached global ordinals and the ones retained for the next reader of the shard
+            assertThat(breaker.getUsed(), equalTo(2 * firstBytes));
+
+            addSegment(iw);
+            final DirectoryReader second = OpenSearchDirectoryReader.wrap(DirectoryReader.openIfChanged(firstReader, iw), shardId);
+            final GlobalOrdinalsIndexFieldData secondGlobal = (GlobalOrdinalsIndexFieldData) cache.load(second, fieldData);
+            assertTrue(secondGlobal.getIncrementalOrdinalMap().isIncremental());
+            final long secondBytes = secondGlobal.getIncrementalOrdinalMap().ramBytesUsed();
+            assertThat(breaker.getUsed(), equalTo(firstBytes + 2 * secondBytes));
+
+            // the ordinal map over all segments is built once and accounted until the global ordinals are evicted
+            final OrdinalMap ordinalMap = fieldData.loadGlobal(second).getOrdinalMap();
+            assertThat(fieldData.loadGlobal(second).getOrdinalMap(), sameInstance(ordinalMap));
+            assertThat(secondGlobal.getOrdinalMap(), sameInstance(ordinalMap));
+            assertThat(breaker.getUsed(), equalTo(firstBytes + 2 * secondBytes + ordinalMap.ramBytesUsed()));
+
+            first.close();
+            second.close();
+            assertThat(breaker.getUsed(), equalTo(secondBytes));
+            cache.clear(shardId);
+            assertThat(breaker.getUsed(), equalTo(0L));
+        }
+    }
+
+    private void addSegment(IndexWriter iw) throws IOException {
+        final int numDocs = randomIntBetween(1, 32);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new SortedSetDocValuesField("field1", new BytesRef(randomAlphaOfLengthBetween(1, 3))));
+            iw.addDocument(doc);
+        }
+        iw.flush();
+    }
+
     private SortedSetOrdinalsIndexFieldData createSortedDV(String fieldName, IndexFieldDataCache indexFieldDataCache) {
         return new SortedSetOrdinalsIndexFieldData(indexFieldDataCache, fieldName, CoreValuesSourceType.BYTES,
             new NoneCircuitBreakerService(), AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION);
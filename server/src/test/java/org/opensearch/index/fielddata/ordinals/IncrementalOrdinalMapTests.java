@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class IncrementalOrdinalMapTests extends OpenSearchTestCase {
+
+    public void testExtendMatchesFullBuild() throws IOException {
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            addSegment(writer);
+            DirectoryReader reader = DirectoryReader.open(writer);
+            IncrementalOrdinalMap map = IncrementalOrdinalMap.build(segmentKeys(reader), subs(reader));
+            assertFalse(map.isIncremental());
+            try {
+                final int numRefreshes = randomIntBetween(1, 10);
+                for (int i = 0; i < numRefreshes; i++) {
+                    assertThat(IncrementalOrdinalMap.extend(map, segmentKeys(reader), subs(reader)), sameInstance(map));
+                    addSegment(writer);
+                    final DirectoryReader newReader = DirectoryReader.openIfChanged(reader, writer);
+                    assertNotNull(newReader);
+                    reader.close();
+                    reader = newReader;
+                    final IncrementalOrdinalMap extended = IncrementalOrdinalMap.extend(map, segmentKeys(reader), subs(reader));
+                    assertNotNull(extended);
+                    assertTrue(extended.isIncremental());
+                    assertSameMapping(reader, extended);
+                    map = extended;
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    public void testExtendAfterMergeRebuilds() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            addSegment(writer);
+            addSegment(writer);
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final IncrementalOrdinalMap map = IncrementalOrdinalMap.build(segmentKeys(reader), subs(reader));
+                writer.forceMerge(1);
+                try (DirectoryReader merged = DirectoryReader.openIfChanged(reader, writer)) {
+                    assertNotNull(merged);
+                    assertNull(IncrementalOrdinalMap.extend(map, segmentKeys(merged), subs(merged)));
+                }
+            }
+        }
+    }
+
+    private void addSegment(IndexWriter writer) throws IOException {
+        final int numDocs = randomIntBetween(1, 50);
+        for (int i = 0; i < numDocs; i++) {
+            final Document doc = new Document();
+            final int numValues = randomIntBetween(0, 3);
+            for (int j = 0; j < numValues; j++) {
+                doc.add(new SortedSetDocValuesField("field", new BytesRef(randomAlphaOfLengthBetween(1, 3))));
+            }
+            writer.addDocument(doc);
+        }
+        writer.flush();
+    }
+
+    private static IndexReader.CacheKey[] segmentKeys(IndexReader reader) {
+        final IndexReader.CacheKey[] keys = new IndexReader.CacheKey[reader.leaves().size()];
+        for (LeafReaderContext leaf : reader.leaves()) {
+            keys[leaf.ord] = leaf.reader().getCoreCacheHelper().getKey();
+        }
+        return keys;
+    }
+
+    private static SortedSetDocValues[] subs(IndexReader reader) throws IOException {
+        final SortedSetDocValues[] subs = new SortedSetDocValues[reader.leaves().size()];
+        for (LeafReaderContext leaf : reader.leaves()) {
+            subs[leaf.ord] = DocValues.getSortedSet(leaf.reader(), "field");
+        }
+        return subs;
+    }
+
+    private static void assertSameMapping(IndexReader reader, IncrementalOrdinalMap map) throws IOException {
+        final SortedSetDocValues[] subs = subs(reader);
+        final OrdinalMap expected = OrdinalMap.build(null, subs(reader), PackedInts.DEFAULT);
+        assertThat(map.getValueCount(), equalTo(expected.getValueCount()));
+        for (int segment = 0; segment < subs.length; segment++) {
+            final LongValues expectedGlobalOrds = expected.getGlobalOrds(segment);
+            final LongValues globalOrds = map.getGlobalOrds(segment);
+            for (long ord = 0; ord < subs[segment].getValueCount(); ord++) {
+                assertThat(globalOrds.get(ord), equalTo(expectedGlobalOrds.get(ord)));
+            }
+        }
+        for (long globalOrd = 0; globalOrd < expected.getValueCount(); globalOrd++) {
+            final int expectedSegment = expected.getFirstSegmentNumber(globalOrd);
+            final BytesRef expectedTerm = BytesRef.deepCopyOf(
+                subs[expectedSegment].lookupOrd(expected.getFirstSegmentOrd(globalOrd)));
+            final int segment = map.getFirstSegmentNumber(globalOrd);
+            assertThat(subs[segment].lookupOrd(map.getFirstSegmentOrd(globalOrd)), equalTo(expectedTerm));
+        }
+    }
+}
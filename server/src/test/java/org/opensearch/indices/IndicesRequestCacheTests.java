@@ -287,6 +287,78 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testSpillToDiskAndPromote() throws Exception {
+        ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+                new ShardId("foo", "bar", 1));
+            BytesReference termBytes = XContentHelper.toXContent(new TermQueryBuilder("id", "0"), XContentType.JSON, false);
+            cache.getOrCompute(new TestEntity(requestCacheStats, new AtomicBoolean(true)), new Loader(reader, 0), reader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, writer, dir, cache);
+        }
+        // the heap only holds a single entry
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+            .put(IndicesRequestCache.INDICES_CACHE_DISK_SIZE.getKey(), "1mb")
+            .build(), createTempDir());
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+
+        BytesReference value1 = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0),
+            reader, termBytes);
+        assertEquals("foo", value1.streamInput().readString());
+        BytesReference value2 = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0),
+            secondReader, termBytes);
+        assertEquals("bar", value2.streamInput().readString());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(value1.length(), requestCacheStats.stats().getDiskSizeInBytes());
+        assertEquals(2, requestCacheStats.stats().getDiskMissCount());
+
+        // the first entry is promoted back to the heap and the second one is spilled
+        Loader loader = new Loader(reader, 0);
+        value1 = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), loader, reader, termBytes);
+        assertEquals("foo", value1.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, requestCacheStats.stats().getDiskHitCount());
+        assertEquals(0, requestCacheStats.stats().getDiskEvictions());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(value2.length(), requestCacheStats.stats().getDiskSizeInBytes());
+
+        // closing a reader invalidates its entries in both tiers
+        secondReader.close();
+        cache.cleanCache();
+        assertEquals(1, cache.count());
+        assertEquals(0, cache.diskCount());
+        assertEquals(0, requestCacheStats.stats().getDiskSizeInBytes());
+
+        reader.close();
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, requestCacheStats.stats().getMemorySize().bytesAsInt());
+        IOUtils.close(writer, dir, cache);
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard =  new AtomicBoolean(true);
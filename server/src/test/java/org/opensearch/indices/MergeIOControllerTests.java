@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class MergeIOControllerTests extends OpenSearchTestCase {
+
+    public void testUnlimitedUntilOverloaded() {
+        assertThat(MergeIOController.nextBudget(Double.POSITIVE_INFINITY, false, 100, randomBoolean()),
+            equalTo(Double.POSITIVE_INFINITY));
+    }
+
+    public void testShrinksBelowThroughputWhenOverloaded() {
+        assertThat(MergeIOController.nextBudget(Double.POSITIVE_INFINITY, true, 200, randomBoolean()), closeTo(150, 0.001));
+        // the budget never drops below what the devices currently do
+        assertThat(MergeIOController.nextBudget(100, true, 200, randomBoolean()), closeTo(75, 0.001));
+        assertThat(MergeIOController.nextBudget(6, true, 200, randomBoolean()), equalTo(MergeIOController.MIN_MB_PER_SEC));
+    }
+
+    public void testGrowsWhileMergesWait() {
+        assertThat(MergeIOController.nextBudget(100, false, 50, false), equalTo(100.0));
+        assertThat(MergeIOController.nextBudget(100, false, 50, true), closeTo(120, 0.001));
+        assertThat(MergeIOController.nextBudget(MergeIOController.MAX_MB_PER_SEC, false, 50, true), equalTo(Double.POSITIVE_INFINITY));
+    }
+
+    public void testSharesFavorHotShardsWithManySegments() {
+        double[] shares = MergeIOController.shares(100, new long[] { 10, 30, 10 }, new double[] { 0, 0, 2 });
+        assertThat(shares[0], closeTo(100.0 * 10 / 70, 0.001));
+        assertThat(shares[1], closeTo(100.0 * 30 / 70, 0.001));
+        assertThat(shares[2], closeTo(100.0 * 30 / 70, 0.001));
+
+        shares = MergeIOController.shares(20, new long[] { 1, 100 }, new double[] { 0, 10 });
+        assertThat(shares[0], equalTo(MergeIOController.MIN_MB_PER_SEC));
+        assertThat(shares[1], greaterThan(MergeIOController.MIN_MB_PER_SEC));
+
+        shares = MergeIOController.shares(Double.POSITIVE_INFINITY, new long[] { 1, 100 }, new double[] { 0, 10 });
+        assertThat(shares[0], equalTo(Double.POSITIVE_INFINITY));
+        assertThat(shares[1], equalTo(Double.POSITIVE_INFINITY));
+    }
+}
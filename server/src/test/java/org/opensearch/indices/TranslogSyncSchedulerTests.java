@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.translog.TranslogStats;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TranslogSyncSchedulerTests extends IndexShardTestCase {
+
+    public void testDisabledByDefault() {
+        assertFalse(new TranslogSyncScheduler(Settings.EMPTY, threadPool).isEnabled());
+    }
+
+    public void testSyncsAreGroupedPerShard() throws Exception {
+        final TranslogSyncScheduler scheduler = new TranslogSyncScheduler(Settings.builder()
+            .put(TranslogSyncScheduler.GROUP_COMMIT_ENABLED_SETTING.getKey(), true)
+            .put(TranslogSyncScheduler.GROUP_COMMIT_WINDOW_SETTING.getKey(), randomFrom("0ms", "5ms", "50ms"))
+            .build(), threadPool);
+        assertTrue(scheduler.isEnabled());
+        final IndexShard first = newStartedShard(true);
+        final IndexShard second = newStartedShard(true);
+        try {
+            first.setTranslogSyncScheduler(scheduler);
+            second.setTranslogSyncScheduler(scheduler);
+            final int numDocs = randomIntBetween(1, 20);
+            final CountDownLatch latch = new CountDownLatch(2 * numDocs);
+            final List<Exception> failures = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < numDocs; i++) {
+                for (IndexShard shard : new IndexShard[] { first, second }) {
+                    final Engine.IndexResult result = indexDoc(shard, "_doc", Integer.toString(i));
+                    shard.sync(result.getTranslogLocation(), e -> {
+                        if (e != null) {
+                            failures.add(e);
+                        }
+                        latch.countDown();
+                    });
+                }
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+            assertThat(failures, equalTo(List.of()));
+            for (IndexShard shard : new IndexShard[] { first, second }) {
+                assertFalse(shard.isSyncNeeded());
+                final TranslogStats translogStats = shard.translogStats();
+                assertThat(translogStats.getSyncedLocations(), equalTo((long) numDocs));
+                assertThat(translogStats.getSyncCount(), greaterThan(0L));
+                assertThat(translogStats.getSyncCount(), lessThanOrEqualTo((long) numDocs));
+            }
+        } finally {
+            closeShards(first, second);
+        }
+    }
+}
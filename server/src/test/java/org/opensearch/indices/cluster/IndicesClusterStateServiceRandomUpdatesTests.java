@@ -526,6 +526,7 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
                 null,
                 null,
                 null,
+                null,
                 primaryReplicaSyncer,
                 s -> {},
                 RetentionLeaseSyncer.EMPTY);
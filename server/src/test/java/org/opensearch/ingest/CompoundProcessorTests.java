@@ -36,9 +36,11 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -377,6 +379,43 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testBatchExecuteRecordsTheTimeOncePerBatch() throws Exception {
+        final int batchSize = randomIntBetween(2, 16);
+        final List<IngestDocument> ingestDocuments = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            ingestDocuments.add(new IngestDocument(new HashMap<>(), new HashMap<>()));
+        }
+        LongSupplier processorTimeProvider = mock(LongSupplier.class);
+        when(processorTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(1));
+        LongSupplier pipelineTimeProvider = mock(LongSupplier.class);
+        when(pipelineTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(2));
+        TestProcessor processor = new TestProcessor(ingestDocument -> {});
+        CompoundProcessor compoundProcessor = new CompoundProcessor(processorTimeProvider, processor);
+        Pipeline pipeline = new Pipeline("_id", null, null, compoundProcessor, pipelineTimeProvider);
+
+        final int[] handedBack = new int[batchSize];
+        pipeline.batchExecute(ingestDocuments, (slot, result, e) -> {
+            assertThat(e, nullValue());
+            handedBack[slot]++;
+        });
+        for (int i = 0; i < batchSize; i++) {
+            assertThat(handedBack[i], equalTo(1));
+        }
+        assertThat(processor.getInvokedCounter(), equalTo(batchSize));
+        verify(processorTimeProvider, times(2)).getAsLong();
+        verify(pipelineTimeProvider, times(2)).getAsLong();
+
+        assertStats(compoundProcessor, batchSize, 0, 1);
+        IngestStats.Stats processorStats = compoundProcessor.getProcessorsWithMetrics().get(0).v2().createStats();
+        assertThat(processorStats.getIngestBatchCount(), equalTo(1L));
+        assertThat(processorStats.getIngestBatchDocCount(), equalTo((long) batchSize));
+        IngestStats.Stats pipelineStats = pipeline.getMetrics().createStats();
+        assertThat(pipelineStats.getIngestCount(), equalTo((long) batchSize));
+        assertThat(pipelineStats.getIngestCurrent(), equalTo(0L));
+        assertThat(pipelineStats.getIngestTimeInMillis(), equalTo(2L));
+        assertThat(pipelineStats.getIngestBatchCount(), equalTo(1L));
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count,  long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
@@ -83,6 +83,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.invocation.InvocationOnMock;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -1058,6 +1059,76 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBulkRequestExecutionInBatches() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        String pipelineId = "_id";
+        int numRequest = 10;
+        for (int i = 0; i < numRequest; i++) {
+            String id = i == 5 ? "fail" : Integer.toString(i);
+            IndexRequest indexRequest = new IndexRequest("_index", "_type", id).setPipeline(pipelineId).setFinalPipeline("_none");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", "value1");
+            bulkRequest.add(indexRequest);
+        }
+
+        final List<Integer> batchSizes = new ArrayList<>();
+        final Processor processor = new AbstractProcessor("batchTag", null) {
+            @Override
+            public void batchExecute(List<IngestDocument> ingestDocuments, BatchHandler handler) {
+                batchSizes.add(ingestDocuments.size());
+                for (int i = 0; i < ingestDocuments.size(); i++) {
+                    IngestDocument ingestDocument = ingestDocuments.get(i);
+                    if ("fail".equals(ingestDocument.getSourceAndMetadata().get(IngestDocument.Metadata.ID.getFieldName()))) {
+                        handler.accept(i, null, new RuntimeException("error"));
+                    } else {
+                        ingestDocument.setFieldValue("batched", true);
+                        handler.accept(i, ingestDocument, null);
+                    }
+                }
+            }
+
+            @Override
+            public IngestDocument execute(IngestDocument ingestDocument) {
+                throw new UnsupportedOperationException("documents should be executed in batches");
+            }
+
+            @Override
+            public String getType() {
+                return "batch";
+            }
+        };
+        Map<String, Processor.Factory> map = new HashMap<>(2);
+        map.put("batch", (factories, tag, description, config) -> processor);
+
+        IngestService ingestService = createWithProcessors(map);
+        ingestService.setBatchSize(4);
+        PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+            new BytesArray("{\"processors\": [{\"batch\": {}}], \"description\": \"_description\"}"), XContentType.JSON);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        @SuppressWarnings("unchecked")
+        BiConsumer<Integer, Exception> requestItemErrorHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), requestItemErrorHandler, completionHandler, indexReq -> {},
+            Names.WRITE);
+
+        assertThat(batchSizes, equalTo(Arrays.asList(4, 4, 2)));
+        verify(requestItemErrorHandler, times(1)).accept(eq(5), any(IngestProcessorException.class));
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(bulkRequest.requests().get(i));
+            assertThat(indexRequest.sourceAsMap().get("batched"), i == 5 ? nullValue() : equalTo(true));
+        }
+
+        IngestStats.Stats processorStats = ingestService.stats().getProcessorStats().get(pipelineId).get(0).getStats();
+        assertStats(processorStats, numRequest, 1, 0);
+        assertThat(processorStats.getIngestBatchCount(), equalTo(3L));
+        assertThat(processorStats.getIngestBatchDocCount(), equalTo((long) numRequest));
+    }
+
     public void testStats() throws Exception {
         final Processor processor = mock(Processor.class);
         final Processor processorFailure = mock(Processor.class);
@@ -72,4 +72,15 @@ public class DeviceStatsTests extends OpenSearchTestCase {
         assertThat(current.writeKilobytes(), equalTo(32768L / 2));
     }
 
+    public void testIOTime() {
+        final long ioTimeInMillis = randomIntBetween(0, 1 << 16);
+        FsInfo.DeviceStats previous = new FsInfo.DeviceStats(8, 0, "sda", 1, 8, 1, 8, ioTimeInMillis, null);
+        assertThat(previous.ioTimeInMillis(), equalTo(-1L));
+        FsInfo.DeviceStats current = new FsInfo.DeviceStats(8, 0, "sda", 2, 16, 2, 16, ioTimeInMillis + 750, previous);
+        assertThat(current.ioTimeInMillis(), equalTo(750L));
+        // devices that were sampled without their IO time don't report one
+        current = new FsInfo.DeviceStats(8, 0, "sda", 2, 16, 2, 16, current);
+        assertThat(current.ioTimeInMillis(), equalTo(-1L));
+    }
+
 }
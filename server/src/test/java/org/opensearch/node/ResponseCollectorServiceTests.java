@@ -41,6 +41,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
@@ -84,6 +85,46 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertThat(nodeStats.get("node1").serviceTime, equalTo(10.0));
     }
 
+    public void testExtendedNodeStats() throws Exception {
+        collector.addNodeStatistics("node1", 1, 100, 10, 0.5, 80);
+        ResponseCollectorService.ComputedNodeStats stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.searchPoolUtilization, equalTo(0.5));
+        assertThat(stats.heapUsedPercent, equalTo(80));
+
+        // values that weren't reported leave the averages as they are
+        collector.addNodeStatistics("node1", 1, 100, 10);
+        stats = collector.getNodeStatistics("node1").get();
+        assertThat(stats.searchPoolUtilization, equalTo(0.5));
+        assertThat(stats.heapUsedPercent, equalTo(80));
+
+        collector.addNodeStatistics("node2", 1, 100, 10);
+        stats = collector.getNodeStatistics("node2").get();
+        assertThat(stats.searchPoolUtilization, equalTo(-1.0));
+        assertThat(stats.heapUsedPercent, equalTo(-1));
+    }
+
+    public void testExtendedSignalsRaiseRank() throws Exception {
+        ResponseCollectorService.ComputedNodeStats idle =
+            new ResponseCollectorService.ComputedNodeStats("node1", 3, 1, 100000000, 50000000, 0.0, 50);
+        ResponseCollectorService.ComputedNodeStats busy =
+            new ResponseCollectorService.ComputedNodeStats("node1", 3, 1, 100000000, 50000000, 1.0, 50);
+        ResponseCollectorService.ComputedNodeStats underHeapPressure =
+            new ResponseCollectorService.ComputedNodeStats("node1", 3, 1, 100000000, 50000000, 0.0, 100);
+        assertThat(idle.rank(1, -1), equalTo(idle.rank(1)));
+        assertThat(busy.rank(1, -1), equalTo(2 * idle.rank(1)));
+        assertThat(underHeapPressure.rank(1, -1), equalTo(2 * idle.rank(1)));
+        assertThat(idle.rank(1, 200000000), greaterThan(idle.rank(1)));
+    }
+
+    public void testShardCopyStats() throws Exception {
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        assertThat(collector.getShardCopyResponseTime("node1", shardId), equalTo(-1.0));
+        collector.addShardCopyStatistics("node1", shardId, 100);
+        assertThat(collector.getShardCopyResponseTime("node1", shardId), equalTo(100.0));
+        assertThat(collector.getShardCopyResponseTime("node2", shardId), equalTo(-1.0));
+        assertThat(collector.getShardCopyResponseTime("node1", new ShardId("index", "_na_", 1)), equalTo(-1.0));
+    }
+
     /*
      * Test that concurrently adding values and removing nodes does not cause exceptions
      */
@@ -150,4 +191,13 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testShardCopyRemoval() throws Exception {
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        collector.addShardCopyStatistics("node1", shardId, randomIntBetween(1, 100));
+        collector.addShardCopyStatistics("node2", shardId, randomIntBetween(1, 100));
+        collector.removeNode("node2");
+        assertThat(collector.getShardCopyResponseTime("node1", shardId), greaterThan(0.0));
+        assertThat(collector.getShardCopyResponseTime("node2", shardId), equalTo(-1.0));
+    }
 }
@@ -35,23 +35,36 @@ package org.opensearch.rest.action.document;
 import org.apache.lucene.util.SetOnce;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.http.HttpIncrementalContent;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestChannel;
 import org.opensearch.test.rest.FakeRestRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -90,4 +103,142 @@ public class RestBulkActionTests extends OpenSearchTestCase {
             assertThat(bulkCalled.get(), equalTo(true));
         }
     }
+
+    public void testIncrementalContent() throws Exception {
+        final int numItems = randomIntBetween(2, 10);
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numItems; i++) {
+            body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n{\"field\":\"value\"}\n");
+        }
+        final byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        final List<BulkRequest> batches = new ArrayList<>();
+        final List<ActionListener<BulkResponse>> batchListeners = new ArrayList<>();
+        final FakeIncrementalContent content = new FakeIncrementalContent(bytes.length);
+        try (NodeClient client = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                batches.add(request);
+                batchListeners.add(listener);
+            }
+        }) {
+            final RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withIncrementalContent(content, XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final FakeRestChannel channel = new FakeRestChannel(request, true, 1);
+            // every item makes a batch of its own
+            final Settings settings = Settings.builder().put("rest.action.bulk.incremental_content.batch_size", "1b").build();
+            new RestBulkAction(settings).handleRequest(request, channel, client);
+            assertNotNull(content.listener);
+
+            int offset = 0;
+            while (offset < bytes.length) {
+                final int length = Math.min(bytes.length - offset, randomIntBetween(1, 64));
+                content.listener.onChunk(new BytesArray(bytes, offset, length), offset + length == bytes.length);
+                offset += length;
+                // only one batch is executed at a time, and reading is paused while the next one waits for it
+                assertThat(batchListeners.size(), lessThanOrEqualTo(1));
+                if (randomBoolean() && batchListeners.isEmpty() == false) {
+                    completeBatch(batches, batchListeners);
+                }
+                assertFalse(content.paused && batchListeners.isEmpty());
+            }
+            final List<String> executedIds = new ArrayList<>();
+            while (batchListeners.isEmpty() == false) {
+                assertNull(channel.capturedResponse());
+                completeBatch(batches, batchListeners);
+            }
+            for (BulkRequest batch : batches) {
+                assertThat(batch.numberOfActions(), equalTo(1));
+                executedIds.add(batch.requests().get(0).id());
+            }
+            final List<String> expectedIds = new ArrayList<>();
+            for (int i = 0; i < numItems; i++) {
+                expectedIds.add(Integer.toString(i));
+            }
+            assertThat(executedIds, equalTo(expectedIds));
+            assertFalse(content.paused);
+
+            assertThat(channel.capturedResponse().status(), equalTo(RestStatus.OK));
+            final Map<String, Object> response = XContentHelper.convertToMap(channel.capturedResponse().content(), false,
+                XContentType.JSON).v2();
+            @SuppressWarnings("unchecked")
+            final List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
+            assertThat(items, hasSize(numItems));
+            for (int i = 0; i < numItems; i++) {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> item = (Map<String, Object>) items.get(i).get("index");
+                assertThat(item.get("_id"), equalTo(Integer.toString(i)));
+            }
+        }
+    }
+
+    public void testIncrementalContentFailsOnMalformedItem() throws Exception {
+        final byte[] item = "{\"index\":{\"_id\":\"1\"}}\n{\"field\":\"value\"}\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] malformedItem = "[]\n{}\n".getBytes(StandardCharsets.UTF_8);
+        final List<BulkRequest> batches = new ArrayList<>();
+        final FakeIncrementalContent content = new FakeIncrementalContent(item.length + malformedItem.length);
+        try (NodeClient client = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                batches.add(request);
+            }
+        }) {
+            final RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_bulk")
+                .withIncrementalContent(content, XContentType.JSON).withMethod(RestRequest.Method.POST).build();
+            final FakeRestChannel channel = new FakeRestChannel(request, true, 1);
+            final Settings settings = Settings.builder().put("rest.action.bulk.incremental_content.batch_size", "1b").build();
+            new RestBulkAction(settings).handleRequest(request, channel, client);
+
+            content.listener.onChunk(new BytesArray(item), false);
+            assertThat(batches, hasSize(1));
+            assertNull(channel.capturedResponse());
+
+            // the batch that was executed before the malformed item was received isn't rolled back
+            content.listener.onChunk(new BytesArray(malformedItem), true);
+            assertThat(batches, hasSize(1));
+            assertThat(channel.capturedResponse().status(), equalTo(RestStatus.BAD_REQUEST));
+        }
+    }
+
+    private static void completeBatch(List<BulkRequest> batches, List<ActionListener<BulkResponse>> batchListeners) {
+        final BulkRequest batch = batches.get(batches.size() - 1);
+        final BulkItemResponse[] items = new BulkItemResponse[batch.numberOfActions()];
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> item = batch.requests().get(i);
+            items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+                new IndexResponse(new ShardId("my_index", "_na_", 0), "_doc", item.id(), 1, 1, 1, true));
+        }
+        batchListeners.remove(0).onResponse(new BulkResponse(items, 1));
+    }
+
+    private static class FakeIncrementalContent implements HttpIncrementalContent {
+
+        private final int length;
+        private Listener listener;
+        private boolean paused;
+
+        FakeIncrementalContent(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public void setListener(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void pause() {
+            paused = true;
+        }
+
+        @Override
+        public void resume() {
+            paused = false;
+        }
+    }
 }
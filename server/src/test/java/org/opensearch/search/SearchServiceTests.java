@@ -91,6 +91,7 @@ import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValueType;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.QueryFetchSearchResult;
 import org.opensearch.search.fetch.ShardFetchRequest;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.ReaderContext;
@@ -1020,6 +1021,60 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testExecuteQueryAndFetchBatch() throws Exception {
+        createIndex("index");
+        final int numDocs = randomIntBetween(2, 10);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("index", "_doc", Integer.toString(i)).setSource("field", "value" + i).get();
+        }
+        client().admin().indices().prepareRefresh("index").get();
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexShard indexShard = indicesService.indexServiceSafe(resolveIndex("index")).getShard(0);
+        final SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+
+        final List<ShardSearchRequest> requests = new ArrayList<>();
+        final List<PlainActionFuture<SearchPhaseResult>> futures = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true)
+                .source(new SearchSourceBuilder().query(new TermQueryBuilder("field", "value" + i)));
+            requests.add(new ShardSearchRequest(OriginalIndices.NONE, searchRequest, indexShard.shardId(), 1,
+                new AliasFilter(null, Strings.EMPTY_ARRAY), 1.0f, -1, null, null));
+            futures.add(new PlainActionFuture<>());
+        }
+        service.executeQueryAndFetchBatch(requests, task, new ArrayList<>(futures));
+
+        for (int i = 0; i < numDocs; i++) {
+            SearchPhaseResult result = futures.get(i).get();
+            assertThat(result, instanceOf(QueryFetchSearchResult.class));
+            assertEquals(1, result.queryResult().getTotalHits().value);
+            assertNotNull(result.fetchResult());
+            assertEquals(1, result.fetchResult().hits().getHits().length);
+            assertEquals(Integer.toString(i), result.fetchResult().hits().getAt(0).getId());
+        }
+        // the reader context is shared by all requests of the batch and freed once the last one is done
+        assertBusy(() -> assertEquals(0, service.getActiveContexts()));
+    }
+
+    public void testExecuteQueryAndFetchBatchOnMissingShard() throws Exception {
+        createIndex("index");
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+        final ShardId missingShard = new ShardId(resolveIndex("index"), 1);
+        final List<ShardSearchRequest> requests = new ArrayList<>();
+        final List<PlainActionFuture<SearchPhaseResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            requests.add(new ShardSearchRequest(OriginalIndices.NONE, new SearchRequest().allowPartialSearchResults(true),
+                missingShard, 2, new AliasFilter(null, Strings.EMPTY_ARRAY), 1.0f, -1, null, null));
+            futures.add(new PlainActionFuture<>());
+        }
+        service.executeQueryAndFetchBatch(requests, task, new ArrayList<>(futures));
+        for (PlainActionFuture<SearchPhaseResult> future : futures) {
+            expectThrows(ExecutionException.class, future::get);
+        }
+        assertEquals(0, service.getActiveContexts());
+    }
+
     public void testDeleteIndexWhileSearch() throws Exception {
         createIndex("test");
         int numDocs = randomIntBetween(1, 20);
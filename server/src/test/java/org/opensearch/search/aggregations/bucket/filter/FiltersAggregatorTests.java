@@ -33,11 +33,15 @@ package org.opensearch.search.aggregations.bucket.filter;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -201,4 +205,47 @@ public class FiltersAggregatorTests extends AggregatorTestCase {
             directory.close();
         }
     }
+
+    public void testFilterByFilterMatchesCollection() throws Exception {
+        int maxTerm = randomIntBetween(2, 10);
+        int numFilters = randomIntBetween(1, 5);
+        QueryBuilder[] filters = new QueryBuilder[numFilters];
+        int[] filterTerms = new int[numFilters];
+        for (int i = 0; i < filters.length; i++) {
+            filterTerms[i] = randomInt(maxTerm - 1);
+            filters[i] = QueryBuilders.termQuery("field", Integer.toString(filterTerms[i]));
+        }
+        // without an other bucket the filters may be counted filter by filter, which must match collecting the query
+        FiltersAggregationBuilder builder = new FiltersAggregationBuilder("test", filters);
+        boolean matchAll = randomBoolean();
+        Query query = matchAll ? new MatchAllDocsQuery() : new TermQuery(new Term("k", "a"));
+        long[] expectedBucketCount = new long[maxTerm];
+        testCase(builder, query, iw -> {
+            int numDocs = randomIntBetween(1, 200);
+            for (int i = 0; i < numDocs; i++) {
+                String k = randomFrom("a", "b");
+                int value = randomInt(maxTerm - 1);
+                Document document = new Document();
+                document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                document.add(new StringField("k", k, Field.Store.NO));
+                document.add(new Field("field", Integer.toString(value), KeywordFieldMapper.Defaults.FIELD_TYPE));
+                iw.addDocument(document);
+                if (rarely()) {
+                    iw.deleteDocuments(new Term("id", Integer.toString(i)));
+                } else if (matchAll || k.equals("a")) {
+                    expectedBucketCount[value]++;
+                }
+                if (rarely()) {
+                    iw.commit();
+                }
+            }
+        }, (InternalFilters response) -> {
+            List<InternalFilters.InternalBucket> buckets = response.getBuckets();
+            assertEquals(filters.length, buckets.size());
+            for (InternalFilters.InternalBucket bucket : buckets) {
+                int index = Integer.parseInt(bucket.getKey());
+                assertEquals(expectedBucketCount[filterTerms[index]], bucket.getDocCount());
+            }
+        }, fieldType);
+    }
 }
@@ -33,15 +33,20 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.index.mapper.DateFieldMapper;
@@ -52,10 +57,14 @@ import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -1135,6 +1144,45 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
     }
 
 
+    public void testFilterByFilterMatchesCollection() throws IOException {
+        DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name").field(AGGREGABLE_DATE)
+            .fixedInterval(new DateHistogramInterval("1d"))
+            .minDocCount(1);
+        boolean matchAll = randomBoolean();
+        Query query = matchAll ? new MatchAllDocsQuery() : new TermQuery(new Term("k", "a"));
+        long start = asLong("2021-01-01T00:00:00");
+        Map<Long, Long> expectedCounts = new TreeMap<>();
+        testCase(aggregationBuilder, query, iw -> {
+            int numDocs = randomIntBetween(1, 200);
+            for (int i = 0; i < numDocs; i++) {
+                String k = randomFrom("a", "b");
+                long value = start + randomLongBetween(0, TimeUnit.DAYS.toMillis(30));
+                List<IndexableField> fields = new ArrayList<>();
+                fields.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                fields.add(new StringField("k", k, Field.Store.NO));
+                fields.add(new LongPoint(AGGREGABLE_DATE, value));
+                fields.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, value));
+                iw.addDocument(fields);
+                if (rarely()) {
+                    iw.deleteDocuments(new Term("id", Integer.toString(i)));
+                } else if (matchAll || k.equals("a")) {
+                    long day = value - Math.floorMod(value, TimeUnit.DAYS.toMillis(1));
+                    expectedCounts.merge(day, 1L, Long::sum);
+                }
+                if (rarely()) {
+                    iw.commit();
+                }
+            }
+        }, (InternalDateHistogram histogram) -> {
+            Map<Long, Long> counts = new TreeMap<>();
+            for (Histogram.Bucket bucket : histogram.getBuckets()) {
+                counts.put(((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli(), bucket.getDocCount());
+            }
+            assertThat(counts, equalTo(expectedCounts));
+        }, fieldType);
+    }
+
     public void testOverlappingBounds() {
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class, () -> testSearchCase(new MatchAllDocsQuery(),
             Arrays.asList(
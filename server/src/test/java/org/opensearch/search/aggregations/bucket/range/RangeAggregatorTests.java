@@ -32,15 +32,21 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedConsumer;
@@ -55,6 +61,7 @@ import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
@@ -308,6 +315,59 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testFilterByFilterMatchesCollection() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test_range_agg")
+            .field(NUMBER_FIELD_NAME)
+            .addUnboundedTo(0)
+            .addRange(0, 50)
+            .addRange(25, 75)
+            .addUnboundedFrom(100);
+        double[][] bounds = new double[][] {
+            { Double.NEGATIVE_INFINITY, 0 }, { 0, 50 }, { 25, 75 }, { 100, Double.POSITIVE_INFINITY } };
+        boolean matchAll = randomBoolean();
+        Query query = matchAll ? new MatchAllDocsQuery() : new TermQuery(new Term("k", "a"));
+        long[] expectedCounts = new long[bounds.length];
+        testCase(aggregationBuilder, query, iw -> {
+            int numDocs = randomIntBetween(1, 200);
+            for (int i = 0; i < numDocs; i++) {
+                String k = randomFrom("a", "b");
+                boolean deleted = rarely();
+                List<IndexableField> fields = new ArrayList<>();
+                fields.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                fields.add(new StringField("k", k, Field.Store.NO));
+                boolean[] matches = new boolean[bounds.length];
+                // some documents have no or several values
+                int numValues = randomFrom(0, 1, 1, 1, 2);
+                for (int j = 0; j < numValues; j++) {
+                    long value = randomLongBetween(-20, 150);
+                    fields.add(new LongPoint(NUMBER_FIELD_NAME, value));
+                    fields.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, value));
+                    for (int r = 0; r < bounds.length; r++) {
+                        matches[r] |= value >= bounds[r][0] && value < bounds[r][1];
+                    }
+                }
+                iw.addDocument(fields);
+                if (deleted) {
+                    iw.deleteDocuments(new Term("id", Integer.toString(i)));
+                } else if (matchAll || k.equals("a")) {
+                    for (int r = 0; r < bounds.length; r++) {
+                        expectedCounts[r] += matches[r] ? 1 : 0;
+                    }
+                }
+                if (rarely()) {
+                    iw.commit();
+                }
+            }
+        }, range -> {
+            List<? extends InternalRange.Bucket> buckets = range.getBuckets();
+            assertEquals(bounds.length, buckets.size());
+            for (int r = 0; r < bounds.length; r++) {
+                assertThat(buckets.get(r).getDocCount(), equalTo(expectedCounts[r]));
+            }
+        }, fieldType);
+    }
+
     private void testCase(Query query,
                           CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalRange<? extends InternalRange.Bucket, ? extends InternalRange>> verify) throws IOException {
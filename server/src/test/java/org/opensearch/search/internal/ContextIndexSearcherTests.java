@@ -51,6 +51,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
@@ -63,6 +64,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -76,26 +78,38 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableLeafReader;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePointValues;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class ContextIndexSearcherTests extends OpenSearchTestCase {
     public void testIntersectScorerAndRoleBits() throws Exception {
@@ -290,6 +304,91 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         IOUtils.close(reader, w, dir);
     }
 
+    public void testComputeSlices() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        int numSegments = randomIntBetween(2, 20);
+        for (int i = 0; i < numSegments; i++) {
+            int numDocs = randomIntBetween(1, 20);
+            for (int j = 0; j < numDocs; j++) {
+                w.addDocument(new Document());
+            }
+            w.commit();
+        }
+        DirectoryReader reader = DirectoryReader.open(w);
+        int maxDocsPerSlice = randomIntBetween(1, 40);
+        int maxSegmentsPerSlice = randomIntBetween(1, 5);
+        List<List<LeafReaderContext>> slices = ContextIndexSearcher.computeSlices(reader.leaves(), maxDocsPerSlice, maxSegmentsPerSlice);
+        Set<LeafReaderContext> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<LeafReaderContext> slice : slices) {
+            assertFalse(slice.isEmpty());
+            assertThat(slice.size(), lessThanOrEqualTo(maxSegmentsPerSlice));
+            int docs = 0;
+            for (int i = 0; i < slice.size(); i++) {
+                if (i > 0) {
+                    assertThat(slice.get(i - 1).ord, lessThan(slice.get(i).ord));
+                }
+                docs += slice.get(i).reader().maxDoc();
+                assertTrue(seen.add(slice.get(i)));
+            }
+            if (slice.size() > 1) {
+                assertThat(docs, lessThanOrEqualTo(maxDocsPerSlice));
+            }
+        }
+        assertEquals(reader.leaves().size(), seen.size());
+        IOUtils.close(reader, w, dir);
+    }
+
+    public void testConcurrentSearch() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        // more segments than a single slice can hold
+        int numSegments = randomIntBetween(ContextIndexSearcher.MAX_SEGMENTS_PER_SLICE + 1, 12);
+        int numMatches = 0;
+        for (int i = 0; i < numSegments; i++) {
+            int numDocs = randomIntBetween(1, 100);
+            for (int j = 0; j < numDocs; j++) {
+                Document doc = new Document();
+                boolean match = randomBoolean();
+                doc.add(new StringField("foo", match ? "bar" : "baz", Field.Store.NO));
+                numMatches += match ? 1 : 0;
+                w.addDocument(doc);
+            }
+            w.commit();
+        }
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(w), new ShardId("_index", "_na_", 0));
+        ExecutorService executor = OpenSearchExecutors.newFixed("test", randomIntBetween(1, 4), randomBoolean() ? -1 : randomIntBetween(1, 4),
+            OpenSearchExecutors.daemonThreadFactory("test"), new ThreadContext(Settings.EMPTY));
+        try {
+            ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true, executor);
+            assertTrue(searcher.isConcurrentSearchEnabled());
+            AtomicInteger checks = new AtomicInteger();
+            searcher.addQueryCancellation(checks::incrementAndGet);
+            CollectorManager<TotalHitCountCollector, Integer> manager = new CollectorManager<TotalHitCountCollector, Integer>() {
+                @Override
+                public TotalHitCountCollector newCollector() {
+                    return new TotalHitCountCollector();
+                }
+
+                @Override
+                public Integer reduce(Collection<TotalHitCountCollector> collectors) {
+                    return collectors.stream().mapToInt(TotalHitCountCollector::getTotalHits).sum();
+                }
+            };
+            assertEquals(numMatches, (int) searcher.search(new TermQuery(new Term("foo", "bar")), manager));
+            assertThat(checks.get(), greaterThan(0));
+
+            searcher.addQueryCancellation(() -> {
+                throw new TaskCancelledException("cancelled");
+            });
+            expectThrows(TaskCancelledException.class, () -> searcher.search(new TermQuery(new Term("foo", "bar")), manager));
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+            IOUtils.close(reader, w, dir);
+        }
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -199,16 +199,17 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         } else {
             threadContext.addResponseHeader(headerKey, headerValue);
         }
+        final CompressionScheme compressionScheme = randomFrom(CompressionScheme.values());
         OutboundMessage message;
         TransportMessage transportMessage;
         if (isRequest) {
             transportMessage = new TestRequest(randomAlphaOfLength(100));
             message = new OutboundMessage.Request(threadContext, new String[0], transportMessage, Version.CURRENT, action, requestId,
-                false, true);
+                false, true, compressionScheme);
         } else {
             transportMessage = new TestResponse(randomAlphaOfLength(100));
             message = new OutboundMessage.Response(threadContext, Collections.emptySet(), transportMessage, Version.CURRENT, requestId,
-                false, true);
+                false, true, compressionScheme);
         }
 
         final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
@@ -32,6 +32,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
@@ -47,6 +48,11 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
 
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
@@ -59,7 +65,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = new DeflateTransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
             int bytesConsumed = decompressor.decompress(bytes);
             assertEquals(bytes.length(), bytesConsumed);
             assertTrue(decompressor.isEOS());
@@ -81,7 +87,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = new DeflateTransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
             int bytesConsumed = decompressor.decompress(bytes);
             assertEquals(bytes.length(), bytesConsumed);
             assertTrue(decompressor.isEOS());
@@ -110,7 +116,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = new DeflateTransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
 
             int split1 = (int) (bytes.length() * 0.3);
             int split2 = (int) (bytes.length() * 0.65);
@@ -142,4 +148,60 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testLz4Compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (StreamOutput lz4Stream = new OutputStreamStreamOutput(new Lz4TransportOutputStream(Streams.flushOnCloseStream(output)))) {
+                for (int i = 0; i < 100000; ++i) {
+                    lz4Stream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+            // the content spans several blocks, and the end of the stream is followed by unrelated bytes
+            BytesReference inbound = CompositeBytesReference.of(bytes, new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 10))));
+
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, inbound);
+            assertThat(decompressor, instanceOf(Lz4TransportDecompressor.class));
+            int bytesConsumed = 0;
+            while (bytesConsumed < bytes.length()) {
+                int length = Math.min(randomIntBetween(CompressionScheme.HEADER_LENGTH, 20000), inbound.length() - bytesConsumed);
+                bytesConsumed += decompressor.decompress(inbound.slice(bytesConsumed, length));
+            }
+            assertEquals(bytes.length(), bytesConsumed);
+            assertTrue(decompressor.isEOS());
+            List<ReleasableBytesReference> references = new ArrayList<>();
+            ReleasableBytesReference reference;
+            while ((reference = decompressor.pollDecompressedPage()) != null) {
+                references.add(reference);
+            }
+            BytesReference composite = CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+            assertEquals(4 * 100000, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < 100000; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(references);
+            decompressor.close();
+        }
+    }
+
+    public void testGetDecompressor() throws IOException {
+        assertNull(TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, new BytesArray(new byte[] { 'L' })));
+        for (CompressionScheme scheme : CompressionScheme.values()) {
+            try (BytesStreamOutput output = new BytesStreamOutput()) {
+                try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(output, true, scheme)) {
+                    stream.writeString(randomAlphaOfLength(10));
+                    stream.materializeBytes();
+                }
+                TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                    output.bytes());
+                assertThat(decompressor, instanceOf(scheme == CompressionScheme.LZ4
+                    ? Lz4TransportDecompressor.class : DeflateTransportDecompressor.class));
+                decompressor.close();
+            }
+        }
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, new BytesArray(randomAlphaOfLength(4))));
+        assertThat(e.getMessage(), startsWith("stream marked as compressed, but no compressor found"));
+    }
 }
@@ -38,6 +38,7 @@ import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpIncrementalContent;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.http.HttpResponse;
 import org.opensearch.rest.RestRequest;
@@ -68,18 +69,20 @@ public class FakeRestRequest extends RestRequest {
         private final BytesReference content;
         private final Map<String, List<String>> headers;
         private final Exception inboundException;
+        private final HttpIncrementalContent incrementalContent;
 
         private FakeHttpRequest(Method method, String uri, BytesReference content, Map<String, List<String>> headers) {
-            this(method, uri, content, headers, null);
+            this(method, uri, content, headers, null, null);
         }
 
         private FakeHttpRequest(Method method, String uri, BytesReference content, Map<String, List<String>> headers,
-                                Exception inboundException) {
+                                Exception inboundException, HttpIncrementalContent incrementalContent) {
             this.method = method;
             this.uri = uri;
             this.content = content;
             this.headers = headers;
             this.inboundException = inboundException;
+            this.incrementalContent = incrementalContent;
         }
 
         @Override
@@ -97,6 +100,11 @@ public class FakeRestRequest extends RestRequest {
             return content;
         }
 
+        @Override
+        public HttpIncrementalContent incrementalContent() {
+            return incrementalContent;
+        }
+
         @Override
         public Map<String, List<String>> getHeaders() {
             return headers;
@@ -205,6 +213,8 @@ public class FakeRestRequest extends RestRequest {
 
         private Exception inboundException;
 
+        private HttpIncrementalContent incrementalContent;
+
         public Builder(NamedXContentRegistry xContentRegistry) {
             this.xContentRegistry = xContentRegistry;
         }
@@ -227,6 +237,14 @@ public class FakeRestRequest extends RestRequest {
             return this;
         }
 
+        public Builder withIncrementalContent(HttpIncrementalContent incrementalContent, XContentType xContentType) {
+            this.incrementalContent = incrementalContent;
+            if (xContentType != null) {
+                headers.put("Content-Type", Collections.singletonList(xContentType.mediaType()));
+            }
+            return this;
+        }
+
         public Builder withPath(String path) {
             this.path = path;
             return this;
@@ -248,7 +266,8 @@ public class FakeRestRequest extends RestRequest {
         }
 
         public FakeRestRequest build() {
-            FakeHttpRequest fakeHttpRequest = new FakeHttpRequest(method, path, content, headers, inboundException);
+            FakeHttpRequest fakeHttpRequest = new FakeHttpRequest(method, path, content, headers, inboundException,
+                incrementalContent);
             return new FakeRestRequest(xContentRegistry, fakeHttpRequest, params, new FakeHttpChannel(address));
         }
     }